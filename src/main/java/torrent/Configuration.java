@@ -0,0 +1,262 @@
+package torrent;
+
+import torrent.system.ContentStore;
+import torrent.system.DeflateCodec;
+import torrent.system.ExecutionRuntime;
+import torrent.system.IdentityCodec;
+import torrent.system.NetworkManager;
+import torrent.system.NodeConfig;
+import torrent.system.StorageCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+
+/**
+ * The settings of the launcher, read from a properties file and from the command line, as --key=value arguments
+ * (which override the file). The file is given with --config=path; by default, torrent.properties is read if it
+ * exists in the working directory.
+ * <p>
+ * The nodes:
+ * <ul>
+ * <li>node.count, node.owner: how many nodes to run, and their owner</li>
+ * <li>node.firstPort: the port of the first node, the others get the next ones</li>
+ * <li>node.host: the host the nodes advertise to the other nodes (the hub host by default)</li>
+ * <li>node.storageBudgetBytes, node.partialFilesDirectory, node.partialFilesBudgetBytes,
+ * node.partialFileExpiryMillis, node.replicationWaitMillis, node.chunkRequestTimeoutMillis,
+ * node.availabilityTimeoutMillis, node.searchDeadlineMillis, node.searchCacheFreshnessMillis,
+ * node.registrationTimeoutMillis, node.heartbeatIntervalMillis, node.registrationMinBackoffMillis,
+ * node.registrationMaxBackoffMillis, node.partialFilesExpiryPeriodMillis, node.searchCacheMaxEntries,
+ * node.admissionQueueTimeoutMillis, node.parallelChunkFetches, node.congestionWaitMillis, node.endgameThreshold,
+ * node.endgameMaxRequests, node.congestionWindowInitialSize, node.congestionWindowMinSize,
+ * node.congestionWindowMaxSize: see {@link NodeConfig}</li>
+ * <li>node.admission.&lt;type&gt;.maxRunning, node.admission.&lt;type&gt;.maxWaiting: the admission limits of a
+ * request type, e.g. node.admission.CHUNK_REQUEST.maxRunning (a maxRunning of 0 removes the limit)</li>
+ * <li>node.&lt;index&gt;.&lt;key&gt;: any of the above (and node.&lt;index&gt;.port) for a single node, the first
+ * node having the index 1</li>
+ * </ul>
+ * The hub: hub.host, hub.port.
+ * <p>
+ * The JVM, shared by all the nodes:
+ * <ul>
+ * <li>pool.&lt;name&gt;.threads, pool.&lt;name&gt;.queueCapacity: the number of threads of a pool, and the number of
+ * tasks that may wait for them (see {@link ExecutionRuntime})</li>
+ * <li>network.egressBytesPerSecond, network.ingressBytesPerSecond, network.peerBytesPerSecond: the bandwidth
+ * limits (0 means unlimited)</li>
+ * <li>storage.hotTierBytes, storage.coldDirectory: the memory tier size and the disk tier directory of the
+ * content store</li>
+ * <li>storage.codec, storage.codecLevel: the encoding of the chunks kept in memory, deflate (with the given level,
+ * 1 by default) or identity</li>
+ * <li>storage.decodedCacheChunks: how many decoded chunks are cached</li>
+ * <li>shutdown.timeoutMillis: how long the nodes may take to finish their requests when the JVM stops</li>
+ * </ul>
+ */
+public class Configuration {
+    private static final String DEFAULT_CONFIG_FILE = "torrent.properties";
+    private static final int DEFAULT_NODE_COUNT = 3;
+    private static final String DEFAULT_OWNER = "node";
+    private static final int DEFAULT_FIRST_PORT = 5011;
+    private static final String DEFAULT_HUB_HOST = "localhost";
+    private static final int DEFAULT_HUB_PORT = 5000;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile("--([^=]+)=(.*)");
+    private static final Pattern POOL_THREADS_PATTERN = Pattern.compile("pool\\.(.+)\\.threads");
+    private static final Pattern POOL_QUEUE_CAPACITY_PATTERN = Pattern.compile("pool\\.(.+)\\.queueCapacity");
+
+    private final Properties properties = new Properties();
+
+    /**
+     * Reads the configuration file and the command line arguments.
+     *
+     * @param args
+     */
+    public static Configuration load(String[] args) throws IOException {
+        Properties arguments = new Properties();
+        for (String arg : args) {
+            Matcher matcher = ARGUMENT_PATTERN.matcher(arg);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid argument " + arg + ", expected --key=value.");
+            }
+            arguments.setProperty(matcher.group(1), matcher.group(2));
+        }
+
+        Configuration configuration = new Configuration();
+        String configFile = arguments.getProperty("config");
+        Path configPath = Paths.get(configFile != null ? configFile : DEFAULT_CONFIG_FILE);
+        // the default file is optional, but a file given explicitly must exist
+        if (configFile != null && !Files.exists(configPath)) {
+            throw new IllegalArgumentException("The configuration file " + configPath + " does not exist.");
+        }
+        if (Files.exists(configPath)) {
+            try (InputStream inputStream = Files.newInputStream(configPath)) {
+                configuration.properties.load(inputStream);
+            }
+        }
+        configuration.properties.putAll(arguments);
+        return configuration;
+    }
+
+    public String getString(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue).trim();
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return (int) getLong(key, defaultValue);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number " + value + " for " + key + ".");
+        }
+    }
+
+    public int getNodeCount() {
+        return getInt("node.count", DEFAULT_NODE_COUNT);
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return getLong("shutdown.timeoutMillis", DEFAULT_SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Returns the settings of the node with the given index (starting at 1).
+     *
+     * @param index
+     */
+    public NodeConfig getNodeConfig(int index) {
+        String hubHost = getString("hub.host", DEFAULT_HUB_HOST);
+        NodeConfig config = new NodeConfig(
+                getNodeString(index, "owner", DEFAULT_OWNER),
+                index,
+                getInt(nodeKey(index, "port"), getInt("node.firstPort", DEFAULT_FIRST_PORT) + index - 1),
+                getNodeString(index, "host", hubHost),
+                hubHost,
+                getInt("hub.port", DEFAULT_HUB_PORT));
+
+        config.setStorageBudgetBytes(getNodeLong(index, "storageBudgetBytes", config.getStorageBudgetBytes()));
+        config.setPartialFilesDirectory(getNodeString(index, "partialFilesDirectory",
+                config.getPartialFilesDirectory()));
+        config.setPartialFilesBudgetBytes(getNodeLong(index, "partialFilesBudgetBytes",
+                config.getPartialFilesBudgetBytes()));
+        config.setPartialFileExpiryMillis(getNodeLong(index, "partialFileExpiryMillis",
+                config.getPartialFileExpiryMillis()));
+        config.setReplicationWaitMillis(getNodeLong(index, "replicationWaitMillis",
+                config.getReplicationWaitMillis()));
+        config.setChunkRequestTimeoutMillis((int) getNodeLong(index, "chunkRequestTimeoutMillis",
+                config.getChunkRequestTimeoutMillis()));
+        config.setAvailabilityTimeoutMillis((int) getNodeLong(index, "availabilityTimeoutMillis",
+                config.getAvailabilityTimeoutMillis()));
+        config.setSearchDeadlineMillis((int) getNodeLong(index, "searchDeadlineMillis",
+                config.getSearchDeadlineMillis()));
+        config.setSearchCacheFreshnessMillis(getNodeLong(index, "searchCacheFreshnessMillis",
+                config.getSearchCacheFreshnessMillis()));
+        config.setRegistrationTimeoutMillis((int) getNodeLong(index, "registrationTimeoutMillis",
+                config.getRegistrationTimeoutMillis()));
+        config.setHeartbeatIntervalMillis(getNodeLong(index, "heartbeatIntervalMillis",
+                config.getHeartbeatIntervalMillis()));
+        config.setRegistrationMinBackoffMillis(getNodeLong(index, "registrationMinBackoffMillis",
+                config.getRegistrationMinBackoffMillis()));
+        config.setRegistrationMaxBackoffMillis(getNodeLong(index, "registrationMaxBackoffMillis",
+                config.getRegistrationMaxBackoffMillis()));
+        config.setPartialFilesExpiryPeriodMillis(getNodeLong(index, "partialFilesExpiryPeriodMillis",
+                config.getPartialFilesExpiryPeriodMillis()));
+        config.setSearchCacheMaxEntries((int) getNodeLong(index, "searchCacheMaxEntries",
+                config.getSearchCacheMaxEntries()));
+
+        for (Torr2.Message.Type type : Torr2.Message.Type.values()) {
+            config.setAdmissionLimit(type,
+                    (int) getNodeLong(index, "admission." + type + ".maxRunning", config.getAdmissionMaxRunning(type)),
+                    (int) getNodeLong(index, "admission." + type + ".maxWaiting", config.getAdmissionMaxWaiting(type)));
+        }
+        config.setAdmissionQueueTimeoutMillis(getNodeLong(index, "admissionQueueTimeoutMillis",
+                config.getAdmissionQueueTimeoutMillis()));
+
+        config.setParallelChunkFetches((int) getNodeLong(index, "parallelChunkFetches",
+                config.getParallelChunkFetches()));
+        config.setCongestionWaitMillis((int) getNodeLong(index, "congestionWaitMillis",
+                config.getCongestionWaitMillis()));
+        config.setEndgameThreshold((int) getNodeLong(index, "endgameThreshold", config.getEndgameThreshold()));
+        config.setEndgameMaxRequests((int) getNodeLong(index, "endgameMaxRequests", config.getEndgameMaxRequests()));
+        config.setCongestionWindowInitialSize((int) getNodeLong(index, "congestionWindowInitialSize",
+                config.getCongestionWindowInitialSize()));
+        config.setCongestionWindowMinSize((int) getNodeLong(index, "congestionWindowMinSize",
+                config.getCongestionWindowMinSize()));
+        config.setCongestionWindowMaxSize((int) getNodeLong(index, "congestionWindowMaxSize",
+                config.getCongestionWindowMaxSize()));
+        return config;
+    }
+
+    /**
+     * Applies the settings shared by all the nodes of the JVM: the thread pools, the bandwidth limits and the content
+     * store. Must be called before the nodes are created.
+     */
+    public void applyRuntimeSettings() throws IOException {
+        for (String key : properties.stringPropertyNames()) {
+            Matcher threadsMatcher = POOL_THREADS_PATTERN.matcher(key);
+            if (threadsMatcher.matches()) {
+                ExecutionRuntime.getInstance().setThreadCount(threadsMatcher.group(1), getInt(key, 0));
+            }
+            Matcher queueCapacityMatcher = POOL_QUEUE_CAPACITY_PATTERN.matcher(key);
+            if (queueCapacityMatcher.matches()) {
+                ExecutionRuntime.getInstance().setQueueCapacity(queueCapacityMatcher.group(1), getInt(key, 0));
+            }
+        }
+
+        NetworkManager.setEgressRate(getLong("network.egressBytesPerSecond", NetworkManager.getEgressRate()));
+        NetworkManager.setIngressRate(getLong("network.ingressBytesPerSecond", NetworkManager.getIngressRate()));
+        NetworkManager.setPeerRate(getLong("network.peerBytesPerSecond", NetworkManager.getPeerRate()));
+
+        ContentStore contentStore = ContentStore.getInstance();
+        contentStore.setHotTierBytes(getLong("storage.hotTierBytes", contentStore.getHotTierBytes()));
+        String coldDirectory = properties.getProperty("storage.coldDirectory");
+        if (coldDirectory != null) {
+            contentStore.setDiskTierDirectory(Paths.get(coldDirectory.trim()));
+        }
+        String codec = properties.getProperty("storage.codec");
+        if (codec != null) {
+            int level = getInt("storage.codecLevel", Deflater.BEST_SPEED);
+            contentStore.setStorageCodec(toStorageCodec(codec.trim(), level));
+        }
+        contentStore.getChunkStore().setDecodedCacheChunks(getInt("storage.decodedCacheChunks",
+                contentStore.getChunkStore().getDecodedCacheChunks()));
+    }
+
+    private static StorageCodec toStorageCodec(String name, int level) {
+        switch (name) {
+            case "deflate":
+                if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+                    throw new IllegalArgumentException("Invalid deflate level " + level + ", expected 1 to 9.");
+                }
+                return new DeflateCodec(level);
+            case "identity":
+                return new IdentityCodec();
+            default:
+                throw new IllegalArgumentException("Invalid storage codec " + name + ", expected deflate or identity.");
+        }
+    }
+
+    private String getNodeString(int index, String key, String defaultValue) {
+        return getString(nodeKey(index, key), getString("node." + key, defaultValue));
+    }
+
+    private long getNodeLong(int index, String key, long defaultValue) {
+        return getLong(nodeKey(index, key), getLong("node." + key, defaultValue));
+    }
+
+    private static String nodeKey(int index, String key) {
+        return "node." + index + "." + key;
+    }
+}
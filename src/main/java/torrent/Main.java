@@ -1,17 +1,60 @@
 package torrent;
 
+import torrent.system.ContentStore;
+import torrent.system.ExecutionRuntime;
 import torrent.system.NetworkManager;
 
-public class Main {
-    private static final String OWNER = "node";
-    private static final int NODE_PORT = 5010;
-    private static final int HUB_PORT = 5000;
-    private static final String HUB_IP = "localhost";
-    private static final int NODE_COUNT = 3;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+public class Main {
+    /**
+     * Starts the nodes described by the configuration (see {@link Configuration} for the settings).
+     *
+     * @param args the settings that override the configuration file, as --key=value
+     */
     public static void main(String[] args) {
-        for (int i = 1; i <= NODE_COUNT; i++) {
-            new NetworkManager(OWNER, i, NODE_PORT + i, HUB_IP, HUB_PORT);
+        Configuration configuration;
+        try {
+            configuration = Configuration.load(args);
+            configuration.applyRuntimeSettings();
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not read the configuration. " + e.getMessage());
+            return;
+        }
+
+        List<NetworkManager> networkManagers = new ArrayList<>();
+        for (int i = 1; i <= configuration.getNodeCount(); i++) {
+            networkManagers.add(new NetworkManager(configuration.getNodeConfig(i)));
         }
+
+        long shutdownTimeoutMillis = configuration.getShutdownTimeoutMillis();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(networkManagers, shutdownTimeoutMillis),
+                "shutdown"));
+    }
+
+    /**
+     * Stops all the nodes at once, then waits for each of them to finish its requests (all within the same deadline),
+     * and finally shuts the thread pools down and deletes the contents written to disk.
+     *
+     * @param networkManagers
+     * @param timeoutMillis
+     */
+    private static void shutdown(List<NetworkManager> networkManagers, long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (NetworkManager networkManager : networkManagers) {
+            networkManager.stop();
+        }
+        for (NetworkManager networkManager : networkManagers) {
+            networkManager.awaitStop(remainingMillis(deadline));
+        }
+        ExecutionRuntime.getInstance().shutdown(remainingMillis(deadline));
+        ContentStore.getInstance().deleteDiskTier();
+    }
+
+    private static long remainingMillis(long deadline) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
     }
 }
@@ -17715,174 +17715,2971 @@ public final class Torr2 {
 
   }
 
-  public interface MessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Message)
+  public interface RangeDownloadRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RangeDownloadRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.Message.Type type = 1;</code>
-     * @return The enum numeric value on the wire for type.
-     */
-    int getTypeValue();
-    /**
-     * <code>.Message.Type type = 1;</code>
-     * @return The type.
+     * <pre>
+     * MD5 of the file content
+     * </pre>
+     *
+     * <code>bytes fileHash = 1;</code>
+     * @return The fileHash.
      */
-    Torr2.Message.Type getType();
+    com.google.protobuf.ByteString getFileHash();
 
     /**
-     * <code>.LocalSearchRequest localSearchRequest = 2;</code>
-     * @return Whether the localSearchRequest field is set.
-     */
-    boolean hasLocalSearchRequest();
-    /**
-     * <code>.LocalSearchRequest localSearchRequest = 2;</code>
-     * @return The localSearchRequest.
-     */
-    Torr2.LocalSearchRequest getLocalSearchRequest();
-    /**
-     * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+     * <pre>
+     * Offset of the first byte to download
+     * </pre>
+     *
+     * <code>uint64 offset = 2;</code>
+     * @return The offset.
      */
-    Torr2.LocalSearchRequestOrBuilder getLocalSearchRequestOrBuilder();
+    long getOffset();
 
     /**
-     * <code>.LocalSearchResponse localSearchResponse = 3;</code>
-     * @return Whether the localSearchResponse field is set.
-     */
-    boolean hasLocalSearchResponse();
-    /**
-     * <code>.LocalSearchResponse localSearchResponse = 3;</code>
-     * @return The localSearchResponse.
-     */
-    Torr2.LocalSearchResponse getLocalSearchResponse();
-    /**
-     * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+     * <pre>
+     * Number of bytes to download
+     * </pre>
+     *
+     * <code>uint32 length = 3;</code>
+     * @return The length.
      */
-    Torr2.LocalSearchResponseOrBuilder getLocalSearchResponseOrBuilder();
+    int getLength();
+  }
+  /**
+   * <pre>
+   * Parties:
+   *   Client -&gt; Node
+   * Description:
+   *   Download a part of a file from the local node, given by its hash, a byte offset and a length.
+   *   If the range goes past the end of the file, only the bytes up to the end are returned.
+   * Response status:
+   *   - SUCCESS if you have the file and the offset is within it
+   *   - MESSAGE_ERROR if the filehash is not 16 bytes long
+   *   - UNABLE_TO_COMPLETE if you do not have the file, or the offset is past its end
+   *   - PROCESSING_ERROR in all other cases
+   * </pre>
+   *
+   * Protobuf type {@code RangeDownloadRequest}
+   */
+  public static final class RangeDownloadRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:RangeDownloadRequest)
+      RangeDownloadRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RangeDownloadRequest.newBuilder() to construct.
+    private RangeDownloadRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RangeDownloadRequest() {
+      fileHash_ = com.google.protobuf.ByteString.EMPTY;
+    }
 
-    /**
-     * <code>.SearchRequest searchRequest = 4;</code>
-     * @return Whether the searchRequest field is set.
-     */
-    boolean hasSearchRequest();
-    /**
-     * <code>.SearchRequest searchRequest = 4;</code>
-     * @return The searchRequest.
-     */
-    Torr2.SearchRequest getSearchRequest();
-    /**
-     * <code>.SearchRequest searchRequest = 4;</code>
-     */
-    Torr2.SearchRequestOrBuilder getSearchRequestOrBuilder();
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RangeDownloadRequest();
+    }
 
-    /**
-     * <code>.SearchResponse searchResponse = 5;</code>
-     * @return Whether the searchResponse field is set.
-     */
-    boolean hasSearchResponse();
-    /**
-     * <code>.SearchResponse searchResponse = 5;</code>
-     * @return The searchResponse.
-     */
-    Torr2.SearchResponse getSearchResponse();
-    /**
-     * <code>.SearchResponse searchResponse = 5;</code>
-     */
-    Torr2.SearchResponseOrBuilder getSearchResponseOrBuilder();
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RangeDownloadRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
 
-    /**
-     * <code>.UploadRequest uploadRequest = 6;</code>
-     * @return Whether the uploadRequest field is set.
-     */
-    boolean hasUploadRequest();
-    /**
-     * <code>.UploadRequest uploadRequest = 6;</code>
-     * @return The uploadRequest.
-     */
-    Torr2.UploadRequest getUploadRequest();
-    /**
-     * <code>.UploadRequest uploadRequest = 6;</code>
-     */
-    Torr2.UploadRequestOrBuilder getUploadRequestOrBuilder();
+              fileHash_ = input.readBytes();
+              break;
+            }
+            case 16: {
 
-    /**
-     * <code>.UploadResponse uploadResponse = 7;</code>
-     * @return Whether the uploadResponse field is set.
-     */
-    boolean hasUploadResponse();
-    /**
-     * <code>.UploadResponse uploadResponse = 7;</code>
-     * @return The uploadResponse.
-     */
-    Torr2.UploadResponse getUploadResponse();
-    /**
-     * <code>.UploadResponse uploadResponse = 7;</code>
-     */
-    Torr2.UploadResponseOrBuilder getUploadResponseOrBuilder();
+              offset_ = input.readUInt64();
+              break;
+            }
+            case 24: {
 
-    /**
-     * <code>.ReplicateRequest replicateRequest = 8;</code>
-     * @return Whether the replicateRequest field is set.
-     */
-    boolean hasReplicateRequest();
-    /**
-     * <code>.ReplicateRequest replicateRequest = 8;</code>
-     * @return The replicateRequest.
-     */
-    Torr2.ReplicateRequest getReplicateRequest();
-    /**
-     * <code>.ReplicateRequest replicateRequest = 8;</code>
-     */
-    Torr2.ReplicateRequestOrBuilder getReplicateRequestOrBuilder();
+              length_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return Torr2.internal_static_RangeDownloadRequest_descriptor;
+    }
 
-    /**
-     * <code>.ReplicateResponse replicateResponse = 9;</code>
-     * @return Whether the replicateResponse field is set.
-     */
-    boolean hasReplicateResponse();
-    /**
-     * <code>.ReplicateResponse replicateResponse = 9;</code>
-     * @return The replicateResponse.
-     */
-    Torr2.ReplicateResponse getReplicateResponse();
-    /**
-     * <code>.ReplicateResponse replicateResponse = 9;</code>
-     */
-    Torr2.ReplicateResponseOrBuilder getReplicateResponseOrBuilder();
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return Torr2.internal_static_RangeDownloadRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              Torr2.RangeDownloadRequest.class, Torr2.RangeDownloadRequest.Builder.class);
+    }
 
+    public static final int FILEHASH_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString fileHash_;
     /**
-     * <code>.ChunkRequest chunkRequest = 10;</code>
-     * @return Whether the chunkRequest field is set.
-     */
-    boolean hasChunkRequest();
-    /**
-     * <code>.ChunkRequest chunkRequest = 10;</code>
-     * @return The chunkRequest.
-     */
-    Torr2.ChunkRequest getChunkRequest();
-    /**
-     * <code>.ChunkRequest chunkRequest = 10;</code>
+     * <pre>
+     * MD5 of the file content
+     * </pre>
+     *
+     * <code>bytes fileHash = 1;</code>
+     * @return The fileHash.
      */
-    Torr2.ChunkRequestOrBuilder getChunkRequestOrBuilder();
+    @java.lang.Override
+    public com.google.protobuf.ByteString getFileHash() {
+      return fileHash_;
+    }
 
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private long offset_;
     /**
-     * <code>.ChunkResponse chunkResponse = 11;</code>
-     * @return Whether the chunkResponse field is set.
-     */
-    boolean hasChunkResponse();
-    /**
-     * <code>.ChunkResponse chunkResponse = 11;</code>
-     * @return The chunkResponse.
-     */
-    Torr2.ChunkResponse getChunkResponse();
-    /**
-     * <code>.ChunkResponse chunkResponse = 11;</code>
+     * <pre>
+     * Offset of the first byte to download
+     * </pre>
+     *
+     * <code>uint64 offset = 2;</code>
+     * @return The offset.
      */
-    Torr2.ChunkResponseOrBuilder getChunkResponseOrBuilder();
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
 
+    public static final int LENGTH_FIELD_NUMBER = 3;
+    private int length_;
     /**
-     * <code>.DownloadRequest downloadRequest = 12;</code>
-     * @return Whether the downloadRequest field is set.
+     * <pre>
+     * Number of bytes to download
+     * </pre>
+     *
+     * <code>uint32 length = 3;</code>
+     * @return The length.
+     */
+    @java.lang.Override
+    public int getLength() {
+      return length_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!fileHash_.isEmpty()) {
+        output.writeBytes(1, fileHash_);
+      }
+      if (offset_ != 0L) {
+        output.writeUInt64(2, offset_);
+      }
+      if (length_ != 0) {
+        output.writeUInt32(3, length_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!fileHash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, fileHash_);
+      }
+      if (offset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, offset_);
+      }
+      if (length_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, length_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof Torr2.RangeDownloadRequest)) {
+        return super.equals(obj);
+      }
+      Torr2.RangeDownloadRequest other = (Torr2.RangeDownloadRequest) obj;
+
+      if (!getFileHash()
+          .equals(other.getFileHash())) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getLength()
+          != other.getLength()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILEHASH_FIELD_NUMBER;
+      hash = (53 * hash) + getFileHash().hashCode();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getLength();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static Torr2.RangeDownloadRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static Torr2.RangeDownloadRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.RangeDownloadRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(Torr2.RangeDownloadRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Parties:
+     *   Client -&gt; Node
+     * Description:
+     *   Download a part of a file from the local node, given by its hash, a byte offset and a length.
+     *   If the range goes past the end of the file, only the bytes up to the end are returned.
+     * Response status:
+     *   - SUCCESS if you have the file and the offset is within it
+     *   - MESSAGE_ERROR if the filehash is not 16 bytes long
+     *   - UNABLE_TO_COMPLETE if you do not have the file, or the offset is past its end
+     *   - PROCESSING_ERROR in all other cases
+     * </pre>
+     *
+     * Protobuf type {@code RangeDownloadRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RangeDownloadRequest)
+        Torr2.RangeDownloadRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return Torr2.internal_static_RangeDownloadRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return Torr2.internal_static_RangeDownloadRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                Torr2.RangeDownloadRequest.class, Torr2.RangeDownloadRequest.Builder.class);
+      }
+
+      // Construct using Torr2.RangeDownloadRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        fileHash_ = com.google.protobuf.ByteString.EMPTY;
+
+        offset_ = 0L;
+
+        length_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Torr2.internal_static_RangeDownloadRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public Torr2.RangeDownloadRequest getDefaultInstanceForType() {
+        return Torr2.RangeDownloadRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Torr2.RangeDownloadRequest build() {
+        Torr2.RangeDownloadRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Torr2.RangeDownloadRequest buildPartial() {
+        Torr2.RangeDownloadRequest result = new Torr2.RangeDownloadRequest(this);
+        result.fileHash_ = fileHash_;
+        result.offset_ = offset_;
+        result.length_ = length_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Torr2.RangeDownloadRequest) {
+          return mergeFrom((Torr2.RangeDownloadRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Torr2.RangeDownloadRequest other) {
+        if (other == Torr2.RangeDownloadRequest.getDefaultInstance()) return this;
+        if (other.getFileHash() != com.google.protobuf.ByteString.EMPTY) {
+          setFileHash(other.getFileHash());
+        }
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLength() != 0) {
+          setLength(other.getLength());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        Torr2.RangeDownloadRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (Torr2.RangeDownloadRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString fileHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * MD5 of the file content
+       * </pre>
+       *
+       * <code>bytes fileHash = 1;</code>
+       * @return The fileHash.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getFileHash() {
+        return fileHash_;
+      }
+      /**
+       * <pre>
+       * MD5 of the file content
+       * </pre>
+       *
+       * <code>bytes fileHash = 1;</code>
+       * @param value The fileHash to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileHash(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        fileHash_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * MD5 of the file content
+       * </pre>
+       *
+       * <code>bytes fileHash = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileHash() {
+        
+        fileHash_ = getDefaultInstance().getFileHash();
+        onChanged();
+        return this;
+      }
+
+      private long offset_ ;
+      /**
+       * <pre>
+       * Offset of the first byte to download
+       * </pre>
+       *
+       * <code>uint64 offset = 2;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <pre>
+       * Offset of the first byte to download
+       * </pre>
+       *
+       * <code>uint64 offset = 2;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(long value) {
+        
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Offset of the first byte to download
+       * </pre>
+       *
+       * <code>uint64 offset = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int length_ ;
+      /**
+       * <pre>
+       * Number of bytes to download
+       * </pre>
+       *
+       * <code>uint32 length = 3;</code>
+       * @return The length.
+       */
+      @java.lang.Override
+      public int getLength() {
+        return length_;
+      }
+      /**
+       * <pre>
+       * Number of bytes to download
+       * </pre>
+       *
+       * <code>uint32 length = 3;</code>
+       * @param value The length to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLength(int value) {
+        
+        length_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Number of bytes to download
+       * </pre>
+       *
+       * <code>uint32 length = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLength() {
+        
+        length_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:RangeDownloadRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:RangeDownloadRequest)
+    private static final Torr2.RangeDownloadRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new Torr2.RangeDownloadRequest();
+    }
+
+    public static Torr2.RangeDownloadRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RangeDownloadRequest>
+        PARSER = new com.google.protobuf.AbstractParser<RangeDownloadRequest>() {
+      @java.lang.Override
+      public RangeDownloadRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RangeDownloadRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RangeDownloadRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RangeDownloadRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public Torr2.RangeDownloadRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RangeDownloadResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RangeDownloadResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    int getStatusValue();
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The status.
+     */
+    Torr2.Status getStatus();
+
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The errorMessage.
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The bytes for errorMessage.
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+
+    /**
+     * <pre>
+     * The requested part of the file content
+     * </pre>
+     *
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+  }
+  /**
+   * Protobuf type {@code RangeDownloadResponse}
+   */
+  public static final class RangeDownloadResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:RangeDownloadResponse)
+      RangeDownloadResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RangeDownloadResponse.newBuilder() to construct.
+    private RangeDownloadResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RangeDownloadResponse() {
+      status_ = 0;
+      errorMessage_ = "";
+      data_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RangeDownloadResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RangeDownloadResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              status_ = rawValue;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              errorMessage_ = s;
+              break;
+            }
+            case 26: {
+
+              data_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return Torr2.internal_static_RangeDownloadResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return Torr2.internal_static_RangeDownloadResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              Torr2.RangeDownloadResponse.class, Torr2.RangeDownloadResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private int status_;
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override public Torr2.Status getStatus() {
+      @SuppressWarnings("deprecation")
+      Torr2.Status result = Torr2.Status.valueOf(status_);
+      return result == null ? Torr2.Status.UNRECOGNIZED : result;
+    }
+
+    public static final int ERRORMESSAGE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object errorMessage_;
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The errorMessage.
+     */
+    @java.lang.Override
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorMessage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The bytes for errorMessage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <pre>
+     * The requested part of the file content
+     * </pre>
+     *
+     * <code>bytes data = 3;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != Torr2.Status.SUCCESS.getNumber()) {
+        output.writeEnum(1, status_);
+      }
+      if (!getErrorMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, errorMessage_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(3, data_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != Torr2.Status.SUCCESS.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_);
+      }
+      if (!getErrorMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, errorMessage_);
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, data_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof Torr2.RangeDownloadResponse)) {
+        return super.equals(obj);
+      }
+      Torr2.RangeDownloadResponse other = (Torr2.RangeDownloadResponse) obj;
+
+      if (status_ != other.status_) return false;
+      if (!getErrorMessage()
+          .equals(other.getErrorMessage())) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + status_;
+      hash = (37 * hash) + ERRORMESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorMessage().hashCode();
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static Torr2.RangeDownloadResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static Torr2.RangeDownloadResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.RangeDownloadResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(Torr2.RangeDownloadResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RangeDownloadResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RangeDownloadResponse)
+        Torr2.RangeDownloadResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return Torr2.internal_static_RangeDownloadResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return Torr2.internal_static_RangeDownloadResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                Torr2.RangeDownloadResponse.class, Torr2.RangeDownloadResponse.Builder.class);
+      }
+
+      // Construct using Torr2.RangeDownloadResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        status_ = 0;
+
+        errorMessage_ = "";
+
+        data_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Torr2.internal_static_RangeDownloadResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public Torr2.RangeDownloadResponse getDefaultInstanceForType() {
+        return Torr2.RangeDownloadResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Torr2.RangeDownloadResponse build() {
+        Torr2.RangeDownloadResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Torr2.RangeDownloadResponse buildPartial() {
+        Torr2.RangeDownloadResponse result = new Torr2.RangeDownloadResponse(this);
+        result.status_ = status_;
+        result.errorMessage_ = errorMessage_;
+        result.data_ = data_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Torr2.RangeDownloadResponse) {
+          return mergeFrom((Torr2.RangeDownloadResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Torr2.RangeDownloadResponse other) {
+        if (other == Torr2.RangeDownloadResponse.getDefaultInstance()) return this;
+        if (other.status_ != 0) {
+          setStatusValue(other.getStatusValue());
+        }
+        if (!other.getErrorMessage().isEmpty()) {
+          errorMessage_ = other.errorMessage_;
+          onChanged();
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        Torr2.RangeDownloadResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (Torr2.RangeDownloadResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int status_ = 0;
+      /**
+       * <code>.Status status = 1;</code>
+       * @return The enum numeric value on the wire for status.
+       */
+      @java.lang.Override public int getStatusValue() {
+        return status_;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @param value The enum numeric value on the wire for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusValue(int value) {
+        
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @return The status.
+       */
+      @java.lang.Override
+      public Torr2.Status getStatus() {
+        @SuppressWarnings("deprecation")
+        Torr2.Status result = Torr2.Status.valueOf(status_);
+        return result == null ? Torr2.Status.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(Torr2.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        status_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        
+        status_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errorMessage_ = "";
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @return The errorMessage.
+       */
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errorMessage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @return The bytes for errorMessage.
+       */
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @param value The errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorMessage() {
+        
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @param value The bytes for errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * The requested part of the file content
+       * </pre>
+       *
+       * <code>bytes data = 3;</code>
+       * @return The data.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <pre>
+       * The requested part of the file content
+       * </pre>
+       *
+       * <code>bytes data = 3;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The requested part of the file content
+       * </pre>
+       *
+       * <code>bytes data = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:RangeDownloadResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:RangeDownloadResponse)
+    private static final Torr2.RangeDownloadResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new Torr2.RangeDownloadResponse();
+    }
+
+    public static Torr2.RangeDownloadResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RangeDownloadResponse>
+        PARSER = new com.google.protobuf.AbstractParser<RangeDownloadResponse>() {
+      @java.lang.Override
+      public RangeDownloadResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RangeDownloadResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RangeDownloadResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RangeDownloadResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public Torr2.RangeDownloadResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChunkAvailabilityRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkAvailabilityRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * MD5 of the file content
+     * </pre>
+     *
+     * <code>bytes fileHash = 1;</code>
+     * @return The fileHash.
+     */
+    com.google.protobuf.ByteString getFileHash();
+  }
+  /**
+   * <pre>
+   * Parties:
+   *   Node -&gt; Node
+   * Description:
+   *   Tell which chunks of the specified file you have, for instance while you are still replicating it. The bitfield
+   *   has one bit per chunk: the chunk with index i is bit (i % 8) of byte (i / 8), counting from the least significant
+   *   bit. Missing trailing bytes mean the chunks are missing.
+   * Response status:
+   *   - SUCCESS if you have the file, or some of its chunks
+   *   - MESSAGE_ERROR if the filehash is not 16 bytes long
+   *   - UNABLE_TO_COMPLETE if you have none of the chunks of the file
+   *   - PROCESSING_ERROR in all other cases
+   * </pre>
+   *
+   * Protobuf type {@code ChunkAvailabilityRequest}
+   */
+  public static final class ChunkAvailabilityRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ChunkAvailabilityRequest)
+      ChunkAvailabilityRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ChunkAvailabilityRequest.newBuilder() to construct.
+    private ChunkAvailabilityRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ChunkAvailabilityRequest() {
+      fileHash_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ChunkAvailabilityRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ChunkAvailabilityRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              fileHash_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return Torr2.internal_static_ChunkAvailabilityRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return Torr2.internal_static_ChunkAvailabilityRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              Torr2.ChunkAvailabilityRequest.class, Torr2.ChunkAvailabilityRequest.Builder.class);
+    }
+
+    public static final int FILEHASH_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString fileHash_;
+    /**
+     * <pre>
+     * MD5 of the file content
+     * </pre>
+     *
+     * <code>bytes fileHash = 1;</code>
+     * @return The fileHash.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getFileHash() {
+      return fileHash_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!fileHash_.isEmpty()) {
+        output.writeBytes(1, fileHash_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!fileHash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, fileHash_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof Torr2.ChunkAvailabilityRequest)) {
+        return super.equals(obj);
+      }
+      Torr2.ChunkAvailabilityRequest other = (Torr2.ChunkAvailabilityRequest) obj;
+
+      if (!getFileHash()
+          .equals(other.getFileHash())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FILEHASH_FIELD_NUMBER;
+      hash = (53 * hash) + getFileHash().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.ChunkAvailabilityRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(Torr2.ChunkAvailabilityRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Parties:
+     *   Node -&gt; Node
+     * Description:
+     *   Tell which chunks of the specified file you have, for instance while you are still replicating it. The bitfield
+     *   has one bit per chunk: the chunk with index i is bit (i % 8) of byte (i / 8), counting from the least significant
+     *   bit. Missing trailing bytes mean the chunks are missing.
+     * Response status:
+     *   - SUCCESS if you have the file, or some of its chunks
+     *   - MESSAGE_ERROR if the filehash is not 16 bytes long
+     *   - UNABLE_TO_COMPLETE if you have none of the chunks of the file
+     *   - PROCESSING_ERROR in all other cases
+     * </pre>
+     *
+     * Protobuf type {@code ChunkAvailabilityRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkAvailabilityRequest)
+        Torr2.ChunkAvailabilityRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return Torr2.internal_static_ChunkAvailabilityRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return Torr2.internal_static_ChunkAvailabilityRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                Torr2.ChunkAvailabilityRequest.class, Torr2.ChunkAvailabilityRequest.Builder.class);
+      }
+
+      // Construct using Torr2.ChunkAvailabilityRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        fileHash_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Torr2.internal_static_ChunkAvailabilityRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public Torr2.ChunkAvailabilityRequest getDefaultInstanceForType() {
+        return Torr2.ChunkAvailabilityRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Torr2.ChunkAvailabilityRequest build() {
+        Torr2.ChunkAvailabilityRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Torr2.ChunkAvailabilityRequest buildPartial() {
+        Torr2.ChunkAvailabilityRequest result = new Torr2.ChunkAvailabilityRequest(this);
+        result.fileHash_ = fileHash_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Torr2.ChunkAvailabilityRequest) {
+          return mergeFrom((Torr2.ChunkAvailabilityRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Torr2.ChunkAvailabilityRequest other) {
+        if (other == Torr2.ChunkAvailabilityRequest.getDefaultInstance()) return this;
+        if (other.getFileHash() != com.google.protobuf.ByteString.EMPTY) {
+          setFileHash(other.getFileHash());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        Torr2.ChunkAvailabilityRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (Torr2.ChunkAvailabilityRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString fileHash_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * MD5 of the file content
+       * </pre>
+       *
+       * <code>bytes fileHash = 1;</code>
+       * @return The fileHash.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getFileHash() {
+        return fileHash_;
+      }
+      /**
+       * <pre>
+       * MD5 of the file content
+       * </pre>
+       *
+       * <code>bytes fileHash = 1;</code>
+       * @param value The fileHash to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileHash(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        fileHash_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * MD5 of the file content
+       * </pre>
+       *
+       * <code>bytes fileHash = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileHash() {
+        
+        fileHash_ = getDefaultInstance().getFileHash();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ChunkAvailabilityRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkAvailabilityRequest)
+    private static final Torr2.ChunkAvailabilityRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new Torr2.ChunkAvailabilityRequest();
+    }
+
+    public static Torr2.ChunkAvailabilityRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChunkAvailabilityRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ChunkAvailabilityRequest>() {
+      @java.lang.Override
+      public ChunkAvailabilityRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ChunkAvailabilityRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChunkAvailabilityRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkAvailabilityRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public Torr2.ChunkAvailabilityRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChunkAvailabilityResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkAvailabilityResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    int getStatusValue();
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The status.
+     */
+    Torr2.Status getStatus();
+
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The errorMessage.
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The bytes for errorMessage.
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+
+    /**
+     * <pre>
+     * The chunks you have
+     * </pre>
+     *
+     * <code>bytes bitfield = 3;</code>
+     * @return The bitfield.
+     */
+    com.google.protobuf.ByteString getBitfield();
+  }
+  /**
+   * Protobuf type {@code ChunkAvailabilityResponse}
+   */
+  public static final class ChunkAvailabilityResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ChunkAvailabilityResponse)
+      ChunkAvailabilityResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ChunkAvailabilityResponse.newBuilder() to construct.
+    private ChunkAvailabilityResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ChunkAvailabilityResponse() {
+      status_ = 0;
+      errorMessage_ = "";
+      bitfield_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ChunkAvailabilityResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ChunkAvailabilityResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+
+              status_ = rawValue;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              errorMessage_ = s;
+              break;
+            }
+            case 26: {
+
+              bitfield_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return Torr2.internal_static_ChunkAvailabilityResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return Torr2.internal_static_ChunkAvailabilityResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              Torr2.ChunkAvailabilityResponse.class, Torr2.ChunkAvailabilityResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private int status_;
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override public Torr2.Status getStatus() {
+      @SuppressWarnings("deprecation")
+      Torr2.Status result = Torr2.Status.valueOf(status_);
+      return result == null ? Torr2.Status.UNRECOGNIZED : result;
+    }
+
+    public static final int ERRORMESSAGE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object errorMessage_;
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The errorMessage.
+     */
+    @java.lang.Override
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorMessage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string errorMessage = 2;</code>
+     * @return The bytes for errorMessage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BITFIELD_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString bitfield_;
+    /**
+     * <pre>
+     * The chunks you have
+     * </pre>
+     *
+     * <code>bytes bitfield = 3;</code>
+     * @return The bitfield.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getBitfield() {
+      return bitfield_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != Torr2.Status.SUCCESS.getNumber()) {
+        output.writeEnum(1, status_);
+      }
+      if (!getErrorMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, errorMessage_);
+      }
+      if (!bitfield_.isEmpty()) {
+        output.writeBytes(3, bitfield_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != Torr2.Status.SUCCESS.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_);
+      }
+      if (!getErrorMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, errorMessage_);
+      }
+      if (!bitfield_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, bitfield_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof Torr2.ChunkAvailabilityResponse)) {
+        return super.equals(obj);
+      }
+      Torr2.ChunkAvailabilityResponse other = (Torr2.ChunkAvailabilityResponse) obj;
+
+      if (status_ != other.status_) return false;
+      if (!getErrorMessage()
+          .equals(other.getErrorMessage())) return false;
+      if (!getBitfield()
+          .equals(other.getBitfield())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + status_;
+      hash = (37 * hash) + ERRORMESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorMessage().hashCode();
+      hash = (37 * hash) + BITFIELD_FIELD_NUMBER;
+      hash = (53 * hash) + getBitfield().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static Torr2.ChunkAvailabilityResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(Torr2.ChunkAvailabilityResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ChunkAvailabilityResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkAvailabilityResponse)
+        Torr2.ChunkAvailabilityResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return Torr2.internal_static_ChunkAvailabilityResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return Torr2.internal_static_ChunkAvailabilityResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                Torr2.ChunkAvailabilityResponse.class, Torr2.ChunkAvailabilityResponse.Builder.class);
+      }
+
+      // Construct using Torr2.ChunkAvailabilityResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        status_ = 0;
+
+        errorMessage_ = "";
+
+        bitfield_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Torr2.internal_static_ChunkAvailabilityResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public Torr2.ChunkAvailabilityResponse getDefaultInstanceForType() {
+        return Torr2.ChunkAvailabilityResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Torr2.ChunkAvailabilityResponse build() {
+        Torr2.ChunkAvailabilityResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Torr2.ChunkAvailabilityResponse buildPartial() {
+        Torr2.ChunkAvailabilityResponse result = new Torr2.ChunkAvailabilityResponse(this);
+        result.status_ = status_;
+        result.errorMessage_ = errorMessage_;
+        result.bitfield_ = bitfield_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Torr2.ChunkAvailabilityResponse) {
+          return mergeFrom((Torr2.ChunkAvailabilityResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Torr2.ChunkAvailabilityResponse other) {
+        if (other == Torr2.ChunkAvailabilityResponse.getDefaultInstance()) return this;
+        if (other.status_ != 0) {
+          setStatusValue(other.getStatusValue());
+        }
+        if (!other.getErrorMessage().isEmpty()) {
+          errorMessage_ = other.errorMessage_;
+          onChanged();
+        }
+        if (other.getBitfield() != com.google.protobuf.ByteString.EMPTY) {
+          setBitfield(other.getBitfield());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        Torr2.ChunkAvailabilityResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (Torr2.ChunkAvailabilityResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int status_ = 0;
+      /**
+       * <code>.Status status = 1;</code>
+       * @return The enum numeric value on the wire for status.
+       */
+      @java.lang.Override public int getStatusValue() {
+        return status_;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @param value The enum numeric value on the wire for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusValue(int value) {
+        
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @return The status.
+       */
+      @java.lang.Override
+      public Torr2.Status getStatus() {
+        @SuppressWarnings("deprecation")
+        Torr2.Status result = Torr2.Status.valueOf(status_);
+        return result == null ? Torr2.Status.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(Torr2.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        status_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Status status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        
+        status_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errorMessage_ = "";
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @return The errorMessage.
+       */
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errorMessage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @return The bytes for errorMessage.
+       */
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @param value The errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorMessage() {
+        
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string errorMessage = 2;</code>
+       * @param value The bytes for errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString bitfield_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * The chunks you have
+       * </pre>
+       *
+       * <code>bytes bitfield = 3;</code>
+       * @return The bitfield.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getBitfield() {
+        return bitfield_;
+      }
+      /**
+       * <pre>
+       * The chunks you have
+       * </pre>
+       *
+       * <code>bytes bitfield = 3;</code>
+       * @param value The bitfield to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBitfield(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        bitfield_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The chunks you have
+       * </pre>
+       *
+       * <code>bytes bitfield = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBitfield() {
+        
+        bitfield_ = getDefaultInstance().getBitfield();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ChunkAvailabilityResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkAvailabilityResponse)
+    private static final Torr2.ChunkAvailabilityResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new Torr2.ChunkAvailabilityResponse();
+    }
+
+    public static Torr2.ChunkAvailabilityResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChunkAvailabilityResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ChunkAvailabilityResponse>() {
+      @java.lang.Override
+      public ChunkAvailabilityResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ChunkAvailabilityResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChunkAvailabilityResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChunkAvailabilityResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public Torr2.ChunkAvailabilityResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Message)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.Message.Type type = 1;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.Message.Type type = 1;</code>
+     * @return The type.
+     */
+    Torr2.Message.Type getType();
+
+    /**
+     * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+     * @return Whether the localSearchRequest field is set.
+     */
+    boolean hasLocalSearchRequest();
+    /**
+     * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+     * @return The localSearchRequest.
+     */
+    Torr2.LocalSearchRequest getLocalSearchRequest();
+    /**
+     * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+     */
+    Torr2.LocalSearchRequestOrBuilder getLocalSearchRequestOrBuilder();
+
+    /**
+     * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+     * @return Whether the localSearchResponse field is set.
+     */
+    boolean hasLocalSearchResponse();
+    /**
+     * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+     * @return The localSearchResponse.
+     */
+    Torr2.LocalSearchResponse getLocalSearchResponse();
+    /**
+     * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+     */
+    Torr2.LocalSearchResponseOrBuilder getLocalSearchResponseOrBuilder();
+
+    /**
+     * <code>.SearchRequest searchRequest = 4;</code>
+     * @return Whether the searchRequest field is set.
+     */
+    boolean hasSearchRequest();
+    /**
+     * <code>.SearchRequest searchRequest = 4;</code>
+     * @return The searchRequest.
+     */
+    Torr2.SearchRequest getSearchRequest();
+    /**
+     * <code>.SearchRequest searchRequest = 4;</code>
+     */
+    Torr2.SearchRequestOrBuilder getSearchRequestOrBuilder();
+
+    /**
+     * <code>.SearchResponse searchResponse = 5;</code>
+     * @return Whether the searchResponse field is set.
+     */
+    boolean hasSearchResponse();
+    /**
+     * <code>.SearchResponse searchResponse = 5;</code>
+     * @return The searchResponse.
+     */
+    Torr2.SearchResponse getSearchResponse();
+    /**
+     * <code>.SearchResponse searchResponse = 5;</code>
+     */
+    Torr2.SearchResponseOrBuilder getSearchResponseOrBuilder();
+
+    /**
+     * <code>.UploadRequest uploadRequest = 6;</code>
+     * @return Whether the uploadRequest field is set.
+     */
+    boolean hasUploadRequest();
+    /**
+     * <code>.UploadRequest uploadRequest = 6;</code>
+     * @return The uploadRequest.
+     */
+    Torr2.UploadRequest getUploadRequest();
+    /**
+     * <code>.UploadRequest uploadRequest = 6;</code>
+     */
+    Torr2.UploadRequestOrBuilder getUploadRequestOrBuilder();
+
+    /**
+     * <code>.UploadResponse uploadResponse = 7;</code>
+     * @return Whether the uploadResponse field is set.
+     */
+    boolean hasUploadResponse();
+    /**
+     * <code>.UploadResponse uploadResponse = 7;</code>
+     * @return The uploadResponse.
+     */
+    Torr2.UploadResponse getUploadResponse();
+    /**
+     * <code>.UploadResponse uploadResponse = 7;</code>
+     */
+    Torr2.UploadResponseOrBuilder getUploadResponseOrBuilder();
+
+    /**
+     * <code>.ReplicateRequest replicateRequest = 8;</code>
+     * @return Whether the replicateRequest field is set.
+     */
+    boolean hasReplicateRequest();
+    /**
+     * <code>.ReplicateRequest replicateRequest = 8;</code>
+     * @return The replicateRequest.
+     */
+    Torr2.ReplicateRequest getReplicateRequest();
+    /**
+     * <code>.ReplicateRequest replicateRequest = 8;</code>
+     */
+    Torr2.ReplicateRequestOrBuilder getReplicateRequestOrBuilder();
+
+    /**
+     * <code>.ReplicateResponse replicateResponse = 9;</code>
+     * @return Whether the replicateResponse field is set.
+     */
+    boolean hasReplicateResponse();
+    /**
+     * <code>.ReplicateResponse replicateResponse = 9;</code>
+     * @return The replicateResponse.
+     */
+    Torr2.ReplicateResponse getReplicateResponse();
+    /**
+     * <code>.ReplicateResponse replicateResponse = 9;</code>
+     */
+    Torr2.ReplicateResponseOrBuilder getReplicateResponseOrBuilder();
+
+    /**
+     * <code>.ChunkRequest chunkRequest = 10;</code>
+     * @return Whether the chunkRequest field is set.
+     */
+    boolean hasChunkRequest();
+    /**
+     * <code>.ChunkRequest chunkRequest = 10;</code>
+     * @return The chunkRequest.
+     */
+    Torr2.ChunkRequest getChunkRequest();
+    /**
+     * <code>.ChunkRequest chunkRequest = 10;</code>
+     */
+    Torr2.ChunkRequestOrBuilder getChunkRequestOrBuilder();
+
+    /**
+     * <code>.ChunkResponse chunkResponse = 11;</code>
+     * @return Whether the chunkResponse field is set.
+     */
+    boolean hasChunkResponse();
+    /**
+     * <code>.ChunkResponse chunkResponse = 11;</code>
+     * @return The chunkResponse.
+     */
+    Torr2.ChunkResponse getChunkResponse();
+    /**
+     * <code>.ChunkResponse chunkResponse = 11;</code>
+     */
+    Torr2.ChunkResponseOrBuilder getChunkResponseOrBuilder();
+
+    /**
+     * <code>.DownloadRequest downloadRequest = 12;</code>
+     * @return Whether the downloadRequest field is set.
      */
     boolean hasDownloadRequest();
     /**
@@ -17969,6 +20766,66 @@ public final class Torr2 {
      * <code>.SubnetResponse subnetResponse = 17;</code>
      */
     Torr2.SubnetResponseOrBuilder getSubnetResponseOrBuilder();
+
+    /**
+     * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+     * @return Whether the rangeDownloadRequest field is set.
+     */
+    boolean hasRangeDownloadRequest();
+    /**
+     * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+     * @return The rangeDownloadRequest.
+     */
+    Torr2.RangeDownloadRequest getRangeDownloadRequest();
+    /**
+     * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+     */
+    Torr2.RangeDownloadRequestOrBuilder getRangeDownloadRequestOrBuilder();
+
+    /**
+     * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+     * @return Whether the rangeDownloadResponse field is set.
+     */
+    boolean hasRangeDownloadResponse();
+    /**
+     * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+     * @return The rangeDownloadResponse.
+     */
+    Torr2.RangeDownloadResponse getRangeDownloadResponse();
+    /**
+     * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+     */
+    Torr2.RangeDownloadResponseOrBuilder getRangeDownloadResponseOrBuilder();
+
+    /**
+     * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+     * @return Whether the chunkAvailabilityRequest field is set.
+     */
+    boolean hasChunkAvailabilityRequest();
+    /**
+     * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+     * @return The chunkAvailabilityRequest.
+     */
+    Torr2.ChunkAvailabilityRequest getChunkAvailabilityRequest();
+    /**
+     * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+     */
+    Torr2.ChunkAvailabilityRequestOrBuilder getChunkAvailabilityRequestOrBuilder();
+
+    /**
+     * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+     * @return Whether the chunkAvailabilityResponse field is set.
+     */
+    boolean hasChunkAvailabilityResponse();
+    /**
+     * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+     * @return The chunkAvailabilityResponse.
+     */
+    Torr2.ChunkAvailabilityResponse getChunkAvailabilityResponse();
+    /**
+     * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+     */
+    Torr2.ChunkAvailabilityResponseOrBuilder getChunkAvailabilityResponseOrBuilder();
   }
   /**
    * <pre>
@@ -18234,6 +21091,58 @@ public final class Torr2 {
 
               break;
             }
+            case 146: {
+              Torr2.RangeDownloadRequest.Builder subBuilder = null;
+              if (rangeDownloadRequest_ != null) {
+                subBuilder = rangeDownloadRequest_.toBuilder();
+              }
+              rangeDownloadRequest_ = input.readMessage(Torr2.RangeDownloadRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(rangeDownloadRequest_);
+                rangeDownloadRequest_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 154: {
+              Torr2.RangeDownloadResponse.Builder subBuilder = null;
+              if (rangeDownloadResponse_ != null) {
+                subBuilder = rangeDownloadResponse_.toBuilder();
+              }
+              rangeDownloadResponse_ = input.readMessage(Torr2.RangeDownloadResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(rangeDownloadResponse_);
+                rangeDownloadResponse_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 162: {
+              Torr2.ChunkAvailabilityRequest.Builder subBuilder = null;
+              if (chunkAvailabilityRequest_ != null) {
+                subBuilder = chunkAvailabilityRequest_.toBuilder();
+              }
+              chunkAvailabilityRequest_ = input.readMessage(Torr2.ChunkAvailabilityRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(chunkAvailabilityRequest_);
+                chunkAvailabilityRequest_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 170: {
+              Torr2.ChunkAvailabilityResponse.Builder subBuilder = null;
+              if (chunkAvailabilityResponse_ != null) {
+                subBuilder = chunkAvailabilityResponse_.toBuilder();
+              }
+              chunkAvailabilityResponse_ = input.readMessage(Torr2.ChunkAvailabilityResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(chunkAvailabilityResponse_);
+                chunkAvailabilityResponse_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -18339,6 +21248,22 @@ public final class Torr2 {
        * <code>SUBNET_RESPONSE = 15;</code>
        */
       SUBNET_RESPONSE(15),
+      /**
+       * <code>RANGE_DOWNLOAD_REQUEST = 16;</code>
+       */
+      RANGE_DOWNLOAD_REQUEST(16),
+      /**
+       * <code>RANGE_DOWNLOAD_RESPONSE = 17;</code>
+       */
+      RANGE_DOWNLOAD_RESPONSE(17),
+      /**
+       * <code>CHUNK_AVAILABILITY_REQUEST = 18;</code>
+       */
+      CHUNK_AVAILABILITY_REQUEST(18),
+      /**
+       * <code>CHUNK_AVAILABILITY_RESPONSE = 19;</code>
+       */
+      CHUNK_AVAILABILITY_RESPONSE(19),
       UNRECOGNIZED(-1),
       ;
 
@@ -18410,6 +21335,22 @@ public final class Torr2 {
        * <code>SUBNET_RESPONSE = 15;</code>
        */
       public static final int SUBNET_RESPONSE_VALUE = 15;
+      /**
+       * <code>RANGE_DOWNLOAD_REQUEST = 16;</code>
+       */
+      public static final int RANGE_DOWNLOAD_REQUEST_VALUE = 16;
+      /**
+       * <code>RANGE_DOWNLOAD_RESPONSE = 17;</code>
+       */
+      public static final int RANGE_DOWNLOAD_RESPONSE_VALUE = 17;
+      /**
+       * <code>CHUNK_AVAILABILITY_REQUEST = 18;</code>
+       */
+      public static final int CHUNK_AVAILABILITY_REQUEST_VALUE = 18;
+      /**
+       * <code>CHUNK_AVAILABILITY_RESPONSE = 19;</code>
+       */
+      public static final int CHUNK_AVAILABILITY_RESPONSE_VALUE = 19;
 
 
       public final int getNumber() {
@@ -18452,6 +21393,10 @@ public final class Torr2 {
           case 13: return REGISTRATION_RESPONSE;
           case 14: return SUBNET_REQUEST;
           case 15: return SUBNET_RESPONSE;
+          case 16: return RANGE_DOWNLOAD_REQUEST;
+          case 17: return RANGE_DOWNLOAD_RESPONSE;
+          case 18: return CHUNK_AVAILABILITY_REQUEST;
+          case 19: return CHUNK_AVAILABILITY_RESPONSE;
           default: return null;
         }
       }
@@ -18943,6 +21888,110 @@ public final class Torr2 {
       return getSubnetResponse();
     }
 
+    public static final int RANGEDOWNLOADREQUEST_FIELD_NUMBER = 18;
+    private Torr2.RangeDownloadRequest rangeDownloadRequest_;
+    /**
+     * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+     * @return Whether the rangeDownloadRequest field is set.
+     */
+    @java.lang.Override
+    public boolean hasRangeDownloadRequest() {
+      return rangeDownloadRequest_ != null;
+    }
+    /**
+     * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+     * @return The rangeDownloadRequest.
+     */
+    @java.lang.Override
+    public Torr2.RangeDownloadRequest getRangeDownloadRequest() {
+      return rangeDownloadRequest_ == null ? Torr2.RangeDownloadRequest.getDefaultInstance() : rangeDownloadRequest_;
+    }
+    /**
+     * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+     */
+    @java.lang.Override
+    public Torr2.RangeDownloadRequestOrBuilder getRangeDownloadRequestOrBuilder() {
+      return getRangeDownloadRequest();
+    }
+
+    public static final int RANGEDOWNLOADRESPONSE_FIELD_NUMBER = 19;
+    private Torr2.RangeDownloadResponse rangeDownloadResponse_;
+    /**
+     * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+     * @return Whether the rangeDownloadResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasRangeDownloadResponse() {
+      return rangeDownloadResponse_ != null;
+    }
+    /**
+     * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+     * @return The rangeDownloadResponse.
+     */
+    @java.lang.Override
+    public Torr2.RangeDownloadResponse getRangeDownloadResponse() {
+      return rangeDownloadResponse_ == null ? Torr2.RangeDownloadResponse.getDefaultInstance() : rangeDownloadResponse_;
+    }
+    /**
+     * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+     */
+    @java.lang.Override
+    public Torr2.RangeDownloadResponseOrBuilder getRangeDownloadResponseOrBuilder() {
+      return getRangeDownloadResponse();
+    }
+
+    public static final int CHUNKAVAILABILITYREQUEST_FIELD_NUMBER = 20;
+    private Torr2.ChunkAvailabilityRequest chunkAvailabilityRequest_;
+    /**
+     * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+     * @return Whether the chunkAvailabilityRequest field is set.
+     */
+    @java.lang.Override
+    public boolean hasChunkAvailabilityRequest() {
+      return chunkAvailabilityRequest_ != null;
+    }
+    /**
+     * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+     * @return The chunkAvailabilityRequest.
+     */
+    @java.lang.Override
+    public Torr2.ChunkAvailabilityRequest getChunkAvailabilityRequest() {
+      return chunkAvailabilityRequest_ == null ? Torr2.ChunkAvailabilityRequest.getDefaultInstance() : chunkAvailabilityRequest_;
+    }
+    /**
+     * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+     */
+    @java.lang.Override
+    public Torr2.ChunkAvailabilityRequestOrBuilder getChunkAvailabilityRequestOrBuilder() {
+      return getChunkAvailabilityRequest();
+    }
+
+    public static final int CHUNKAVAILABILITYRESPONSE_FIELD_NUMBER = 21;
+    private Torr2.ChunkAvailabilityResponse chunkAvailabilityResponse_;
+    /**
+     * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+     * @return Whether the chunkAvailabilityResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasChunkAvailabilityResponse() {
+      return chunkAvailabilityResponse_ != null;
+    }
+    /**
+     * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+     * @return The chunkAvailabilityResponse.
+     */
+    @java.lang.Override
+    public Torr2.ChunkAvailabilityResponse getChunkAvailabilityResponse() {
+      return chunkAvailabilityResponse_ == null ? Torr2.ChunkAvailabilityResponse.getDefaultInstance() : chunkAvailabilityResponse_;
+    }
+    /**
+     * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+     */
+    @java.lang.Override
+    public Torr2.ChunkAvailabilityResponseOrBuilder getChunkAvailabilityResponseOrBuilder() {
+      return getChunkAvailabilityResponse();
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -19008,6 +22057,18 @@ public final class Torr2 {
       if (subnetResponse_ != null) {
         output.writeMessage(17, getSubnetResponse());
       }
+      if (rangeDownloadRequest_ != null) {
+        output.writeMessage(18, getRangeDownloadRequest());
+      }
+      if (rangeDownloadResponse_ != null) {
+        output.writeMessage(19, getRangeDownloadResponse());
+      }
+      if (chunkAvailabilityRequest_ != null) {
+        output.writeMessage(20, getChunkAvailabilityRequest());
+      }
+      if (chunkAvailabilityResponse_ != null) {
+        output.writeMessage(21, getChunkAvailabilityResponse());
+      }
       unknownFields.writeTo(output);
     }
 
@@ -19085,6 +22146,22 @@ public final class Torr2 {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(17, getSubnetResponse());
       }
+      if (rangeDownloadRequest_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(18, getRangeDownloadRequest());
+      }
+      if (rangeDownloadResponse_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, getRangeDownloadResponse());
+      }
+      if (chunkAvailabilityRequest_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(20, getChunkAvailabilityRequest());
+      }
+      if (chunkAvailabilityResponse_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(21, getChunkAvailabilityResponse());
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -19181,6 +22258,26 @@ public final class Torr2 {
         if (!getSubnetResponse()
             .equals(other.getSubnetResponse())) return false;
       }
+      if (hasRangeDownloadRequest() != other.hasRangeDownloadRequest()) return false;
+      if (hasRangeDownloadRequest()) {
+        if (!getRangeDownloadRequest()
+            .equals(other.getRangeDownloadRequest())) return false;
+      }
+      if (hasRangeDownloadResponse() != other.hasRangeDownloadResponse()) return false;
+      if (hasRangeDownloadResponse()) {
+        if (!getRangeDownloadResponse()
+            .equals(other.getRangeDownloadResponse())) return false;
+      }
+      if (hasChunkAvailabilityRequest() != other.hasChunkAvailabilityRequest()) return false;
+      if (hasChunkAvailabilityRequest()) {
+        if (!getChunkAvailabilityRequest()
+            .equals(other.getChunkAvailabilityRequest())) return false;
+      }
+      if (hasChunkAvailabilityResponse() != other.hasChunkAvailabilityResponse()) return false;
+      if (hasChunkAvailabilityResponse()) {
+        if (!getChunkAvailabilityResponse()
+            .equals(other.getChunkAvailabilityResponse())) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -19254,9 +22351,25 @@ public final class Torr2 {
         hash = (37 * hash) + SUBNETREQUEST_FIELD_NUMBER;
         hash = (53 * hash) + getSubnetRequest().hashCode();
       }
-      if (hasSubnetResponse()) {
-        hash = (37 * hash) + SUBNETRESPONSE_FIELD_NUMBER;
-        hash = (53 * hash) + getSubnetResponse().hashCode();
+      if (hasSubnetResponse()) {
+        hash = (37 * hash) + SUBNETRESPONSE_FIELD_NUMBER;
+        hash = (53 * hash) + getSubnetResponse().hashCode();
+      }
+      if (hasRangeDownloadRequest()) {
+        hash = (37 * hash) + RANGEDOWNLOADREQUEST_FIELD_NUMBER;
+        hash = (53 * hash) + getRangeDownloadRequest().hashCode();
+      }
+      if (hasRangeDownloadResponse()) {
+        hash = (37 * hash) + RANGEDOWNLOADRESPONSE_FIELD_NUMBER;
+        hash = (53 * hash) + getRangeDownloadResponse().hashCode();
+      }
+      if (hasChunkAvailabilityRequest()) {
+        hash = (37 * hash) + CHUNKAVAILABILITYREQUEST_FIELD_NUMBER;
+        hash = (53 * hash) + getChunkAvailabilityRequest().hashCode();
+      }
+      if (hasChunkAvailabilityResponse()) {
+        hash = (37 * hash) + CHUNKAVAILABILITYRESPONSE_FIELD_NUMBER;
+        hash = (53 * hash) + getChunkAvailabilityResponse().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
@@ -19451,2239 +22564,2771 @@ public final class Torr2 {
           chunkRequest_ = null;
           chunkRequestBuilder_ = null;
         }
-        if (chunkResponseBuilder_ == null) {
-          chunkResponse_ = null;
-        } else {
-          chunkResponse_ = null;
-          chunkResponseBuilder_ = null;
+        if (chunkResponseBuilder_ == null) {
+          chunkResponse_ = null;
+        } else {
+          chunkResponse_ = null;
+          chunkResponseBuilder_ = null;
+        }
+        if (downloadRequestBuilder_ == null) {
+          downloadRequest_ = null;
+        } else {
+          downloadRequest_ = null;
+          downloadRequestBuilder_ = null;
+        }
+        if (downloadResponseBuilder_ == null) {
+          downloadResponse_ = null;
+        } else {
+          downloadResponse_ = null;
+          downloadResponseBuilder_ = null;
+        }
+        if (registrationRequestBuilder_ == null) {
+          registrationRequest_ = null;
+        } else {
+          registrationRequest_ = null;
+          registrationRequestBuilder_ = null;
+        }
+        if (registrationResponseBuilder_ == null) {
+          registrationResponse_ = null;
+        } else {
+          registrationResponse_ = null;
+          registrationResponseBuilder_ = null;
+        }
+        if (subnetRequestBuilder_ == null) {
+          subnetRequest_ = null;
+        } else {
+          subnetRequest_ = null;
+          subnetRequestBuilder_ = null;
+        }
+        if (subnetResponseBuilder_ == null) {
+          subnetResponse_ = null;
+        } else {
+          subnetResponse_ = null;
+          subnetResponseBuilder_ = null;
+        }
+        if (rangeDownloadRequestBuilder_ == null) {
+          rangeDownloadRequest_ = null;
+        } else {
+          rangeDownloadRequest_ = null;
+          rangeDownloadRequestBuilder_ = null;
+        }
+        if (rangeDownloadResponseBuilder_ == null) {
+          rangeDownloadResponse_ = null;
+        } else {
+          rangeDownloadResponse_ = null;
+          rangeDownloadResponseBuilder_ = null;
+        }
+        if (chunkAvailabilityRequestBuilder_ == null) {
+          chunkAvailabilityRequest_ = null;
+        } else {
+          chunkAvailabilityRequest_ = null;
+          chunkAvailabilityRequestBuilder_ = null;
+        }
+        if (chunkAvailabilityResponseBuilder_ == null) {
+          chunkAvailabilityResponse_ = null;
+        } else {
+          chunkAvailabilityResponse_ = null;
+          chunkAvailabilityResponseBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return Torr2.internal_static_Message_descriptor;
+      }
+
+      @java.lang.Override
+      public Torr2.Message getDefaultInstanceForType() {
+        return Torr2.Message.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public Torr2.Message build() {
+        Torr2.Message result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public Torr2.Message buildPartial() {
+        Torr2.Message result = new Torr2.Message(this);
+        result.type_ = type_;
+        if (localSearchRequestBuilder_ == null) {
+          result.localSearchRequest_ = localSearchRequest_;
+        } else {
+          result.localSearchRequest_ = localSearchRequestBuilder_.build();
+        }
+        if (localSearchResponseBuilder_ == null) {
+          result.localSearchResponse_ = localSearchResponse_;
+        } else {
+          result.localSearchResponse_ = localSearchResponseBuilder_.build();
+        }
+        if (searchRequestBuilder_ == null) {
+          result.searchRequest_ = searchRequest_;
+        } else {
+          result.searchRequest_ = searchRequestBuilder_.build();
+        }
+        if (searchResponseBuilder_ == null) {
+          result.searchResponse_ = searchResponse_;
+        } else {
+          result.searchResponse_ = searchResponseBuilder_.build();
+        }
+        if (uploadRequestBuilder_ == null) {
+          result.uploadRequest_ = uploadRequest_;
+        } else {
+          result.uploadRequest_ = uploadRequestBuilder_.build();
+        }
+        if (uploadResponseBuilder_ == null) {
+          result.uploadResponse_ = uploadResponse_;
+        } else {
+          result.uploadResponse_ = uploadResponseBuilder_.build();
+        }
+        if (replicateRequestBuilder_ == null) {
+          result.replicateRequest_ = replicateRequest_;
+        } else {
+          result.replicateRequest_ = replicateRequestBuilder_.build();
+        }
+        if (replicateResponseBuilder_ == null) {
+          result.replicateResponse_ = replicateResponse_;
+        } else {
+          result.replicateResponse_ = replicateResponseBuilder_.build();
+        }
+        if (chunkRequestBuilder_ == null) {
+          result.chunkRequest_ = chunkRequest_;
+        } else {
+          result.chunkRequest_ = chunkRequestBuilder_.build();
+        }
+        if (chunkResponseBuilder_ == null) {
+          result.chunkResponse_ = chunkResponse_;
+        } else {
+          result.chunkResponse_ = chunkResponseBuilder_.build();
+        }
+        if (downloadRequestBuilder_ == null) {
+          result.downloadRequest_ = downloadRequest_;
+        } else {
+          result.downloadRequest_ = downloadRequestBuilder_.build();
+        }
+        if (downloadResponseBuilder_ == null) {
+          result.downloadResponse_ = downloadResponse_;
+        } else {
+          result.downloadResponse_ = downloadResponseBuilder_.build();
+        }
+        if (registrationRequestBuilder_ == null) {
+          result.registrationRequest_ = registrationRequest_;
+        } else {
+          result.registrationRequest_ = registrationRequestBuilder_.build();
+        }
+        if (registrationResponseBuilder_ == null) {
+          result.registrationResponse_ = registrationResponse_;
+        } else {
+          result.registrationResponse_ = registrationResponseBuilder_.build();
+        }
+        if (subnetRequestBuilder_ == null) {
+          result.subnetRequest_ = subnetRequest_;
+        } else {
+          result.subnetRequest_ = subnetRequestBuilder_.build();
+        }
+        if (subnetResponseBuilder_ == null) {
+          result.subnetResponse_ = subnetResponse_;
+        } else {
+          result.subnetResponse_ = subnetResponseBuilder_.build();
+        }
+        if (rangeDownloadRequestBuilder_ == null) {
+          result.rangeDownloadRequest_ = rangeDownloadRequest_;
+        } else {
+          result.rangeDownloadRequest_ = rangeDownloadRequestBuilder_.build();
+        }
+        if (rangeDownloadResponseBuilder_ == null) {
+          result.rangeDownloadResponse_ = rangeDownloadResponse_;
+        } else {
+          result.rangeDownloadResponse_ = rangeDownloadResponseBuilder_.build();
+        }
+        if (chunkAvailabilityRequestBuilder_ == null) {
+          result.chunkAvailabilityRequest_ = chunkAvailabilityRequest_;
+        } else {
+          result.chunkAvailabilityRequest_ = chunkAvailabilityRequestBuilder_.build();
+        }
+        if (chunkAvailabilityResponseBuilder_ == null) {
+          result.chunkAvailabilityResponse_ = chunkAvailabilityResponse_;
+        } else {
+          result.chunkAvailabilityResponse_ = chunkAvailabilityResponseBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof Torr2.Message) {
+          return mergeFrom((Torr2.Message)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(Torr2.Message other) {
+        if (other == Torr2.Message.getDefaultInstance()) return this;
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (other.hasLocalSearchRequest()) {
+          mergeLocalSearchRequest(other.getLocalSearchRequest());
+        }
+        if (other.hasLocalSearchResponse()) {
+          mergeLocalSearchResponse(other.getLocalSearchResponse());
+        }
+        if (other.hasSearchRequest()) {
+          mergeSearchRequest(other.getSearchRequest());
+        }
+        if (other.hasSearchResponse()) {
+          mergeSearchResponse(other.getSearchResponse());
+        }
+        if (other.hasUploadRequest()) {
+          mergeUploadRequest(other.getUploadRequest());
+        }
+        if (other.hasUploadResponse()) {
+          mergeUploadResponse(other.getUploadResponse());
+        }
+        if (other.hasReplicateRequest()) {
+          mergeReplicateRequest(other.getReplicateRequest());
+        }
+        if (other.hasReplicateResponse()) {
+          mergeReplicateResponse(other.getReplicateResponse());
+        }
+        if (other.hasChunkRequest()) {
+          mergeChunkRequest(other.getChunkRequest());
+        }
+        if (other.hasChunkResponse()) {
+          mergeChunkResponse(other.getChunkResponse());
+        }
+        if (other.hasDownloadRequest()) {
+          mergeDownloadRequest(other.getDownloadRequest());
+        }
+        if (other.hasDownloadResponse()) {
+          mergeDownloadResponse(other.getDownloadResponse());
+        }
+        if (other.hasRegistrationRequest()) {
+          mergeRegistrationRequest(other.getRegistrationRequest());
+        }
+        if (other.hasRegistrationResponse()) {
+          mergeRegistrationResponse(other.getRegistrationResponse());
         }
-        if (downloadRequestBuilder_ == null) {
-          downloadRequest_ = null;
-        } else {
-          downloadRequest_ = null;
-          downloadRequestBuilder_ = null;
+        if (other.hasSubnetRequest()) {
+          mergeSubnetRequest(other.getSubnetRequest());
         }
-        if (downloadResponseBuilder_ == null) {
-          downloadResponse_ = null;
-        } else {
-          downloadResponse_ = null;
-          downloadResponseBuilder_ = null;
+        if (other.hasSubnetResponse()) {
+          mergeSubnetResponse(other.getSubnetResponse());
         }
-        if (registrationRequestBuilder_ == null) {
-          registrationRequest_ = null;
-        } else {
-          registrationRequest_ = null;
-          registrationRequestBuilder_ = null;
+        if (other.hasRangeDownloadRequest()) {
+          mergeRangeDownloadRequest(other.getRangeDownloadRequest());
         }
-        if (registrationResponseBuilder_ == null) {
-          registrationResponse_ = null;
-        } else {
-          registrationResponse_ = null;
-          registrationResponseBuilder_ = null;
+        if (other.hasRangeDownloadResponse()) {
+          mergeRangeDownloadResponse(other.getRangeDownloadResponse());
         }
-        if (subnetRequestBuilder_ == null) {
-          subnetRequest_ = null;
-        } else {
-          subnetRequest_ = null;
-          subnetRequestBuilder_ = null;
+        if (other.hasChunkAvailabilityRequest()) {
+          mergeChunkAvailabilityRequest(other.getChunkAvailabilityRequest());
         }
-        if (subnetResponseBuilder_ == null) {
-          subnetResponse_ = null;
-        } else {
-          subnetResponse_ = null;
-          subnetResponseBuilder_ = null;
+        if (other.hasChunkAvailabilityResponse()) {
+          mergeChunkAvailabilityResponse(other.getChunkAvailabilityResponse());
         }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
         return this;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return Torr2.internal_static_Message_descriptor;
+      public final boolean isInitialized() {
+        return true;
       }
 
       @java.lang.Override
-      public Torr2.Message getDefaultInstanceForType() {
-        return Torr2.Message.getDefaultInstance();
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        Torr2.Message parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (Torr2.Message) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
 
+      private int type_ = 0;
+      /**
+       * <code>.Message.Type type = 1;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.Message.Type type = 1;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Message.Type type = 1;</code>
+       * @return The type.
+       */
       @java.lang.Override
-      public Torr2.Message build() {
-        Torr2.Message result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      public Torr2.Message.Type getType() {
+        @SuppressWarnings("deprecation")
+        Torr2.Message.Type result = Torr2.Message.Type.valueOf(type_);
+        return result == null ? Torr2.Message.Type.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.Message.Type type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(Torr2.Message.Type value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
-        return result;
+        
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Message.Type type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        
+        type_ = 0;
+        onChanged();
+        return this;
       }
 
-      @java.lang.Override
-      public Torr2.Message buildPartial() {
-        Torr2.Message result = new Torr2.Message(this);
-        result.type_ = type_;
+      private Torr2.LocalSearchRequest localSearchRequest_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.LocalSearchRequest, Torr2.LocalSearchRequest.Builder, Torr2.LocalSearchRequestOrBuilder> localSearchRequestBuilder_;
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * @return Whether the localSearchRequest field is set.
+       */
+      public boolean hasLocalSearchRequest() {
+        return localSearchRequestBuilder_ != null || localSearchRequest_ != null;
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * @return The localSearchRequest.
+       */
+      public Torr2.LocalSearchRequest getLocalSearchRequest() {
         if (localSearchRequestBuilder_ == null) {
-          result.localSearchRequest_ = localSearchRequest_;
-        } else {
-          result.localSearchRequest_ = localSearchRequestBuilder_.build();
-        }
-        if (localSearchResponseBuilder_ == null) {
-          result.localSearchResponse_ = localSearchResponse_;
-        } else {
-          result.localSearchResponse_ = localSearchResponseBuilder_.build();
-        }
-        if (searchRequestBuilder_ == null) {
-          result.searchRequest_ = searchRequest_;
-        } else {
-          result.searchRequest_ = searchRequestBuilder_.build();
-        }
-        if (searchResponseBuilder_ == null) {
-          result.searchResponse_ = searchResponse_;
-        } else {
-          result.searchResponse_ = searchResponseBuilder_.build();
-        }
-        if (uploadRequestBuilder_ == null) {
-          result.uploadRequest_ = uploadRequest_;
+          return localSearchRequest_ == null ? Torr2.LocalSearchRequest.getDefaultInstance() : localSearchRequest_;
         } else {
-          result.uploadRequest_ = uploadRequestBuilder_.build();
+          return localSearchRequestBuilder_.getMessage();
         }
-        if (uploadResponseBuilder_ == null) {
-          result.uploadResponse_ = uploadResponse_;
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       */
+      public Builder setLocalSearchRequest(Torr2.LocalSearchRequest value) {
+        if (localSearchRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          localSearchRequest_ = value;
+          onChanged();
         } else {
-          result.uploadResponse_ = uploadResponseBuilder_.build();
+          localSearchRequestBuilder_.setMessage(value);
         }
-        if (replicateRequestBuilder_ == null) {
-          result.replicateRequest_ = replicateRequest_;
+
+        return this;
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       */
+      public Builder setLocalSearchRequest(
+          Torr2.LocalSearchRequest.Builder builderForValue) {
+        if (localSearchRequestBuilder_ == null) {
+          localSearchRequest_ = builderForValue.build();
+          onChanged();
         } else {
-          result.replicateRequest_ = replicateRequestBuilder_.build();
+          localSearchRequestBuilder_.setMessage(builderForValue.build());
         }
-        if (replicateResponseBuilder_ == null) {
-          result.replicateResponse_ = replicateResponse_;
+
+        return this;
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       */
+      public Builder mergeLocalSearchRequest(Torr2.LocalSearchRequest value) {
+        if (localSearchRequestBuilder_ == null) {
+          if (localSearchRequest_ != null) {
+            localSearchRequest_ =
+              Torr2.LocalSearchRequest.newBuilder(localSearchRequest_).mergeFrom(value).buildPartial();
+          } else {
+            localSearchRequest_ = value;
+          }
+          onChanged();
         } else {
-          result.replicateResponse_ = replicateResponseBuilder_.build();
+          localSearchRequestBuilder_.mergeFrom(value);
         }
-        if (chunkRequestBuilder_ == null) {
-          result.chunkRequest_ = chunkRequest_;
+
+        return this;
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       */
+      public Builder clearLocalSearchRequest() {
+        if (localSearchRequestBuilder_ == null) {
+          localSearchRequest_ = null;
+          onChanged();
         } else {
-          result.chunkRequest_ = chunkRequestBuilder_.build();
+          localSearchRequest_ = null;
+          localSearchRequestBuilder_ = null;
         }
-        if (chunkResponseBuilder_ == null) {
-          result.chunkResponse_ = chunkResponse_;
+
+        return this;
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       */
+      public Torr2.LocalSearchRequest.Builder getLocalSearchRequestBuilder() {
+        
+        onChanged();
+        return getLocalSearchRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       */
+      public Torr2.LocalSearchRequestOrBuilder getLocalSearchRequestOrBuilder() {
+        if (localSearchRequestBuilder_ != null) {
+          return localSearchRequestBuilder_.getMessageOrBuilder();
         } else {
-          result.chunkResponse_ = chunkResponseBuilder_.build();
+          return localSearchRequest_ == null ?
+              Torr2.LocalSearchRequest.getDefaultInstance() : localSearchRequest_;
         }
-        if (downloadRequestBuilder_ == null) {
-          result.downloadRequest_ = downloadRequest_;
-        } else {
-          result.downloadRequest_ = downloadRequestBuilder_.build();
+      }
+      /**
+       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.LocalSearchRequest, Torr2.LocalSearchRequest.Builder, Torr2.LocalSearchRequestOrBuilder> 
+          getLocalSearchRequestFieldBuilder() {
+        if (localSearchRequestBuilder_ == null) {
+          localSearchRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.LocalSearchRequest, Torr2.LocalSearchRequest.Builder, Torr2.LocalSearchRequestOrBuilder>(
+                  getLocalSearchRequest(),
+                  getParentForChildren(),
+                  isClean());
+          localSearchRequest_ = null;
         }
-        if (downloadResponseBuilder_ == null) {
-          result.downloadResponse_ = downloadResponse_;
+        return localSearchRequestBuilder_;
+      }
+
+      private Torr2.LocalSearchResponse localSearchResponse_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.LocalSearchResponse, Torr2.LocalSearchResponse.Builder, Torr2.LocalSearchResponseOrBuilder> localSearchResponseBuilder_;
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * @return Whether the localSearchResponse field is set.
+       */
+      public boolean hasLocalSearchResponse() {
+        return localSearchResponseBuilder_ != null || localSearchResponse_ != null;
+      }
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * @return The localSearchResponse.
+       */
+      public Torr2.LocalSearchResponse getLocalSearchResponse() {
+        if (localSearchResponseBuilder_ == null) {
+          return localSearchResponse_ == null ? Torr2.LocalSearchResponse.getDefaultInstance() : localSearchResponse_;
         } else {
-          result.downloadResponse_ = downloadResponseBuilder_.build();
+          return localSearchResponseBuilder_.getMessage();
         }
-        if (registrationRequestBuilder_ == null) {
-          result.registrationRequest_ = registrationRequest_;
+      }
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       */
+      public Builder setLocalSearchResponse(Torr2.LocalSearchResponse value) {
+        if (localSearchResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          localSearchResponse_ = value;
+          onChanged();
         } else {
-          result.registrationRequest_ = registrationRequestBuilder_.build();
+          localSearchResponseBuilder_.setMessage(value);
         }
-        if (registrationResponseBuilder_ == null) {
-          result.registrationResponse_ = registrationResponse_;
+
+        return this;
+      }
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       */
+      public Builder setLocalSearchResponse(
+          Torr2.LocalSearchResponse.Builder builderForValue) {
+        if (localSearchResponseBuilder_ == null) {
+          localSearchResponse_ = builderForValue.build();
+          onChanged();
         } else {
-          result.registrationResponse_ = registrationResponseBuilder_.build();
+          localSearchResponseBuilder_.setMessage(builderForValue.build());
         }
-        if (subnetRequestBuilder_ == null) {
-          result.subnetRequest_ = subnetRequest_;
+
+        return this;
+      }
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       */
+      public Builder mergeLocalSearchResponse(Torr2.LocalSearchResponse value) {
+        if (localSearchResponseBuilder_ == null) {
+          if (localSearchResponse_ != null) {
+            localSearchResponse_ =
+              Torr2.LocalSearchResponse.newBuilder(localSearchResponse_).mergeFrom(value).buildPartial();
+          } else {
+            localSearchResponse_ = value;
+          }
+          onChanged();
         } else {
-          result.subnetRequest_ = subnetRequestBuilder_.build();
+          localSearchResponseBuilder_.mergeFrom(value);
         }
-        if (subnetResponseBuilder_ == null) {
-          result.subnetResponse_ = subnetResponse_;
+
+        return this;
+      }
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       */
+      public Builder clearLocalSearchResponse() {
+        if (localSearchResponseBuilder_ == null) {
+          localSearchResponse_ = null;
+          onChanged();
         } else {
-          result.subnetResponse_ = subnetResponseBuilder_.build();
+          localSearchResponse_ = null;
+          localSearchResponseBuilder_ = null;
         }
-        onBuilt();
-        return result;
-      }
 
-      @java.lang.Override
-      public Builder clone() {
-        return super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.setField(field, value);
+        return this;
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       */
+      public Torr2.LocalSearchResponse.Builder getLocalSearchResponseBuilder() {
+        
+        onChanged();
+        return getLocalSearchResponseFieldBuilder().getBuilder();
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       */
+      public Torr2.LocalSearchResponseOrBuilder getLocalSearchResponseOrBuilder() {
+        if (localSearchResponseBuilder_ != null) {
+          return localSearchResponseBuilder_.getMessageOrBuilder();
+        } else {
+          return localSearchResponse_ == null ?
+              Torr2.LocalSearchResponse.getDefaultInstance() : localSearchResponse_;
+        }
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return super.setRepeatedField(field, index, value);
+      /**
+       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.LocalSearchResponse, Torr2.LocalSearchResponse.Builder, Torr2.LocalSearchResponseOrBuilder> 
+          getLocalSearchResponseFieldBuilder() {
+        if (localSearchResponseBuilder_ == null) {
+          localSearchResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.LocalSearchResponse, Torr2.LocalSearchResponse.Builder, Torr2.LocalSearchResponseOrBuilder>(
+                  getLocalSearchResponse(),
+                  getParentForChildren(),
+                  isClean());
+          localSearchResponse_ = null;
+        }
+        return localSearchResponseBuilder_;
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.addRepeatedField(field, value);
+
+      private Torr2.SearchRequest searchRequest_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.SearchRequest, Torr2.SearchRequest.Builder, Torr2.SearchRequestOrBuilder> searchRequestBuilder_;
+      /**
+       * <code>.SearchRequest searchRequest = 4;</code>
+       * @return Whether the searchRequest field is set.
+       */
+      public boolean hasSearchRequest() {
+        return searchRequestBuilder_ != null || searchRequest_ != null;
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof Torr2.Message) {
-          return mergeFrom((Torr2.Message)other);
+      /**
+       * <code>.SearchRequest searchRequest = 4;</code>
+       * @return The searchRequest.
+       */
+      public Torr2.SearchRequest getSearchRequest() {
+        if (searchRequestBuilder_ == null) {
+          return searchRequest_ == null ? Torr2.SearchRequest.getDefaultInstance() : searchRequest_;
         } else {
-          super.mergeFrom(other);
-          return this;
+          return searchRequestBuilder_.getMessage();
         }
       }
-
-      public Builder mergeFrom(Torr2.Message other) {
-        if (other == Torr2.Message.getDefaultInstance()) return this;
-        if (other.type_ != 0) {
-          setTypeValue(other.getTypeValue());
-        }
-        if (other.hasLocalSearchRequest()) {
-          mergeLocalSearchRequest(other.getLocalSearchRequest());
-        }
-        if (other.hasLocalSearchResponse()) {
-          mergeLocalSearchResponse(other.getLocalSearchResponse());
-        }
-        if (other.hasSearchRequest()) {
-          mergeSearchRequest(other.getSearchRequest());
-        }
-        if (other.hasSearchResponse()) {
-          mergeSearchResponse(other.getSearchResponse());
-        }
-        if (other.hasUploadRequest()) {
-          mergeUploadRequest(other.getUploadRequest());
-        }
-        if (other.hasUploadResponse()) {
-          mergeUploadResponse(other.getUploadResponse());
-        }
-        if (other.hasReplicateRequest()) {
-          mergeReplicateRequest(other.getReplicateRequest());
-        }
-        if (other.hasReplicateResponse()) {
-          mergeReplicateResponse(other.getReplicateResponse());
-        }
-        if (other.hasChunkRequest()) {
-          mergeChunkRequest(other.getChunkRequest());
-        }
-        if (other.hasChunkResponse()) {
-          mergeChunkResponse(other.getChunkResponse());
-        }
-        if (other.hasDownloadRequest()) {
-          mergeDownloadRequest(other.getDownloadRequest());
-        }
-        if (other.hasDownloadResponse()) {
-          mergeDownloadResponse(other.getDownloadResponse());
-        }
-        if (other.hasRegistrationRequest()) {
-          mergeRegistrationRequest(other.getRegistrationRequest());
-        }
-        if (other.hasRegistrationResponse()) {
-          mergeRegistrationResponse(other.getRegistrationResponse());
-        }
-        if (other.hasSubnetRequest()) {
-          mergeSubnetRequest(other.getSubnetRequest());
-        }
-        if (other.hasSubnetResponse()) {
-          mergeSubnetResponse(other.getSubnetResponse());
+      /**
+       * <code>.SearchRequest searchRequest = 4;</code>
+       */
+      public Builder setSearchRequest(Torr2.SearchRequest value) {
+        if (searchRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          searchRequest_ = value;
+          onChanged();
+        } else {
+          searchRequestBuilder_.setMessage(value);
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
+
         return this;
       }
+      /**
+       * <code>.SearchRequest searchRequest = 4;</code>
+       */
+      public Builder setSearchRequest(
+          Torr2.SearchRequest.Builder builderForValue) {
+        if (searchRequestBuilder_ == null) {
+          searchRequest_ = builderForValue.build();
+          onChanged();
+        } else {
+          searchRequestBuilder_.setMessage(builderForValue.build());
+        }
 
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+        return this;
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        Torr2.Message parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (Torr2.Message) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <code>.SearchRequest searchRequest = 4;</code>
+       */
+      public Builder mergeSearchRequest(Torr2.SearchRequest value) {
+        if (searchRequestBuilder_ == null) {
+          if (searchRequest_ != null) {
+            searchRequest_ =
+              Torr2.SearchRequest.newBuilder(searchRequest_).mergeFrom(value).buildPartial();
+          } else {
+            searchRequest_ = value;
           }
+          onChanged();
+        } else {
+          searchRequestBuilder_.mergeFrom(value);
         }
+
         return this;
       }
-
-      private int type_ = 0;
       /**
-       * <code>.Message.Type type = 1;</code>
-       * @return The enum numeric value on the wire for type.
+       * <code>.SearchRequest searchRequest = 4;</code>
        */
-      @java.lang.Override public int getTypeValue() {
-        return type_;
+      public Builder clearSearchRequest() {
+        if (searchRequestBuilder_ == null) {
+          searchRequest_ = null;
+          onChanged();
+        } else {
+          searchRequest_ = null;
+          searchRequestBuilder_ = null;
+        }
+
+        return this;
       }
       /**
-       * <code>.Message.Type type = 1;</code>
-       * @param value The enum numeric value on the wire for type to set.
-       * @return This builder for chaining.
+       * <code>.SearchRequest searchRequest = 4;</code>
        */
-      public Builder setTypeValue(int value) {
+      public Torr2.SearchRequest.Builder getSearchRequestBuilder() {
         
-        type_ = value;
         onChanged();
+        return getSearchRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.SearchRequest searchRequest = 4;</code>
+       */
+      public Torr2.SearchRequestOrBuilder getSearchRequestOrBuilder() {
+        if (searchRequestBuilder_ != null) {
+          return searchRequestBuilder_.getMessageOrBuilder();
+        } else {
+          return searchRequest_ == null ?
+              Torr2.SearchRequest.getDefaultInstance() : searchRequest_;
+        }
+      }
+      /**
+       * <code>.SearchRequest searchRequest = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.SearchRequest, Torr2.SearchRequest.Builder, Torr2.SearchRequestOrBuilder> 
+          getSearchRequestFieldBuilder() {
+        if (searchRequestBuilder_ == null) {
+          searchRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.SearchRequest, Torr2.SearchRequest.Builder, Torr2.SearchRequestOrBuilder>(
+                  getSearchRequest(),
+                  getParentForChildren(),
+                  isClean());
+          searchRequest_ = null;
+        }
+        return searchRequestBuilder_;
+      }
+
+      private Torr2.SearchResponse searchResponse_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.SearchResponse, Torr2.SearchResponse.Builder, Torr2.SearchResponseOrBuilder> searchResponseBuilder_;
+      /**
+       * <code>.SearchResponse searchResponse = 5;</code>
+       * @return Whether the searchResponse field is set.
+       */
+      public boolean hasSearchResponse() {
+        return searchResponseBuilder_ != null || searchResponse_ != null;
+      }
+      /**
+       * <code>.SearchResponse searchResponse = 5;</code>
+       * @return The searchResponse.
+       */
+      public Torr2.SearchResponse getSearchResponse() {
+        if (searchResponseBuilder_ == null) {
+          return searchResponse_ == null ? Torr2.SearchResponse.getDefaultInstance() : searchResponse_;
+        } else {
+          return searchResponseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.SearchResponse searchResponse = 5;</code>
+       */
+      public Builder setSearchResponse(Torr2.SearchResponse value) {
+        if (searchResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          searchResponse_ = value;
+          onChanged();
+        } else {
+          searchResponseBuilder_.setMessage(value);
+        }
+
         return this;
       }
       /**
-       * <code>.Message.Type type = 1;</code>
-       * @return The type.
+       * <code>.SearchResponse searchResponse = 5;</code>
        */
-      @java.lang.Override
-      public Torr2.Message.Type getType() {
-        @SuppressWarnings("deprecation")
-        Torr2.Message.Type result = Torr2.Message.Type.valueOf(type_);
-        return result == null ? Torr2.Message.Type.UNRECOGNIZED : result;
+      public Builder setSearchResponse(
+          Torr2.SearchResponse.Builder builderForValue) {
+        if (searchResponseBuilder_ == null) {
+          searchResponse_ = builderForValue.build();
+          onChanged();
+        } else {
+          searchResponseBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
       }
       /**
-       * <code>.Message.Type type = 1;</code>
-       * @param value The type to set.
-       * @return This builder for chaining.
+       * <code>.SearchResponse searchResponse = 5;</code>
        */
-      public Builder setType(Torr2.Message.Type value) {
-        if (value == null) {
-          throw new NullPointerException();
+      public Builder mergeSearchResponse(Torr2.SearchResponse value) {
+        if (searchResponseBuilder_ == null) {
+          if (searchResponse_ != null) {
+            searchResponse_ =
+              Torr2.SearchResponse.newBuilder(searchResponse_).mergeFrom(value).buildPartial();
+          } else {
+            searchResponse_ = value;
+          }
+          onChanged();
+        } else {
+          searchResponseBuilder_.mergeFrom(value);
         }
-        
-        type_ = value.getNumber();
-        onChanged();
+
         return this;
       }
       /**
-       * <code>.Message.Type type = 1;</code>
-       * @return This builder for chaining.
+       * <code>.SearchResponse searchResponse = 5;</code>
        */
-      public Builder clearType() {
+      public Builder clearSearchResponse() {
+        if (searchResponseBuilder_ == null) {
+          searchResponse_ = null;
+          onChanged();
+        } else {
+          searchResponse_ = null;
+          searchResponseBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.SearchResponse searchResponse = 5;</code>
+       */
+      public Torr2.SearchResponse.Builder getSearchResponseBuilder() {
         
-        type_ = 0;
         onChanged();
-        return this;
+        return getSearchResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.SearchResponse searchResponse = 5;</code>
+       */
+      public Torr2.SearchResponseOrBuilder getSearchResponseOrBuilder() {
+        if (searchResponseBuilder_ != null) {
+          return searchResponseBuilder_.getMessageOrBuilder();
+        } else {
+          return searchResponse_ == null ?
+              Torr2.SearchResponse.getDefaultInstance() : searchResponse_;
+        }
+      }
+      /**
+       * <code>.SearchResponse searchResponse = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.SearchResponse, Torr2.SearchResponse.Builder, Torr2.SearchResponseOrBuilder> 
+          getSearchResponseFieldBuilder() {
+        if (searchResponseBuilder_ == null) {
+          searchResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.SearchResponse, Torr2.SearchResponse.Builder, Torr2.SearchResponseOrBuilder>(
+                  getSearchResponse(),
+                  getParentForChildren(),
+                  isClean());
+          searchResponse_ = null;
+        }
+        return searchResponseBuilder_;
       }
 
-      private Torr2.LocalSearchRequest localSearchRequest_;
+      private Torr2.UploadRequest uploadRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.LocalSearchRequest, Torr2.LocalSearchRequest.Builder, Torr2.LocalSearchRequestOrBuilder> localSearchRequestBuilder_;
+          Torr2.UploadRequest, Torr2.UploadRequest.Builder, Torr2.UploadRequestOrBuilder> uploadRequestBuilder_;
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
-       * @return Whether the localSearchRequest field is set.
+       * <code>.UploadRequest uploadRequest = 6;</code>
+       * @return Whether the uploadRequest field is set.
        */
-      public boolean hasLocalSearchRequest() {
-        return localSearchRequestBuilder_ != null || localSearchRequest_ != null;
+      public boolean hasUploadRequest() {
+        return uploadRequestBuilder_ != null || uploadRequest_ != null;
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
-       * @return The localSearchRequest.
+       * <code>.UploadRequest uploadRequest = 6;</code>
+       * @return The uploadRequest.
        */
-      public Torr2.LocalSearchRequest getLocalSearchRequest() {
-        if (localSearchRequestBuilder_ == null) {
-          return localSearchRequest_ == null ? Torr2.LocalSearchRequest.getDefaultInstance() : localSearchRequest_;
+      public Torr2.UploadRequest getUploadRequest() {
+        if (uploadRequestBuilder_ == null) {
+          return uploadRequest_ == null ? Torr2.UploadRequest.getDefaultInstance() : uploadRequest_;
         } else {
-          return localSearchRequestBuilder_.getMessage();
+          return uploadRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * <code>.UploadRequest uploadRequest = 6;</code>
        */
-      public Builder setLocalSearchRequest(Torr2.LocalSearchRequest value) {
-        if (localSearchRequestBuilder_ == null) {
+      public Builder setUploadRequest(Torr2.UploadRequest value) {
+        if (uploadRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          localSearchRequest_ = value;
+          uploadRequest_ = value;
           onChanged();
         } else {
-          localSearchRequestBuilder_.setMessage(value);
+          uploadRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * <code>.UploadRequest uploadRequest = 6;</code>
        */
-      public Builder setLocalSearchRequest(
-          Torr2.LocalSearchRequest.Builder builderForValue) {
-        if (localSearchRequestBuilder_ == null) {
-          localSearchRequest_ = builderForValue.build();
+      public Builder setUploadRequest(
+          Torr2.UploadRequest.Builder builderForValue) {
+        if (uploadRequestBuilder_ == null) {
+          uploadRequest_ = builderForValue.build();
           onChanged();
         } else {
-          localSearchRequestBuilder_.setMessage(builderForValue.build());
+          uploadRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * <code>.UploadRequest uploadRequest = 6;</code>
        */
-      public Builder mergeLocalSearchRequest(Torr2.LocalSearchRequest value) {
-        if (localSearchRequestBuilder_ == null) {
-          if (localSearchRequest_ != null) {
-            localSearchRequest_ =
-              Torr2.LocalSearchRequest.newBuilder(localSearchRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeUploadRequest(Torr2.UploadRequest value) {
+        if (uploadRequestBuilder_ == null) {
+          if (uploadRequest_ != null) {
+            uploadRequest_ =
+              Torr2.UploadRequest.newBuilder(uploadRequest_).mergeFrom(value).buildPartial();
           } else {
-            localSearchRequest_ = value;
+            uploadRequest_ = value;
           }
           onChanged();
         } else {
-          localSearchRequestBuilder_.mergeFrom(value);
+          uploadRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * <code>.UploadRequest uploadRequest = 6;</code>
        */
-      public Builder clearLocalSearchRequest() {
-        if (localSearchRequestBuilder_ == null) {
-          localSearchRequest_ = null;
+      public Builder clearUploadRequest() {
+        if (uploadRequestBuilder_ == null) {
+          uploadRequest_ = null;
           onChanged();
         } else {
-          localSearchRequest_ = null;
-          localSearchRequestBuilder_ = null;
+          uploadRequest_ = null;
+          uploadRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * <code>.UploadRequest uploadRequest = 6;</code>
        */
-      public Torr2.LocalSearchRequest.Builder getLocalSearchRequestBuilder() {
+      public Torr2.UploadRequest.Builder getUploadRequestBuilder() {
         
         onChanged();
-        return getLocalSearchRequestFieldBuilder().getBuilder();
+        return getUploadRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * <code>.UploadRequest uploadRequest = 6;</code>
        */
-      public Torr2.LocalSearchRequestOrBuilder getLocalSearchRequestOrBuilder() {
-        if (localSearchRequestBuilder_ != null) {
-          return localSearchRequestBuilder_.getMessageOrBuilder();
+      public Torr2.UploadRequestOrBuilder getUploadRequestOrBuilder() {
+        if (uploadRequestBuilder_ != null) {
+          return uploadRequestBuilder_.getMessageOrBuilder();
         } else {
-          return localSearchRequest_ == null ?
-              Torr2.LocalSearchRequest.getDefaultInstance() : localSearchRequest_;
+          return uploadRequest_ == null ?
+              Torr2.UploadRequest.getDefaultInstance() : uploadRequest_;
         }
       }
       /**
-       * <code>.LocalSearchRequest localSearchRequest = 2;</code>
+       * <code>.UploadRequest uploadRequest = 6;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.LocalSearchRequest, Torr2.LocalSearchRequest.Builder, Torr2.LocalSearchRequestOrBuilder> 
-          getLocalSearchRequestFieldBuilder() {
-        if (localSearchRequestBuilder_ == null) {
-          localSearchRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.LocalSearchRequest, Torr2.LocalSearchRequest.Builder, Torr2.LocalSearchRequestOrBuilder>(
-                  getLocalSearchRequest(),
+          Torr2.UploadRequest, Torr2.UploadRequest.Builder, Torr2.UploadRequestOrBuilder> 
+          getUploadRequestFieldBuilder() {
+        if (uploadRequestBuilder_ == null) {
+          uploadRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.UploadRequest, Torr2.UploadRequest.Builder, Torr2.UploadRequestOrBuilder>(
+                  getUploadRequest(),
                   getParentForChildren(),
                   isClean());
-          localSearchRequest_ = null;
+          uploadRequest_ = null;
         }
-        return localSearchRequestBuilder_;
+        return uploadRequestBuilder_;
       }
 
-      private Torr2.LocalSearchResponse localSearchResponse_;
+      private Torr2.UploadResponse uploadResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.LocalSearchResponse, Torr2.LocalSearchResponse.Builder, Torr2.LocalSearchResponseOrBuilder> localSearchResponseBuilder_;
+          Torr2.UploadResponse, Torr2.UploadResponse.Builder, Torr2.UploadResponseOrBuilder> uploadResponseBuilder_;
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
-       * @return Whether the localSearchResponse field is set.
+       * <code>.UploadResponse uploadResponse = 7;</code>
+       * @return Whether the uploadResponse field is set.
        */
-      public boolean hasLocalSearchResponse() {
-        return localSearchResponseBuilder_ != null || localSearchResponse_ != null;
+      public boolean hasUploadResponse() {
+        return uploadResponseBuilder_ != null || uploadResponse_ != null;
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
-       * @return The localSearchResponse.
+       * <code>.UploadResponse uploadResponse = 7;</code>
+       * @return The uploadResponse.
        */
-      public Torr2.LocalSearchResponse getLocalSearchResponse() {
-        if (localSearchResponseBuilder_ == null) {
-          return localSearchResponse_ == null ? Torr2.LocalSearchResponse.getDefaultInstance() : localSearchResponse_;
+      public Torr2.UploadResponse getUploadResponse() {
+        if (uploadResponseBuilder_ == null) {
+          return uploadResponse_ == null ? Torr2.UploadResponse.getDefaultInstance() : uploadResponse_;
         } else {
-          return localSearchResponseBuilder_.getMessage();
+          return uploadResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * <code>.UploadResponse uploadResponse = 7;</code>
        */
-      public Builder setLocalSearchResponse(Torr2.LocalSearchResponse value) {
-        if (localSearchResponseBuilder_ == null) {
+      public Builder setUploadResponse(Torr2.UploadResponse value) {
+        if (uploadResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          localSearchResponse_ = value;
+          uploadResponse_ = value;
           onChanged();
         } else {
-          localSearchResponseBuilder_.setMessage(value);
+          uploadResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * <code>.UploadResponse uploadResponse = 7;</code>
        */
-      public Builder setLocalSearchResponse(
-          Torr2.LocalSearchResponse.Builder builderForValue) {
-        if (localSearchResponseBuilder_ == null) {
-          localSearchResponse_ = builderForValue.build();
+      public Builder setUploadResponse(
+          Torr2.UploadResponse.Builder builderForValue) {
+        if (uploadResponseBuilder_ == null) {
+          uploadResponse_ = builderForValue.build();
           onChanged();
         } else {
-          localSearchResponseBuilder_.setMessage(builderForValue.build());
+          uploadResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * <code>.UploadResponse uploadResponse = 7;</code>
        */
-      public Builder mergeLocalSearchResponse(Torr2.LocalSearchResponse value) {
-        if (localSearchResponseBuilder_ == null) {
-          if (localSearchResponse_ != null) {
-            localSearchResponse_ =
-              Torr2.LocalSearchResponse.newBuilder(localSearchResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeUploadResponse(Torr2.UploadResponse value) {
+        if (uploadResponseBuilder_ == null) {
+          if (uploadResponse_ != null) {
+            uploadResponse_ =
+              Torr2.UploadResponse.newBuilder(uploadResponse_).mergeFrom(value).buildPartial();
           } else {
-            localSearchResponse_ = value;
+            uploadResponse_ = value;
           }
           onChanged();
         } else {
-          localSearchResponseBuilder_.mergeFrom(value);
+          uploadResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * <code>.UploadResponse uploadResponse = 7;</code>
        */
-      public Builder clearLocalSearchResponse() {
-        if (localSearchResponseBuilder_ == null) {
-          localSearchResponse_ = null;
+      public Builder clearUploadResponse() {
+        if (uploadResponseBuilder_ == null) {
+          uploadResponse_ = null;
           onChanged();
         } else {
-          localSearchResponse_ = null;
-          localSearchResponseBuilder_ = null;
+          uploadResponse_ = null;
+          uploadResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * <code>.UploadResponse uploadResponse = 7;</code>
        */
-      public Torr2.LocalSearchResponse.Builder getLocalSearchResponseBuilder() {
+      public Torr2.UploadResponse.Builder getUploadResponseBuilder() {
         
         onChanged();
-        return getLocalSearchResponseFieldBuilder().getBuilder();
+        return getUploadResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * <code>.UploadResponse uploadResponse = 7;</code>
        */
-      public Torr2.LocalSearchResponseOrBuilder getLocalSearchResponseOrBuilder() {
-        if (localSearchResponseBuilder_ != null) {
-          return localSearchResponseBuilder_.getMessageOrBuilder();
+      public Torr2.UploadResponseOrBuilder getUploadResponseOrBuilder() {
+        if (uploadResponseBuilder_ != null) {
+          return uploadResponseBuilder_.getMessageOrBuilder();
         } else {
-          return localSearchResponse_ == null ?
-              Torr2.LocalSearchResponse.getDefaultInstance() : localSearchResponse_;
+          return uploadResponse_ == null ?
+              Torr2.UploadResponse.getDefaultInstance() : uploadResponse_;
         }
       }
       /**
-       * <code>.LocalSearchResponse localSearchResponse = 3;</code>
+       * <code>.UploadResponse uploadResponse = 7;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.LocalSearchResponse, Torr2.LocalSearchResponse.Builder, Torr2.LocalSearchResponseOrBuilder> 
-          getLocalSearchResponseFieldBuilder() {
-        if (localSearchResponseBuilder_ == null) {
-          localSearchResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.LocalSearchResponse, Torr2.LocalSearchResponse.Builder, Torr2.LocalSearchResponseOrBuilder>(
-                  getLocalSearchResponse(),
+          Torr2.UploadResponse, Torr2.UploadResponse.Builder, Torr2.UploadResponseOrBuilder> 
+          getUploadResponseFieldBuilder() {
+        if (uploadResponseBuilder_ == null) {
+          uploadResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.UploadResponse, Torr2.UploadResponse.Builder, Torr2.UploadResponseOrBuilder>(
+                  getUploadResponse(),
                   getParentForChildren(),
                   isClean());
-          localSearchResponse_ = null;
+          uploadResponse_ = null;
         }
-        return localSearchResponseBuilder_;
+        return uploadResponseBuilder_;
       }
 
-      private Torr2.SearchRequest searchRequest_;
+      private Torr2.ReplicateRequest replicateRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SearchRequest, Torr2.SearchRequest.Builder, Torr2.SearchRequestOrBuilder> searchRequestBuilder_;
+          Torr2.ReplicateRequest, Torr2.ReplicateRequest.Builder, Torr2.ReplicateRequestOrBuilder> replicateRequestBuilder_;
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
-       * @return Whether the searchRequest field is set.
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * @return Whether the replicateRequest field is set.
        */
-      public boolean hasSearchRequest() {
-        return searchRequestBuilder_ != null || searchRequest_ != null;
+      public boolean hasReplicateRequest() {
+        return replicateRequestBuilder_ != null || replicateRequest_ != null;
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
-       * @return The searchRequest.
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * @return The replicateRequest.
        */
-      public Torr2.SearchRequest getSearchRequest() {
-        if (searchRequestBuilder_ == null) {
-          return searchRequest_ == null ? Torr2.SearchRequest.getDefaultInstance() : searchRequest_;
+      public Torr2.ReplicateRequest getReplicateRequest() {
+        if (replicateRequestBuilder_ == null) {
+          return replicateRequest_ == null ? Torr2.ReplicateRequest.getDefaultInstance() : replicateRequest_;
         } else {
-          return searchRequestBuilder_.getMessage();
+          return replicateRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
        */
-      public Builder setSearchRequest(Torr2.SearchRequest value) {
-        if (searchRequestBuilder_ == null) {
+      public Builder setReplicateRequest(Torr2.ReplicateRequest value) {
+        if (replicateRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          searchRequest_ = value;
+          replicateRequest_ = value;
           onChanged();
         } else {
-          searchRequestBuilder_.setMessage(value);
+          replicateRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
        */
-      public Builder setSearchRequest(
-          Torr2.SearchRequest.Builder builderForValue) {
-        if (searchRequestBuilder_ == null) {
-          searchRequest_ = builderForValue.build();
+      public Builder setReplicateRequest(
+          Torr2.ReplicateRequest.Builder builderForValue) {
+        if (replicateRequestBuilder_ == null) {
+          replicateRequest_ = builderForValue.build();
           onChanged();
         } else {
-          searchRequestBuilder_.setMessage(builderForValue.build());
+          replicateRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
        */
-      public Builder mergeSearchRequest(Torr2.SearchRequest value) {
-        if (searchRequestBuilder_ == null) {
-          if (searchRequest_ != null) {
-            searchRequest_ =
-              Torr2.SearchRequest.newBuilder(searchRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeReplicateRequest(Torr2.ReplicateRequest value) {
+        if (replicateRequestBuilder_ == null) {
+          if (replicateRequest_ != null) {
+            replicateRequest_ =
+              Torr2.ReplicateRequest.newBuilder(replicateRequest_).mergeFrom(value).buildPartial();
           } else {
-            searchRequest_ = value;
+            replicateRequest_ = value;
           }
           onChanged();
         } else {
-          searchRequestBuilder_.mergeFrom(value);
+          replicateRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
        */
-      public Builder clearSearchRequest() {
-        if (searchRequestBuilder_ == null) {
-          searchRequest_ = null;
+      public Builder clearReplicateRequest() {
+        if (replicateRequestBuilder_ == null) {
+          replicateRequest_ = null;
           onChanged();
         } else {
-          searchRequest_ = null;
-          searchRequestBuilder_ = null;
+          replicateRequest_ = null;
+          replicateRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
        */
-      public Torr2.SearchRequest.Builder getSearchRequestBuilder() {
+      public Torr2.ReplicateRequest.Builder getReplicateRequestBuilder() {
         
         onChanged();
-        return getSearchRequestFieldBuilder().getBuilder();
+        return getReplicateRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
        */
-      public Torr2.SearchRequestOrBuilder getSearchRequestOrBuilder() {
-        if (searchRequestBuilder_ != null) {
-          return searchRequestBuilder_.getMessageOrBuilder();
+      public Torr2.ReplicateRequestOrBuilder getReplicateRequestOrBuilder() {
+        if (replicateRequestBuilder_ != null) {
+          return replicateRequestBuilder_.getMessageOrBuilder();
         } else {
-          return searchRequest_ == null ?
-              Torr2.SearchRequest.getDefaultInstance() : searchRequest_;
+          return replicateRequest_ == null ?
+              Torr2.ReplicateRequest.getDefaultInstance() : replicateRequest_;
         }
       }
       /**
-       * <code>.SearchRequest searchRequest = 4;</code>
+       * <code>.ReplicateRequest replicateRequest = 8;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SearchRequest, Torr2.SearchRequest.Builder, Torr2.SearchRequestOrBuilder> 
-          getSearchRequestFieldBuilder() {
-        if (searchRequestBuilder_ == null) {
-          searchRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.SearchRequest, Torr2.SearchRequest.Builder, Torr2.SearchRequestOrBuilder>(
-                  getSearchRequest(),
+          Torr2.ReplicateRequest, Torr2.ReplicateRequest.Builder, Torr2.ReplicateRequestOrBuilder> 
+          getReplicateRequestFieldBuilder() {
+        if (replicateRequestBuilder_ == null) {
+          replicateRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.ReplicateRequest, Torr2.ReplicateRequest.Builder, Torr2.ReplicateRequestOrBuilder>(
+                  getReplicateRequest(),
                   getParentForChildren(),
                   isClean());
-          searchRequest_ = null;
+          replicateRequest_ = null;
         }
-        return searchRequestBuilder_;
+        return replicateRequestBuilder_;
       }
 
-      private Torr2.SearchResponse searchResponse_;
+      private Torr2.ReplicateResponse replicateResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SearchResponse, Torr2.SearchResponse.Builder, Torr2.SearchResponseOrBuilder> searchResponseBuilder_;
+          Torr2.ReplicateResponse, Torr2.ReplicateResponse.Builder, Torr2.ReplicateResponseOrBuilder> replicateResponseBuilder_;
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
-       * @return Whether the searchResponse field is set.
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * @return Whether the replicateResponse field is set.
        */
-      public boolean hasSearchResponse() {
-        return searchResponseBuilder_ != null || searchResponse_ != null;
+      public boolean hasReplicateResponse() {
+        return replicateResponseBuilder_ != null || replicateResponse_ != null;
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
-       * @return The searchResponse.
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * @return The replicateResponse.
        */
-      public Torr2.SearchResponse getSearchResponse() {
-        if (searchResponseBuilder_ == null) {
-          return searchResponse_ == null ? Torr2.SearchResponse.getDefaultInstance() : searchResponse_;
+      public Torr2.ReplicateResponse getReplicateResponse() {
+        if (replicateResponseBuilder_ == null) {
+          return replicateResponse_ == null ? Torr2.ReplicateResponse.getDefaultInstance() : replicateResponse_;
         } else {
-          return searchResponseBuilder_.getMessage();
+          return replicateResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
        */
-      public Builder setSearchResponse(Torr2.SearchResponse value) {
-        if (searchResponseBuilder_ == null) {
+      public Builder setReplicateResponse(Torr2.ReplicateResponse value) {
+        if (replicateResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          searchResponse_ = value;
+          replicateResponse_ = value;
           onChanged();
         } else {
-          searchResponseBuilder_.setMessage(value);
+          replicateResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
        */
-      public Builder setSearchResponse(
-          Torr2.SearchResponse.Builder builderForValue) {
-        if (searchResponseBuilder_ == null) {
-          searchResponse_ = builderForValue.build();
+      public Builder setReplicateResponse(
+          Torr2.ReplicateResponse.Builder builderForValue) {
+        if (replicateResponseBuilder_ == null) {
+          replicateResponse_ = builderForValue.build();
           onChanged();
         } else {
-          searchResponseBuilder_.setMessage(builderForValue.build());
+          replicateResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
        */
-      public Builder mergeSearchResponse(Torr2.SearchResponse value) {
-        if (searchResponseBuilder_ == null) {
-          if (searchResponse_ != null) {
-            searchResponse_ =
-              Torr2.SearchResponse.newBuilder(searchResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeReplicateResponse(Torr2.ReplicateResponse value) {
+        if (replicateResponseBuilder_ == null) {
+          if (replicateResponse_ != null) {
+            replicateResponse_ =
+              Torr2.ReplicateResponse.newBuilder(replicateResponse_).mergeFrom(value).buildPartial();
           } else {
-            searchResponse_ = value;
+            replicateResponse_ = value;
           }
           onChanged();
         } else {
-          searchResponseBuilder_.mergeFrom(value);
+          replicateResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
        */
-      public Builder clearSearchResponse() {
-        if (searchResponseBuilder_ == null) {
-          searchResponse_ = null;
+      public Builder clearReplicateResponse() {
+        if (replicateResponseBuilder_ == null) {
+          replicateResponse_ = null;
           onChanged();
         } else {
-          searchResponse_ = null;
-          searchResponseBuilder_ = null;
+          replicateResponse_ = null;
+          replicateResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
        */
-      public Torr2.SearchResponse.Builder getSearchResponseBuilder() {
+      public Torr2.ReplicateResponse.Builder getReplicateResponseBuilder() {
         
         onChanged();
-        return getSearchResponseFieldBuilder().getBuilder();
+        return getReplicateResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
        */
-      public Torr2.SearchResponseOrBuilder getSearchResponseOrBuilder() {
-        if (searchResponseBuilder_ != null) {
-          return searchResponseBuilder_.getMessageOrBuilder();
+      public Torr2.ReplicateResponseOrBuilder getReplicateResponseOrBuilder() {
+        if (replicateResponseBuilder_ != null) {
+          return replicateResponseBuilder_.getMessageOrBuilder();
         } else {
-          return searchResponse_ == null ?
-              Torr2.SearchResponse.getDefaultInstance() : searchResponse_;
+          return replicateResponse_ == null ?
+              Torr2.ReplicateResponse.getDefaultInstance() : replicateResponse_;
         }
       }
       /**
-       * <code>.SearchResponse searchResponse = 5;</code>
+       * <code>.ReplicateResponse replicateResponse = 9;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SearchResponse, Torr2.SearchResponse.Builder, Torr2.SearchResponseOrBuilder> 
-          getSearchResponseFieldBuilder() {
-        if (searchResponseBuilder_ == null) {
-          searchResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.SearchResponse, Torr2.SearchResponse.Builder, Torr2.SearchResponseOrBuilder>(
-                  getSearchResponse(),
+          Torr2.ReplicateResponse, Torr2.ReplicateResponse.Builder, Torr2.ReplicateResponseOrBuilder> 
+          getReplicateResponseFieldBuilder() {
+        if (replicateResponseBuilder_ == null) {
+          replicateResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.ReplicateResponse, Torr2.ReplicateResponse.Builder, Torr2.ReplicateResponseOrBuilder>(
+                  getReplicateResponse(),
                   getParentForChildren(),
                   isClean());
-          searchResponse_ = null;
+          replicateResponse_ = null;
         }
-        return searchResponseBuilder_;
+        return replicateResponseBuilder_;
       }
 
-      private Torr2.UploadRequest uploadRequest_;
+      private Torr2.ChunkRequest chunkRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.UploadRequest, Torr2.UploadRequest.Builder, Torr2.UploadRequestOrBuilder> uploadRequestBuilder_;
+          Torr2.ChunkRequest, Torr2.ChunkRequest.Builder, Torr2.ChunkRequestOrBuilder> chunkRequestBuilder_;
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
-       * @return Whether the uploadRequest field is set.
+       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * @return Whether the chunkRequest field is set.
        */
-      public boolean hasUploadRequest() {
-        return uploadRequestBuilder_ != null || uploadRequest_ != null;
+      public boolean hasChunkRequest() {
+        return chunkRequestBuilder_ != null || chunkRequest_ != null;
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
-       * @return The uploadRequest.
+       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * @return The chunkRequest.
        */
-      public Torr2.UploadRequest getUploadRequest() {
-        if (uploadRequestBuilder_ == null) {
-          return uploadRequest_ == null ? Torr2.UploadRequest.getDefaultInstance() : uploadRequest_;
+      public Torr2.ChunkRequest getChunkRequest() {
+        if (chunkRequestBuilder_ == null) {
+          return chunkRequest_ == null ? Torr2.ChunkRequest.getDefaultInstance() : chunkRequest_;
         } else {
-          return uploadRequestBuilder_.getMessage();
+          return chunkRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
+       * <code>.ChunkRequest chunkRequest = 10;</code>
        */
-      public Builder setUploadRequest(Torr2.UploadRequest value) {
-        if (uploadRequestBuilder_ == null) {
+      public Builder setChunkRequest(Torr2.ChunkRequest value) {
+        if (chunkRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          uploadRequest_ = value;
+          chunkRequest_ = value;
           onChanged();
         } else {
-          uploadRequestBuilder_.setMessage(value);
+          chunkRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
+       * <code>.ChunkRequest chunkRequest = 10;</code>
        */
-      public Builder setUploadRequest(
-          Torr2.UploadRequest.Builder builderForValue) {
-        if (uploadRequestBuilder_ == null) {
-          uploadRequest_ = builderForValue.build();
+      public Builder setChunkRequest(
+          Torr2.ChunkRequest.Builder builderForValue) {
+        if (chunkRequestBuilder_ == null) {
+          chunkRequest_ = builderForValue.build();
           onChanged();
         } else {
-          uploadRequestBuilder_.setMessage(builderForValue.build());
+          chunkRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
+       * <code>.ChunkRequest chunkRequest = 10;</code>
        */
-      public Builder mergeUploadRequest(Torr2.UploadRequest value) {
-        if (uploadRequestBuilder_ == null) {
-          if (uploadRequest_ != null) {
-            uploadRequest_ =
-              Torr2.UploadRequest.newBuilder(uploadRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeChunkRequest(Torr2.ChunkRequest value) {
+        if (chunkRequestBuilder_ == null) {
+          if (chunkRequest_ != null) {
+            chunkRequest_ =
+              Torr2.ChunkRequest.newBuilder(chunkRequest_).mergeFrom(value).buildPartial();
           } else {
-            uploadRequest_ = value;
+            chunkRequest_ = value;
           }
           onChanged();
         } else {
-          uploadRequestBuilder_.mergeFrom(value);
+          chunkRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
+       * <code>.ChunkRequest chunkRequest = 10;</code>
        */
-      public Builder clearUploadRequest() {
-        if (uploadRequestBuilder_ == null) {
-          uploadRequest_ = null;
+      public Builder clearChunkRequest() {
+        if (chunkRequestBuilder_ == null) {
+          chunkRequest_ = null;
           onChanged();
         } else {
-          uploadRequest_ = null;
-          uploadRequestBuilder_ = null;
+          chunkRequest_ = null;
+          chunkRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
+       * <code>.ChunkRequest chunkRequest = 10;</code>
        */
-      public Torr2.UploadRequest.Builder getUploadRequestBuilder() {
+      public Torr2.ChunkRequest.Builder getChunkRequestBuilder() {
         
         onChanged();
-        return getUploadRequestFieldBuilder().getBuilder();
+        return getChunkRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
+       * <code>.ChunkRequest chunkRequest = 10;</code>
        */
-      public Torr2.UploadRequestOrBuilder getUploadRequestOrBuilder() {
-        if (uploadRequestBuilder_ != null) {
-          return uploadRequestBuilder_.getMessageOrBuilder();
+      public Torr2.ChunkRequestOrBuilder getChunkRequestOrBuilder() {
+        if (chunkRequestBuilder_ != null) {
+          return chunkRequestBuilder_.getMessageOrBuilder();
         } else {
-          return uploadRequest_ == null ?
-              Torr2.UploadRequest.getDefaultInstance() : uploadRequest_;
+          return chunkRequest_ == null ?
+              Torr2.ChunkRequest.getDefaultInstance() : chunkRequest_;
         }
       }
       /**
-       * <code>.UploadRequest uploadRequest = 6;</code>
+       * <code>.ChunkRequest chunkRequest = 10;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.UploadRequest, Torr2.UploadRequest.Builder, Torr2.UploadRequestOrBuilder> 
-          getUploadRequestFieldBuilder() {
-        if (uploadRequestBuilder_ == null) {
-          uploadRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.UploadRequest, Torr2.UploadRequest.Builder, Torr2.UploadRequestOrBuilder>(
-                  getUploadRequest(),
+          Torr2.ChunkRequest, Torr2.ChunkRequest.Builder, Torr2.ChunkRequestOrBuilder> 
+          getChunkRequestFieldBuilder() {
+        if (chunkRequestBuilder_ == null) {
+          chunkRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.ChunkRequest, Torr2.ChunkRequest.Builder, Torr2.ChunkRequestOrBuilder>(
+                  getChunkRequest(),
                   getParentForChildren(),
                   isClean());
-          uploadRequest_ = null;
+          chunkRequest_ = null;
         }
-        return uploadRequestBuilder_;
+        return chunkRequestBuilder_;
       }
 
-      private Torr2.UploadResponse uploadResponse_;
+      private Torr2.ChunkResponse chunkResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.UploadResponse, Torr2.UploadResponse.Builder, Torr2.UploadResponseOrBuilder> uploadResponseBuilder_;
+          Torr2.ChunkResponse, Torr2.ChunkResponse.Builder, Torr2.ChunkResponseOrBuilder> chunkResponseBuilder_;
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
-       * @return Whether the uploadResponse field is set.
+       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * @return Whether the chunkResponse field is set.
        */
-      public boolean hasUploadResponse() {
-        return uploadResponseBuilder_ != null || uploadResponse_ != null;
+      public boolean hasChunkResponse() {
+        return chunkResponseBuilder_ != null || chunkResponse_ != null;
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
-       * @return The uploadResponse.
+       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * @return The chunkResponse.
        */
-      public Torr2.UploadResponse getUploadResponse() {
-        if (uploadResponseBuilder_ == null) {
-          return uploadResponse_ == null ? Torr2.UploadResponse.getDefaultInstance() : uploadResponse_;
+      public Torr2.ChunkResponse getChunkResponse() {
+        if (chunkResponseBuilder_ == null) {
+          return chunkResponse_ == null ? Torr2.ChunkResponse.getDefaultInstance() : chunkResponse_;
         } else {
-          return uploadResponseBuilder_.getMessage();
+          return chunkResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
+       * <code>.ChunkResponse chunkResponse = 11;</code>
        */
-      public Builder setUploadResponse(Torr2.UploadResponse value) {
-        if (uploadResponseBuilder_ == null) {
+      public Builder setChunkResponse(Torr2.ChunkResponse value) {
+        if (chunkResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          uploadResponse_ = value;
+          chunkResponse_ = value;
           onChanged();
         } else {
-          uploadResponseBuilder_.setMessage(value);
+          chunkResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
+       * <code>.ChunkResponse chunkResponse = 11;</code>
        */
-      public Builder setUploadResponse(
-          Torr2.UploadResponse.Builder builderForValue) {
-        if (uploadResponseBuilder_ == null) {
-          uploadResponse_ = builderForValue.build();
+      public Builder setChunkResponse(
+          Torr2.ChunkResponse.Builder builderForValue) {
+        if (chunkResponseBuilder_ == null) {
+          chunkResponse_ = builderForValue.build();
           onChanged();
         } else {
-          uploadResponseBuilder_.setMessage(builderForValue.build());
+          chunkResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
+       * <code>.ChunkResponse chunkResponse = 11;</code>
        */
-      public Builder mergeUploadResponse(Torr2.UploadResponse value) {
-        if (uploadResponseBuilder_ == null) {
-          if (uploadResponse_ != null) {
-            uploadResponse_ =
-              Torr2.UploadResponse.newBuilder(uploadResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeChunkResponse(Torr2.ChunkResponse value) {
+        if (chunkResponseBuilder_ == null) {
+          if (chunkResponse_ != null) {
+            chunkResponse_ =
+              Torr2.ChunkResponse.newBuilder(chunkResponse_).mergeFrom(value).buildPartial();
           } else {
-            uploadResponse_ = value;
+            chunkResponse_ = value;
           }
           onChanged();
         } else {
-          uploadResponseBuilder_.mergeFrom(value);
+          chunkResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
+       * <code>.ChunkResponse chunkResponse = 11;</code>
        */
-      public Builder clearUploadResponse() {
-        if (uploadResponseBuilder_ == null) {
-          uploadResponse_ = null;
+      public Builder clearChunkResponse() {
+        if (chunkResponseBuilder_ == null) {
+          chunkResponse_ = null;
           onChanged();
         } else {
-          uploadResponse_ = null;
-          uploadResponseBuilder_ = null;
+          chunkResponse_ = null;
+          chunkResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
+       * <code>.ChunkResponse chunkResponse = 11;</code>
        */
-      public Torr2.UploadResponse.Builder getUploadResponseBuilder() {
+      public Torr2.ChunkResponse.Builder getChunkResponseBuilder() {
         
         onChanged();
-        return getUploadResponseFieldBuilder().getBuilder();
+        return getChunkResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
+       * <code>.ChunkResponse chunkResponse = 11;</code>
        */
-      public Torr2.UploadResponseOrBuilder getUploadResponseOrBuilder() {
-        if (uploadResponseBuilder_ != null) {
-          return uploadResponseBuilder_.getMessageOrBuilder();
+      public Torr2.ChunkResponseOrBuilder getChunkResponseOrBuilder() {
+        if (chunkResponseBuilder_ != null) {
+          return chunkResponseBuilder_.getMessageOrBuilder();
         } else {
-          return uploadResponse_ == null ?
-              Torr2.UploadResponse.getDefaultInstance() : uploadResponse_;
+          return chunkResponse_ == null ?
+              Torr2.ChunkResponse.getDefaultInstance() : chunkResponse_;
         }
       }
       /**
-       * <code>.UploadResponse uploadResponse = 7;</code>
+       * <code>.ChunkResponse chunkResponse = 11;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.UploadResponse, Torr2.UploadResponse.Builder, Torr2.UploadResponseOrBuilder> 
-          getUploadResponseFieldBuilder() {
-        if (uploadResponseBuilder_ == null) {
-          uploadResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.UploadResponse, Torr2.UploadResponse.Builder, Torr2.UploadResponseOrBuilder>(
-                  getUploadResponse(),
+          Torr2.ChunkResponse, Torr2.ChunkResponse.Builder, Torr2.ChunkResponseOrBuilder> 
+          getChunkResponseFieldBuilder() {
+        if (chunkResponseBuilder_ == null) {
+          chunkResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.ChunkResponse, Torr2.ChunkResponse.Builder, Torr2.ChunkResponseOrBuilder>(
+                  getChunkResponse(),
                   getParentForChildren(),
                   isClean());
-          uploadResponse_ = null;
+          chunkResponse_ = null;
         }
-        return uploadResponseBuilder_;
+        return chunkResponseBuilder_;
       }
 
-      private Torr2.ReplicateRequest replicateRequest_;
+      private Torr2.DownloadRequest downloadRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ReplicateRequest, Torr2.ReplicateRequest.Builder, Torr2.ReplicateRequestOrBuilder> replicateRequestBuilder_;
+          Torr2.DownloadRequest, Torr2.DownloadRequest.Builder, Torr2.DownloadRequestOrBuilder> downloadRequestBuilder_;
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
-       * @return Whether the replicateRequest field is set.
+       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * @return Whether the downloadRequest field is set.
        */
-      public boolean hasReplicateRequest() {
-        return replicateRequestBuilder_ != null || replicateRequest_ != null;
+      public boolean hasDownloadRequest() {
+        return downloadRequestBuilder_ != null || downloadRequest_ != null;
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
-       * @return The replicateRequest.
+       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * @return The downloadRequest.
        */
-      public Torr2.ReplicateRequest getReplicateRequest() {
-        if (replicateRequestBuilder_ == null) {
-          return replicateRequest_ == null ? Torr2.ReplicateRequest.getDefaultInstance() : replicateRequest_;
+      public Torr2.DownloadRequest getDownloadRequest() {
+        if (downloadRequestBuilder_ == null) {
+          return downloadRequest_ == null ? Torr2.DownloadRequest.getDefaultInstance() : downloadRequest_;
         } else {
-          return replicateRequestBuilder_.getMessage();
+          return downloadRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * <code>.DownloadRequest downloadRequest = 12;</code>
        */
-      public Builder setReplicateRequest(Torr2.ReplicateRequest value) {
-        if (replicateRequestBuilder_ == null) {
+      public Builder setDownloadRequest(Torr2.DownloadRequest value) {
+        if (downloadRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          replicateRequest_ = value;
+          downloadRequest_ = value;
           onChanged();
         } else {
-          replicateRequestBuilder_.setMessage(value);
+          downloadRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * <code>.DownloadRequest downloadRequest = 12;</code>
        */
-      public Builder setReplicateRequest(
-          Torr2.ReplicateRequest.Builder builderForValue) {
-        if (replicateRequestBuilder_ == null) {
-          replicateRequest_ = builderForValue.build();
+      public Builder setDownloadRequest(
+          Torr2.DownloadRequest.Builder builderForValue) {
+        if (downloadRequestBuilder_ == null) {
+          downloadRequest_ = builderForValue.build();
           onChanged();
         } else {
-          replicateRequestBuilder_.setMessage(builderForValue.build());
+          downloadRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * <code>.DownloadRequest downloadRequest = 12;</code>
        */
-      public Builder mergeReplicateRequest(Torr2.ReplicateRequest value) {
-        if (replicateRequestBuilder_ == null) {
-          if (replicateRequest_ != null) {
-            replicateRequest_ =
-              Torr2.ReplicateRequest.newBuilder(replicateRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeDownloadRequest(Torr2.DownloadRequest value) {
+        if (downloadRequestBuilder_ == null) {
+          if (downloadRequest_ != null) {
+            downloadRequest_ =
+              Torr2.DownloadRequest.newBuilder(downloadRequest_).mergeFrom(value).buildPartial();
           } else {
-            replicateRequest_ = value;
+            downloadRequest_ = value;
           }
           onChanged();
         } else {
-          replicateRequestBuilder_.mergeFrom(value);
+          downloadRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * <code>.DownloadRequest downloadRequest = 12;</code>
        */
-      public Builder clearReplicateRequest() {
-        if (replicateRequestBuilder_ == null) {
-          replicateRequest_ = null;
+      public Builder clearDownloadRequest() {
+        if (downloadRequestBuilder_ == null) {
+          downloadRequest_ = null;
           onChanged();
         } else {
-          replicateRequest_ = null;
-          replicateRequestBuilder_ = null;
+          downloadRequest_ = null;
+          downloadRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * <code>.DownloadRequest downloadRequest = 12;</code>
        */
-      public Torr2.ReplicateRequest.Builder getReplicateRequestBuilder() {
+      public Torr2.DownloadRequest.Builder getDownloadRequestBuilder() {
         
         onChanged();
-        return getReplicateRequestFieldBuilder().getBuilder();
+        return getDownloadRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * <code>.DownloadRequest downloadRequest = 12;</code>
        */
-      public Torr2.ReplicateRequestOrBuilder getReplicateRequestOrBuilder() {
-        if (replicateRequestBuilder_ != null) {
-          return replicateRequestBuilder_.getMessageOrBuilder();
+      public Torr2.DownloadRequestOrBuilder getDownloadRequestOrBuilder() {
+        if (downloadRequestBuilder_ != null) {
+          return downloadRequestBuilder_.getMessageOrBuilder();
         } else {
-          return replicateRequest_ == null ?
-              Torr2.ReplicateRequest.getDefaultInstance() : replicateRequest_;
+          return downloadRequest_ == null ?
+              Torr2.DownloadRequest.getDefaultInstance() : downloadRequest_;
         }
       }
       /**
-       * <code>.ReplicateRequest replicateRequest = 8;</code>
+       * <code>.DownloadRequest downloadRequest = 12;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ReplicateRequest, Torr2.ReplicateRequest.Builder, Torr2.ReplicateRequestOrBuilder> 
-          getReplicateRequestFieldBuilder() {
-        if (replicateRequestBuilder_ == null) {
-          replicateRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.ReplicateRequest, Torr2.ReplicateRequest.Builder, Torr2.ReplicateRequestOrBuilder>(
-                  getReplicateRequest(),
+          Torr2.DownloadRequest, Torr2.DownloadRequest.Builder, Torr2.DownloadRequestOrBuilder> 
+          getDownloadRequestFieldBuilder() {
+        if (downloadRequestBuilder_ == null) {
+          downloadRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.DownloadRequest, Torr2.DownloadRequest.Builder, Torr2.DownloadRequestOrBuilder>(
+                  getDownloadRequest(),
                   getParentForChildren(),
                   isClean());
-          replicateRequest_ = null;
+          downloadRequest_ = null;
         }
-        return replicateRequestBuilder_;
+        return downloadRequestBuilder_;
       }
 
-      private Torr2.ReplicateResponse replicateResponse_;
+      private Torr2.DownloadResponse downloadResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ReplicateResponse, Torr2.ReplicateResponse.Builder, Torr2.ReplicateResponseOrBuilder> replicateResponseBuilder_;
+          Torr2.DownloadResponse, Torr2.DownloadResponse.Builder, Torr2.DownloadResponseOrBuilder> downloadResponseBuilder_;
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
-       * @return Whether the replicateResponse field is set.
+       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * @return Whether the downloadResponse field is set.
        */
-      public boolean hasReplicateResponse() {
-        return replicateResponseBuilder_ != null || replicateResponse_ != null;
+      public boolean hasDownloadResponse() {
+        return downloadResponseBuilder_ != null || downloadResponse_ != null;
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
-       * @return The replicateResponse.
+       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * @return The downloadResponse.
        */
-      public Torr2.ReplicateResponse getReplicateResponse() {
-        if (replicateResponseBuilder_ == null) {
-          return replicateResponse_ == null ? Torr2.ReplicateResponse.getDefaultInstance() : replicateResponse_;
+      public Torr2.DownloadResponse getDownloadResponse() {
+        if (downloadResponseBuilder_ == null) {
+          return downloadResponse_ == null ? Torr2.DownloadResponse.getDefaultInstance() : downloadResponse_;
         } else {
-          return replicateResponseBuilder_.getMessage();
+          return downloadResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * <code>.DownloadResponse downloadResponse = 13;</code>
        */
-      public Builder setReplicateResponse(Torr2.ReplicateResponse value) {
-        if (replicateResponseBuilder_ == null) {
+      public Builder setDownloadResponse(Torr2.DownloadResponse value) {
+        if (downloadResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          replicateResponse_ = value;
+          downloadResponse_ = value;
           onChanged();
         } else {
-          replicateResponseBuilder_.setMessage(value);
+          downloadResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * <code>.DownloadResponse downloadResponse = 13;</code>
        */
-      public Builder setReplicateResponse(
-          Torr2.ReplicateResponse.Builder builderForValue) {
-        if (replicateResponseBuilder_ == null) {
-          replicateResponse_ = builderForValue.build();
+      public Builder setDownloadResponse(
+          Torr2.DownloadResponse.Builder builderForValue) {
+        if (downloadResponseBuilder_ == null) {
+          downloadResponse_ = builderForValue.build();
           onChanged();
         } else {
-          replicateResponseBuilder_.setMessage(builderForValue.build());
+          downloadResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * <code>.DownloadResponse downloadResponse = 13;</code>
        */
-      public Builder mergeReplicateResponse(Torr2.ReplicateResponse value) {
-        if (replicateResponseBuilder_ == null) {
-          if (replicateResponse_ != null) {
-            replicateResponse_ =
-              Torr2.ReplicateResponse.newBuilder(replicateResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeDownloadResponse(Torr2.DownloadResponse value) {
+        if (downloadResponseBuilder_ == null) {
+          if (downloadResponse_ != null) {
+            downloadResponse_ =
+              Torr2.DownloadResponse.newBuilder(downloadResponse_).mergeFrom(value).buildPartial();
           } else {
-            replicateResponse_ = value;
+            downloadResponse_ = value;
           }
           onChanged();
         } else {
-          replicateResponseBuilder_.mergeFrom(value);
+          downloadResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * <code>.DownloadResponse downloadResponse = 13;</code>
        */
-      public Builder clearReplicateResponse() {
-        if (replicateResponseBuilder_ == null) {
-          replicateResponse_ = null;
+      public Builder clearDownloadResponse() {
+        if (downloadResponseBuilder_ == null) {
+          downloadResponse_ = null;
           onChanged();
         } else {
-          replicateResponse_ = null;
-          replicateResponseBuilder_ = null;
+          downloadResponse_ = null;
+          downloadResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * <code>.DownloadResponse downloadResponse = 13;</code>
        */
-      public Torr2.ReplicateResponse.Builder getReplicateResponseBuilder() {
+      public Torr2.DownloadResponse.Builder getDownloadResponseBuilder() {
         
         onChanged();
-        return getReplicateResponseFieldBuilder().getBuilder();
+        return getDownloadResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * <code>.DownloadResponse downloadResponse = 13;</code>
        */
-      public Torr2.ReplicateResponseOrBuilder getReplicateResponseOrBuilder() {
-        if (replicateResponseBuilder_ != null) {
-          return replicateResponseBuilder_.getMessageOrBuilder();
+      public Torr2.DownloadResponseOrBuilder getDownloadResponseOrBuilder() {
+        if (downloadResponseBuilder_ != null) {
+          return downloadResponseBuilder_.getMessageOrBuilder();
         } else {
-          return replicateResponse_ == null ?
-              Torr2.ReplicateResponse.getDefaultInstance() : replicateResponse_;
+          return downloadResponse_ == null ?
+              Torr2.DownloadResponse.getDefaultInstance() : downloadResponse_;
         }
       }
       /**
-       * <code>.ReplicateResponse replicateResponse = 9;</code>
+       * <code>.DownloadResponse downloadResponse = 13;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ReplicateResponse, Torr2.ReplicateResponse.Builder, Torr2.ReplicateResponseOrBuilder> 
-          getReplicateResponseFieldBuilder() {
-        if (replicateResponseBuilder_ == null) {
-          replicateResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.ReplicateResponse, Torr2.ReplicateResponse.Builder, Torr2.ReplicateResponseOrBuilder>(
-                  getReplicateResponse(),
+          Torr2.DownloadResponse, Torr2.DownloadResponse.Builder, Torr2.DownloadResponseOrBuilder> 
+          getDownloadResponseFieldBuilder() {
+        if (downloadResponseBuilder_ == null) {
+          downloadResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.DownloadResponse, Torr2.DownloadResponse.Builder, Torr2.DownloadResponseOrBuilder>(
+                  getDownloadResponse(),
                   getParentForChildren(),
                   isClean());
-          replicateResponse_ = null;
+          downloadResponse_ = null;
         }
-        return replicateResponseBuilder_;
+        return downloadResponseBuilder_;
       }
 
-      private Torr2.ChunkRequest chunkRequest_;
+      private Torr2.RegistrationRequest registrationRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ChunkRequest, Torr2.ChunkRequest.Builder, Torr2.ChunkRequestOrBuilder> chunkRequestBuilder_;
+          Torr2.RegistrationRequest, Torr2.RegistrationRequest.Builder, Torr2.RegistrationRequestOrBuilder> registrationRequestBuilder_;
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
-       * @return Whether the chunkRequest field is set.
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * @return Whether the registrationRequest field is set.
        */
-      public boolean hasChunkRequest() {
-        return chunkRequestBuilder_ != null || chunkRequest_ != null;
+      public boolean hasRegistrationRequest() {
+        return registrationRequestBuilder_ != null || registrationRequest_ != null;
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
-       * @return The chunkRequest.
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * @return The registrationRequest.
        */
-      public Torr2.ChunkRequest getChunkRequest() {
-        if (chunkRequestBuilder_ == null) {
-          return chunkRequest_ == null ? Torr2.ChunkRequest.getDefaultInstance() : chunkRequest_;
+      public Torr2.RegistrationRequest getRegistrationRequest() {
+        if (registrationRequestBuilder_ == null) {
+          return registrationRequest_ == null ? Torr2.RegistrationRequest.getDefaultInstance() : registrationRequest_;
         } else {
-          return chunkRequestBuilder_.getMessage();
+          return registrationRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
        */
-      public Builder setChunkRequest(Torr2.ChunkRequest value) {
-        if (chunkRequestBuilder_ == null) {
+      public Builder setRegistrationRequest(Torr2.RegistrationRequest value) {
+        if (registrationRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          chunkRequest_ = value;
+          registrationRequest_ = value;
           onChanged();
         } else {
-          chunkRequestBuilder_.setMessage(value);
+          registrationRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
        */
-      public Builder setChunkRequest(
-          Torr2.ChunkRequest.Builder builderForValue) {
-        if (chunkRequestBuilder_ == null) {
-          chunkRequest_ = builderForValue.build();
+      public Builder setRegistrationRequest(
+          Torr2.RegistrationRequest.Builder builderForValue) {
+        if (registrationRequestBuilder_ == null) {
+          registrationRequest_ = builderForValue.build();
           onChanged();
         } else {
-          chunkRequestBuilder_.setMessage(builderForValue.build());
+          registrationRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
        */
-      public Builder mergeChunkRequest(Torr2.ChunkRequest value) {
-        if (chunkRequestBuilder_ == null) {
-          if (chunkRequest_ != null) {
-            chunkRequest_ =
-              Torr2.ChunkRequest.newBuilder(chunkRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeRegistrationRequest(Torr2.RegistrationRequest value) {
+        if (registrationRequestBuilder_ == null) {
+          if (registrationRequest_ != null) {
+            registrationRequest_ =
+              Torr2.RegistrationRequest.newBuilder(registrationRequest_).mergeFrom(value).buildPartial();
           } else {
-            chunkRequest_ = value;
+            registrationRequest_ = value;
           }
           onChanged();
         } else {
-          chunkRequestBuilder_.mergeFrom(value);
+          registrationRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
        */
-      public Builder clearChunkRequest() {
-        if (chunkRequestBuilder_ == null) {
-          chunkRequest_ = null;
+      public Builder clearRegistrationRequest() {
+        if (registrationRequestBuilder_ == null) {
+          registrationRequest_ = null;
           onChanged();
         } else {
-          chunkRequest_ = null;
-          chunkRequestBuilder_ = null;
+          registrationRequest_ = null;
+          registrationRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
        */
-      public Torr2.ChunkRequest.Builder getChunkRequestBuilder() {
+      public Torr2.RegistrationRequest.Builder getRegistrationRequestBuilder() {
         
         onChanged();
-        return getChunkRequestFieldBuilder().getBuilder();
+        return getRegistrationRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
        */
-      public Torr2.ChunkRequestOrBuilder getChunkRequestOrBuilder() {
-        if (chunkRequestBuilder_ != null) {
-          return chunkRequestBuilder_.getMessageOrBuilder();
+      public Torr2.RegistrationRequestOrBuilder getRegistrationRequestOrBuilder() {
+        if (registrationRequestBuilder_ != null) {
+          return registrationRequestBuilder_.getMessageOrBuilder();
         } else {
-          return chunkRequest_ == null ?
-              Torr2.ChunkRequest.getDefaultInstance() : chunkRequest_;
+          return registrationRequest_ == null ?
+              Torr2.RegistrationRequest.getDefaultInstance() : registrationRequest_;
         }
       }
       /**
-       * <code>.ChunkRequest chunkRequest = 10;</code>
+       * <code>.RegistrationRequest registrationRequest = 14;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ChunkRequest, Torr2.ChunkRequest.Builder, Torr2.ChunkRequestOrBuilder> 
-          getChunkRequestFieldBuilder() {
-        if (chunkRequestBuilder_ == null) {
-          chunkRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.ChunkRequest, Torr2.ChunkRequest.Builder, Torr2.ChunkRequestOrBuilder>(
-                  getChunkRequest(),
+          Torr2.RegistrationRequest, Torr2.RegistrationRequest.Builder, Torr2.RegistrationRequestOrBuilder> 
+          getRegistrationRequestFieldBuilder() {
+        if (registrationRequestBuilder_ == null) {
+          registrationRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.RegistrationRequest, Torr2.RegistrationRequest.Builder, Torr2.RegistrationRequestOrBuilder>(
+                  getRegistrationRequest(),
                   getParentForChildren(),
                   isClean());
-          chunkRequest_ = null;
+          registrationRequest_ = null;
         }
-        return chunkRequestBuilder_;
+        return registrationRequestBuilder_;
       }
 
-      private Torr2.ChunkResponse chunkResponse_;
+      private Torr2.RegistrationResponse registrationResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ChunkResponse, Torr2.ChunkResponse.Builder, Torr2.ChunkResponseOrBuilder> chunkResponseBuilder_;
+          Torr2.RegistrationResponse, Torr2.RegistrationResponse.Builder, Torr2.RegistrationResponseOrBuilder> registrationResponseBuilder_;
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
-       * @return Whether the chunkResponse field is set.
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * @return Whether the registrationResponse field is set.
        */
-      public boolean hasChunkResponse() {
-        return chunkResponseBuilder_ != null || chunkResponse_ != null;
+      public boolean hasRegistrationResponse() {
+        return registrationResponseBuilder_ != null || registrationResponse_ != null;
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
-       * @return The chunkResponse.
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * @return The registrationResponse.
        */
-      public Torr2.ChunkResponse getChunkResponse() {
-        if (chunkResponseBuilder_ == null) {
-          return chunkResponse_ == null ? Torr2.ChunkResponse.getDefaultInstance() : chunkResponse_;
+      public Torr2.RegistrationResponse getRegistrationResponse() {
+        if (registrationResponseBuilder_ == null) {
+          return registrationResponse_ == null ? Torr2.RegistrationResponse.getDefaultInstance() : registrationResponse_;
         } else {
-          return chunkResponseBuilder_.getMessage();
+          return registrationResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
        */
-      public Builder setChunkResponse(Torr2.ChunkResponse value) {
-        if (chunkResponseBuilder_ == null) {
+      public Builder setRegistrationResponse(Torr2.RegistrationResponse value) {
+        if (registrationResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          chunkResponse_ = value;
+          registrationResponse_ = value;
           onChanged();
         } else {
-          chunkResponseBuilder_.setMessage(value);
+          registrationResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
        */
-      public Builder setChunkResponse(
-          Torr2.ChunkResponse.Builder builderForValue) {
-        if (chunkResponseBuilder_ == null) {
-          chunkResponse_ = builderForValue.build();
+      public Builder setRegistrationResponse(
+          Torr2.RegistrationResponse.Builder builderForValue) {
+        if (registrationResponseBuilder_ == null) {
+          registrationResponse_ = builderForValue.build();
           onChanged();
         } else {
-          chunkResponseBuilder_.setMessage(builderForValue.build());
+          registrationResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
        */
-      public Builder mergeChunkResponse(Torr2.ChunkResponse value) {
-        if (chunkResponseBuilder_ == null) {
-          if (chunkResponse_ != null) {
-            chunkResponse_ =
-              Torr2.ChunkResponse.newBuilder(chunkResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeRegistrationResponse(Torr2.RegistrationResponse value) {
+        if (registrationResponseBuilder_ == null) {
+          if (registrationResponse_ != null) {
+            registrationResponse_ =
+              Torr2.RegistrationResponse.newBuilder(registrationResponse_).mergeFrom(value).buildPartial();
           } else {
-            chunkResponse_ = value;
+            registrationResponse_ = value;
           }
           onChanged();
         } else {
-          chunkResponseBuilder_.mergeFrom(value);
+          registrationResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
        */
-      public Builder clearChunkResponse() {
-        if (chunkResponseBuilder_ == null) {
-          chunkResponse_ = null;
+      public Builder clearRegistrationResponse() {
+        if (registrationResponseBuilder_ == null) {
+          registrationResponse_ = null;
           onChanged();
         } else {
-          chunkResponse_ = null;
-          chunkResponseBuilder_ = null;
+          registrationResponse_ = null;
+          registrationResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
        */
-      public Torr2.ChunkResponse.Builder getChunkResponseBuilder() {
+      public Torr2.RegistrationResponse.Builder getRegistrationResponseBuilder() {
         
         onChanged();
-        return getChunkResponseFieldBuilder().getBuilder();
+        return getRegistrationResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
        */
-      public Torr2.ChunkResponseOrBuilder getChunkResponseOrBuilder() {
-        if (chunkResponseBuilder_ != null) {
-          return chunkResponseBuilder_.getMessageOrBuilder();
+      public Torr2.RegistrationResponseOrBuilder getRegistrationResponseOrBuilder() {
+        if (registrationResponseBuilder_ != null) {
+          return registrationResponseBuilder_.getMessageOrBuilder();
         } else {
-          return chunkResponse_ == null ?
-              Torr2.ChunkResponse.getDefaultInstance() : chunkResponse_;
+          return registrationResponse_ == null ?
+              Torr2.RegistrationResponse.getDefaultInstance() : registrationResponse_;
         }
       }
       /**
-       * <code>.ChunkResponse chunkResponse = 11;</code>
+       * <code>.RegistrationResponse registrationResponse = 15;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.ChunkResponse, Torr2.ChunkResponse.Builder, Torr2.ChunkResponseOrBuilder> 
-          getChunkResponseFieldBuilder() {
-        if (chunkResponseBuilder_ == null) {
-          chunkResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.ChunkResponse, Torr2.ChunkResponse.Builder, Torr2.ChunkResponseOrBuilder>(
-                  getChunkResponse(),
+          Torr2.RegistrationResponse, Torr2.RegistrationResponse.Builder, Torr2.RegistrationResponseOrBuilder> 
+          getRegistrationResponseFieldBuilder() {
+        if (registrationResponseBuilder_ == null) {
+          registrationResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.RegistrationResponse, Torr2.RegistrationResponse.Builder, Torr2.RegistrationResponseOrBuilder>(
+                  getRegistrationResponse(),
                   getParentForChildren(),
                   isClean());
-          chunkResponse_ = null;
+          registrationResponse_ = null;
         }
-        return chunkResponseBuilder_;
+        return registrationResponseBuilder_;
       }
 
-      private Torr2.DownloadRequest downloadRequest_;
+      private Torr2.SubnetRequest subnetRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.DownloadRequest, Torr2.DownloadRequest.Builder, Torr2.DownloadRequestOrBuilder> downloadRequestBuilder_;
+          Torr2.SubnetRequest, Torr2.SubnetRequest.Builder, Torr2.SubnetRequestOrBuilder> subnetRequestBuilder_;
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
-       * @return Whether the downloadRequest field is set.
+       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * @return Whether the subnetRequest field is set.
        */
-      public boolean hasDownloadRequest() {
-        return downloadRequestBuilder_ != null || downloadRequest_ != null;
+      public boolean hasSubnetRequest() {
+        return subnetRequestBuilder_ != null || subnetRequest_ != null;
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
-       * @return The downloadRequest.
+       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * @return The subnetRequest.
        */
-      public Torr2.DownloadRequest getDownloadRequest() {
-        if (downloadRequestBuilder_ == null) {
-          return downloadRequest_ == null ? Torr2.DownloadRequest.getDefaultInstance() : downloadRequest_;
+      public Torr2.SubnetRequest getSubnetRequest() {
+        if (subnetRequestBuilder_ == null) {
+          return subnetRequest_ == null ? Torr2.SubnetRequest.getDefaultInstance() : subnetRequest_;
         } else {
-          return downloadRequestBuilder_.getMessage();
+          return subnetRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * <code>.SubnetRequest subnetRequest = 16;</code>
        */
-      public Builder setDownloadRequest(Torr2.DownloadRequest value) {
-        if (downloadRequestBuilder_ == null) {
+      public Builder setSubnetRequest(Torr2.SubnetRequest value) {
+        if (subnetRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          downloadRequest_ = value;
+          subnetRequest_ = value;
           onChanged();
         } else {
-          downloadRequestBuilder_.setMessage(value);
+          subnetRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * <code>.SubnetRequest subnetRequest = 16;</code>
        */
-      public Builder setDownloadRequest(
-          Torr2.DownloadRequest.Builder builderForValue) {
-        if (downloadRequestBuilder_ == null) {
-          downloadRequest_ = builderForValue.build();
+      public Builder setSubnetRequest(
+          Torr2.SubnetRequest.Builder builderForValue) {
+        if (subnetRequestBuilder_ == null) {
+          subnetRequest_ = builderForValue.build();
           onChanged();
         } else {
-          downloadRequestBuilder_.setMessage(builderForValue.build());
+          subnetRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * <code>.SubnetRequest subnetRequest = 16;</code>
        */
-      public Builder mergeDownloadRequest(Torr2.DownloadRequest value) {
-        if (downloadRequestBuilder_ == null) {
-          if (downloadRequest_ != null) {
-            downloadRequest_ =
-              Torr2.DownloadRequest.newBuilder(downloadRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeSubnetRequest(Torr2.SubnetRequest value) {
+        if (subnetRequestBuilder_ == null) {
+          if (subnetRequest_ != null) {
+            subnetRequest_ =
+              Torr2.SubnetRequest.newBuilder(subnetRequest_).mergeFrom(value).buildPartial();
           } else {
-            downloadRequest_ = value;
+            subnetRequest_ = value;
           }
           onChanged();
         } else {
-          downloadRequestBuilder_.mergeFrom(value);
+          subnetRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * <code>.SubnetRequest subnetRequest = 16;</code>
        */
-      public Builder clearDownloadRequest() {
-        if (downloadRequestBuilder_ == null) {
-          downloadRequest_ = null;
+      public Builder clearSubnetRequest() {
+        if (subnetRequestBuilder_ == null) {
+          subnetRequest_ = null;
           onChanged();
         } else {
-          downloadRequest_ = null;
-          downloadRequestBuilder_ = null;
+          subnetRequest_ = null;
+          subnetRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * <code>.SubnetRequest subnetRequest = 16;</code>
        */
-      public Torr2.DownloadRequest.Builder getDownloadRequestBuilder() {
+      public Torr2.SubnetRequest.Builder getSubnetRequestBuilder() {
         
         onChanged();
-        return getDownloadRequestFieldBuilder().getBuilder();
+        return getSubnetRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * <code>.SubnetRequest subnetRequest = 16;</code>
        */
-      public Torr2.DownloadRequestOrBuilder getDownloadRequestOrBuilder() {
-        if (downloadRequestBuilder_ != null) {
-          return downloadRequestBuilder_.getMessageOrBuilder();
+      public Torr2.SubnetRequestOrBuilder getSubnetRequestOrBuilder() {
+        if (subnetRequestBuilder_ != null) {
+          return subnetRequestBuilder_.getMessageOrBuilder();
         } else {
-          return downloadRequest_ == null ?
-              Torr2.DownloadRequest.getDefaultInstance() : downloadRequest_;
+          return subnetRequest_ == null ?
+              Torr2.SubnetRequest.getDefaultInstance() : subnetRequest_;
         }
       }
       /**
-       * <code>.DownloadRequest downloadRequest = 12;</code>
+       * <code>.SubnetRequest subnetRequest = 16;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.DownloadRequest, Torr2.DownloadRequest.Builder, Torr2.DownloadRequestOrBuilder> 
-          getDownloadRequestFieldBuilder() {
-        if (downloadRequestBuilder_ == null) {
-          downloadRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.DownloadRequest, Torr2.DownloadRequest.Builder, Torr2.DownloadRequestOrBuilder>(
-                  getDownloadRequest(),
+          Torr2.SubnetRequest, Torr2.SubnetRequest.Builder, Torr2.SubnetRequestOrBuilder> 
+          getSubnetRequestFieldBuilder() {
+        if (subnetRequestBuilder_ == null) {
+          subnetRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.SubnetRequest, Torr2.SubnetRequest.Builder, Torr2.SubnetRequestOrBuilder>(
+                  getSubnetRequest(),
                   getParentForChildren(),
                   isClean());
-          downloadRequest_ = null;
+          subnetRequest_ = null;
         }
-        return downloadRequestBuilder_;
+        return subnetRequestBuilder_;
       }
 
-      private Torr2.DownloadResponse downloadResponse_;
+      private Torr2.SubnetResponse subnetResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.DownloadResponse, Torr2.DownloadResponse.Builder, Torr2.DownloadResponseOrBuilder> downloadResponseBuilder_;
+          Torr2.SubnetResponse, Torr2.SubnetResponse.Builder, Torr2.SubnetResponseOrBuilder> subnetResponseBuilder_;
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
-       * @return Whether the downloadResponse field is set.
+       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * @return Whether the subnetResponse field is set.
        */
-      public boolean hasDownloadResponse() {
-        return downloadResponseBuilder_ != null || downloadResponse_ != null;
+      public boolean hasSubnetResponse() {
+        return subnetResponseBuilder_ != null || subnetResponse_ != null;
       }
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
-       * @return The downloadResponse.
+       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * @return The subnetResponse.
        */
-      public Torr2.DownloadResponse getDownloadResponse() {
-        if (downloadResponseBuilder_ == null) {
-          return downloadResponse_ == null ? Torr2.DownloadResponse.getDefaultInstance() : downloadResponse_;
+      public Torr2.SubnetResponse getSubnetResponse() {
+        if (subnetResponseBuilder_ == null) {
+          return subnetResponse_ == null ? Torr2.SubnetResponse.getDefaultInstance() : subnetResponse_;
         } else {
-          return downloadResponseBuilder_.getMessage();
+          return subnetResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * <code>.SubnetResponse subnetResponse = 17;</code>
        */
-      public Builder setDownloadResponse(Torr2.DownloadResponse value) {
-        if (downloadResponseBuilder_ == null) {
+      public Builder setSubnetResponse(Torr2.SubnetResponse value) {
+        if (subnetResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          downloadResponse_ = value;
+          subnetResponse_ = value;
           onChanged();
         } else {
-          downloadResponseBuilder_.setMessage(value);
+          subnetResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * <code>.SubnetResponse subnetResponse = 17;</code>
        */
-      public Builder setDownloadResponse(
-          Torr2.DownloadResponse.Builder builderForValue) {
-        if (downloadResponseBuilder_ == null) {
-          downloadResponse_ = builderForValue.build();
+      public Builder setSubnetResponse(
+          Torr2.SubnetResponse.Builder builderForValue) {
+        if (subnetResponseBuilder_ == null) {
+          subnetResponse_ = builderForValue.build();
           onChanged();
         } else {
-          downloadResponseBuilder_.setMessage(builderForValue.build());
+          subnetResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * <code>.SubnetResponse subnetResponse = 17;</code>
        */
-      public Builder mergeDownloadResponse(Torr2.DownloadResponse value) {
-        if (downloadResponseBuilder_ == null) {
-          if (downloadResponse_ != null) {
-            downloadResponse_ =
-              Torr2.DownloadResponse.newBuilder(downloadResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeSubnetResponse(Torr2.SubnetResponse value) {
+        if (subnetResponseBuilder_ == null) {
+          if (subnetResponse_ != null) {
+            subnetResponse_ =
+              Torr2.SubnetResponse.newBuilder(subnetResponse_).mergeFrom(value).buildPartial();
           } else {
-            downloadResponse_ = value;
+            subnetResponse_ = value;
           }
           onChanged();
         } else {
-          downloadResponseBuilder_.mergeFrom(value);
+          subnetResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * <code>.SubnetResponse subnetResponse = 17;</code>
        */
-      public Builder clearDownloadResponse() {
-        if (downloadResponseBuilder_ == null) {
-          downloadResponse_ = null;
+      public Builder clearSubnetResponse() {
+        if (subnetResponseBuilder_ == null) {
+          subnetResponse_ = null;
           onChanged();
         } else {
-          downloadResponse_ = null;
-          downloadResponseBuilder_ = null;
+          subnetResponse_ = null;
+          subnetResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * <code>.SubnetResponse subnetResponse = 17;</code>
        */
-      public Torr2.DownloadResponse.Builder getDownloadResponseBuilder() {
+      public Torr2.SubnetResponse.Builder getSubnetResponseBuilder() {
         
         onChanged();
-        return getDownloadResponseFieldBuilder().getBuilder();
+        return getSubnetResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
+       * <code>.SubnetResponse subnetResponse = 17;</code>
        */
-      public Torr2.DownloadResponseOrBuilder getDownloadResponseOrBuilder() {
-        if (downloadResponseBuilder_ != null) {
-          return downloadResponseBuilder_.getMessageOrBuilder();
+      public Torr2.SubnetResponseOrBuilder getSubnetResponseOrBuilder() {
+        if (subnetResponseBuilder_ != null) {
+          return subnetResponseBuilder_.getMessageOrBuilder();
         } else {
-          return downloadResponse_ == null ?
-              Torr2.DownloadResponse.getDefaultInstance() : downloadResponse_;
+          return subnetResponse_ == null ?
+              Torr2.SubnetResponse.getDefaultInstance() : subnetResponse_;
         }
-      }
-      /**
-       * <code>.DownloadResponse downloadResponse = 13;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.DownloadResponse, Torr2.DownloadResponse.Builder, Torr2.DownloadResponseOrBuilder> 
-          getDownloadResponseFieldBuilder() {
-        if (downloadResponseBuilder_ == null) {
-          downloadResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.DownloadResponse, Torr2.DownloadResponse.Builder, Torr2.DownloadResponseOrBuilder>(
-                  getDownloadResponse(),
+      }
+      /**
+       * <code>.SubnetResponse subnetResponse = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          Torr2.SubnetResponse, Torr2.SubnetResponse.Builder, Torr2.SubnetResponseOrBuilder> 
+          getSubnetResponseFieldBuilder() {
+        if (subnetResponseBuilder_ == null) {
+          subnetResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.SubnetResponse, Torr2.SubnetResponse.Builder, Torr2.SubnetResponseOrBuilder>(
+                  getSubnetResponse(),
                   getParentForChildren(),
                   isClean());
-          downloadResponse_ = null;
+          subnetResponse_ = null;
         }
-        return downloadResponseBuilder_;
+        return subnetResponseBuilder_;
       }
 
-      private Torr2.RegistrationRequest registrationRequest_;
+      private Torr2.RangeDownloadRequest rangeDownloadRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.RegistrationRequest, Torr2.RegistrationRequest.Builder, Torr2.RegistrationRequestOrBuilder> registrationRequestBuilder_;
+          Torr2.RangeDownloadRequest, Torr2.RangeDownloadRequest.Builder, Torr2.RangeDownloadRequestOrBuilder> rangeDownloadRequestBuilder_;
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
-       * @return Whether the registrationRequest field is set.
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+       * @return Whether the rangeDownloadRequest field is set.
        */
-      public boolean hasRegistrationRequest() {
-        return registrationRequestBuilder_ != null || registrationRequest_ != null;
+      public boolean hasRangeDownloadRequest() {
+        return rangeDownloadRequestBuilder_ != null || rangeDownloadRequest_ != null;
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
-       * @return The registrationRequest.
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
+       * @return The rangeDownloadRequest.
        */
-      public Torr2.RegistrationRequest getRegistrationRequest() {
-        if (registrationRequestBuilder_ == null) {
-          return registrationRequest_ == null ? Torr2.RegistrationRequest.getDefaultInstance() : registrationRequest_;
+      public Torr2.RangeDownloadRequest getRangeDownloadRequest() {
+        if (rangeDownloadRequestBuilder_ == null) {
+          return rangeDownloadRequest_ == null ? Torr2.RangeDownloadRequest.getDefaultInstance() : rangeDownloadRequest_;
         } else {
-          return registrationRequestBuilder_.getMessage();
+          return rangeDownloadRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
        */
-      public Builder setRegistrationRequest(Torr2.RegistrationRequest value) {
-        if (registrationRequestBuilder_ == null) {
+      public Builder setRangeDownloadRequest(Torr2.RangeDownloadRequest value) {
+        if (rangeDownloadRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          registrationRequest_ = value;
+          rangeDownloadRequest_ = value;
           onChanged();
         } else {
-          registrationRequestBuilder_.setMessage(value);
+          rangeDownloadRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
        */
-      public Builder setRegistrationRequest(
-          Torr2.RegistrationRequest.Builder builderForValue) {
-        if (registrationRequestBuilder_ == null) {
-          registrationRequest_ = builderForValue.build();
+      public Builder setRangeDownloadRequest(
+          Torr2.RangeDownloadRequest.Builder builderForValue) {
+        if (rangeDownloadRequestBuilder_ == null) {
+          rangeDownloadRequest_ = builderForValue.build();
           onChanged();
         } else {
-          registrationRequestBuilder_.setMessage(builderForValue.build());
+          rangeDownloadRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
        */
-      public Builder mergeRegistrationRequest(Torr2.RegistrationRequest value) {
-        if (registrationRequestBuilder_ == null) {
-          if (registrationRequest_ != null) {
-            registrationRequest_ =
-              Torr2.RegistrationRequest.newBuilder(registrationRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeRangeDownloadRequest(Torr2.RangeDownloadRequest value) {
+        if (rangeDownloadRequestBuilder_ == null) {
+          if (rangeDownloadRequest_ != null) {
+            rangeDownloadRequest_ =
+              Torr2.RangeDownloadRequest.newBuilder(rangeDownloadRequest_).mergeFrom(value).buildPartial();
           } else {
-            registrationRequest_ = value;
+            rangeDownloadRequest_ = value;
           }
           onChanged();
         } else {
-          registrationRequestBuilder_.mergeFrom(value);
+          rangeDownloadRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
        */
-      public Builder clearRegistrationRequest() {
-        if (registrationRequestBuilder_ == null) {
-          registrationRequest_ = null;
+      public Builder clearRangeDownloadRequest() {
+        if (rangeDownloadRequestBuilder_ == null) {
+          rangeDownloadRequest_ = null;
           onChanged();
         } else {
-          registrationRequest_ = null;
-          registrationRequestBuilder_ = null;
+          rangeDownloadRequest_ = null;
+          rangeDownloadRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
        */
-      public Torr2.RegistrationRequest.Builder getRegistrationRequestBuilder() {
+      public Torr2.RangeDownloadRequest.Builder getRangeDownloadRequestBuilder() {
         
         onChanged();
-        return getRegistrationRequestFieldBuilder().getBuilder();
+        return getRangeDownloadRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
        */
-      public Torr2.RegistrationRequestOrBuilder getRegistrationRequestOrBuilder() {
-        if (registrationRequestBuilder_ != null) {
-          return registrationRequestBuilder_.getMessageOrBuilder();
+      public Torr2.RangeDownloadRequestOrBuilder getRangeDownloadRequestOrBuilder() {
+        if (rangeDownloadRequestBuilder_ != null) {
+          return rangeDownloadRequestBuilder_.getMessageOrBuilder();
         } else {
-          return registrationRequest_ == null ?
-              Torr2.RegistrationRequest.getDefaultInstance() : registrationRequest_;
+          return rangeDownloadRequest_ == null ?
+              Torr2.RangeDownloadRequest.getDefaultInstance() : rangeDownloadRequest_;
         }
       }
       /**
-       * <code>.RegistrationRequest registrationRequest = 14;</code>
+       * <code>.RangeDownloadRequest rangeDownloadRequest = 18;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.RegistrationRequest, Torr2.RegistrationRequest.Builder, Torr2.RegistrationRequestOrBuilder> 
-          getRegistrationRequestFieldBuilder() {
-        if (registrationRequestBuilder_ == null) {
-          registrationRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.RegistrationRequest, Torr2.RegistrationRequest.Builder, Torr2.RegistrationRequestOrBuilder>(
-                  getRegistrationRequest(),
+          Torr2.RangeDownloadRequest, Torr2.RangeDownloadRequest.Builder, Torr2.RangeDownloadRequestOrBuilder> 
+          getRangeDownloadRequestFieldBuilder() {
+        if (rangeDownloadRequestBuilder_ == null) {
+          rangeDownloadRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.RangeDownloadRequest, Torr2.RangeDownloadRequest.Builder, Torr2.RangeDownloadRequestOrBuilder>(
+                  getRangeDownloadRequest(),
                   getParentForChildren(),
                   isClean());
-          registrationRequest_ = null;
+          rangeDownloadRequest_ = null;
         }
-        return registrationRequestBuilder_;
+        return rangeDownloadRequestBuilder_;
       }
 
-      private Torr2.RegistrationResponse registrationResponse_;
+      private Torr2.RangeDownloadResponse rangeDownloadResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.RegistrationResponse, Torr2.RegistrationResponse.Builder, Torr2.RegistrationResponseOrBuilder> registrationResponseBuilder_;
+          Torr2.RangeDownloadResponse, Torr2.RangeDownloadResponse.Builder, Torr2.RangeDownloadResponseOrBuilder> rangeDownloadResponseBuilder_;
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
-       * @return Whether the registrationResponse field is set.
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+       * @return Whether the rangeDownloadResponse field is set.
        */
-      public boolean hasRegistrationResponse() {
-        return registrationResponseBuilder_ != null || registrationResponse_ != null;
+      public boolean hasRangeDownloadResponse() {
+        return rangeDownloadResponseBuilder_ != null || rangeDownloadResponse_ != null;
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
-       * @return The registrationResponse.
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
+       * @return The rangeDownloadResponse.
        */
-      public Torr2.RegistrationResponse getRegistrationResponse() {
-        if (registrationResponseBuilder_ == null) {
-          return registrationResponse_ == null ? Torr2.RegistrationResponse.getDefaultInstance() : registrationResponse_;
+      public Torr2.RangeDownloadResponse getRangeDownloadResponse() {
+        if (rangeDownloadResponseBuilder_ == null) {
+          return rangeDownloadResponse_ == null ? Torr2.RangeDownloadResponse.getDefaultInstance() : rangeDownloadResponse_;
         } else {
-          return registrationResponseBuilder_.getMessage();
+          return rangeDownloadResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
        */
-      public Builder setRegistrationResponse(Torr2.RegistrationResponse value) {
-        if (registrationResponseBuilder_ == null) {
+      public Builder setRangeDownloadResponse(Torr2.RangeDownloadResponse value) {
+        if (rangeDownloadResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          registrationResponse_ = value;
+          rangeDownloadResponse_ = value;
           onChanged();
         } else {
-          registrationResponseBuilder_.setMessage(value);
+          rangeDownloadResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
        */
-      public Builder setRegistrationResponse(
-          Torr2.RegistrationResponse.Builder builderForValue) {
-        if (registrationResponseBuilder_ == null) {
-          registrationResponse_ = builderForValue.build();
+      public Builder setRangeDownloadResponse(
+          Torr2.RangeDownloadResponse.Builder builderForValue) {
+        if (rangeDownloadResponseBuilder_ == null) {
+          rangeDownloadResponse_ = builderForValue.build();
           onChanged();
         } else {
-          registrationResponseBuilder_.setMessage(builderForValue.build());
+          rangeDownloadResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
        */
-      public Builder mergeRegistrationResponse(Torr2.RegistrationResponse value) {
-        if (registrationResponseBuilder_ == null) {
-          if (registrationResponse_ != null) {
-            registrationResponse_ =
-              Torr2.RegistrationResponse.newBuilder(registrationResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeRangeDownloadResponse(Torr2.RangeDownloadResponse value) {
+        if (rangeDownloadResponseBuilder_ == null) {
+          if (rangeDownloadResponse_ != null) {
+            rangeDownloadResponse_ =
+              Torr2.RangeDownloadResponse.newBuilder(rangeDownloadResponse_).mergeFrom(value).buildPartial();
           } else {
-            registrationResponse_ = value;
+            rangeDownloadResponse_ = value;
           }
           onChanged();
         } else {
-          registrationResponseBuilder_.mergeFrom(value);
+          rangeDownloadResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
        */
-      public Builder clearRegistrationResponse() {
-        if (registrationResponseBuilder_ == null) {
-          registrationResponse_ = null;
+      public Builder clearRangeDownloadResponse() {
+        if (rangeDownloadResponseBuilder_ == null) {
+          rangeDownloadResponse_ = null;
           onChanged();
         } else {
-          registrationResponse_ = null;
-          registrationResponseBuilder_ = null;
+          rangeDownloadResponse_ = null;
+          rangeDownloadResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
        */
-      public Torr2.RegistrationResponse.Builder getRegistrationResponseBuilder() {
+      public Torr2.RangeDownloadResponse.Builder getRangeDownloadResponseBuilder() {
         
         onChanged();
-        return getRegistrationResponseFieldBuilder().getBuilder();
+        return getRangeDownloadResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
        */
-      public Torr2.RegistrationResponseOrBuilder getRegistrationResponseOrBuilder() {
-        if (registrationResponseBuilder_ != null) {
-          return registrationResponseBuilder_.getMessageOrBuilder();
+      public Torr2.RangeDownloadResponseOrBuilder getRangeDownloadResponseOrBuilder() {
+        if (rangeDownloadResponseBuilder_ != null) {
+          return rangeDownloadResponseBuilder_.getMessageOrBuilder();
         } else {
-          return registrationResponse_ == null ?
-              Torr2.RegistrationResponse.getDefaultInstance() : registrationResponse_;
+          return rangeDownloadResponse_ == null ?
+              Torr2.RangeDownloadResponse.getDefaultInstance() : rangeDownloadResponse_;
         }
       }
       /**
-       * <code>.RegistrationResponse registrationResponse = 15;</code>
+       * <code>.RangeDownloadResponse rangeDownloadResponse = 19;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.RegistrationResponse, Torr2.RegistrationResponse.Builder, Torr2.RegistrationResponseOrBuilder> 
-          getRegistrationResponseFieldBuilder() {
-        if (registrationResponseBuilder_ == null) {
-          registrationResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.RegistrationResponse, Torr2.RegistrationResponse.Builder, Torr2.RegistrationResponseOrBuilder>(
-                  getRegistrationResponse(),
+          Torr2.RangeDownloadResponse, Torr2.RangeDownloadResponse.Builder, Torr2.RangeDownloadResponseOrBuilder> 
+          getRangeDownloadResponseFieldBuilder() {
+        if (rangeDownloadResponseBuilder_ == null) {
+          rangeDownloadResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.RangeDownloadResponse, Torr2.RangeDownloadResponse.Builder, Torr2.RangeDownloadResponseOrBuilder>(
+                  getRangeDownloadResponse(),
                   getParentForChildren(),
                   isClean());
-          registrationResponse_ = null;
+          rangeDownloadResponse_ = null;
         }
-        return registrationResponseBuilder_;
+        return rangeDownloadResponseBuilder_;
       }
 
-      private Torr2.SubnetRequest subnetRequest_;
+      private Torr2.ChunkAvailabilityRequest chunkAvailabilityRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SubnetRequest, Torr2.SubnetRequest.Builder, Torr2.SubnetRequestOrBuilder> subnetRequestBuilder_;
+          Torr2.ChunkAvailabilityRequest, Torr2.ChunkAvailabilityRequest.Builder, Torr2.ChunkAvailabilityRequestOrBuilder> chunkAvailabilityRequestBuilder_;
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
-       * @return Whether the subnetRequest field is set.
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+       * @return Whether the chunkAvailabilityRequest field is set.
        */
-      public boolean hasSubnetRequest() {
-        return subnetRequestBuilder_ != null || subnetRequest_ != null;
+      public boolean hasChunkAvailabilityRequest() {
+        return chunkAvailabilityRequestBuilder_ != null || chunkAvailabilityRequest_ != null;
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
-       * @return The subnetRequest.
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
+       * @return The chunkAvailabilityRequest.
        */
-      public Torr2.SubnetRequest getSubnetRequest() {
-        if (subnetRequestBuilder_ == null) {
-          return subnetRequest_ == null ? Torr2.SubnetRequest.getDefaultInstance() : subnetRequest_;
+      public Torr2.ChunkAvailabilityRequest getChunkAvailabilityRequest() {
+        if (chunkAvailabilityRequestBuilder_ == null) {
+          return chunkAvailabilityRequest_ == null ? Torr2.ChunkAvailabilityRequest.getDefaultInstance() : chunkAvailabilityRequest_;
         } else {
-          return subnetRequestBuilder_.getMessage();
+          return chunkAvailabilityRequestBuilder_.getMessage();
         }
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
        */
-      public Builder setSubnetRequest(Torr2.SubnetRequest value) {
-        if (subnetRequestBuilder_ == null) {
+      public Builder setChunkAvailabilityRequest(Torr2.ChunkAvailabilityRequest value) {
+        if (chunkAvailabilityRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          subnetRequest_ = value;
+          chunkAvailabilityRequest_ = value;
           onChanged();
         } else {
-          subnetRequestBuilder_.setMessage(value);
+          chunkAvailabilityRequestBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
        */
-      public Builder setSubnetRequest(
-          Torr2.SubnetRequest.Builder builderForValue) {
-        if (subnetRequestBuilder_ == null) {
-          subnetRequest_ = builderForValue.build();
+      public Builder setChunkAvailabilityRequest(
+          Torr2.ChunkAvailabilityRequest.Builder builderForValue) {
+        if (chunkAvailabilityRequestBuilder_ == null) {
+          chunkAvailabilityRequest_ = builderForValue.build();
           onChanged();
         } else {
-          subnetRequestBuilder_.setMessage(builderForValue.build());
+          chunkAvailabilityRequestBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
        */
-      public Builder mergeSubnetRequest(Torr2.SubnetRequest value) {
-        if (subnetRequestBuilder_ == null) {
-          if (subnetRequest_ != null) {
-            subnetRequest_ =
-              Torr2.SubnetRequest.newBuilder(subnetRequest_).mergeFrom(value).buildPartial();
+      public Builder mergeChunkAvailabilityRequest(Torr2.ChunkAvailabilityRequest value) {
+        if (chunkAvailabilityRequestBuilder_ == null) {
+          if (chunkAvailabilityRequest_ != null) {
+            chunkAvailabilityRequest_ =
+              Torr2.ChunkAvailabilityRequest.newBuilder(chunkAvailabilityRequest_).mergeFrom(value).buildPartial();
           } else {
-            subnetRequest_ = value;
+            chunkAvailabilityRequest_ = value;
           }
           onChanged();
         } else {
-          subnetRequestBuilder_.mergeFrom(value);
+          chunkAvailabilityRequestBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
        */
-      public Builder clearSubnetRequest() {
-        if (subnetRequestBuilder_ == null) {
-          subnetRequest_ = null;
+      public Builder clearChunkAvailabilityRequest() {
+        if (chunkAvailabilityRequestBuilder_ == null) {
+          chunkAvailabilityRequest_ = null;
           onChanged();
         } else {
-          subnetRequest_ = null;
-          subnetRequestBuilder_ = null;
+          chunkAvailabilityRequest_ = null;
+          chunkAvailabilityRequestBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
        */
-      public Torr2.SubnetRequest.Builder getSubnetRequestBuilder() {
+      public Torr2.ChunkAvailabilityRequest.Builder getChunkAvailabilityRequestBuilder() {
         
         onChanged();
-        return getSubnetRequestFieldBuilder().getBuilder();
+        return getChunkAvailabilityRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
        */
-      public Torr2.SubnetRequestOrBuilder getSubnetRequestOrBuilder() {
-        if (subnetRequestBuilder_ != null) {
-          return subnetRequestBuilder_.getMessageOrBuilder();
+      public Torr2.ChunkAvailabilityRequestOrBuilder getChunkAvailabilityRequestOrBuilder() {
+        if (chunkAvailabilityRequestBuilder_ != null) {
+          return chunkAvailabilityRequestBuilder_.getMessageOrBuilder();
         } else {
-          return subnetRequest_ == null ?
-              Torr2.SubnetRequest.getDefaultInstance() : subnetRequest_;
+          return chunkAvailabilityRequest_ == null ?
+              Torr2.ChunkAvailabilityRequest.getDefaultInstance() : chunkAvailabilityRequest_;
         }
       }
       /**
-       * <code>.SubnetRequest subnetRequest = 16;</code>
+       * <code>.ChunkAvailabilityRequest chunkAvailabilityRequest = 20;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SubnetRequest, Torr2.SubnetRequest.Builder, Torr2.SubnetRequestOrBuilder> 
-          getSubnetRequestFieldBuilder() {
-        if (subnetRequestBuilder_ == null) {
-          subnetRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.SubnetRequest, Torr2.SubnetRequest.Builder, Torr2.SubnetRequestOrBuilder>(
-                  getSubnetRequest(),
+          Torr2.ChunkAvailabilityRequest, Torr2.ChunkAvailabilityRequest.Builder, Torr2.ChunkAvailabilityRequestOrBuilder> 
+          getChunkAvailabilityRequestFieldBuilder() {
+        if (chunkAvailabilityRequestBuilder_ == null) {
+          chunkAvailabilityRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.ChunkAvailabilityRequest, Torr2.ChunkAvailabilityRequest.Builder, Torr2.ChunkAvailabilityRequestOrBuilder>(
+                  getChunkAvailabilityRequest(),
                   getParentForChildren(),
                   isClean());
-          subnetRequest_ = null;
+          chunkAvailabilityRequest_ = null;
         }
-        return subnetRequestBuilder_;
+        return chunkAvailabilityRequestBuilder_;
       }
 
-      private Torr2.SubnetResponse subnetResponse_;
+      private Torr2.ChunkAvailabilityResponse chunkAvailabilityResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SubnetResponse, Torr2.SubnetResponse.Builder, Torr2.SubnetResponseOrBuilder> subnetResponseBuilder_;
+          Torr2.ChunkAvailabilityResponse, Torr2.ChunkAvailabilityResponse.Builder, Torr2.ChunkAvailabilityResponseOrBuilder> chunkAvailabilityResponseBuilder_;
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
-       * @return Whether the subnetResponse field is set.
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+       * @return Whether the chunkAvailabilityResponse field is set.
        */
-      public boolean hasSubnetResponse() {
-        return subnetResponseBuilder_ != null || subnetResponse_ != null;
+      public boolean hasChunkAvailabilityResponse() {
+        return chunkAvailabilityResponseBuilder_ != null || chunkAvailabilityResponse_ != null;
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
-       * @return The subnetResponse.
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
+       * @return The chunkAvailabilityResponse.
        */
-      public Torr2.SubnetResponse getSubnetResponse() {
-        if (subnetResponseBuilder_ == null) {
-          return subnetResponse_ == null ? Torr2.SubnetResponse.getDefaultInstance() : subnetResponse_;
+      public Torr2.ChunkAvailabilityResponse getChunkAvailabilityResponse() {
+        if (chunkAvailabilityResponseBuilder_ == null) {
+          return chunkAvailabilityResponse_ == null ? Torr2.ChunkAvailabilityResponse.getDefaultInstance() : chunkAvailabilityResponse_;
         } else {
-          return subnetResponseBuilder_.getMessage();
+          return chunkAvailabilityResponseBuilder_.getMessage();
         }
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
        */
-      public Builder setSubnetResponse(Torr2.SubnetResponse value) {
-        if (subnetResponseBuilder_ == null) {
+      public Builder setChunkAvailabilityResponse(Torr2.ChunkAvailabilityResponse value) {
+        if (chunkAvailabilityResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          subnetResponse_ = value;
+          chunkAvailabilityResponse_ = value;
           onChanged();
         } else {
-          subnetResponseBuilder_.setMessage(value);
+          chunkAvailabilityResponseBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
        */
-      public Builder setSubnetResponse(
-          Torr2.SubnetResponse.Builder builderForValue) {
-        if (subnetResponseBuilder_ == null) {
-          subnetResponse_ = builderForValue.build();
+      public Builder setChunkAvailabilityResponse(
+          Torr2.ChunkAvailabilityResponse.Builder builderForValue) {
+        if (chunkAvailabilityResponseBuilder_ == null) {
+          chunkAvailabilityResponse_ = builderForValue.build();
           onChanged();
         } else {
-          subnetResponseBuilder_.setMessage(builderForValue.build());
+          chunkAvailabilityResponseBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
        */
-      public Builder mergeSubnetResponse(Torr2.SubnetResponse value) {
-        if (subnetResponseBuilder_ == null) {
-          if (subnetResponse_ != null) {
-            subnetResponse_ =
-              Torr2.SubnetResponse.newBuilder(subnetResponse_).mergeFrom(value).buildPartial();
+      public Builder mergeChunkAvailabilityResponse(Torr2.ChunkAvailabilityResponse value) {
+        if (chunkAvailabilityResponseBuilder_ == null) {
+          if (chunkAvailabilityResponse_ != null) {
+            chunkAvailabilityResponse_ =
+              Torr2.ChunkAvailabilityResponse.newBuilder(chunkAvailabilityResponse_).mergeFrom(value).buildPartial();
           } else {
-            subnetResponse_ = value;
+            chunkAvailabilityResponse_ = value;
           }
           onChanged();
         } else {
-          subnetResponseBuilder_.mergeFrom(value);
+          chunkAvailabilityResponseBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
        */
-      public Builder clearSubnetResponse() {
-        if (subnetResponseBuilder_ == null) {
-          subnetResponse_ = null;
+      public Builder clearChunkAvailabilityResponse() {
+        if (chunkAvailabilityResponseBuilder_ == null) {
+          chunkAvailabilityResponse_ = null;
           onChanged();
         } else {
-          subnetResponse_ = null;
-          subnetResponseBuilder_ = null;
+          chunkAvailabilityResponse_ = null;
+          chunkAvailabilityResponseBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
        */
-      public Torr2.SubnetResponse.Builder getSubnetResponseBuilder() {
+      public Torr2.ChunkAvailabilityResponse.Builder getChunkAvailabilityResponseBuilder() {
         
         onChanged();
-        return getSubnetResponseFieldBuilder().getBuilder();
+        return getChunkAvailabilityResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
        */
-      public Torr2.SubnetResponseOrBuilder getSubnetResponseOrBuilder() {
-        if (subnetResponseBuilder_ != null) {
-          return subnetResponseBuilder_.getMessageOrBuilder();
+      public Torr2.ChunkAvailabilityResponseOrBuilder getChunkAvailabilityResponseOrBuilder() {
+        if (chunkAvailabilityResponseBuilder_ != null) {
+          return chunkAvailabilityResponseBuilder_.getMessageOrBuilder();
         } else {
-          return subnetResponse_ == null ?
-              Torr2.SubnetResponse.getDefaultInstance() : subnetResponse_;
+          return chunkAvailabilityResponse_ == null ?
+              Torr2.ChunkAvailabilityResponse.getDefaultInstance() : chunkAvailabilityResponse_;
         }
       }
       /**
-       * <code>.SubnetResponse subnetResponse = 17;</code>
+       * <code>.ChunkAvailabilityResponse chunkAvailabilityResponse = 21;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          Torr2.SubnetResponse, Torr2.SubnetResponse.Builder, Torr2.SubnetResponseOrBuilder> 
-          getSubnetResponseFieldBuilder() {
-        if (subnetResponseBuilder_ == null) {
-          subnetResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              Torr2.SubnetResponse, Torr2.SubnetResponse.Builder, Torr2.SubnetResponseOrBuilder>(
-                  getSubnetResponse(),
+          Torr2.ChunkAvailabilityResponse, Torr2.ChunkAvailabilityResponse.Builder, Torr2.ChunkAvailabilityResponseOrBuilder> 
+          getChunkAvailabilityResponseFieldBuilder() {
+        if (chunkAvailabilityResponseBuilder_ == null) {
+          chunkAvailabilityResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              Torr2.ChunkAvailabilityResponse, Torr2.ChunkAvailabilityResponse.Builder, Torr2.ChunkAvailabilityResponseOrBuilder>(
+                  getChunkAvailabilityResponse(),
                   getParentForChildren(),
                   isClean());
-          subnetResponse_ = null;
+          chunkAvailabilityResponse_ = null;
         }
-        return subnetResponseBuilder_;
+        return chunkAvailabilityResponseBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -21843,6 +25488,26 @@ public final class Torr2 {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_DownloadResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RangeDownloadRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RangeDownloadRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RangeDownloadResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RangeDownloadResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkAvailabilityRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ChunkAvailabilityRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkAvailabilityResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ChunkAvailabilityResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Message_descriptor;
   private static final 
@@ -21896,38 +25561,54 @@ public final class Torr2 {
       "ge\030\002 \001(\t\022\014\n\004data\030\003 \001(\014\"#\n\017DownloadReques" +
       "t\022\020\n\010fileHash\030\001 \001(\014\"O\n\020DownloadResponse\022" +
       "\027\n\006status\030\001 \001(\0162\007.Status\022\024\n\014errorMessage" +
-      "\030\002 \001(\t\022\014\n\004data\030\003 \001(\014\"\323\010\n\007Message\022\033\n\004type" +
-      "\030\001 \001(\0162\r.Message.Type\022/\n\022localSearchRequ" +
-      "est\030\002 \001(\0132\023.LocalSearchRequest\0221\n\023localS" +
-      "earchResponse\030\003 \001(\0132\024.LocalSearchRespons" +
-      "e\022%\n\rsearchRequest\030\004 \001(\0132\016.SearchRequest" +
-      "\022\'\n\016searchResponse\030\005 \001(\0132\017.SearchRespons" +
-      "e\022%\n\ruploadRequest\030\006 \001(\0132\016.UploadRequest" +
-      "\022\'\n\016uploadResponse\030\007 \001(\0132\017.UploadRespons" +
-      "e\022+\n\020replicateRequest\030\010 \001(\0132\021.ReplicateR" +
-      "equest\022-\n\021replicateResponse\030\t \001(\0132\022.Repl" +
-      "icateResponse\022#\n\014chunkRequest\030\n \001(\0132\r.Ch" +
-      "unkRequest\022%\n\rchunkResponse\030\013 \001(\0132\016.Chun" +
-      "kResponse\022)\n\017downloadRequest\030\014 \001(\0132\020.Dow" +
-      "nloadRequest\022+\n\020downloadResponse\030\r \001(\0132\021" +
-      ".DownloadResponse\0221\n\023registrationRequest" +
-      "\030\016 \001(\0132\024.RegistrationRequest\0223\n\024registra" +
-      "tionResponse\030\017 \001(\0132\025.RegistrationRespons" +
-      "e\022%\n\rsubnetRequest\030\020 \001(\0132\016.SubnetRequest" +
-      "\022\'\n\016subnetResponse\030\021 \001(\0132\017.SubnetRespons" +
-      "e\"\356\002\n\004Type\022\030\n\024LOCAL_SEARCH_REQUEST\020\000\022\031\n\025" +
-      "LOCAL_SEARCH_RESPONSE\020\001\022\022\n\016SEARCH_REQUES" +
-      "T\020\002\022\023\n\017SEARCH_RESPONSE\020\003\022\022\n\016UPLOAD_REQUE" +
-      "ST\020\004\022\023\n\017UPLOAD_RESPONSE\020\005\022\025\n\021REPLICATE_R" +
-      "EQUEST\020\006\022\026\n\022REPLICATE_RESPONSE\020\007\022\021\n\rCHUN" +
-      "K_REQUEST\020\010\022\022\n\016CHUNK_RESPONSE\020\t\022\024\n\020DOWNL" +
-      "OAD_REQUEST\020\n\022\025\n\021DOWNLOAD_RESPONSE\020\013\022\030\n\024" +
-      "REGISTRATION_REQUEST\020\014\022\031\n\025REGISTRATION_R" +
-      "ESPONSE\020\r\022\022\n\016SUBNET_REQUEST\020\016\022\023\n\017SUBNET_" +
-      "RESPONSE\020\017*i\n\006Status\022\013\n\007SUCCESS\020\000\022\026\n\022UNA" +
-      "BLE_TO_COMPLETE\020\001\022\021\n\rMESSAGE_ERROR\020\002\022\021\n\r" +
-      "NETWORK_ERROR\020\003\022\024\n\020PROCESSING_ERROR\020\004b\006p" +
-      "roto3"
+      "\030\002 \001(\t\022\014\n\004data\030\003 \001(\014\"H\n\024RangeDownloadReq" +
+      "uest\022\020\n\010fileHash\030\001 \001(\014\022\016\n\006offset\030\002 \001(\004\022\016" +
+      "\n\006length\030\003 \001(\r\"T\n\025RangeDownloadResponse\022" +
+      "\027\n\006status\030\001 \001(\0162\007.Status\022\024\n\014errorMessage" +
+      "\030\002 \001(\t\022\014\n\004data\030\003 \001(\014\",\n\030ChunkAvailabilit" +
+      "yRequest\022\020\n\010fileHash\030\001 \001(\014\"\\\n\031ChunkAvail" +
+      "abilityResponse\022\027\n\006status\030\001 \001(\0162\007.Status" +
+      "\022\024\n\014errorMessage\030\002 \001(\t\022\020\n\010bitfield\030\003 \001(\014" +
+      "\"\265\013\n\007Message\022\033\n\004type\030\001 \001(\0162\r.Message.Typ" +
+      "e\022/\n\022localSearchRequest\030\002 \001(\0132\023.LocalSea" +
+      "rchRequest\0221\n\023localSearchResponse\030\003 \001(\0132" +
+      "\024.LocalSearchResponse\022%\n\rsearchRequest\030\004" +
+      " \001(\0132\016.SearchRequest\022\'\n\016searchResponse\030\005" +
+      " \001(\0132\017.SearchResponse\022%\n\ruploadRequest\030\006" +
+      " \001(\0132\016.UploadRequest\022\'\n\016uploadResponse\030\007" +
+      " \001(\0132\017.UploadResponse\022+\n\020replicateReques" +
+      "t\030\010 \001(\0132\021.ReplicateRequest\022-\n\021replicateR" +
+      "esponse\030\t \001(\0132\022.ReplicateResponse\022#\n\014chu" +
+      "nkRequest\030\n \001(\0132\r.ChunkRequest\022%\n\rchunkR" +
+      "esponse\030\013 \001(\0132\016.ChunkResponse\022)\n\017downloa" +
+      "dRequest\030\014 \001(\0132\020.DownloadRequest\022+\n\020down" +
+      "loadResponse\030\r \001(\0132\021.DownloadResponse\0221\n" +
+      "\023registrationRequest\030\016 \001(\0132\024.Registratio" +
+      "nRequest\0223\n\024registrationResponse\030\017 \001(\0132\025" +
+      ".RegistrationResponse\022%\n\rsubnetRequest\030\020" +
+      " \001(\0132\016.SubnetRequest\022\'\n\016subnetResponse\030\021" +
+      " \001(\0132\017.SubnetResponse\0223\n\024rangeDownloadRe" +
+      "quest\030\022 \001(\0132\025.RangeDownloadRequest\0225\n\025ra" +
+      "ngeDownloadResponse\030\023 \001(\0132\026.RangeDownloa" +
+      "dResponse\022;\n\030chunkAvailabilityRequest\030\024 " +
+      "\001(\0132\031.ChunkAvailabilityRequest\022=\n\031chunkA" +
+      "vailabilityResponse\030\025 \001(\0132\032.ChunkAvailab" +
+      "ilityResponse\"\350\003\n\004Type\022\030\n\024LOCAL_SEARCH_R" +
+      "EQUEST\020\000\022\031\n\025LOCAL_SEARCH_RESPONSE\020\001\022\022\n\016S" +
+      "EARCH_REQUEST\020\002\022\023\n\017SEARCH_RESPONSE\020\003\022\022\n\016" +
+      "UPLOAD_REQUEST\020\004\022\023\n\017UPLOAD_RESPONSE\020\005\022\025\n" +
+      "\021REPLICATE_REQUEST\020\006\022\026\n\022REPLICATE_RESPON" +
+      "SE\020\007\022\021\n\rCHUNK_REQUEST\020\010\022\022\n\016CHUNK_RESPONS" +
+      "E\020\t\022\024\n\020DOWNLOAD_REQUEST\020\n\022\025\n\021DOWNLOAD_RE" +
+      "SPONSE\020\013\022\030\n\024REGISTRATION_REQUEST\020\014\022\031\n\025RE" +
+      "GISTRATION_RESPONSE\020\r\022\022\n\016SUBNET_REQUEST\020" +
+      "\016\022\023\n\017SUBNET_RESPONSE\020\017\022\032\n\026RANGE_DOWNLOAD" +
+      "_REQUEST\020\020\022\033\n\027RANGE_DOWNLOAD_RESPONSE\020\021\022" +
+      "\036\n\032CHUNK_AVAILABILITY_REQUEST\020\022\022\037\n\033CHUNK" +
+      "_AVAILABILITY_RESPONSE\020\023*i\n\006Status\022\013\n\007SU" +
+      "CCESS\020\000\022\026\n\022UNABLE_TO_COMPLETE\020\001\022\021\n\rMESSA" +
+      "GE_ERROR\020\002\022\021\n\rNETWORK_ERROR\020\003\022\024\n\020PROCESS" +
+      "ING_ERROR\020\004b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -22059,12 +25740,36 @@ public final class Torr2 {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DownloadResponse_descriptor,
         new java.lang.String[] { "Status", "ErrorMessage", "Data", });
-    internal_static_Message_descriptor =
+    internal_static_RangeDownloadRequest_descriptor =
       getDescriptor().getMessageTypes().get(21);
+    internal_static_RangeDownloadRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RangeDownloadRequest_descriptor,
+        new java.lang.String[] { "FileHash", "Offset", "Length", });
+    internal_static_RangeDownloadResponse_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_RangeDownloadResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RangeDownloadResponse_descriptor,
+        new java.lang.String[] { "Status", "ErrorMessage", "Data", });
+    internal_static_ChunkAvailabilityRequest_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_ChunkAvailabilityRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ChunkAvailabilityRequest_descriptor,
+        new java.lang.String[] { "FileHash", });
+    internal_static_ChunkAvailabilityResponse_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_ChunkAvailabilityResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ChunkAvailabilityResponse_descriptor,
+        new java.lang.String[] { "Status", "ErrorMessage", "Bitfield", });
+    internal_static_Message_descriptor =
+      getDescriptor().getMessageTypes().get(25);
     internal_static_Message_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Message_descriptor,
-        new java.lang.String[] { "Type", "LocalSearchRequest", "LocalSearchResponse", "SearchRequest", "SearchResponse", "UploadRequest", "UploadResponse", "ReplicateRequest", "ReplicateResponse", "ChunkRequest", "ChunkResponse", "DownloadRequest", "DownloadResponse", "RegistrationRequest", "RegistrationResponse", "SubnetRequest", "SubnetResponse", });
+        new java.lang.String[] { "Type", "LocalSearchRequest", "LocalSearchResponse", "SearchRequest", "SearchResponse", "UploadRequest", "UploadResponse", "ReplicateRequest", "ReplicateResponse", "ChunkRequest", "ChunkResponse", "DownloadRequest", "DownloadResponse", "RegistrationRequest", "RegistrationResponse", "SubnetRequest", "SubnetResponse", "RangeDownloadRequest", "RangeDownloadResponse", "ChunkAvailabilityRequest", "ChunkAvailabilityResponse", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -37,8 +37,11 @@ public class ChunkAbstraction implements Abstraction {
             return chunkResponse.build();
         }
 
-        // check if we have the file
+        // check if we have the file, or at least part of it (if we are replicating it right now)
         File file = torrentSystem.getFileList().get(fileHash);
+        if (file == null) {
+            file = torrentSystem.getPartialFile(fileHash);
+        }
         if (file == null) {
             chunkResponse.setStatus(Torr2.Status.UNABLE_TO_COMPLETE);
             chunkResponse.setErrorMessage("File not found.");
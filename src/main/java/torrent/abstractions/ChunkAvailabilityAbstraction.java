@@ -0,0 +1,66 @@
+package torrent.abstractions;
+
+import com.google.protobuf.ByteString;
+import torrent.Torr2;
+import torrent.system.File;
+import torrent.system.TorrentSystem;
+
+import java.util.BitSet;
+
+public class ChunkAvailabilityAbstraction implements Abstraction {
+    private TorrentSystem torrentSystem;
+
+    public ChunkAvailabilityAbstraction(TorrentSystem torrentSystem) {
+        this.torrentSystem = torrentSystem;
+    }
+
+    @Override
+    public Torr2.Message handle(Torr2.Message requestMessage) {
+        if (Torr2.Message.Type.CHUNK_AVAILABILITY_REQUEST.equals(requestMessage.getType())) {
+            return Torr2.Message.newBuilder()
+                    .setType(Torr2.Message.Type.CHUNK_AVAILABILITY_RESPONSE)
+                    .setChunkAvailabilityResponse(
+                            handleChunkAvailabilityRequest(requestMessage.getChunkAvailabilityRequest()))
+                    .build();
+        }
+        return null;
+    }
+
+    private Torr2.ChunkAvailabilityResponse handleChunkAvailabilityRequest(
+            Torr2.ChunkAvailabilityRequest chunkAvailabilityRequest) {
+        final ByteString fileHash = chunkAvailabilityRequest.getFileHash();
+
+        // do some validations on the input
+        Torr2.ChunkAvailabilityResponse.Builder chunkAvailabilityResponse = Torr2.ChunkAvailabilityResponse.newBuilder();
+        if (!validateFileHash(chunkAvailabilityResponse, fileHash)) {
+            return chunkAvailabilityResponse.build();
+        }
+
+        // check if we have the file, or at least part of it (if we are replicating it right now)
+        File file = torrentSystem.getFileList().get(fileHash);
+        if (file == null) {
+            file = torrentSystem.getPartialFile(fileHash);
+        }
+        BitSet presentChunks = file != null ? file.getContent().getPresentChunks() : new BitSet();
+        if (presentChunks.isEmpty()) {
+            chunkAvailabilityResponse.setStatus(Torr2.Status.UNABLE_TO_COMPLETE);
+            chunkAvailabilityResponse.setErrorMessage("File not found.");
+            return chunkAvailabilityResponse.build();
+        }
+
+        // BitSet.toByteArray uses the same bit order as the bitfield
+        chunkAvailabilityResponse.setStatus(Torr2.Status.SUCCESS);
+        chunkAvailabilityResponse.setBitfield(ByteString.copyFrom(presentChunks.toByteArray()));
+        return chunkAvailabilityResponse.build();
+    }
+
+    private boolean validateFileHash(Torr2.ChunkAvailabilityResponse.Builder chunkAvailabilityResponse,
+                                     ByteString fileHash) {
+        if (fileHash == null || fileHash.size() != 16) {
+            chunkAvailabilityResponse.setStatus(Torr2.Status.MESSAGE_ERROR);
+            chunkAvailabilityResponse.setErrorMessage("The filehash is not 16 bytes long.");
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,428 @@
+package torrent.abstractions;
+
+import torrent.Torr2;
+import torrent.system.CongestionWindow;
+import torrent.system.SparseContent;
+import torrent.system.TorrentSystem;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fetches the missing chunks of a file from the other nodes, storing each one in the partial file as it arrives.
+ * <p>
+ * A few workers take the chunks in the order given by the scheduler and ask the candidate nodes for each chunk, one
+ * after the other, until one of them sends it. Once no chunks are left to start and only a few are still being
+ * fetched (the endgame), the idle workers ask other candidate nodes for those chunks as well. The first valid reply
+ * wins, and the other requests for the same chunk are cancelled. Every request that got an outcome is recorded in the
+ * status collector; the cancelled ones are not, since they say nothing about their node.
+ * <p>
+ * The requests to each node are limited by its congestion window, which the outcome of each request adapts.
+ */
+class ChunkFetcher {
+    private final TorrentSystem torrentSystem;
+    private final ExecutorService workerExecutorService;
+    private final ExecutorService requestExecutorService;
+    private final NodeStatusCollector nodeStatusCollector;
+    private final Torr2.FileInfo fileInfo;
+    private final SparseContent partialContent;
+    private final ChunkScheduler chunkScheduler;
+    private final Queue<Integer> chunkQueue = new ConcurrentLinkedQueue<>();
+    // the chunks being fetched right now, by index (guarded by this)
+    private final Map<Integer, ChunkFetch> chunkFetches = new HashMap<>();
+    // how many chunks are fetched at the same time, at most
+    private final int parallelChunkFetches;
+    // how long a fetcher waits for room in the congestion windows before checking them again (the windows may get
+    // room because of requests sent by other fetchers, which do not wake it up)
+    private final int congestionWaitMillis;
+    // when at most this many chunks are still being fetched, the idle workers ask other nodes for them too
+    private final int endgameThreshold;
+    // how many nodes may be asked for the same chunk at the same time, in the endgame
+    private final int endgameMaxRequests;
+
+    ChunkFetcher(TorrentSystem torrentSystem, ExecutorService workerExecutorService,
+                 ExecutorService requestExecutorService, NodeStatusCollector nodeStatusCollector, Torr2.FileInfo fileInfo,
+                 SparseContent partialContent, ChunkScheduler chunkScheduler) {
+        this.torrentSystem = torrentSystem;
+        this.workerExecutorService = workerExecutorService;
+        this.requestExecutorService = requestExecutorService;
+        this.nodeStatusCollector = nodeStatusCollector;
+        this.fileInfo = fileInfo;
+        this.partialContent = partialContent;
+        this.chunkScheduler = chunkScheduler;
+        parallelChunkFetches = Math.max(1, torrentSystem.getConfig().getParallelChunkFetches());
+        congestionWaitMillis = Math.max(1, torrentSystem.getConfig().getCongestionWaitMillis());
+        endgameThreshold = torrentSystem.getConfig().getEndgameThreshold();
+        endgameMaxRequests = Math.max(1, torrentSystem.getConfig().getEndgameMaxRequests());
+    }
+
+    /**
+     * Fetches the chunks with the given indexes, in this order, and returns when each of them was either stored or
+     * refused by all the candidate nodes.
+     * <p>
+     * The calling thread is one of the workers, so that the chunks are fetched even if the workers pool has no room
+     * for the others. If the calling thread is interrupted, the fetch stops (the chunks already stored are kept) and
+     * the thread is left interrupted.
+     *
+     * @param chunkOrder
+     */
+    void fetchAll(List<Integer> chunkOrder) {
+        chunkQueue.addAll(chunkOrder);
+
+        List<Future<?>> futures = new ArrayList<>();
+        // (there may be more workers than chunks, so that the endgame can start right away for small files)
+        int workerCount = Math.min(parallelChunkFetches, chunkOrder.size() * endgameMaxRequests);
+        try {
+            for (int worker = 1; worker < workerCount; worker++) {
+                futures.add(workerExecutorService.submit(this::work));
+            }
+        } catch (RejectedExecutionException e) {
+            // the workers pool is full (or shut down), so we make do with the workers we have
+        }
+        work();
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                // the replication is cancelled, so are its workers
+                Thread.currentThread().interrupt();
+                for (Future<?> worker : futures) {
+                    worker.cancel(true);
+                }
+                return;
+            } catch (CancellationException e) {
+                // the worker was dropped from the queue when the pools were shut down
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void work() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ChunkFetch chunkFetch = startChunkFetch();
+                if (chunkFetch == null) {
+                    chunkFetch = awaitEndgameChunkFetch();
+                }
+                if (chunkFetch == null) {
+                    return;
+                }
+                fetch(chunkFetch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes the next chunk from the queue and registers its fetch. Returns null if the queue is empty.
+     */
+    private synchronized ChunkFetch startChunkFetch() {
+        Integer index = chunkQueue.poll();
+        if (index == null) {
+            return null;
+        }
+        ChunkFetch chunkFetch = new ChunkFetch(index, chunkScheduler.getCandidates(index));
+        chunkFetches.put(index, chunkFetch);
+        return chunkFetch;
+    }
+
+    /**
+     * Waits until one of the chunks still being fetched can be asked from one more node, in the endgame. Returns
+     * null when all the chunks are done.
+     */
+    private synchronized ChunkFetch awaitEndgameChunkFetch() throws InterruptedException {
+        while (!chunkFetches.isEmpty()) {
+            if (chunkFetches.size() <= endgameThreshold) {
+                ChunkFetch hedgedFetch = null;
+                for (ChunkFetch chunkFetch : chunkFetches.values()) {
+                    boolean canBeHedged = !chunkFetch.stored && chunkFetch.hasNextCandidate()
+                            && chunkFetch.fetchers < endgameMaxRequests;
+                    if (canBeHedged && (hedgedFetch == null || chunkFetch.fetchers < hedgedFetch.fetchers)) {
+                        hedgedFetch = chunkFetch;
+                    }
+                }
+                if (hedgedFetch != null) {
+                    hedgedFetch.fetchers++;
+                    return hedgedFetch;
+                }
+            }
+            wait();
+        }
+        return null;
+    }
+
+    /**
+     * Asks the candidate nodes that were not asked yet for the chunk, one after the other, until the chunk is stored
+     * (by this fetcher or by another one) or there are no candidates left.
+     *
+     * @param chunkFetch
+     */
+    private void fetch(ChunkFetch chunkFetch) {
+        final Torr2.ChunkInfo chunkInfo = fileInfo.getChunks(chunkFetch.index);
+        try {
+            while (true) {
+                // pick the next node to ask, waiting for room in the congestion windows if all of them are busy
+                ChunkRequestAttempt attempt;
+                synchronized (this) {
+                    while ((attempt = reserveCandidate(chunkFetch)) == null) {
+                        if (chunkFetch.stored || !chunkFetch.hasNextCandidate()) {
+                            return;
+                        }
+                        wait(congestionWaitMillis);
+                    }
+                    final ChunkRequestAttempt reservedAttempt = attempt;
+                    attempt.future = new FutureTask<>(() -> sendChunkRequest(chunkInfo, reservedAttempt));
+                    chunkFetch.attempts.add(attempt);
+                }
+
+                // the request is submitted outside the lock, so that the other workers and the replies are not held up
+                try {
+                    requestExecutorService.execute(attempt.future);
+                } catch (RejectedExecutionException e) {
+                    // the requests pool is full: the node is asked again once the pool has room
+                    if (attempt.started.compareAndSet(false, true)) {
+                        attempt.congestionWindow.release();
+                    }
+                    synchronized (this) {
+                        chunkFetch.attempts.remove(attempt);
+                        // a pool that is shut down never gets room again
+                        if (chunkFetch.stored || requestExecutorService.isShutdown()) {
+                            return;
+                        }
+                        chunkFetch.giveBackCandidate(attempt.nodeId);
+                        wait(congestionWaitMillis);
+                    }
+                    continue;
+                }
+
+                Torr2.Message chunkResponseMessage;
+                try {
+                    chunkResponseMessage = attempt.future.get();
+                } catch (CancellationException e) {
+                    // another node sent the chunk first
+                    return;
+                } catch (InterruptedException e) {
+                    // the fetch is cancelled, so is its request
+                    synchronized (this) {
+                        chunkFetch.attempts.remove(attempt);
+                    }
+                    if (attempt.future.cancel(true) && attempt.started.compareAndSet(false, true)) {
+                        attempt.congestionWindow.release();
+                    }
+                    throw e;
+                } catch (ExecutionException e) {
+                    e.printStackTrace();
+                    chunkResponseMessage = null;
+                }
+
+                Torr2.NodeReplicationStatus.Builder nodeReplicationStatus =
+                        toNodeReplicationStatus(chunkInfo, attempt, chunkResponseMessage);
+                nodeStatusCollector.add(nodeReplicationStatus);
+                synchronized (this) {
+                    chunkFetch.attempts.remove(attempt);
+                    // the chunk may have been stored by another fetcher while this reply was being checked
+                    if (chunkFetch.stored) {
+                        return;
+                    }
+                    if (Torr2.Status.SUCCESS.equals(nodeReplicationStatus.getStatus())) {
+                        chunkFetch.stored = true;
+                        cancelAttempts(chunkFetch);
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                chunkFetch.fetchers--;
+                if (chunkFetch.fetchers == 0) {
+                    chunkFetches.remove(chunkFetch.index);
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Takes the next node to ask for the chunk, if its congestion window has room for another request. The candidates
+     * after it are tried as well, as long as they are not worse candidates (see the chunk scheduler). Returns null if
+     * none of them has room, or there are no candidates left.
+     *
+     * @param chunkFetch
+     */
+    private ChunkRequestAttempt reserveCandidate(ChunkFetch chunkFetch) {
+        if (chunkFetch.stored || !chunkFetch.hasNextCandidate()) {
+            return null;
+        }
+
+        List<Torr2.NodeId> candidates = chunkFetch.candidates;
+        boolean holder = chunkScheduler.isHolder(candidates.get(chunkFetch.nextCandidate), chunkFetch.index);
+        for (int index = chunkFetch.nextCandidate; index < candidates.size(); index++) {
+            Torr2.NodeId nodeId = candidates.get(index);
+            if (chunkScheduler.isHolder(nodeId, chunkFetch.index) != holder) {
+                break;
+            }
+            CongestionWindow congestionWindow = torrentSystem.getCongestionWindows().get(nodeId);
+            if (congestionWindow.tryAcquire()) {
+                Collections.swap(candidates, chunkFetch.nextCandidate, index);
+                chunkFetch.nextCandidate++;
+                return new ChunkRequestAttempt(nodeId, congestionWindow);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends the chunk request of the given attempt, updating the congestion window of the node with the outcome.
+     *
+     * @param chunkInfo
+     * @param attempt
+     */
+    private Torr2.Message sendChunkRequest(Torr2.ChunkInfo chunkInfo, ChunkRequestAttempt attempt) {
+        // the request may have been cancelled before it started, in which case the canceller frees its place
+        if (!attempt.started.compareAndSet(false, true)) {
+            return null;
+        }
+
+        Torr2.Message chunkResponseMessage = null;
+        int timeoutMillis = torrentSystem.getConfig().getChunkRequestTimeoutMillis();
+        long startTime = System.currentTimeMillis();
+        try {
+            chunkResponseMessage = torrentSystem.sendChunkRequest(fileInfo, chunkInfo, attempt.nodeId, timeoutMillis);
+            return chunkResponseMessage;
+        } finally {
+            attempt.timedOut = chunkResponseMessage == null
+                    && System.currentTimeMillis() - startTime >= timeoutMillis;
+            if (Thread.currentThread().isInterrupted()) {
+                // the request was cancelled, which says nothing about the node
+                attempt.congestionWindow.release();
+            } else if (chunkResponseMessage == null) {
+                attempt.congestionWindow.releaseOnFailure();
+            } else if (Torr2.Message.Type.CHUNK_RESPONSE.equals(chunkResponseMessage.getType())
+                    && Torr2.Status.SUCCESS.equals(chunkResponseMessage.getChunkResponse().getStatus())) {
+                attempt.congestionWindow.releaseOnSuccess();
+            } else if (Torr2.Message.Type.CHUNK_RESPONSE.equals(chunkResponseMessage.getType())
+                    && Torr2.Status.UNABLE_TO_COMPLETE.equals(chunkResponseMessage.getChunkResponse().getStatus())) {
+                // the node does not have the chunk, which says nothing about its load
+                attempt.congestionWindow.release();
+            } else {
+                // the node is busy (or could not process the request), so it gets fewer requests
+                attempt.congestionWindow.releaseOnFailure();
+            }
+
+            // the fetchers waiting for room in a congestion window may go on
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Cancels the requests still waiting for the given chunk. They are not recorded, since the nodes did not fail.
+     *
+     * @param chunkFetch
+     */
+    private void cancelAttempts(ChunkFetch chunkFetch) {
+        for (ChunkRequestAttempt attempt : chunkFetch.attempts) {
+            // a request cancelled before it was sent says nothing about the node
+            if (attempt.future.cancel(true) && attempt.started.compareAndSet(false, true)) {
+                attempt.congestionWindow.release();
+            }
+        }
+        chunkFetch.attempts.clear();
+    }
+
+    /**
+     * Checks the reply of a node to a chunk request and stores the received chunk in the partial file. Returns the
+     * status of the request.
+     *
+     * @param chunkInfo
+     * @param attempt
+     * @param chunkResponseMessage
+     */
+    private Torr2.NodeReplicationStatus.Builder toNodeReplicationStatus(Torr2.ChunkInfo chunkInfo,
+                                                                       ChunkRequestAttempt attempt,
+                                                                       Torr2.Message chunkResponseMessage) {
+        Torr2.NodeReplicationStatus.Builder nodeReplicationStatus = Torr2.NodeReplicationStatus.newBuilder();
+        nodeReplicationStatus.setChunkIndex(chunkInfo.getIndex());
+        nodeReplicationStatus.setNode(attempt.nodeId);
+
+        // validate it
+        if (chunkResponseMessage == null) {
+            nodeReplicationStatus.setStatus(Torr2.Status.NETWORK_ERROR);
+            nodeReplicationStatus.setErrorMessage(attempt.timedOut
+                    ? "The node did not answer in time."
+                    : "Cannot establish connection with node.");
+            return nodeReplicationStatus;
+        }
+        if (!Torr2.Message.Type.CHUNK_RESPONSE.equals(chunkResponseMessage.getType())) {
+            nodeReplicationStatus.setStatus(Torr2.Status.MESSAGE_ERROR);
+            nodeReplicationStatus.setErrorMessage("The response is not parsable or has the wrong type.");
+            return nodeReplicationStatus;
+        }
+
+        // if the received chunk response is valid, we store the received chunk in the partial file
+        Torr2.ChunkResponse chunkResponse = chunkResponseMessage.getChunkResponse();
+        nodeReplicationStatus.setStatus(chunkResponse.getStatus());
+        nodeReplicationStatus.setErrorMessage(chunkResponse.getErrorMessage());
+        if (Torr2.Status.SUCCESS.equals(chunkResponse.getStatus())
+                && !partialContent.putChunk(chunkInfo.getIndex(), chunkResponse.getData())) {
+            nodeReplicationStatus.setStatus(Torr2.Status.MESSAGE_ERROR);
+            nodeReplicationStatus.setErrorMessage("The chunk data does not match the chunk hash.");
+        }
+        return nodeReplicationStatus;
+    }
+
+    /**
+     * The fetch of one chunk, possibly by several workers at the same time (guarded by the fetcher).
+     */
+    private static class ChunkFetch {
+        private final int index;
+        private final List<Torr2.NodeId> candidates;
+        private final List<ChunkRequestAttempt> attempts = new ArrayList<>();
+        private int nextCandidate;
+        private int fetchers = 1;
+        private boolean stored;
+
+        private ChunkFetch(int index, List<Torr2.NodeId> candidates) {
+            this.index = index;
+            this.candidates = candidates;
+        }
+
+        private boolean hasNextCandidate() {
+            return nextCandidate < candidates.size();
+        }
+
+        /**
+         * Puts the given node, which was taken but could not be asked, back as the next candidate.
+         *
+         * @param nodeId
+         */
+        private void giveBackCandidate(Torr2.NodeId nodeId) {
+            candidates.remove(nodeId);
+            nextCandidate--;
+            candidates.add(nextCandidate, nodeId);
+        }
+    }
+
+    /**
+     * A chunk request sent to one node, which is waited for.
+     */
+    private static class ChunkRequestAttempt {
+        private final Torr2.NodeId nodeId;
+        private final CongestionWindow congestionWindow;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile boolean timedOut;
+        private FutureTask<Torr2.Message> future;
+
+        private ChunkRequestAttempt(Torr2.NodeId nodeId, CongestionWindow congestionWindow) {
+            this.nodeId = nodeId;
+            this.congestionWindow = congestionWindow;
+        }
+    }
+}
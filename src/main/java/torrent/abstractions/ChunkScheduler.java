@@ -0,0 +1,99 @@
+package torrent.abstractions;
+
+import torrent.Torr2;
+
+import java.util.*;
+
+/**
+ * Decides in which order the missing chunks of a file are fetched, and from which nodes.
+ * <p>
+ * The nodes that told us which chunks they have are only asked for those chunks. The nodes whose availability is
+ * unknown (they did not answer the availability request) may be asked for any chunk, but only after the nodes known
+ * to have it. The chunks held by the fewest nodes are fetched first.
+ */
+class ChunkScheduler {
+    private final Map<Torr2.NodeId, BitSet> availableChunks = new LinkedHashMap<>();
+    private final List<Torr2.NodeId> unknownNodes = new ArrayList<>();
+
+    /**
+     * Records the chunks that the given node has.
+     *
+     * @param nodeId
+     * @param chunks
+     */
+    void addAvailability(Torr2.NodeId nodeId, BitSet chunks) {
+        availableChunks.put(nodeId, chunks);
+    }
+
+    /**
+     * Records a node that did not tell which chunks it has.
+     *
+     * @param nodeId
+     */
+    void addUnknownNode(Torr2.NodeId nodeId) {
+        unknownNodes.add(nodeId);
+    }
+
+    /**
+     * Returns the number of nodes known to have the chunk with the given index.
+     *
+     * @param index
+     */
+    int countHolders(int index) {
+        int holders = 0;
+        for (BitSet chunks : availableChunks.values()) {
+            if (chunks.get(index)) {
+                holders++;
+            }
+        }
+        return holders;
+    }
+
+    /**
+     * Returns true if the given node is known to have the chunk with the given index.
+     *
+     * @param nodeId
+     * @param index
+     */
+    boolean isHolder(Torr2.NodeId nodeId, int index) {
+        BitSet chunks = availableChunks.get(nodeId);
+        return chunks != null && chunks.get(index);
+    }
+
+    /**
+     * Returns the indexes of the given chunks, the rarest first (chunks equally rare keep their order).
+     *
+     * @param missingChunks
+     */
+    List<Integer> orderRarestFirst(BitSet missingChunks) {
+        List<Integer> order = new ArrayList<>(missingChunks.cardinality());
+        Map<Integer, Integer> holders = new HashMap<>();
+        for (int index = missingChunks.nextSetBit(0); index >= 0; index = missingChunks.nextSetBit(index + 1)) {
+            order.add(index);
+            holders.put(index, countHolders(index));
+        }
+        order.sort(Comparator.comparing(holders::get));
+        return order;
+    }
+
+    /**
+     * Returns the nodes to ask for the chunk with the given index, in order: the nodes known to have it, then the
+     * nodes with unknown availability (each group shuffled, to spread the load).
+     *
+     * @param index
+     */
+    List<Torr2.NodeId> getCandidates(int index) {
+        List<Torr2.NodeId> holders = new ArrayList<>();
+        for (Map.Entry<Torr2.NodeId, BitSet> entry : availableChunks.entrySet()) {
+            if (entry.getValue().get(index)) {
+                holders.add(entry.getKey());
+            }
+        }
+        Collections.shuffle(holders);
+
+        List<Torr2.NodeId> others = new ArrayList<>(unknownNodes);
+        Collections.shuffle(others);
+        holders.addAll(others);
+        return holders;
+    }
+}
@@ -2,7 +2,6 @@ package torrent.abstractions;
 
 import com.google.protobuf.ByteString;
 import torrent.Torr2;
-import torrent.system.Chunk;
 import torrent.system.File;
 import torrent.system.TorrentSystem;
 
@@ -41,10 +40,12 @@ public class DownloadAbstraction implements Abstraction {
             return downloadResponse.build();
         }
 
-        // concatenate all the chunks' data in a byteString, which we add on the response message
-        ByteString fileContent = ByteString.EMPTY;
-        for (Chunk chunk : file.getChunks()) {
-            fileContent = fileContent.concat(chunk.getData());
+        // the stored content is already a single (balanced) byte string, which we add on the response message
+        ByteString fileContent = file.getData();
+        if (fileContent == null) {
+            downloadResponse.setStatus(Torr2.Status.PROCESSING_ERROR);
+            downloadResponse.setErrorMessage("Could not read the file.");
+            return downloadResponse.build();
         }
         downloadResponse.setData(fileContent);
         downloadResponse.setStatus(Torr2.Status.SUCCESS);
@@ -37,9 +37,8 @@ public class LocalSearchAbstraction implements Abstraction {
 
         // return the file infos for all the files with names that match the given regex
         for (File file : torrentSystem.getFileList().values()) {
-            Torr2.FileInfo fileInfo = file.getFileInfo();
-            if (regexPattern.matcher(fileInfo.getFilename()).matches()) {
-                localSearchResponse.addFileInfo(fileInfo);
+            if (regexPattern.matcher(file.getFileInfoHeader().getFilename()).matches()) {
+                localSearchResponse.addFileInfo(file.getFileInfo());
             }
         }
         localSearchResponse.setStatus(Torr2.Status.SUCCESS);
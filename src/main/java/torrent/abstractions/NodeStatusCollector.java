@@ -0,0 +1,50 @@
+package torrent.abstractions;
+
+import torrent.Torr2;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the statuses of the chunk requests of a replication, from any number of threads without locking.
+ * <p>
+ * The statuses are added to the replicate response only once, when all the requests are done, ordered by chunk index
+ * and then by the order in which they were collected.
+ */
+class NodeStatusCollector {
+    private final Queue<CollectedStatus> statuses = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    void add(Torr2.NodeReplicationStatus.Builder nodeReplicationStatus) {
+        statuses.add(new CollectedStatus(sequence.getAndIncrement(), nodeReplicationStatus.build()));
+    }
+
+    /**
+     * Adds the collected statuses to the given response.
+     *
+     * @param replicateResponse
+     */
+    void addTo(Torr2.ReplicateResponse.Builder replicateResponse) {
+        List<CollectedStatus> sortedStatuses = new ArrayList<>(statuses);
+        sortedStatuses.sort(Comparator
+                .comparingInt((CollectedStatus collectedStatus) -> collectedStatus.status.getChunkIndex())
+                .thenComparingLong(collectedStatus -> collectedStatus.sequence));
+        for (CollectedStatus collectedStatus : sortedStatuses) {
+            replicateResponse.addNodeStatusList(collectedStatus.status);
+        }
+    }
+
+    private static class CollectedStatus {
+        private final long sequence;
+        private final Torr2.NodeReplicationStatus status;
+
+        private CollectedStatus(long sequence, Torr2.NodeReplicationStatus status) {
+            this.sequence = sequence;
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package torrent.abstractions;
+
+import com.google.protobuf.ByteString;
+import torrent.Torr2;
+import torrent.system.File;
+import torrent.system.TorrentSystem;
+
+public class RangeDownloadAbstraction implements Abstraction {
+    private TorrentSystem torrentSystem;
+
+    public RangeDownloadAbstraction(TorrentSystem torrentSystem) {
+        this.torrentSystem = torrentSystem;
+    }
+
+    @Override
+    public Torr2.Message handle(Torr2.Message requestMessage) {
+        if (Torr2.Message.Type.RANGE_DOWNLOAD_REQUEST.equals(requestMessage.getType())) {
+            return Torr2.Message.newBuilder()
+                    .setType(Torr2.Message.Type.RANGE_DOWNLOAD_RESPONSE)
+                    .setRangeDownloadResponse(handleRangeDownloadRequest(requestMessage.getRangeDownloadRequest()))
+                    .build();
+        }
+        return null;
+    }
+
+    private Torr2.RangeDownloadResponse handleRangeDownloadRequest(Torr2.RangeDownloadRequest rangeDownloadRequest) {
+        final ByteString fileHash = rangeDownloadRequest.getFileHash();
+        final long offset = rangeDownloadRequest.getOffset();
+        final long length = Integer.toUnsignedLong(rangeDownloadRequest.getLength());
+
+        // do some validations on the input
+        Torr2.RangeDownloadResponse.Builder rangeDownloadResponse = Torr2.RangeDownloadResponse.newBuilder();
+        if (!validateFileHash(rangeDownloadResponse, fileHash)) {
+            return rangeDownloadResponse.build();
+        }
+
+        // check if we have the file
+        File file = torrentSystem.getFileList().get(fileHash);
+        if (file == null) {
+            rangeDownloadResponse.setStatus(Torr2.Status.UNABLE_TO_COMPLETE);
+            rangeDownloadResponse.setErrorMessage("File not found.");
+            return rangeDownloadResponse.build();
+        }
+
+        // then, check that the range starts within the file (an unsigned offset too big for a long is negative)
+        final long fileSize = file.getContent().getSize();
+        if (offset < 0 || offset > fileSize) {
+            rangeDownloadResponse.setStatus(Torr2.Status.UNABLE_TO_COMPLETE);
+            rangeDownloadResponse.setErrorMessage("The offset is past the end of the file.");
+            return rangeDownloadResponse.build();
+        }
+
+        // take only the stored chunks that overlap the range, stopping at the end of the file
+        // (a single message cannot hold more than 2 GB anyway)
+        int rangeLength = (int) Math.min(Math.min(length, fileSize - offset), Integer.MAX_VALUE);
+        ByteString data = file.getRange(offset, rangeLength);
+        if (data == null) {
+            rangeDownloadResponse.setStatus(Torr2.Status.PROCESSING_ERROR);
+            rangeDownloadResponse.setErrorMessage("Could not read the file.");
+            return rangeDownloadResponse.build();
+        }
+        rangeDownloadResponse.setData(data);
+        rangeDownloadResponse.setStatus(Torr2.Status.SUCCESS);
+
+        return rangeDownloadResponse.build();
+    }
+
+    private boolean validateFileHash(Torr2.RangeDownloadResponse.Builder rangeDownloadResponse, ByteString fileHash) {
+        if (fileHash == null || fileHash.size() != 16) {
+            rangeDownloadResponse.setStatus(Torr2.Status.MESSAGE_ERROR);
+            rangeDownloadResponse.setErrorMessage("The filehash is not 16 bytes long.");
+            return false;
+        }
+        return true;
+    }
+}
@@ -2,16 +2,25 @@ package torrent.abstractions;
 
 import com.google.protobuf.ByteString;
 import torrent.Torr2;
+import torrent.system.ExecutionRuntime;
 import torrent.system.File;
+import torrent.system.SparseContent;
+import torrent.system.StoredContent;
 import torrent.system.TorrentSystem;
 
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ReplicateAbstraction implements Abstraction {
     private TorrentSystem torrentSystem;
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    // the requests to the subnet nodes run on a pool of their own, since the fetch workers wait for them
+    private final ExecutorService workerExecutorService =
+            ExecutionRuntime.getInstance().getPool(ExecutionRuntime.REPLICATION_POOL);
+    private final ExecutorService requestExecutorService =
+            ExecutionRuntime.getInstance().getPool(ExecutionRuntime.CHUNK_REQUESTS_POOL);
+    // the replications in progress, by file hash and subnet
+    private final Map<ReplicationKey, CompletableFuture<Torr2.ReplicateResponse>> runningReplications =
+            new ConcurrentHashMap<>();
 
     public ReplicateAbstraction(TorrentSystem torrentSystem) {
         this.torrentSystem = torrentSystem;
@@ -40,18 +49,68 @@ public class ReplicateAbstraction implements Abstraction {
 
         // if we have the file already, we send it
         if (torrentSystem.getFileList().get(fileInfo.getHash()) != null) {
-            for (Torr2.ChunkInfo chunkInfo : fileInfo.getChunksList()) {
-                replicateResponse.addNodeStatusList(Torr2.NodeReplicationStatus.newBuilder()
-                        .setNode(torrentSystem.getCurrentNode())
-                        .setChunkIndex(chunkInfo.getIndex())
-                        .setStatus(Torr2.Status.SUCCESS)
-                        .build());
+            return buildLocalReplicateResponse(replicateResponse, fileInfo);
+        }
+
+        // if another node of the JVM has the content, we reference it instead of fetching the chunks again
+        StoredContent sharedContent = torrentSystem.acquireContentIfPresent(fileInfo.getHash());
+        if (sharedContent != null) {
+            torrentSystem.addFile(new File(fileInfo, sharedContent));
+            return buildLocalReplicateResponse(replicateResponse, fileInfo);
+        }
+
+        // otherwise, we try to replicate the chunks from the other nodes; if a replication of the same file from the
+        // same subnet is already running, we wait for it and answer with its result instead of fetching the chunks a
+        // second time (the response lists the nodes of the subnet, so it cannot be reused for another subnet)
+        ReplicationKey replicationKey = new ReplicationKey(fileInfo.getHash(), subnetId);
+        CompletableFuture<Torr2.ReplicateResponse> replication = new CompletableFuture<>();
+        CompletableFuture<Torr2.ReplicateResponse> runningReplication =
+                runningReplications.putIfAbsent(replicationKey, replication);
+        if (runningReplication != null) {
+            try {
+                return runningReplication.get(torrentSystem.getConfig().getReplicationWaitMillis(),
+                        TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                replicateResponse.setStatus(Torr2.Status.PROCESSING_ERROR);
+                replicateResponse.setErrorMessage("The replication of the file is still running.");
+                return replicateResponse.build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                replicateResponse.setStatus(Torr2.Status.PROCESSING_ERROR);
+                replicateResponse.setErrorMessage("The replication of the file was interrupted.");
+                return replicateResponse.build();
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+                replicateResponse.setStatus(Torr2.Status.PROCESSING_ERROR);
+                replicateResponse.setErrorMessage("The replication of the file failed.");
+                return replicateResponse.build();
             }
-            replicateResponse.setStatus(Torr2.Status.SUCCESS);
-            return replicateResponse.build();
         }
 
-        // otherwise, we try to replicate the chunks from the other nodes
+        try {
+            // a replication that finished just before we registered ours already stored the file
+            Torr2.ReplicateResponse response = torrentSystem.getFileList().get(fileInfo.getHash()) != null
+                    ? buildLocalReplicateResponse(replicateResponse, fileInfo)
+                    : replicateFile(replicateResponse, fileInfo, subnetId);
+            replication.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            replication.completeExceptionally(e);
+            throw e;
+        } finally {
+            runningReplications.remove(replicationKey, replication);
+        }
+    }
+
+    /**
+     * Fetches the chunks of the given file from the nodes of the subnet and stores the file.
+     *
+     * @param replicateResponse
+     * @param fileInfo
+     * @param subnetId
+     */
+    private Torr2.ReplicateResponse replicateFile(Torr2.ReplicateResponse.Builder replicateResponse,
+                                                  Torr2.FileInfo fileInfo, int subnetId) {
         // first we do a subnet request
         List<Torr2.NodeId> nodeList = torrentSystem.sendSubnetRequest(subnetId);
         if (nodeList == null) {
@@ -60,75 +119,48 @@ public class ReplicateAbstraction implements Abstraction {
             return replicateResponse.build();
         }
 
-        // then we do a chunk request on all of the nodes to get all the chunks in the file
-        ByteString fileData = ByteString.EMPTY;
-        boolean allChunksReplicated = true;
-        Queue<Future<?>> futures = new ConcurrentLinkedQueue<>();
-        Map<Integer, ByteString> indexToRawChunk = new ConcurrentHashMap<>();
-        for (Torr2.ChunkInfo chunkInfo : fileInfo.getChunksList()) {
-            AtomicBoolean currentChunkReplicated = new AtomicBoolean(false);
-
-            futures.add(executorService.submit(() -> {
-                List<Torr2.NodeId> nodesShuffled = shuffle(nodeList);
-
-                for (Torr2.NodeId nodeId : nodesShuffled) {
-                    // skip over the current node
-                    if (nodeId.getPort() == torrentSystem.getCurrentNode().getPort()) {
-                        continue;
-                    }
-
-                    // send a chunk request
-                    Torr2.Message chunkResponseMessage = torrentSystem.sendChunkRequest(fileInfo, chunkInfo, nodeId);
-                    Torr2.NodeReplicationStatus.Builder nodeReplicationStatus = Torr2.NodeReplicationStatus.newBuilder();
-                    nodeReplicationStatus.setChunkIndex(chunkInfo.getIndex());
-                    nodeReplicationStatus.setNode(nodeId);
-
-                    // validate it
-                    if (chunkResponseMessage == null) {
-                        nodeReplicationStatus.setStatus(Torr2.Status.NETWORK_ERROR);
-                        nodeReplicationStatus.setErrorMessage("Cannot establish connection with node.");
-                        replicateResponse.addNodeStatusList(nodeReplicationStatus);
-                        continue;
-                    }
-                    if (!Torr2.Message.Type.CHUNK_RESPONSE.equals(chunkResponseMessage.getType())) {
-                        nodeReplicationStatus.setStatus(Torr2.Status.MESSAGE_ERROR);
-                        nodeReplicationStatus.setErrorMessage("The response is not parsable or has the wrong type.");
-                        replicateResponse.addNodeStatusList(nodeReplicationStatus);
-                        continue;
-                    }
-
-                    // if the received chunk response is valid, we store the received chunk
-                    Torr2.ChunkResponse chunkResponse = chunkResponseMessage.getChunkResponse();
-                    nodeReplicationStatus.setStatus(chunkResponse.getStatus());
-                    nodeReplicationStatus.setErrorMessage(chunkResponse.getErrorMessage());
-
-                    replicateResponse.addNodeStatusList(nodeReplicationStatus);
-                    if (Torr2.Status.SUCCESS.equals(chunkResponse.getStatus())) {
-                        // store the chunks in a concurrent collection and construct fileData from it on SUCCESS
-                        indexToRawChunk.put(chunkInfo.getIndex(), chunkResponse.getData());
-                        currentChunkReplicated.set(true);
-                        break;
-                    }
-                }
-            }));
-
-            for (Future<?> future : futures) {
-                try {
-                    future.get();
-                } catch (InterruptedException | ExecutionException e) {
-                    e.printStackTrace();
-                }
-            }
+        // the chunks we already have from a previous attempt, if it failed partway, are not requested again
+        SparseContent partialContent = torrentSystem.acquirePartialContent(fileInfo);
+        try {
+            return replicateChunks(replicateResponse, fileInfo, nodeList, partialContent);
+        } finally {
+            torrentSystem.releasePartialContent(partialContent);
+        }
+    }
 
-            // if we could not replicate the current chunk, we stop
-            if (!currentChunkReplicated.get()) {
-                allChunksReplicated = false;
-                break;
+    /**
+     * Fetches the missing chunks of the given file into its partial content, and stores the file if it is complete.
+     *
+     * @param replicateResponse
+     * @param fileInfo
+     * @param nodeList
+     * @param partialContent
+     */
+    private Torr2.ReplicateResponse replicateChunks(Torr2.ReplicateResponse.Builder replicateResponse,
+                                                    Torr2.FileInfo fileInfo, List<Torr2.NodeId> nodeList,
+                                                    SparseContent partialContent) {
+        BitSet missingChunks = partialContent.getPresentChunks();
+        missingChunks.flip(0, fileInfo.getChunksCount());
+        NodeStatusCollector nodeStatusCollector = new NodeStatusCollector();
+        for (Torr2.ChunkInfo chunkInfo : fileInfo.getChunksList()) {
+            if (!missingChunks.get(chunkInfo.getIndex())) {
+                nodeStatusCollector.add(Torr2.NodeReplicationStatus.newBuilder()
+                        .setNode(torrentSystem.getCurrentNode())
+                        .setChunkIndex(chunkInfo.getIndex())
+                        .setStatus(Torr2.Status.SUCCESS));
             }
         }
 
-        if (allChunksReplicated) {
-            torrentSystem.getFileList().put(fileInfo.getHash(), new File(fileInfo, torrentSystem.parseFileData(getFileList(fileData, indexToRawChunk))));
+        // then we ask the other nodes which chunks they have, and fetch the rarest chunks first, each from the nodes
+        // that have it; the chunks are fetched in parallel, and each one is stored in the partial file as it arrives
+        ChunkScheduler chunkScheduler = discoverAvailability(fileInfo, nodeList);
+        new ChunkFetcher(torrentSystem, workerExecutorService, requestExecutorService, nodeStatusCollector, fileInfo,
+                partialContent, chunkScheduler)
+                .fetchAll(chunkScheduler.orderRarestFirst(missingChunks));
+        nodeStatusCollector.addTo(replicateResponse);
+
+        // if we could not replicate some chunks, we keep what we have for the next attempt
+        if (partialContent.isComplete() && torrentSystem.completePartialFile(fileInfo.getHash()) != null) {
             replicateResponse.setStatus(Torr2.Status.SUCCESS);
         } else {
             replicateResponse.setStatus(Torr2.Status.UNABLE_TO_COMPLETE);
@@ -138,6 +170,82 @@ public class ReplicateAbstraction implements Abstraction {
         return replicateResponse.build();
     }
 
+    /**
+     * Asks the other nodes of the subnet, in parallel, which chunks of the file they have. The nodes that do not
+     * answer in time, or give an invalid answer, are kept as nodes with unknown availability.
+     *
+     * @param fileInfo
+     * @param nodeList
+     */
+    private ChunkScheduler discoverAvailability(Torr2.FileInfo fileInfo, List<Torr2.NodeId> nodeList) {
+        Map<Torr2.NodeId, Future<Torr2.Message>> futures = new LinkedHashMap<>();
+        for (Torr2.NodeId nodeId : nodeList) {
+            // skip over the current node (only; the nodes of other hosts, or of this JVM, may use the same port)
+            if (nodeId.equals(torrentSystem.getCurrentNode())) {
+                continue;
+            }
+            try {
+                futures.put(nodeId, requestExecutorService.submit(() ->
+                        torrentSystem.sendChunkAvailabilityRequest(fileInfo.getHash(), nodeId,
+                                torrentSystem.getConfig().getAvailabilityTimeoutMillis())));
+            } catch (RejectedExecutionException e) {
+                // the requests pool is full, so the node is kept with an unknown availability
+                futures.put(nodeId, CompletableFuture.completedFuture(null));
+            }
+        }
+
+        ChunkScheduler chunkScheduler = new ChunkScheduler();
+        for (Map.Entry<Torr2.NodeId, Future<Torr2.Message>> entry : futures.entrySet()) {
+            Torr2.Message availabilityResponseMessage = null;
+            try {
+                availabilityResponseMessage = entry.getValue().get();
+            } catch (InterruptedException e) {
+                // the replication is cancelled: the remaining requests are too, and their nodes are left unknown
+                Thread.currentThread().interrupt();
+                entry.getValue().cancel(true);
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+            }
+
+            if (availabilityResponseMessage == null
+                    || !Torr2.Message.Type.CHUNK_AVAILABILITY_RESPONSE.equals(availabilityResponseMessage.getType())) {
+                chunkScheduler.addUnknownNode(entry.getKey());
+                continue;
+            }
+            Torr2.ChunkAvailabilityResponse availabilityResponse =
+                    availabilityResponseMessage.getChunkAvailabilityResponse();
+            if (Torr2.Status.SUCCESS.equals(availabilityResponse.getStatus())) {
+                chunkScheduler.addAvailability(entry.getKey(),
+                        BitSet.valueOf(availabilityResponse.getBitfield().toByteArray()));
+            } else if (Torr2.Status.UNABLE_TO_COMPLETE.equals(availabilityResponse.getStatus())) {
+                chunkScheduler.addAvailability(entry.getKey(), new BitSet());
+            } else {
+                chunkScheduler.addUnknownNode(entry.getKey());
+            }
+        }
+        return chunkScheduler;
+    }
+
+    /**
+     * Builds the response for a file that is already available locally: every chunk is replicated from
+     * the current node.
+     *
+     * @param replicateResponse
+     * @param fileInfo
+     */
+    private Torr2.ReplicateResponse buildLocalReplicateResponse(Torr2.ReplicateResponse.Builder replicateResponse,
+                                                               Torr2.FileInfo fileInfo) {
+        for (Torr2.ChunkInfo chunkInfo : fileInfo.getChunksList()) {
+            replicateResponse.addNodeStatusList(Torr2.NodeReplicationStatus.newBuilder()
+                    .setNode(torrentSystem.getCurrentNode())
+                    .setChunkIndex(chunkInfo.getIndex())
+                    .setStatus(Torr2.Status.SUCCESS)
+                    .build());
+        }
+        replicateResponse.setStatus(Torr2.Status.SUCCESS);
+        return replicateResponse.build();
+    }
+
     private boolean validateFileInfo(Torr2.ReplicateResponse.Builder replicateResponse, Torr2.FileInfo fileInfo) {
         if (fileInfo == null || fileInfo.getFilename() == null || fileInfo.getFilename().isEmpty()) {
             replicateResponse.setStatus(Torr2.Status.MESSAGE_ERROR);
@@ -149,21 +257,37 @@ public class ReplicateAbstraction implements Abstraction {
             replicateResponse.setErrorMessage("The hash file is not 16 bytes long.");
             return false;
         }
+        for (int index = 0; index < fileInfo.getChunksCount(); index++) {
+            if (fileInfo.getChunks(index).getIndex() != index) {
+                replicateResponse.setStatus(Torr2.Status.MESSAGE_ERROR);
+                replicateResponse.setErrorMessage("The chunks are not given in order.");
+                return false;
+            }
+        }
         return true;
     }
 
-    private List<Torr2.NodeId> shuffle(List<Torr2.NodeId> nodeList) {
-        List<Torr2.NodeId> nodesShuffled = new ArrayList<>(nodeList);
-        Collections.shuffle(nodesShuffled);
-        return nodesShuffled;
-    }
+    private static class ReplicationKey {
+        private final ByteString fileHash;
+        private final int subnetId;
 
-    private ByteString getFileList(ByteString fileData, Map<Integer, ByteString> indexToRawChunk) {
-        TreeMap<Integer, ByteString> sortedRawChunks = new TreeMap<>(indexToRawChunk);
-        for (Map.Entry<Integer, ByteString> entry : sortedRawChunks.entrySet()) {
-            fileData = fileData.concat(entry.getValue());
+        private ReplicationKey(ByteString fileHash, int subnetId) {
+            this.fileHash = fileHash;
+            this.subnetId = subnetId;
         }
 
-        return fileData;
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ReplicationKey)) {
+                return false;
+            }
+            ReplicationKey otherKey = (ReplicationKey) other;
+            return fileHash.equals(otherKey.fileHash) && subnetId == otherKey.subnetId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fileHash.hashCode() + subnetId;
+        }
     }
 }
@@ -1,11 +1,13 @@
 package torrent.abstractions;
 
 import torrent.Torr2;
+import torrent.system.ExecutionRuntime;
+import torrent.system.SearchCache;
 import torrent.system.TorrentSystem;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.TreeMap;
 import java.util.concurrent.*;
 import java.util.regex.Pattern;
@@ -13,10 +15,14 @@ import java.util.regex.PatternSyntaxException;
 
 public class SearchAbstraction implements Abstraction {
     private TorrentSystem torrentSystem;
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final ExecutorService executorService =
+            ExecutionRuntime.getInstance().getPool(ExecutionRuntime.SEARCH_POOL);
+    private final SearchCache searchCache;
 
     public SearchAbstraction(TorrentSystem torrentSystem) {
         this.torrentSystem = torrentSystem;
+        this.searchCache = new SearchCache(torrentSystem.getConfig().getSearchCacheFreshnessMillis(),
+                torrentSystem.getConfig().getSearchCacheMaxEntries());
     }
 
     @Override
@@ -42,6 +48,13 @@ public class SearchAbstraction implements Abstraction {
             return searchResponse.build();
         }
 
+        // answer from the cache if the same search was done recently and our files did not change since
+        final long catalogVersion = torrentSystem.getCatalogVersion();
+        Torr2.SearchResponse cachedResponse = searchCache.get(regex, subnetId, catalogVersion);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+
         // determine the list of nodes to interrogate with a subnet request
         List<Torr2.NodeId> nodeList = torrentSystem.sendSubnetRequest(subnetId);
         if (nodeList == null) {
@@ -51,41 +64,35 @@ public class SearchAbstraction implements Abstraction {
         }
 
         Map<String, Torr2.NodeSearchResult.Builder> searchResults = new ConcurrentHashMap<>();
-        Queue<Future<?>> futures = new ConcurrentLinkedQueue<>();
+        Map<Torr2.NodeId, Future<?>> futures = new LinkedHashMap<>();
+        boolean allNodesAnswered = true;
         // search all the nodes
         for (final Torr2.NodeId nodeId : nodeList) {
-            futures.add(executorService.submit(() -> {
-                // send a local search request
-                Torr2.Message localSearchResponse = torrentSystem.sendLocalSearchRequest(nodeId, regex);
-                Torr2.NodeSearchResult.Builder nodeSearchResult = Torr2.NodeSearchResult.newBuilder();
-                nodeSearchResult.setNode(nodeId);
-
-                // if the response message is null, we consider it a network error
-                if (localSearchResponse == null) {
-                    nodeSearchResult.setStatus(Torr2.Status.NETWORK_ERROR);
-                    nodeSearchResult.setErrorMessage("Cannot connect to the node.");
-                    searchResults.put(nodeId.getOwner() + nodeId.getIndex(), nodeSearchResult);
-                    return;
-                }
-
-                // if the response message is the wrong type, we mark it as such
-                if (!Torr2.Message.Type.LOCAL_SEARCH_RESPONSE.equals(localSearchResponse.getType())) {
-                    nodeSearchResult.setStatus(Torr2.Status.MESSAGE_ERROR);
-                    nodeSearchResult.setErrorMessage("The response is not parsable or has the wrong type.");
-                    searchResults.put(nodeId.getOwner() + nodeId.getIndex(), nodeSearchResult);
-                    return;
-                }
-
-                // if there are no issues, we add the found files to the result (and set the same status)
-                nodeSearchResult.addAllFiles(localSearchResponse.getLocalSearchResponse().getFileInfoList());
-                nodeSearchResult.setStatus(localSearchResponse.getLocalSearchResponse().getStatus());
-                searchResults.put(nodeId.getOwner() + nodeId.getIndex(), nodeSearchResult);
-            }));
+            try {
+                futures.put(nodeId, executorService.submit(() -> searchNode(searchResults, nodeId, regex)));
+            } catch (RejectedExecutionException e) {
+                // the search pool is full, so this node is not asked rather than delaying the others
+                allNodesAnswered = false;
+                searchResults.putIfAbsent(toResultKey(nodeId), Torr2.NodeSearchResult.newBuilder()
+                        .setNode(nodeId)
+                        .setStatus(Torr2.Status.PROCESSING_ERROR)
+                        .setErrorMessage("Too many searches in progress to ask the node."));
+            }
         }
 
-        for (Future<?> future : futures) {
+        // wait for the nodes until the deadline; the ones that did not answer by then are cancelled and
+        // reported as network errors (their late replies are ignored, since the result is already there)
+        final long deadline = System.currentTimeMillis() + torrentSystem.getConfig().getSearchDeadlineMillis();
+        for (Map.Entry<Torr2.NodeId, Future<?>> entry : futures.entrySet()) {
             try {
-                future.get();
+                entry.getValue().get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                allNodesAnswered = false;
+                searchResults.putIfAbsent(toResultKey(entry.getKey()), Torr2.NodeSearchResult.newBuilder()
+                        .setNode(entry.getKey())
+                        .setStatus(Torr2.Status.NETWORK_ERROR)
+                        .setErrorMessage("The node did not answer before the search deadline."));
             } catch (InterruptedException | ExecutionException e) {
                 e.printStackTrace();
             }
@@ -96,7 +103,53 @@ public class SearchAbstraction implements Abstraction {
             searchResponse.addResults(entry.getValue());
         }
 
-        return searchResponse.build();
+        // partial responses are not cached, so the next search gets another chance at the slow nodes
+        Torr2.SearchResponse response = searchResponse.build();
+        if (allNodesAnswered) {
+            searchCache.put(regex, subnetId, catalogVersion, response);
+        }
+        return response;
+    }
+
+    /**
+     * Sends a local search request to the given node, and adds its result to the search results.
+     *
+     * @param searchResults
+     * @param nodeId
+     * @param regex
+     */
+    private void searchNode(Map<String, Torr2.NodeSearchResult.Builder> searchResults, Torr2.NodeId nodeId,
+                            String regex) {
+        // send a local search request
+        Torr2.Message localSearchResponse =
+                torrentSystem.sendLocalSearchRequest(nodeId, regex, torrentSystem.getConfig().getSearchDeadlineMillis());
+        Torr2.NodeSearchResult.Builder nodeSearchResult = Torr2.NodeSearchResult.newBuilder();
+        nodeSearchResult.setNode(nodeId);
+
+        // if the response message is null, we consider it a network error
+        if (localSearchResponse == null) {
+            nodeSearchResult.setStatus(Torr2.Status.NETWORK_ERROR);
+            nodeSearchResult.setErrorMessage("Cannot connect to the node.");
+            searchResults.putIfAbsent(toResultKey(nodeId), nodeSearchResult);
+            return;
+        }
+
+        // if the response message is the wrong type, we mark it as such
+        if (!Torr2.Message.Type.LOCAL_SEARCH_RESPONSE.equals(localSearchResponse.getType())) {
+            nodeSearchResult.setStatus(Torr2.Status.MESSAGE_ERROR);
+            nodeSearchResult.setErrorMessage("The response is not parsable or has the wrong type.");
+            searchResults.putIfAbsent(toResultKey(nodeId), nodeSearchResult);
+            return;
+        }
+
+        // if there are no issues, we add the found files to the result (and set the same status)
+        nodeSearchResult.addAllFiles(localSearchResponse.getLocalSearchResponse().getFileInfoList());
+        nodeSearchResult.setStatus(localSearchResponse.getLocalSearchResponse().getStatus());
+        searchResults.putIfAbsent(toResultKey(nodeId), nodeSearchResult);
+    }
+
+    private String toResultKey(Torr2.NodeId nodeId) {
+        return nodeId.getOwner() + nodeId.getIndex();
     }
 
     private Pattern compileRegex(Torr2.SearchResponse.Builder searchResponse, String regex) {
@@ -2,13 +2,10 @@ package torrent.abstractions;
 
 import com.google.protobuf.ByteString;
 import torrent.Torr2;
-import torrent.system.Chunk;
 import torrent.system.File;
+import torrent.system.StoredContent;
 import torrent.system.TorrentSystem;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 public class UploadAbstraction implements Abstraction {
     private TorrentSystem torrentSystem;
 
@@ -37,20 +34,21 @@ public class UploadAbstraction implements Abstraction {
             return uploadResponse.build();
         }
 
-        // parse the file data if we do not have the file yet, and store it
-        ByteString fileHash = torrentSystem.hashBytes(fileData);
-        File file = torrentSystem.getFileList().get(fileHash);
+        // parse the file data if we do not have the file yet, and store it; the file is an original, so it is pinned
+        // even if we already held it (or another request just stored it) as a replica, which could be evicted
+        ByteString fileHash = TorrentSystem.hashBytes(fileData);
+        File file = torrentSystem.pinFile(fileHash);
         if (file == null) {
-            List<Chunk> chunkList = torrentSystem.parseFileData(fileData);
-            List<Torr2.ChunkInfo> chunkInfoList = chunkList.stream().map(Chunk::getChunkInfo).collect(Collectors.toList());
-            file = new File(Torr2.FileInfo.newBuilder()
+            // the data is only parsed if no other node of the JVM holds the same content
+            StoredContent content = torrentSystem.acquireContent(fileHash, () -> fileData);
+            file = torrentSystem.addFile(new File(Torr2.FileInfo.newBuilder()
                     .setHash(fileHash)
                     .setSize(fileData.size())
                     .setFilename(filename)
-                    .addAllChunks(chunkInfoList)
+                    .addAllChunks(content.getChunkInfos())
                     .build(),
-                    chunkList);
-            torrentSystem.getFileList().put(fileHash, file);
+                    content,
+                    true));
         }
         uploadResponse.setFileInfo(file.getFileInfo());
         uploadResponse.setStatus(Torr2.Status.SUCCESS);
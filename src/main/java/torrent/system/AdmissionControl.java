@@ -0,0 +1,170 @@
+package torrent.system;
+
+import torrent.Torr2;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of requests of each type that a node processes at the same time.
+ * <p>
+ * A request that finds all the places of its type taken waits for one, in a bounded queue and for a bounded time.
+ * If the queue is full or the time runs out, the request is rejected, and the node answers right away that it is
+ * busy; so the requests that are accepted are served without unbounded queueing delays.
+ */
+public class AdmissionControl {
+    private static final String BUSY_MESSAGE = "The node is busy, try again later.";
+
+    private final Map<Torr2.Message.Type, Limit> limits = new EnumMap<>(Torr2.Message.Type.class);
+    // how long an admitted request may wait for a place, before it is rejected
+    private final long queueTimeoutMillis;
+
+    /**
+     * Creates the limits given by the node settings (see {@link NodeConfig#getAdmissionMaxRunning}).
+     *
+     * @param config
+     */
+    public AdmissionControl(NodeConfig config) {
+        for (Torr2.Message.Type type : config.getAdmissionLimitedTypes()) {
+            limits.put(type, new Limit(config.getAdmissionMaxRunning(type), config.getAdmissionMaxWaiting(type)));
+        }
+        queueTimeoutMillis = config.getAdmissionQueueTimeoutMillis();
+    }
+
+    /**
+     * Takes a place for a request of the given type, waiting for one if needed. Returns false if the request is
+     * rejected. An admitted request must give its place back with {@link #release(Torr2.Message.Type)}.
+     *
+     * @param type
+     */
+    public boolean admit(Torr2.Message.Type type) {
+        Limit limit = limits.get(type);
+        if (limit == null || limit.running.tryAcquire()) {
+            return true;
+        }
+
+        // all the places are taken, so we wait in the queue (if it is not full)
+        try {
+            if (limit.waiting.incrementAndGet() <= limit.maxWaiting
+                    && limit.running.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            limit.waiting.decrementAndGet();
+        }
+        limit.rejected.incrementAndGet();
+        return false;
+    }
+
+    public void release(Torr2.Message.Type type) {
+        Limit limit = limits.get(type);
+        if (limit != null) {
+            limit.running.release();
+        }
+    }
+
+    /**
+     * Returns the number of rejected requests of the given type.
+     *
+     * @param type
+     */
+    public long getRejectedCount(Torr2.Message.Type type) {
+        Limit limit = limits.get(type);
+        return limit != null ? limit.rejected.get() : 0;
+    }
+
+    /**
+     * Returns the number of rejected requests, by type.
+     */
+    public Map<Torr2.Message.Type, Long> getRejectedCounts() {
+        Map<Torr2.Message.Type, Long> rejectedCounts = new EnumMap<>(Torr2.Message.Type.class);
+        for (Map.Entry<Torr2.Message.Type, Limit> entry : limits.entrySet()) {
+            rejectedCounts.put(entry.getKey(), entry.getValue().rejected.get());
+        }
+        return Collections.unmodifiableMap(rejectedCounts);
+    }
+
+    /**
+     * Builds the response telling that the node is too busy to handle the given request, or returns null if the
+     * request type has no response.
+     *
+     * @param requestMessage
+     */
+    public static Torr2.Message buildBusyResponse(Torr2.Message requestMessage) {
+        Torr2.Message.Builder responseMessage = Torr2.Message.newBuilder();
+        switch (requestMessage.getType()) {
+            case LOCAL_SEARCH_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.LOCAL_SEARCH_RESPONSE)
+                        .setLocalSearchResponse(Torr2.LocalSearchResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            case SEARCH_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.SEARCH_RESPONSE)
+                        .setSearchResponse(Torr2.SearchResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            case UPLOAD_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.UPLOAD_RESPONSE)
+                        .setUploadResponse(Torr2.UploadResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            case REPLICATE_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.REPLICATE_RESPONSE)
+                        .setReplicateResponse(Torr2.ReplicateResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            case CHUNK_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.CHUNK_RESPONSE)
+                        .setChunkResponse(Torr2.ChunkResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            case DOWNLOAD_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.DOWNLOAD_RESPONSE)
+                        .setDownloadResponse(Torr2.DownloadResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            case RANGE_DOWNLOAD_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.RANGE_DOWNLOAD_RESPONSE)
+                        .setRangeDownloadResponse(Torr2.RangeDownloadResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            case CHUNK_AVAILABILITY_REQUEST:
+                return responseMessage.setType(Torr2.Message.Type.CHUNK_AVAILABILITY_RESPONSE)
+                        .setChunkAvailabilityResponse(Torr2.ChunkAvailabilityResponse.newBuilder()
+                                .setStatus(Torr2.Status.PROCESSING_ERROR)
+                                .setErrorMessage(BUSY_MESSAGE))
+                        .build();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The places of one request type.
+     */
+    private static class Limit {
+        private final Semaphore running;
+        private final int maxWaiting;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private Limit(int maxRunning, int maxWaiting) {
+            this.running = new Semaphore(maxRunning);
+            this.maxWaiting = maxWaiting;
+        }
+    }
+}
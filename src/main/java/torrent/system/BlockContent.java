@@ -0,0 +1,239 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import torrent.Torr2;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Content kept in large blocks, meant for big files: the protocol chunks are only views over the blocks, built when
+ * they are requested, and the chunk hashes are packed in a single byte array. This way, a file takes a few objects
+ * per megabyte, instead of a few objects per kilobyte.
+ * <p>
+ * The chunks are encoded one by one with the storage codec, and the encoded chunks of a block are packed in a single
+ * byte array (with the offset of each of them), so that reading a chunk only decodes that chunk.
+ */
+public class BlockContent extends StoredContent {
+    // the size of a block, which must be a multiple of the chunk size (so that no chunk spans two blocks)
+    static final int BLOCK_SIZE = 1024 * TorrentSystem.CHUNK_SIZE;
+    private static final int CHUNKS_PER_BLOCK = BLOCK_SIZE / TorrentSystem.CHUNK_SIZE;
+    private static final int HASH_SIZE = 16;
+
+    private final StorageCodec codec;
+    private final int chunkCount;
+    // the MD5 hashes of all the chunks, one after the other
+    private final byte[] chunkHashes;
+    // the blocks of the content, or null while the content is cold
+    private volatile Block[] blocks;
+
+    BlockContent(ContentStore contentStore, ByteString fileHash, ByteString data, StorageCodec codec) {
+        super(contentStore, fileHash, data.size());
+        this.codec = codec;
+        this.chunkCount = (int) ((data.size() + (long) TorrentSystem.CHUNK_SIZE - 1) / TorrentSystem.CHUNK_SIZE);
+        this.chunkHashes = new byte[chunkCount * HASH_SIZE];
+        hashChunks(data);
+        load(data);
+    }
+
+    @Override
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    @Override
+    public Torr2.ChunkInfo getChunkInfo(int index) {
+        return Torr2.ChunkInfo.newBuilder()
+                .setIndex(index)
+                .setSize(getChunkSize(index))
+                .setHash(ByteString.copyFrom(chunkHashes, index * HASH_SIZE, HASH_SIZE))
+                .build();
+    }
+
+    @Override
+    public boolean hasCompactChunkInfos() {
+        return true;
+    }
+
+    @Override
+    ByteString readChunk(int index) {
+        Block[] currentBlocks = blocks;
+        if (currentBlocks == null) {
+            return null;
+        }
+        return readChunk(currentBlocks[index / CHUNKS_PER_BLOCK], index % CHUNKS_PER_BLOCK, getChunkSize(index));
+    }
+
+    @Override
+    ByteString readData() {
+        Block[] currentBlocks = blocks;
+        if (currentBlocks == null) {
+            return null;
+        }
+
+        List<ByteString> pieces = new ArrayList<>(currentBlocks.length);
+        for (int blockIndex = 0; blockIndex < currentBlocks.length; blockIndex++) {
+            pieces.add(decodeBlock(currentBlocks, blockIndex));
+        }
+        return ByteString.copyFrom(pieces);
+    }
+
+    @Override
+    void load(ByteString data) {
+        int blockCount = (int) ((data.size() + (long) BLOCK_SIZE - 1) / BLOCK_SIZE);
+        Block[] newBlocks = new Block[blockCount];
+        boolean anyBlockEncoded = false;
+        for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+            int start = blockIndex * BLOCK_SIZE;
+            newBlocks[blockIndex] = encodeBlock(data.substring(start, Math.min(start + BLOCK_SIZE, data.size())));
+            anyBlockEncoded |= newBlocks[blockIndex].chunkOffsets != null;
+        }
+
+        // the raw blocks are slices of the given data; if the other blocks are encoded, the raw ones are copied
+        // so that they don't keep the whole data in memory
+        if (anyBlockEncoded) {
+            for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+                Block block = newBlocks[blockIndex];
+                if (block.chunkOffsets == null) {
+                    newBlocks[blockIndex] = new Block(ByteString.copyFrom(block.data.asReadOnlyByteBuffer()), block.size,
+                            null);
+                }
+            }
+        }
+        blocks = newBlocks;
+
+        // when no block is encoded, the whole content is just the blocks one after the other
+        if (!anyBlockEncoded) {
+            List<ByteString> pieces = new ArrayList<>(blockCount);
+            for (Block block : newBlocks) {
+                pieces.add(block.data);
+            }
+            dataView = ByteString.copyFrom(pieces);
+        }
+    }
+
+    @Override
+    void unload() {
+        blocks = null;
+        dataView = null;
+    }
+
+    private int getChunkSize(int index) {
+        return (int) Math.min(TorrentSystem.CHUNK_SIZE, getSize() - (long) index * TorrentSystem.CHUNK_SIZE);
+    }
+
+    /**
+     * Encodes the chunks of the given block data one by one, and packs them together. Returns the block as it is if
+     * no chunk gets smaller when encoded.
+     *
+     * @param blockData
+     */
+    private Block encodeBlock(ByteString blockData) {
+        int blockChunkCount = (blockData.size() + TorrentSystem.CHUNK_SIZE - 1) / TorrentSystem.CHUNK_SIZE;
+        List<ByteString> storedChunks = new ArrayList<>(blockChunkCount);
+        int[] chunkOffsets = new int[blockChunkCount + 1];
+        boolean anyChunkEncoded = false;
+        for (int chunkInBlock = 0; chunkInBlock < blockChunkCount; chunkInBlock++) {
+            int start = chunkInBlock * TorrentSystem.CHUNK_SIZE;
+            ByteString chunkData = blockData.substring(start, Math.min(start + TorrentSystem.CHUNK_SIZE, blockData.size()));
+            ByteString encodedData = codec.encode(chunkData);
+            // a chunk is only kept encoded if it gets smaller, so that its stored size tells whether it is encoded
+            if (encodedData != null && encodedData.size() >= chunkData.size()) {
+                encodedData = null;
+            }
+            storedChunks.add(encodedData != null ? encodedData : chunkData);
+            chunkOffsets[chunkInBlock + 1] = chunkOffsets[chunkInBlock] + storedChunks.get(chunkInBlock).size();
+            anyChunkEncoded |= encodedData != null;
+        }
+        if (!anyChunkEncoded) {
+            return new Block(blockData, blockData.size(), null);
+        }
+
+        byte[] packedChunks = new byte[chunkOffsets[blockChunkCount]];
+        for (int chunkInBlock = 0; chunkInBlock < blockChunkCount; chunkInBlock++) {
+            storedChunks.get(chunkInBlock).copyTo(packedChunks, chunkOffsets[chunkInBlock]);
+        }
+        // the array is not used anywhere else, so it can be wrapped without a copy
+        return new Block(UnsafeByteOperations.unsafeWrap(packedChunks), blockData.size(), chunkOffsets);
+    }
+
+    /**
+     * Returns the (decoded) data of a chunk of the given block.
+     *
+     * @param block
+     * @param chunkInBlock the index of the chunk within the block
+     * @param chunkSize
+     */
+    private ByteString readChunk(Block block, int chunkInBlock, int chunkSize) {
+        if (block.chunkOffsets == null) {
+            int start = chunkInBlock * TorrentSystem.CHUNK_SIZE;
+            return block.data.substring(start, start + chunkSize);
+        }
+        ByteString storedData = block.data.substring(block.chunkOffsets[chunkInBlock],
+                block.chunkOffsets[chunkInBlock + 1]);
+        return storedData.size() == chunkSize ? storedData : codec.decode(storedData, chunkSize);
+    }
+
+    /**
+     * Returns the whole (decoded) data of the given block.
+     *
+     * @param currentBlocks
+     * @param blockIndex
+     */
+    private ByteString decodeBlock(Block[] currentBlocks, int blockIndex) {
+        Block block = currentBlocks[blockIndex];
+        if (block.chunkOffsets == null) {
+            return block.data;
+        }
+
+        byte[] blockData = new byte[block.size];
+        int firstChunk = blockIndex * CHUNKS_PER_BLOCK;
+        for (int chunkInBlock = 0; chunkInBlock < block.chunkOffsets.length - 1; chunkInBlock++) {
+            readChunk(block, chunkInBlock, getChunkSize(firstChunk + chunkInBlock))
+                    .copyTo(blockData, chunkInBlock * TorrentSystem.CHUNK_SIZE);
+        }
+        // the array is not used anywhere else, so it can be wrapped without a copy
+        return UnsafeByteOperations.unsafeWrap(blockData);
+    }
+
+    private void hashChunks(ByteString data) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+            for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex += CHUNKS_PER_BLOCK) {
+                // hash the chunks block by block, so that we only look at (at most) a block of contiguous memory
+                int start = chunkIndex * TorrentSystem.CHUNK_SIZE;
+                ByteBuffer buffer = data.substring(start, Math.min(start + BLOCK_SIZE, data.size())).asReadOnlyByteBuffer();
+                for (int index = chunkIndex; buffer.hasRemaining(); index++) {
+                    ByteBuffer chunkBuffer = buffer.slice();
+                    chunkBuffer.limit(Math.min(TorrentSystem.CHUNK_SIZE, buffer.remaining()));
+                    messageDigest.update(chunkBuffer);
+                    messageDigest.digest(chunkHashes, index * HASH_SIZE, HASH_SIZE);
+                    buffer.position(buffer.position() + chunkBuffer.limit());
+                }
+            }
+        } catch (NoSuchAlgorithmException | DigestException e) {
+            throw new IllegalStateException("Cannot hash the chunks.", e);
+        }
+    }
+
+    private static class Block {
+        // the chunks of the block, as they are or encoded and packed
+        private final ByteString data;
+        // the size of the decoded block
+        private final int size;
+        // where each encoded chunk starts in the data (followed by the end of the last one), or null if the chunks
+        // are not encoded
+        private final int[] chunkOffsets;
+
+        private Block(ByteString data, int size, int[] chunkOffsets) {
+            this.data = data;
+            this.size = size;
+            this.chunkOffsets = chunkOffsets;
+        }
+    }
+}
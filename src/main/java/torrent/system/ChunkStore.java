@@ -0,0 +1,246 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deduplicating store of chunk data, keyed by the MD5 hash of the chunk (as found in the chunk info).
+ * <p>
+ * Identical chunks of different files are kept in memory only once. Every chunk is reference counted by the
+ * contents using it, and it is freed when the last of them is released.
+ * <p>
+ * The chunks are stored encoded with the given storage codec (e.g. compressed). The most recently read chunks are
+ * also kept decoded in a small cache, so that frequently requested chunks are not decoded every time. Every chunk read
+ * of the JVM goes through that cache, so it is split in stripes by chunk hash, each with its own lock and its own
+ * least recently used order.
+ */
+public class ChunkStore {
+    // how many decoded chunks are cached, by default
+    public static final int DEFAULT_DECODED_CACHE_CHUNKS = 1024;
+    private static final int DECODED_CACHE_STRIPES = 16;
+
+    private final Map<ByteString, Entry> chunks = new ConcurrentHashMap<>();
+    private volatile StorageCodec codec;
+    private volatile int decodedCacheChunks = DEFAULT_DECODED_CACHE_CHUNKS;
+    private final DecodedCacheStripe[] decodedCache = new DecodedCacheStripe[DECODED_CACHE_STRIPES];
+    // the bytes of all the chunk references, of the distinct chunks, and the bytes actually stored (encoded)
+    private final AtomicLong logicalBytes = new AtomicLong();
+    private final AtomicLong uniqueBytes = new AtomicLong();
+    private final AtomicLong physicalBytes = new AtomicLong();
+
+    public ChunkStore(StorageCodec codec) {
+        this.codec = codec;
+        for (int stripe = 0; stripe < DECODED_CACHE_STRIPES; stripe++) {
+            decodedCache[stripe] = new DecodedCacheStripe(DEFAULT_DECODED_CACHE_CHUNKS / DECODED_CACHE_STRIPES);
+        }
+    }
+
+    /**
+     * Changes the codec of the chunks. Since the stored chunks were encoded with the previous codec, it can only be
+     * changed while the store is empty.
+     *
+     * @param codec
+     * @throws IllegalStateException if some chunks are stored
+     */
+    public synchronized void setCodec(StorageCodec codec) {
+        if (!chunks.isEmpty()) {
+            throw new IllegalStateException("The storage codec cannot change once chunks are stored.");
+        }
+        this.codec = codec;
+    }
+
+    public StorageCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Changes the number of decoded chunks kept in the cache (0 disables it), dropping the least recently read ones if
+     * the cache holds more.
+     *
+     * @param decodedCacheChunks
+     */
+    public void setDecodedCacheChunks(int decodedCacheChunks) {
+        this.decodedCacheChunks = decodedCacheChunks;
+        for (DecodedCacheStripe stripe : decodedCache) {
+            synchronized (stripe) {
+                stripe.setCapacity(decodedCacheChunks / DECODED_CACHE_STRIPES);
+            }
+        }
+    }
+
+    public int getDecodedCacheChunks() {
+        return decodedCacheChunks;
+    }
+
+    /**
+     * Stores the data of the chunk with the given hash, if the chunk is new. Every call must be paired with
+     * a {@link #release(ByteString)}.
+     *
+     * @param chunkHash
+     * @param data
+     */
+    public void intern(ByteString chunkHash, ByteString data) {
+        chunks.compute(chunkHash, (hash, entry) -> {
+            if (entry == null) {
+                entry = createEntry(data);
+                uniqueBytes.addAndGet(entry.size);
+                physicalBytes.addAndGet(entry.data.size());
+            }
+            entry.referenceCount++;
+            logicalBytes.addAndGet(entry.size);
+            return entry;
+        });
+    }
+
+    /**
+     * Returns the (decoded) data of the chunk with the given hash, or null if the chunk is not stored.
+     *
+     * @param chunkHash
+     */
+    public ByteString get(ByteString chunkHash) {
+        Entry entry = chunks.get(chunkHash);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.encoded) {
+            return entry.data;
+        }
+
+        DecodedCacheStripe stripe = getDecodedCacheStripe(chunkHash);
+        synchronized (stripe) {
+            ByteString data = stripe.get(chunkHash);
+            if (data != null) {
+                return data;
+            }
+        }
+        ByteString data = codec.decode(entry.data, entry.size);
+        synchronized (stripe) {
+            stripe.put(chunkHash, data);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data of the chunk with the given hash if it is stored as it is, or null if it is encoded (or not
+     * stored at all).
+     *
+     * @param chunkHash
+     */
+    public ByteString getUnencoded(ByteString chunkHash) {
+        Entry entry = chunks.get(chunkHash);
+        return entry == null || entry.encoded ? null : entry.data;
+    }
+
+    public void release(ByteString chunkHash) {
+        Entry removed = chunks.computeIfPresent(chunkHash, (hash, entry) -> {
+            logicalBytes.addAndGet(-entry.size);
+            if (--entry.referenceCount > 0) {
+                return entry;
+            }
+            uniqueBytes.addAndGet(-entry.size);
+            physicalBytes.addAndGet(-entry.data.size());
+            return null;
+        });
+        if (removed == null) {
+            DecodedCacheStripe stripe = getDecodedCacheStripe(chunkHash);
+            synchronized (stripe) {
+                stripe.remove(chunkHash);
+            }
+        }
+    }
+
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Returns the number of bytes the stored chunks would take without deduplication and encoding.
+     */
+    public long getLogicalBytes() {
+        return logicalBytes.get();
+    }
+
+    /**
+     * Returns the number of bytes actually stored (deduplicated and encoded).
+     */
+    public long getPhysicalBytes() {
+        return physicalBytes.get();
+    }
+
+    /**
+     * Returns the ratio between the logical size of the store and the size of its distinct chunks
+     * (1 when nothing is deduplicated).
+     */
+    public double getDeduplicationRatio() {
+        long unique = uniqueBytes.get();
+        return unique == 0 ? 1 : (double) logicalBytes.get() / unique;
+    }
+
+    /**
+     * Returns the ratio between the size of the distinct chunks and their encoded size (1 when nothing is compressed).
+     */
+    public double getCompressionRatio() {
+        long physical = physicalBytes.get();
+        return physical == 0 ? 1 : (double) uniqueBytes.get() / physical;
+    }
+
+    private DecodedCacheStripe getDecodedCacheStripe(ByteString chunkHash) {
+        return decodedCache[(chunkHash.hashCode() & Integer.MAX_VALUE) % DECODED_CACHE_STRIPES];
+    }
+
+    private Entry createEntry(ByteString data) {
+        ByteString encodedData = codec.encode(data);
+        if (encodedData != null) {
+            return new Entry(encodedData, data.size(), true);
+        }
+        // copy the data, since it may be a slice that keeps a whole file (or message) in memory
+        return new Entry(ByteString.copyFrom(data.asReadOnlyByteBuffer()), data.size(), false);
+    }
+
+    private static class Entry {
+        private final ByteString data;
+        private final int size;
+        private final boolean encoded;
+        private int referenceCount;
+
+        private Entry(ByteString data, int size, boolean encoded) {
+            this.data = data;
+            this.size = size;
+            this.encoded = encoded;
+        }
+    }
+
+    /**
+     * A part of the decoded cache, which drops its least recently read chunk once it holds too many (guarded by
+     * itself).
+     */
+    private static class DecodedCacheStripe extends LinkedHashMap<ByteString, ByteString> {
+        private static final long serialVersionUID = 1L;
+
+        private int capacity;
+
+        private DecodedCacheStripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        private void setCapacity(int capacity) {
+            this.capacity = capacity;
+            Iterator<ByteString> iterator = keySet().iterator();
+            while (size() > capacity && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteString, ByteString> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import torrent.Torr2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Content whose chunks are kept one by one in the deduplicating {@link ChunkStore}.
+ */
+public class ChunkedContent extends StoredContent {
+    private final List<Torr2.ChunkInfo> chunkInfos;
+
+    ChunkedContent(ContentStore contentStore, ByteString fileHash, ByteString data) {
+        super(contentStore, fileHash, data.size());
+        List<Chunk> chunks = TorrentSystem.parseFileData(data);
+        this.chunkInfos = Collections.unmodifiableList(
+                chunks.stream().map(Chunk::getChunkInfo).collect(Collectors.toList()));
+        for (Chunk chunk : chunks) {
+            contentStore.getChunkStore().intern(chunk.getChunkInfo().getHash(), chunk.getData());
+        }
+        dataView = buildDataView();
+    }
+
+    @Override
+    public int getChunkCount() {
+        return chunkInfos.size();
+    }
+
+    @Override
+    public Torr2.ChunkInfo getChunkInfo(int index) {
+        return chunkInfos.get(index);
+    }
+
+    @Override
+    public List<Torr2.ChunkInfo> getChunkInfos() {
+        return chunkInfos;
+    }
+
+    @Override
+    ByteString readChunk(int index) {
+        return contentStore.getChunkStore().get(chunkInfos.get(index).getHash());
+    }
+
+    @Override
+    ByteString readData() {
+        List<ByteString> pieces = new ArrayList<>(chunkInfos.size());
+        for (int index = 0; index < chunkInfos.size(); index++) {
+            ByteString data = readChunk(index);
+            if (data == null) {
+                return null;
+            }
+            pieces.add(data);
+        }
+        return ByteString.copyFrom(pieces);
+    }
+
+    @Override
+    void load(ByteString data) {
+        int offset = 0;
+        for (Torr2.ChunkInfo chunkInfo : chunkInfos) {
+            contentStore.getChunkStore().intern(chunkInfo.getHash(), data.substring(offset, offset + chunkInfo.getSize()));
+            offset += chunkInfo.getSize();
+        }
+        dataView = buildDataView();
+    }
+
+    @Override
+    void unload() {
+        dataView = null;
+        for (Torr2.ChunkInfo chunkInfo : chunkInfos) {
+            contentStore.getChunkStore().release(chunkInfo.getHash());
+        }
+    }
+
+    /**
+     * Returns the whole content as a balanced rope over the stored chunks, or null if some chunks are stored encoded
+     * (the view would then hold a decoded copy of them).
+     */
+    private ByteString buildDataView() {
+        List<ByteString> pieces = new ArrayList<>(chunkInfos.size());
+        for (Torr2.ChunkInfo chunkInfo : chunkInfos) {
+            ByteString data = contentStore.getChunkStore().getUnencoded(chunkInfo.getHash());
+            if (data == null) {
+                return null;
+            }
+            pieces.add(data);
+        }
+        return ByteString.copyFrom(pieces);
+    }
+}
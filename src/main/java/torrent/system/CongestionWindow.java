@@ -0,0 +1,91 @@
+package torrent.system;
+
+/**
+ * The number of chunk requests that may be sent to one node at the same time, adapted to how the node answers
+ * (additive increase, multiplicative decrease).
+ * <p>
+ * Each reply received in time grows the window by 1 / size, so the window grows by about one request for each
+ * window of replies. Each timeout, network error or busy reply halves it, while a node that answers it does not have
+ * the chunk leaves it as it is. A fast node ends up with many requests in flight, while a slow or overloaded one gets
+ * few.
+ */
+public class CongestionWindow {
+    private final double minSize;
+    private final double maxSize;
+    private double size;
+    private int inFlight;
+    private long successCount;
+    private long failureCount;
+
+    /**
+     * @param initialSize the number of requests allowed at first
+     * @param minSize     the size the window never shrinks below (at least 1, so that the node can recover)
+     * @param maxSize     the size the window never grows beyond
+     */
+    public CongestionWindow(int initialSize, int minSize, int maxSize) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.size = Math.min(this.maxSize, Math.max(this.minSize, initialSize));
+    }
+
+    /**
+     * Returns true if another request may be sent to the node right now.
+     */
+    public synchronized boolean hasRoom() {
+        return inFlight < (int) size;
+    }
+
+    /**
+     * Counts another request as in flight, if the window has room for it. Returns false otherwise.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!hasRoom()) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Counts a request as no longer in flight, without changing the window (the outcome of the request says nothing
+     * about the node, e.g. it was cancelled).
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    /**
+     * Counts a request as no longer in flight, after the node answered it in time.
+     */
+    public synchronized void releaseOnSuccess() {
+        successCount++;
+        size = Math.min(maxSize, size + 1 / size);
+        release();
+    }
+
+    /**
+     * Counts a request as no longer in flight, after it timed out, failed with a network error, or the node answered
+     * that it is busy.
+     */
+    public synchronized void releaseOnFailure() {
+        failureCount++;
+        size = Math.max(minSize, size / 2);
+        release();
+    }
+
+    public synchronized double getSize() {
+        return size;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getSuccessCount() {
+        return successCount;
+    }
+
+    public synchronized long getFailureCount() {
+        return failureCount;
+    }
+}
@@ -0,0 +1,41 @@
+package torrent.system;
+
+import torrent.Torr2;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The congestion windows of the nodes a node sends chunk requests to, keyed by their address.
+ */
+public class CongestionWindows {
+    private final Map<String, CongestionWindow> windows = new ConcurrentHashMap<>();
+    private final NodeConfig config;
+
+    public CongestionWindows(NodeConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the window of the given node, creating it if needed.
+     *
+     * @param nodeId
+     */
+    public CongestionWindow get(Torr2.NodeId nodeId) {
+        return windows.computeIfAbsent(toKey(nodeId), key -> new CongestionWindow(
+                config.getCongestionWindowInitialSize(), config.getCongestionWindowMinSize(),
+                config.getCongestionWindowMaxSize()));
+    }
+
+    /**
+     * Returns the windows of all the nodes that were sent chunk requests, keyed by "host:port".
+     */
+    public Map<String, CongestionWindow> getAll() {
+        return Collections.unmodifiableMap(windows);
+    }
+
+    private static String toKey(Torr2.NodeId nodeId) {
+        return nodeId.getHost() + ":" + nodeId.getPort();
+    }
+}
@@ -0,0 +1,429 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+
+/**
+ * JVM-wide store of file contents, addressed by the MD5 hash of the file.
+ * <p>
+ * All the nodes running in the JVM share it: when several of them hold the same file, the chunks are kept in memory
+ * only once, and every node just references them from its own file list. The content is reference counted and
+ * dropped when the last node holding it releases it.
+ * <p>
+ * Small files are kept chunk by chunk in a {@link ChunkStore}, so identical chunks of different files are also stored
+ * once. Big files are kept in large blocks instead ({@link BlockContent}), which takes far fewer objects, at the cost of
+ * deduplication. Both are encoded with the storage codec.
+ * <p>
+ * The store has two tiers: the hot contents are kept in memory, while the cold ones are kept on disk. When the hot
+ * contents exceed the memory tier size, the least recently accessed ones are demoted to disk; a cold content is
+ * promoted back to memory when its chunks are read.
+ * <p>
+ * The whole data of an encoded content, once decoded, is kept as well, so that downloading the file again does not
+ * decode it again. The decoded copies count against the memory tier too, and are dropped before their content would
+ * be demoted.
+ */
+public class ContentStore {
+    // the size of the contents that may be kept in memory before demoting some of them to disk
+    public static final long DEFAULT_HOT_TIER_BYTES = 512L * 1024 * 1024;
+    // files of at least this size are kept in blocks, instead of chunk by chunk
+    private static final long BLOCK_STORAGE_THRESHOLD_BYTES = BlockContent.BLOCK_SIZE;
+
+    private static final ContentStore instance = new ContentStore();
+
+    private final Map<ByteString, StoredContent> contents = new ConcurrentHashMap<>();
+    // the encoding of the chunks kept in memory (the IdentityCodec stores them as they are)
+    private volatile StorageCodec storageCodec = new DeflateCodec(Deflater.BEST_SPEED);
+    private final ChunkStore chunkStore = new ChunkStore(storageCodec);
+    private final AtomicLong hotBytes = new AtomicLong();
+    private final Object tierLock = new Object();
+    private volatile long hotTierBytes = DEFAULT_HOT_TIER_BYTES;
+    // a temporary directory, unless one is configured
+    private Path diskTierDirectory;
+    private boolean temporaryDiskTierDirectory;
+
+    private ContentStore() {
+    }
+
+    public static ContentStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the stored content of the file with the given hash, creating it from the file data given by the loader
+     * if there is no such content yet. Every call must be paired with a {@link #release(StoredContent)}.
+     * <p>
+     * The loader runs outside of any lock, so it may be called even if another node stores the same content at
+     * the same time; in that case the new content is dropped again.
+     *
+     * @param fileHash
+     * @param dataLoader
+     */
+    public StoredContent acquire(ByteString fileHash, Supplier<ByteString> dataLoader) {
+        StoredContent content = acquireIfPresent(fileHash);
+        if (content != null) {
+            return content;
+        }
+
+        StoredContent newContent = createContent(fileHash, dataLoader.get());
+        StoredContent storedContent = contents.compute(fileHash, (hash, existingContent) -> {
+            if (existingContent == null) {
+                existingContent = newContent;
+                hotBytes.addAndGet(newContent.getSize());
+            }
+            existingContent.referenceCount++;
+            return existingContent;
+        });
+
+        // another node stored the same content in the meantime
+        if (storedContent != newContent) {
+            newContent.unload();
+        } else {
+            enforceHotTierSize(newContent);
+        }
+        return storedContent;
+    }
+
+    /**
+     * Returns the stored content of the file with the given hash, or null if no node holds it. A non-null result
+     * must be paired with a {@link #release(StoredContent)}.
+     *
+     * @param fileHash
+     */
+    public StoredContent acquireIfPresent(ByteString fileHash) {
+        return contents.computeIfPresent(fileHash, (hash, storedContent) -> {
+            storedContent.referenceCount++;
+            return storedContent;
+        });
+    }
+
+    public void release(StoredContent content) {
+        StoredContent remainingContent = contents.computeIfPresent(content.getFileHash(),
+                (hash, storedContent) -> storedContent != content || --storedContent.referenceCount > 0
+                        ? storedContent
+                        : null);
+        // the content is freed outside the map, since it may have to delete its copy on disk
+        if (remainingContent == null) {
+            discard(content);
+        }
+    }
+
+    /**
+     * Changes the size of the contents that may be kept in memory, demoting contents to disk if they exceed it.
+     *
+     * @param hotTierBytes
+     */
+    public void setHotTierBytes(long hotTierBytes) {
+        this.hotTierBytes = hotTierBytes;
+        enforceHotTierSize(null);
+    }
+
+    public long getHotTierBytes() {
+        return hotTierBytes;
+    }
+
+    /**
+     * Changes the encoding of the chunks kept in memory. Since the stored contents were encoded with the previous
+     * codec, it can only be changed while the store is empty, i.e. before the nodes are created.
+     *
+     * @param storageCodec
+     * @throws IllegalStateException if some contents are stored
+     */
+    public synchronized void setStorageCodec(StorageCodec storageCodec) {
+        if (!contents.isEmpty()) {
+            throw new IllegalStateException("The storage codec cannot change once contents are stored.");
+        }
+        chunkStore.setCodec(storageCodec);
+        this.storageCodec = storageCodec;
+    }
+
+    public StorageCodec getStorageCodec() {
+        return storageCodec;
+    }
+
+    /**
+     * Sets the directory where the cold contents are written. The contents already demoted stay where they are.
+     *
+     * @param diskTierDirectory
+     */
+    public synchronized void setDiskTierDirectory(Path diskTierDirectory) throws IOException {
+        this.diskTierDirectory = Files.createDirectories(diskTierDirectory);
+        temporaryDiskTierDirectory = false;
+    }
+
+    /**
+     * Deletes the contents written to disk, and the disk tier directory if it is a temporary one. Meant for when the
+     * JVM stops: the cold contents cannot be read anymore afterwards.
+     */
+    public void deleteDiskTier() {
+        for (StoredContent content : contents.values()) {
+            synchronized (content) {
+                if (content.diskPath != null) {
+                    try {
+                        Files.deleteIfExists(content.diskPath);
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                    content.diskPath = null;
+                }
+            }
+        }
+
+        synchronized (this) {
+            if (temporaryDiskTierDirectory) {
+                try {
+                    Files.deleteIfExists(diskTierDirectory);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                diskTierDirectory = null;
+                temporaryDiskTierDirectory = false;
+            }
+        }
+    }
+
+    public ChunkStore getChunkStore() {
+        return chunkStore;
+    }
+
+    public int getContentCount() {
+        return contents.size();
+    }
+
+    /**
+     * Returns the size of the stored contents (each content counted once, however many nodes hold it). Chunks
+     * shared by several contents are counted for each of them; see the chunk store for the bytes actually stored.
+     */
+    public long getStoredBytes() {
+        return contents.values().stream().mapToLong(StoredContent::getSize).sum();
+    }
+
+    /**
+     * Returns the size of the contents kept in memory, with their decoded data views.
+     */
+    public long getHotBytes() {
+        return hotBytes.get();
+    }
+
+    /**
+     * Returns the size of the contents kept only on disk.
+     */
+    public long getColdBytes() {
+        return contents.values().stream().filter(content -> !content.isHot()).mapToLong(StoredContent::getSize).sum();
+    }
+
+    /**
+     * Reads a cold content back from disk into memory. Returns false if it could not be read.
+     *
+     * @param content
+     */
+    boolean promote(StoredContent content) {
+        synchronized (content) {
+            if (content.isHot()) {
+                return true;
+            }
+            // the content was discarded (it is only read by someone still holding an evicted file)
+            if (content.diskPath == null) {
+                return false;
+            }
+
+            try {
+                // the array is not used anywhere else, so it can be wrapped without a copy
+                content.load(UnsafeByteOperations.unsafeWrap(Files.readAllBytes(content.diskPath)));
+            } catch (IOException e) {
+                e.printStackTrace();
+                return false;
+            }
+            content.setHot(true);
+            hotBytes.addAndGet(content.getSize());
+        }
+
+        enforceHotTierSize(content);
+        return true;
+    }
+
+    /**
+     * Keeps the given decoded data of a hot content as its data view, counting it against the memory tier. Only the
+     * contents of the store are cached (not, e.g., the partial contents of the replications), since the others are
+     * never released.
+     *
+     * @param content
+     * @param data
+     */
+    void cacheDataView(StoredContent content, ByteString data) {
+        if (contents.get(content.getFileHash()) != content) {
+            return;
+        }
+        synchronized (content) {
+            if (!content.isHot() || content.dataView != null) {
+                return;
+            }
+            content.dataView = data;
+            content.viewBytes = content.getSize();
+            hotBytes.addAndGet(content.viewBytes);
+        }
+
+        enforceHotTierSize(content);
+    }
+
+    /**
+     * Frees the decoded data view of the given content, if it has one. Returns false if it has none.
+     *
+     * @param content
+     */
+    private boolean dropDataView(StoredContent content) {
+        synchronized (content) {
+            if (content.viewBytes == 0) {
+                return false;
+            }
+            content.dataView = null;
+            hotBytes.addAndGet(-content.viewBytes);
+            content.viewBytes = 0;
+            return true;
+        }
+    }
+
+    /**
+     * Moves the chunks of the given content to disk, freeing their memory.
+     *
+     * @param content
+     */
+    private void demote(StoredContent content) {
+        synchronized (content) {
+            if (!content.isHot()) {
+                return;
+            }
+
+            // the content never changes, so it only has to be written the first time it is demoted
+            try {
+                if (content.diskPath == null) {
+                    content.diskPath = writeContent(content);
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+            dropDataView(content);
+            content.setHot(false);
+            hotBytes.addAndGet(-content.getSize());
+            content.unload();
+        }
+    }
+
+    /**
+     * Frees memory, starting with the least recently accessed contents, until the hot ones fit in the memory tier:
+     * a content with a decoded data view first loses the view, then it is demoted.
+     * <p>
+     * The contents to demote are picked under the tier lock, but written to disk outside of it, so that a demotion
+     * does not hold up the other threads of the JVM that free memory (they pick other contents meanwhile).
+     *
+     * @param keptContent a content that must stay in memory (since it is being accessed), or null; it may still lose
+     *                    its decoded data view if nothing else is left to free
+     */
+    private void enforceHotTierSize(StoredContent keptContent) {
+        while (true) {
+            StoredContent demotedContent;
+            synchronized (tierLock) {
+                if (hotBytes.get() <= hotTierBytes) {
+                    return;
+                }
+                StoredContent leastRecentlyUsed = null;
+                for (StoredContent content : contents.values()) {
+                    if (content != keptContent && content.isHot() && !content.demoting
+                            && (leastRecentlyUsed == null
+                            || content.getLastAccessTime() < leastRecentlyUsed.getLastAccessTime())) {
+                        leastRecentlyUsed = content;
+                    }
+                }
+                if (leastRecentlyUsed == null) {
+                    if (keptContent != null) {
+                        dropDataView(keptContent);
+                    }
+                    return;
+                }
+                if (dropDataView(leastRecentlyUsed)) {
+                    continue;
+                }
+                leastRecentlyUsed.demoting = true;
+                demotedContent = leastRecentlyUsed;
+            }
+
+            try {
+                demote(demotedContent);
+            } finally {
+                synchronized (tierLock) {
+                    demotedContent.demoting = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Frees everything held for a content that is no longer referenced.
+     *
+     * @param content
+     */
+    private void discard(StoredContent content) {
+        synchronized (content) {
+            dropDataView(content);
+            if (content.isHot()) {
+                content.setHot(false);
+                hotBytes.addAndGet(-content.getSize());
+                content.unload();
+            }
+            if (content.diskPath != null) {
+                try {
+                    Files.deleteIfExists(content.diskPath);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                content.diskPath = null;
+            }
+        }
+    }
+
+    private StoredContent createContent(ByteString fileHash, ByteString data) {
+        if (data.size() >= BLOCK_STORAGE_THRESHOLD_BYTES) {
+            return new BlockContent(this, fileHash, data, storageCodec);
+        }
+        return new ChunkedContent(this, fileHash, data);
+    }
+
+    private Path writeContent(StoredContent content) throws IOException {
+        // each content gets a file of its own, since a released content may still be deleting its file while
+        // another content with the same hash is demoted
+        Path path = Files.createTempFile(getDiskTierDirectory(), toHex(content.getFileHash()) + "-", ".chunks");
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            content.writeTo(outputStream);
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        return path;
+    }
+
+    private synchronized Path getDiskTierDirectory() throws IOException {
+        if (diskTierDirectory == null) {
+            diskTierDirectory = Files.createTempDirectory("torrent-cold");
+            temporaryDiskTierDirectory = true;
+        }
+        return diskTierDirectory;
+    }
+
+    static String toHex(ByteString bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
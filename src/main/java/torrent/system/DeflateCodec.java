@@ -0,0 +1,61 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codec that compresses the data with the JDK's Deflate implementation.
+ * <p>
+ * The zlib streams hold native memory and are costly to set up, so every thread reuses its own deflater and inflater
+ * (reset after each chunk) instead of creating them for every chunk.
+ */
+public class DeflateCodec implements StorageCodec {
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+
+    public DeflateCodec(int level) {
+        deflaters = ThreadLocal.withInitial(() -> new Deflater(level));
+    }
+
+    @Override
+    public ByteString encode(ByteString data) {
+        Deflater deflater = deflaters.get();
+        try {
+            deflater.setInput(data.toByteArray());
+            deflater.finish();
+
+            // only keep the compressed data if it is actually smaller
+            byte[] buffer = new byte[data.size()];
+            int length = deflater.deflate(buffer);
+            if (!deflater.finished() || length >= data.size()) {
+                return null;
+            }
+            return ByteString.copyFrom(buffer, 0, length);
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    @Override
+    public ByteString decode(ByteString encodedData, int size) {
+        Inflater inflater = inflaters.get();
+        try {
+            inflater.setInput(encodedData.toByteArray());
+            byte[] buffer = new byte[size];
+            int length = inflater.inflate(buffer);
+            if (length != size || !inflater.finished()) {
+                throw new IllegalStateException("Corrupt compressed chunk.");
+            }
+            // the buffer is not used anywhere else, so it can be wrapped without a copy
+            return UnsafeByteOperations.unsafeWrap(buffer);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed chunk.", e);
+        } finally {
+            inflater.reset();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package torrent.system;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The thread pools of the JVM, shared by all its nodes, so that the number of threads stays within a budget for the
+ * whole process however many nodes run in it.
+ * <p>
+ * Each pool has a name, a number of threads and a bounded queue. When the threads are busy and the queue is full,
+ * the connections pool runs a task on the thread that submits it (the acceptor of a node), which slows the accepting
+ * of connections down instead of queueing without bound. The other pools refuse the task instead, with a
+ * {@link RejectedExecutionException}: a full request bulkhead makes the node answer that it is busy, and running a
+ * blocking request on the submitting thread would serialize a fan-out, or stall the threads waiting on the submitter.
+ * Once the pools are shut down, those pools refuse the new tasks the same way.
+ */
+public class ExecutionRuntime {
+    // the connections accepted by the nodes
+    public static final String CONNECTIONS_POOL = "connections";
+    // the requests, by kind of work (see the request scheduler); their queues are ordered by priority
+    public static final String INTERACTIVE_REQUESTS_POOL = "requests-interactive";
+    public static final String TRANSFER_REQUESTS_POOL = "requests-transfer";
+    public static final String BULK_REQUESTS_POOL = "requests-bulk";
+    // the requests a search sends to the subnet nodes
+    public static final String SEARCH_POOL = "search";
+    // the workers that fetch the chunks of the files being replicated
+    public static final String REPLICATION_POOL = "replication";
+    // the requests a replication sends to the subnet nodes (chunk and availability requests)
+    public static final String CHUNK_REQUESTS_POOL = "chunk-requests";
+    // the delayed and periodic tasks of the nodes (e.g. the registration to the hub)
+    public static final String TIMERS_POOL = "timers";
+
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final ExecutionRuntime instance = new ExecutionRuntime();
+
+    private final Map<String, ThreadPoolExecutor> pools = new LinkedHashMap<>();
+
+    private ExecutionRuntime() {
+        addPool(CONNECTIONS_POOL, 128, new BoundedLinkedBlockingQueue<>(256),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        addPool(INTERACTIVE_REQUESTS_POOL, 16, new BoundedPriorityBlockingQueue<>(512),
+                new ThreadPoolExecutor.AbortPolicy());
+        addPool(TRANSFER_REQUESTS_POOL, 8, new BoundedPriorityBlockingQueue<>(128),
+                new ThreadPoolExecutor.AbortPolicy());
+        addPool(BULK_REQUESTS_POOL, 8, new BoundedPriorityBlockingQueue<>(128),
+                new ThreadPoolExecutor.AbortPolicy());
+        addPool(SEARCH_POOL, 32, new BoundedLinkedBlockingQueue<>(256), new ThreadPoolExecutor.AbortPolicy());
+        addPool(REPLICATION_POOL, 32, new BoundedLinkedBlockingQueue<>(256), new ThreadPoolExecutor.AbortPolicy());
+        addPool(CHUNK_REQUESTS_POOL, 64, new BoundedLinkedBlockingQueue<>(512), new ThreadPoolExecutor.AbortPolicy());
+
+        // the delayed tasks wait in an unbounded queue, since they are few (a handful for each node)
+        ScheduledThreadPoolExecutor timers = new ScheduledThreadPoolExecutor(4, newThreadFactory(TIMERS_POOL));
+        timers.setRemoveOnCancelPolicy(true);
+        timers.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        pools.put(TIMERS_POOL, timers);
+    }
+
+    public static ExecutionRuntime getInstance() {
+        return instance;
+    }
+
+    private void addPool(String name, int threadCount, BlockingQueue<Runnable> queue,
+                         RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threadCount, threadCount,
+                THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, newThreadFactory(name), rejectedExecutionHandler);
+        pool.allowCoreThreadTimeOut(true);
+        pools.put(name, pool);
+    }
+
+    /**
+     * Returns the pool with the given name.
+     *
+     * @param name
+     */
+    public ExecutorService getPool(String name) {
+        ThreadPoolExecutor pool = pools.get(name);
+        if (pool == null) {
+            throw new IllegalArgumentException("Unknown pool: " + name);
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the pool that runs the delayed and periodic tasks.
+     */
+    public ScheduledExecutorService getTimers() {
+        return (ScheduledExecutorService) getPool(TIMERS_POOL);
+    }
+
+    /**
+     * Changes the number of threads of the pool with the given name.
+     *
+     * @param name
+     * @param threadCount
+     */
+    public void setThreadCount(String name, int threadCount) {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) getPool(name);
+        synchronized (pool) {
+            if (threadCount > pool.getMaximumPoolSize()) {
+                pool.setMaximumPoolSize(threadCount);
+                pool.setCorePoolSize(threadCount);
+            } else {
+                pool.setCorePoolSize(threadCount);
+                pool.setMaximumPoolSize(threadCount);
+            }
+        }
+    }
+
+    /**
+     * Changes the number of tasks that may wait in the queue of the pool with the given name. The tasks already waiting
+     * stay in the queue, even if there are more of them.
+     *
+     * @param name
+     * @param queueCapacity
+     * @throws IllegalArgumentException if the pool has no bounded queue (the timers)
+     */
+    public void setQueueCapacity(String name, int queueCapacity) {
+        BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) getPool(name)).getQueue();
+        if (!(queue instanceof BoundedQueue)) {
+            throw new IllegalArgumentException("The pool " + name + " has no bounded queue.");
+        }
+        ((BoundedQueue) queue).setCapacity(queueCapacity);
+    }
+
+    /**
+     * Returns the number of tasks that may wait in the queue of the pool with the given name.
+     *
+     * @param name
+     */
+    public int getQueueCapacity(String name) {
+        BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) getPool(name)).getQueue();
+        return queue instanceof BoundedQueue ? ((BoundedQueue) queue).getCapacity() : Integer.MAX_VALUE;
+    }
+
+    public Map<String, ExecutorService> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * Returns the number of tasks waiting in the queue of the pool with the given name.
+     *
+     * @param name
+     */
+    public int getQueueDepth(String name) {
+        return ((ThreadPoolExecutor) getPool(name)).getQueue().size();
+    }
+
+    /**
+     * Returns the number of threads running a task in the pool with the given name.
+     *
+     * @param name
+     */
+    public int getActiveCount(String name) {
+        return ((ThreadPoolExecutor) getPool(name)).getActiveCount();
+    }
+
+    /**
+     * Returns the number of threads the pools may use together.
+     */
+    public int getThreadBudget() {
+        int threadBudget = 0;
+        for (ThreadPoolExecutor pool : pools.values()) {
+            threadBudget += pool.getMaximumPoolSize();
+        }
+        return threadBudget;
+    }
+
+    /**
+     * Shuts the pools down: the tasks already submitted are given at most the given time to finish, then the pools
+     * interrupt the ones still running, and cancel the ones still waiting in their queues (so that no one waits for
+     * them forever). Returns false if some tasks were still running at the deadline.
+     *
+     * @param timeoutMillis
+     */
+    public boolean shutdown(long timeoutMillis) {
+        for (ThreadPoolExecutor pool : pools.values()) {
+            pool.shutdown();
+        }
+
+        boolean terminated = true;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (ThreadPoolExecutor pool : pools.values()) {
+                terminated &= pool.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            terminated = false;
+        }
+        if (!terminated) {
+            for (ThreadPoolExecutor pool : pools.values()) {
+                for (Runnable task : pool.shutdownNow()) {
+                    if (task instanceof Future) {
+                        ((Future<?>) task).cancel(false);
+                    }
+                }
+            }
+        }
+        return terminated;
+    }
+
+    private static ThreadFactory newThreadFactory(String name) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+    }
+
+    /**
+     * A queue of tasks whose capacity may change while the pool runs.
+     */
+    private interface BoundedQueue {
+        void setCapacity(int capacity);
+
+        int getCapacity();
+    }
+
+    /**
+     * A priority queue that refuses new elements once it holds the given number of them (give or take the elements
+     * offered at the same time), so that a pool using it rejects the extra tasks.
+     */
+    private static class BoundedPriorityBlockingQueue<E> extends PriorityBlockingQueue<E> implements BoundedQueue {
+        private static final long serialVersionUID = 1L;
+
+        private volatile int capacity;
+
+        private BoundedPriorityBlockingQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean offer(E element) {
+            return size() < capacity && super.offer(element);
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Math.max(0, capacity - size());
+        }
+
+        @Override
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public int getCapacity() {
+            return capacity;
+        }
+    }
+
+    /**
+     * A first in, first out queue that refuses new elements once it holds the given number of them (give or take the
+     * elements offered at the same time). Unlike an ArrayBlockingQueue, its capacity may change.
+     */
+    private static class BoundedLinkedBlockingQueue<E> extends LinkedBlockingQueue<E> implements BoundedQueue {
+        private static final long serialVersionUID = 1L;
+
+        private volatile int capacity;
+
+        private BoundedLinkedBlockingQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean offer(E element) {
+            return size() < capacity && super.offer(element);
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Math.max(0, capacity - size());
+        }
+
+        @Override
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public int getCapacity() {
+            return capacity;
+        }
+    }
+}
@@ -1,32 +1,106 @@
 package torrent.system;
 
+import com.google.protobuf.ByteString;
 import torrent.Torr2;
 
+import java.lang.ref.SoftReference;
 import java.util.List;
 
 public class File {
     private Torr2.FileInfo fileInfo;
-    private List<Chunk> chunks;
+    private StoredContent content;
+    // pinned files (uploaded by the hub) are never evicted
+    private volatile boolean pinned;
+    private volatile long lastAccessTime = System.nanoTime();
+    // for contents that build their chunk infos on demand, the complete file info is only cached softly
+    private volatile SoftReference<Torr2.FileInfo> completeFileInfo;
 
-    public File(Torr2.FileInfo fileInfo, List<Chunk> chunks) {
-        this.fileInfo = fileInfo;
-        this.chunks = chunks;
+    public File(Torr2.FileInfo fileInfo, StoredContent content) {
+        this(fileInfo, content, false);
     }
 
-    public Chunk getChunk(int index) {
-        for (Chunk chunk : chunks) {
-            if (chunk.getChunkInfo().getIndex() == index) {
-                return chunk;
-            }
+    public File(Torr2.FileInfo fileInfo, StoredContent content, boolean pinned) {
+        this.content = content;
+        this.pinned = pinned;
+
+        // keep only the header of the file info, if the content can rebuild the chunk infos
+        if (content.hasCompactChunkInfos()) {
+            this.fileInfo = fileInfo.toBuilder().clearChunks().build();
+            this.completeFileInfo = new SoftReference<>(fileInfo);
+        } else {
+            this.fileInfo = fileInfo;
         }
-        return null;
+    }
+
+    public Chunk getChunk(int index) {
+        lastAccessTime = System.nanoTime();
+        return content.getChunk(index);
     }
 
     public Torr2.FileInfo getFileInfo() {
+        if (completeFileInfo == null) {
+            return fileInfo;
+        }
+
+        Torr2.FileInfo cachedFileInfo = completeFileInfo.get();
+        if (cachedFileInfo == null) {
+            cachedFileInfo = fileInfo.toBuilder().addAllChunks(content.getChunkInfos()).build();
+            completeFileInfo = new SoftReference<>(cachedFileInfo);
+        }
+        return cachedFileInfo;
+    }
+
+    /**
+     * Returns the file info, possibly without the chunk infos. Unlike the complete file info, it is always cheap
+     * to get, so it should be used when only the hash, size or name are needed.
+     */
+    public Torr2.FileInfo getFileInfoHeader() {
         return fileInfo;
     }
 
     public List<Chunk> getChunks() {
-        return chunks;
+        lastAccessTime = System.nanoTime();
+        return content.getChunks();
+    }
+
+    /**
+     * Returns the whole file content, or null if it could not be read.
+     */
+    public ByteString getData() {
+        lastAccessTime = System.nanoTime();
+        return content.getData();
+    }
+
+    /**
+     * Returns the given range of the file content (which must be within the file), or null if it could not be read.
+     *
+     * @param offset
+     * @param length
+     */
+    public ByteString getRange(long offset, int length) {
+        lastAccessTime = System.nanoTime();
+        return content.getRange(offset, length);
+    }
+
+    public StoredContent getContent() {
+        return content;
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    /**
+     * Marks the file as an original, which is never evicted (e.g. a replicated file that is then uploaded).
+     */
+    public void pin() {
+        pinned = true;
+    }
+
+    /**
+     * Returns the (System.nanoTime) moment the chunks of the file were last read.
+     */
+    public long getLastAccessTime() {
+        return lastAccessTime;
     }
 }
@@ -0,0 +1,18 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Codec that keeps the data as it is.
+ */
+public class IdentityCodec implements StorageCodec {
+    @Override
+    public ByteString encode(ByteString data) {
+        return null;
+    }
+
+    @Override
+    public ByteString decode(ByteString encodedData, int size) {
+        return encodedData;
+    }
+}
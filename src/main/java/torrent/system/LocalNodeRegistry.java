@@ -0,0 +1,99 @@
+package torrent.system;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the nodes listening in this JVM, so that requests between co-located nodes can be dispatched
+ * directly to the destination's torrent system instead of going through a socket and protobuf serialization.
+ * <p>
+ * The nodes are registered with the address their server socket is bound to, and a request is dispatched directly only
+ * if its destination resolves to that address (the host the nodes advertise is not trusted, since other machines may
+ * advertise the same one).
+ * <p>
+ * The messages are immutable, so the request and response objects (and the ByteStrings inside them) are shared
+ * between the two nodes as they are.
+ */
+public class LocalNodeRegistry {
+    private static final Map<Integer, LocalNode> nodesByPort = new ConcurrentHashMap<>();
+    // resolving a host may be slow, so we do it only once per host (and check only once if an address is ours)
+    private static final Map<String, Optional<InetAddress>> resolvedHosts = new ConcurrentHashMap<>();
+    private static final Map<InetAddress, Boolean> localAddresses = new ConcurrentHashMap<>();
+
+    private LocalNodeRegistry() {
+    }
+
+    /**
+     * Registers the given node, which listens at the given address.
+     *
+     * @param torrentSystem
+     * @param boundAddress  the address the server socket of the node is bound to
+     */
+    public static void register(TorrentSystem torrentSystem, InetSocketAddress boundAddress) {
+        nodesByPort.put(boundAddress.getPort(), new LocalNode(torrentSystem, boundAddress.getAddress()));
+    }
+
+    public static void unregister(TorrentSystem torrentSystem) {
+        nodesByPort.values().removeIf(localNode -> localNode.torrentSystem == torrentSystem);
+    }
+
+    /**
+     * Returns the node from this JVM that listens at the given address, or null if the address belongs to
+     * a node from another process (or machine).
+     *
+     * @param host
+     * @param port
+     */
+    public static TorrentSystem lookup(String host, int port) {
+        LocalNode localNode = nodesByPort.get(port);
+        if (localNode == null) {
+            return null;
+        }
+
+        // the port alone is not enough, the host must resolve to the address the node is bound to
+        InetAddress address = resolvedHosts.computeIfAbsent(host, LocalNodeRegistry::resolve).orElse(null);
+        if (address == null) {
+            return null;
+        }
+        boolean listensAtAddress = localNode.boundAddress.isAnyLocalAddress()
+                ? isLocalAddress(address)
+                : localNode.boundAddress.equals(address);
+        return listensAtAddress ? localNode.torrentSystem : null;
+    }
+
+    private static Optional<InetAddress> resolve(String host) {
+        try {
+            return Optional.of(InetAddress.getByName(host));
+        } catch (UnknownHostException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isLocalAddress(InetAddress address) {
+        return localAddresses.computeIfAbsent(address, key -> {
+            try {
+                return key.isLoopbackAddress()
+                        || key.isAnyLocalAddress()
+                        || NetworkInterface.getByInetAddress(key) != null;
+            } catch (SocketException e) {
+                return false;
+            }
+        });
+    }
+
+    private static class LocalNode {
+        private final TorrentSystem torrentSystem;
+        private final InetAddress boundAddress;
+
+        private LocalNode(TorrentSystem torrentSystem, InetAddress boundAddress) {
+            this.torrentSystem = torrentSystem;
+            this.boundAddress = boundAddress;
+        }
+    }
+}
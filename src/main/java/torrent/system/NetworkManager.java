@@ -5,50 +5,122 @@ import torrent.Torr2;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 public class NetworkManager {
-    private final int nodePort;
-    private final String hubIP;
-    private final int hubPort;
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    // the bandwidth limits of the JVM, shared by all its nodes (in bytes per second, 0 means unlimited)
+    private static final TokenBucket egressLimiter = new TokenBucket(0);
+    private static final TokenBucket ingressLimiter = new TokenBucket(0);
+    // the bandwidth limit of the traffic with each peer host, in both directions
+    private static final Map<String, TokenBucket> peerLimiters = new ConcurrentHashMap<>();
+    // the address of each host we send requests to, which keys its limiter (resolving a host may be slow, so we do it
+    // only once per host)
+    private static final Map<String, String> peerKeys = new ConcurrentHashMap<>();
+    private static volatile long peerBytesPerSecond = 0;
+
+    private final NodeConfig config;
     private final TorrentSystem torrentSystem;
-    private final String owner;
-    private final int ownerIndex;
+    private volatile ServerSocket serverSocket;
+    private volatile boolean registered;
+    // the delay before retrying a failed registration, only used by the registration task, which never runs twice at
+    // the same time
+    private long registrationBackoffMillis;
+    private volatile ScheduledFuture<?> registrationTask;
+    private final ScheduledFuture<?> partialFilesExpiryTask;
 
     public NetworkManager(String owner, int ownerIndex, int nodePort, String hubIP, int hubPort) {
-        this.owner = owner;
-        this.ownerIndex = ownerIndex;
-        this.nodePort = nodePort;
-        this.hubIP = hubIP;
-        this.hubPort = hubPort;
-        torrentSystem = new TorrentSystem(owner, ownerIndex, nodePort, hubIP, hubPort);
-
-        // send a registration request
+        this(new NodeConfig(owner, ownerIndex, nodePort, hubIP, hubIP, hubPort));
+    }
+
+    public NetworkManager(NodeConfig config) {
+        this.config = config;
+        registrationBackoffMillis = config.getRegistrationMinBackoffMillis();
+        torrentSystem = new TorrentSystem(config);
+
+        // we start listening for messages right away, and register to the hub in the background; a node that
+        // cannot listen is not registered, since the other nodes could not reach it
+        if (start(config.getPort())) {
+            scheduleRegistration(0);
+        } else {
+            System.out.println("Node " + config.getIndex() + " could not listen on port " + config.getPort()
+                    + ", so it is not registered to the hub.");
+        }
+        partialFilesExpiryTask = ExecutionRuntime.getInstance().getTimers().scheduleWithFixedDelay(
+                torrentSystem::expirePartialFiles, config.getPartialFilesExpiryPeriodMillis(),
+                config.getPartialFilesExpiryPeriodMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers the node to the hub. If the hub cannot be reached or refuses the registration, the registration is
+     * tried again after a delay that doubles after each failure (with some randomness, so that the nodes do not all
+     * retry at the same time). Once registered, the node registers again periodically, so that it is known to the
+     * hub again soon after the hub restarts.
+     */
+    private void register() {
+        if (torrentSystem.isStopped()) {
+            return;
+        }
+
         Torr2.Message registrationResponse = sendRegistrationRequest();
 
+        String errorMessage = null;
         // hub is probably offline or corrupt, since we received no response or response of different type
         if (registrationResponse == null || !Torr2.Message.Type.REGISTRATION_RESPONSE.equals(registrationResponse.getType())) {
-            System.out.println("Could not connect to the hub for node " + ownerIndex + ". Hub may be offline.");
-            return;
+            errorMessage = "Hub may be offline.";
+        } else if (!Torr2.Status.SUCCESS.equals(registrationResponse.getRegistrationResponse().getStatus())) {
+            errorMessage = "Error message: " + registrationResponse.getRegistrationResponse().getErrorMessage();
         }
 
-        // if the registration response doesn't have the SUCCESS status, we stop
-        if (!Torr2.Status.SUCCESS.equals(registrationResponse.getRegistrationResponse().getStatus())) {
-            System.out.println("Could not connect to the hub for node "
-                    + ownerIndex
-                    + ". Error message: "
-                    + registrationResponse.getRegistrationResponse().getErrorMessage());
+        if (errorMessage == null) {
+            if (!registered) {
+                System.out.println("Node " + config.getIndex() + " registered to the hub.");
+            }
+            registered = true;
+            registrationBackoffMillis = config.getRegistrationMinBackoffMillis();
+            scheduleRegistration(config.getHeartbeatIntervalMillis());
             return;
         }
 
-        // if we registered to the hub successfully, we start listening for potential messages
-        start(nodePort);
+        registered = false;
+        long delayMillis = registrationBackoffMillis / 2
+                + ThreadLocalRandom.current().nextLong(registrationBackoffMillis / 2 + 1);
+        registrationBackoffMillis = Math.min(config.getRegistrationMaxBackoffMillis(), registrationBackoffMillis * 2);
+        System.out.println("Could not connect to the hub for node " + config.getIndex() + ". " + errorMessage
+                + " Retrying in " + delayMillis + " ms.");
+        scheduleRegistration(delayMillis);
+    }
+
+    private void scheduleRegistration(long delayMillis) {
+        if (!torrentSystem.isStopped()) {
+            registrationTask = ExecutionRuntime.getInstance().getTimers()
+                    .schedule(this::register, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns true if the node listens for messages.
+     */
+    public boolean isListening() {
+        ServerSocket serverSocket = this.serverSocket;
+        return serverSocket != null && !serverSocket.isClosed();
+    }
+
+    /**
+     * Returns true if the last registration to the hub succeeded.
+     */
+    public boolean isRegistered() {
+        return registered;
     }
 
     public static List<Torr2.NodeId> sendSubnetRequest(int subnetId, String hubIP, int hubPort) {
@@ -81,8 +153,24 @@ public class NetworkManager {
      * @param destinationPort
      */
     public static Torr2.Message sendRequest(Torr2.Message request, String destinationIP, int destinationPort) {
+        return sendRequest(request, destinationIP, destinationPort, 0);
+    }
+
+    /**
+     * Sends a request to the given destination, giving up if connecting or waiting for the response takes longer
+     * than the given timeout (0 means no timeout). Returns the response message, or null on failure.
+     *
+     * @param request
+     * @param destinationIP
+     * @param destinationPort
+     * @param timeoutMillis
+     */
+    public static Torr2.Message sendRequest(Torr2.Message request, String destinationIP, int destinationPort,
+                                            int timeoutMillis) {
         try {
-            Socket socket = new Socket(destinationIP, destinationPort);
+            Socket socket = new Socket();
+            socket.connect(new InetSocketAddress(destinationIP, destinationPort), timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
             sendMessageOnSocket(request, socket);
             Torr2.Message response = readMessageFromSocket(socket);
             socket.close();
@@ -93,6 +181,72 @@ public class NetworkManager {
         return null;
     }
 
+    public static long getEgressRate() {
+        return egressLimiter.getRate();
+    }
+
+    /**
+     * Limits the bytes sent by all the nodes of the JVM (0 means unlimited).
+     *
+     * @param bytesPerSecond
+     */
+    public static void setEgressRate(long bytesPerSecond) {
+        egressLimiter.setRate(bytesPerSecond);
+    }
+
+    public static long getIngressRate() {
+        return ingressLimiter.getRate();
+    }
+
+    /**
+     * Limits the bytes received by all the nodes of the JVM (0 means unlimited).
+     *
+     * @param bytesPerSecond
+     */
+    public static void setIngressRate(long bytesPerSecond) {
+        ingressLimiter.setRate(bytesPerSecond);
+    }
+
+    public static long getPeerRate() {
+        return peerBytesPerSecond;
+    }
+
+    /**
+     * Limits the bytes exchanged with each peer host, sent and received together (0 means unlimited).
+     *
+     * @param bytesPerSecond
+     */
+    public static void setPeerRate(long bytesPerSecond) {
+        peerBytesPerSecond = bytesPerSecond;
+        for (TokenBucket peerLimiter : peerLimiters.values()) {
+            peerLimiter.setRate(bytesPerSecond);
+        }
+    }
+
+    /**
+     * Waits until the given number of bytes could be received from the given host without exceeding the bandwidth
+     * limits, so that requests are not sent faster than their responses can be received.
+     *
+     * @param host
+     * @param bytes
+     */
+    public static void awaitIngressCapacity(String host, long bytes) throws InterruptedException {
+        ingressLimiter.awaitAvailable(bytes);
+        getPeerLimiter(peerKeys.computeIfAbsent(host, NetworkManager::toPeerKey)).awaitAvailable(bytes);
+    }
+
+    private static TokenBucket getPeerLimiter(String peerKey) {
+        return peerLimiters.computeIfAbsent(peerKey, key -> new TokenBucket(peerBytesPerSecond));
+    }
+
+    private static String toPeerKey(String host) {
+        try {
+            return InetAddress.getByName(host).getHostAddress();
+        } catch (UnknownHostException e) {
+            return host;
+        }
+    }
+
     /**
      * When the node starts, a registration request is sent to the hub, so that the hub
      * is aware of this node.
@@ -103,12 +257,13 @@ public class NetworkManager {
         Torr2.Message registrationRequest = Torr2.Message.newBuilder()
                 .setType(Torr2.Message.Type.REGISTRATION_REQUEST)
                 .setRegistrationRequest(Torr2.RegistrationRequest.newBuilder()
-                        .setOwner(owner)
-                        .setIndex(ownerIndex)
-                        .setPort(nodePort)
+                        .setOwner(config.getOwner())
+                        .setIndex(config.getIndex())
+                        .setPort(config.getPort())
                         .build())
                 .build();
-        return NetworkManager.sendRequest(registrationRequest, hubIP, hubPort);
+        return NetworkManager.sendRequest(registrationRequest, config.getHubHost(), config.getHubPort(),
+                config.getRegistrationTimeoutMillis());
     }
 
     private static Torr2.Message readMessageFromSocket(Socket socket) {
@@ -119,23 +274,41 @@ public class NetworkManager {
             // the rest: the actual message
             int length = dataInputStream.readInt();
             if (length > 0) {
+                ingressLimiter.acquire(Integer.BYTES + length);
+                getPeerLimiter(socket.getInetAddress().getHostAddress()).acquire(Integer.BYTES + length);
                 byte[] messageBytes = new byte[length];
                 dataInputStream.readFully(messageBytes, 0, messageBytes.length);
                 return Torr2.Message.parseFrom(messageBytes);
             }
         } catch (IOException e) {
             e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
         return null;
     }
 
     private static void sendMessageOnSocket(Torr2.Message message, Socket socket) {
         try {
+            byte[] messageBytes = messageToByteArray(message);
+            egressLimiter.acquire(messageBytes.length);
+            getPeerLimiter(socket.getInetAddress().getHostAddress()).acquire(messageBytes.length);
+
             OutputStream outputStream = socket.getOutputStream();
-            outputStream.write(messageToByteArray(message));
+            outputStream.write(messageBytes);
             outputStream.flush();
         } catch (IOException e) {
             e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeSocket(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
         }
     }
 
@@ -154,34 +327,85 @@ public class NetworkManager {
 
     /**
      * Starts a server socket that listens for any incoming messages, processing them as they come and sending
-     * back a response.
+     * back a response. Returns false if the socket could not be bound.
      *
      * @param nodePort
      */
-    private void start(int nodePort) {
+    private boolean start(int nodePort) {
         try {
             ServerSocket serverSocket = new ServerSocket(nodePort);
-            executorService.execute(() -> {
-                while (true) {
+            this.serverSocket = serverSocket;
+            LocalNodeRegistry.register(torrentSystem, (InetSocketAddress) serverSocket.getLocalSocketAddress());
+            // the connections are handled by the pool shared by all the nodes of the JVM
+            Thread acceptorThread = new Thread(() -> {
+                while (!serverSocket.isClosed()) {
                     try {
                         Socket clientSocket = serverSocket.accept();
-                        executorService.execute(() -> {
-                            try {
-                                Torr2.Message request = readMessageFromSocket(clientSocket);
-                                Torr2.Message response = torrentSystem.trigger(request);
-                                sendMessageOnSocket(response, clientSocket);
-                                clientSocket.close();
-                            } catch (IOException e) {
-                                e.printStackTrace();
+                        ExecutionRuntime.getInstance().getPool(ExecutionRuntime.CONNECTIONS_POOL).execute(() -> {
+                            Torr2.Message request = readMessageFromSocket(clientSocket);
+                            if (request == null) {
+                                closeSocket(clientSocket);
+                                return;
                             }
+                            // the response is sent by the thread that handles the request, so that the connection
+                            // thread is free as soon as the request is admitted
+                            torrentSystem.trigger(request, response -> {
+                                if (response != null) {
+                                    sendMessageOnSocket(response, clientSocket);
+                                }
+                                closeSocket(clientSocket);
+                            });
                         });
                     } catch (IOException e) {
-                        e.printStackTrace();
+                        // closing the server socket (see stop) interrupts the accept
+                        if (!serverSocket.isClosed()) {
+                            e.printStackTrace();
+                        }
                     }
                 }
-            });
+            }, "node-" + nodePort + "-acceptor");
+            acceptorThread.start();
+            return true;
         } catch (IOException e) {
             e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Stops the node: closes the server socket, so that no more connections are accepted, and answers the requests
+     * still coming from the nodes of this JVM as if the node was busy. The requests being processed go on; see
+     * {@link #awaitStop(long)}.
+     */
+    public void stop() {
+        torrentSystem.stop();
+        ScheduledFuture<?> registrationTask = this.registrationTask;
+        if (registrationTask != null) {
+            registrationTask.cancel(false);
+        }
+        partialFilesExpiryTask.cancel(false);
+        LocalNodeRegistry.unregister(torrentSystem);
+        ServerSocket serverSocket = this.serverSocket;
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Waits for the requests being processed to finish, for at most the given time, and saves the state of the node.
+     * Returns false if some requests were still being processed at the deadline.
+     *
+     * @param timeoutMillis
+     */
+    public boolean awaitStop(long timeoutMillis) {
+        return torrentSystem.awaitStop(timeoutMillis);
+    }
+
+    public TorrentSystem getTorrentSystem() {
+        return torrentSystem;
+    }
+}
@@ -0,0 +1,376 @@
+package torrent.system;
+
+import torrent.Torr2;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The settings of one node: its identity and addresses, and the tuning knobs of its requests and storage.
+ * <p>
+ * Only the identity and the addresses have to be given; the other settings start with their default values and may be
+ * changed before the node is created.
+ */
+public class NodeConfig {
+    // the size of the files a node may hold (in memory or on disk) before it starts evicting the replicated ones
+    public static final long DEFAULT_STORAGE_BUDGET_BYTES = 4L * 1024 * 1024 * 1024;
+    // where the partial files of the nodes are saved when they stop (in a subdirectory for each node); the temporary
+    // directory keeps them across restarts, without writing into whatever directory the node is started from
+    public static final String DEFAULT_PARTIAL_FILES_DIRECTORY =
+            Paths.get(System.getProperty("java.io.tmpdir"), "torrent-partial-files").toString();
+    // the size of the chunks the partial files of a node may hold, before the least recently updated ones are dropped
+    public static final long DEFAULT_PARTIAL_FILES_BUDGET_BYTES = 512L * 1024 * 1024;
+    // how long a partial file that no replication uses is kept after its last update
+    public static final long DEFAULT_PARTIAL_FILE_EXPIRY_MILLIS = 30 * 60 * 1000;
+    // how long a replication request waits for a replication of the same file that is already running
+    public static final long DEFAULT_REPLICATION_WAIT_MILLIS = 5 * 60 * 1000;
+    // how long we wait for a node to send a chunk
+    public static final int DEFAULT_CHUNK_REQUEST_TIMEOUT_MILLIS = 5000;
+    // how long we wait for a node to tell which chunks it has, before asking it for any chunk
+    public static final int DEFAULT_AVAILABILITY_TIMEOUT_MILLIS = 2000;
+    // how long we wait for the subnet nodes to answer a search, before responding with what we have
+    public static final int DEFAULT_SEARCH_DEADLINE_MILLIS = 3000;
+    // how long an aggregated search response may be reused (0 disables the cache)
+    public static final long DEFAULT_SEARCH_CACHE_FRESHNESS_MILLIS = 2000;
+    // how long we wait for the hub to answer a registration request
+    public static final int DEFAULT_REGISTRATION_TIMEOUT_MILLIS = 3000;
+    // how often a registered node registers again, so that a restarted hub learns about it
+    public static final long DEFAULT_HEARTBEAT_INTERVAL_MILLIS = 15000;
+    // the delay before retrying a failed registration, doubled after each failure up to the maximum
+    public static final long DEFAULT_REGISTRATION_MIN_BACKOFF_MILLIS = 500;
+    public static final long DEFAULT_REGISTRATION_MAX_BACKOFF_MILLIS = 30000;
+    // how often the partial files that are not updated anymore are dropped
+    public static final long DEFAULT_PARTIAL_FILES_EXPIRY_PERIOD_MILLIS = 60000;
+    // how many search responses are cached, at most
+    public static final int DEFAULT_SEARCH_CACHE_MAX_ENTRIES = 256;
+    // how long an admitted request may wait for a place, before it is rejected
+    public static final long DEFAULT_ADMISSION_QUEUE_TIMEOUT_MILLIS = 1000;
+    // how many chunks of a file are fetched at the same time, at most (the congestion windows of the nodes decide
+    // how many requests each of them gets)
+    public static final int DEFAULT_PARALLEL_CHUNK_FETCHES = 32;
+    // how long a fetcher waits for room in the congestion windows before checking them again
+    public static final int DEFAULT_CONGESTION_WAIT_MILLIS = 50;
+    // when at most this many chunks are still being fetched, the idle fetchers ask other nodes for them too
+    public static final int DEFAULT_ENDGAME_THRESHOLD = 4;
+    // how many nodes may be asked for the same chunk at the same time, in the endgame
+    public static final int DEFAULT_ENDGAME_MAX_REQUESTS = 3;
+    // the number of chunk requests that may be sent to a node at the same time: at first, and within the bounds its
+    // congestion window adapts to
+    public static final int DEFAULT_CONGESTION_WINDOW_INITIAL_SIZE = 2;
+    public static final int DEFAULT_CONGESTION_WINDOW_MIN_SIZE = 1;
+    public static final int DEFAULT_CONGESTION_WINDOW_MAX_SIZE = 32;
+
+    private final String owner;
+    private final int index;
+    private final int port;
+    private final String host;
+    private final String hubHost;
+    private final int hubPort;
+    private long storageBudgetBytes = DEFAULT_STORAGE_BUDGET_BYTES;
+    private String partialFilesDirectory = DEFAULT_PARTIAL_FILES_DIRECTORY;
+    private long partialFilesBudgetBytes = DEFAULT_PARTIAL_FILES_BUDGET_BYTES;
+    private long partialFileExpiryMillis = DEFAULT_PARTIAL_FILE_EXPIRY_MILLIS;
+    private long replicationWaitMillis = DEFAULT_REPLICATION_WAIT_MILLIS;
+    private int chunkRequestTimeoutMillis = DEFAULT_CHUNK_REQUEST_TIMEOUT_MILLIS;
+    private int availabilityTimeoutMillis = DEFAULT_AVAILABILITY_TIMEOUT_MILLIS;
+    private int searchDeadlineMillis = DEFAULT_SEARCH_DEADLINE_MILLIS;
+    private long searchCacheFreshnessMillis = DEFAULT_SEARCH_CACHE_FRESHNESS_MILLIS;
+    private int registrationTimeoutMillis = DEFAULT_REGISTRATION_TIMEOUT_MILLIS;
+    private long heartbeatIntervalMillis = DEFAULT_HEARTBEAT_INTERVAL_MILLIS;
+    private long registrationMinBackoffMillis = DEFAULT_REGISTRATION_MIN_BACKOFF_MILLIS;
+    private long registrationMaxBackoffMillis = DEFAULT_REGISTRATION_MAX_BACKOFF_MILLIS;
+    private long partialFilesExpiryPeriodMillis = DEFAULT_PARTIAL_FILES_EXPIRY_PERIOD_MILLIS;
+    private int searchCacheMaxEntries = DEFAULT_SEARCH_CACHE_MAX_ENTRIES;
+    // the number of requests of each type that may run at the same time, and wait for a place (see AdmissionControl)
+    private final Map<Torr2.Message.Type, Integer> admissionMaxRunning = new EnumMap<>(Torr2.Message.Type.class);
+    private final Map<Torr2.Message.Type, Integer> admissionMaxWaiting = new EnumMap<>(Torr2.Message.Type.class);
+    private long admissionQueueTimeoutMillis = DEFAULT_ADMISSION_QUEUE_TIMEOUT_MILLIS;
+    private int parallelChunkFetches = DEFAULT_PARALLEL_CHUNK_FETCHES;
+    private int congestionWaitMillis = DEFAULT_CONGESTION_WAIT_MILLIS;
+    private int endgameThreshold = DEFAULT_ENDGAME_THRESHOLD;
+    private int endgameMaxRequests = DEFAULT_ENDGAME_MAX_REQUESTS;
+    private int congestionWindowInitialSize = DEFAULT_CONGESTION_WINDOW_INITIAL_SIZE;
+    private int congestionWindowMinSize = DEFAULT_CONGESTION_WINDOW_MIN_SIZE;
+    private int congestionWindowMaxSize = DEFAULT_CONGESTION_WINDOW_MAX_SIZE;
+
+    /**
+     * @param owner
+     * @param index
+     * @param port
+     * @param host    the host the node advertises to the other nodes, i.e. where they can reach it
+     * @param hubHost
+     * @param hubPort
+     */
+    public NodeConfig(String owner, int index, int port, String host, String hubHost, int hubPort) {
+        this.owner = owner;
+        this.index = index;
+        this.port = port;
+        this.host = host;
+        this.hubHost = hubHost;
+        this.hubPort = hubPort;
+
+        // cheap requests get many places, the long-running ones only a few
+        setAdmissionLimit(Torr2.Message.Type.CHUNK_REQUEST, 64, 256);
+        setAdmissionLimit(Torr2.Message.Type.CHUNK_AVAILABILITY_REQUEST, 32, 128);
+        setAdmissionLimit(Torr2.Message.Type.LOCAL_SEARCH_REQUEST, 16, 64);
+        setAdmissionLimit(Torr2.Message.Type.DOWNLOAD_REQUEST, 8, 32);
+        setAdmissionLimit(Torr2.Message.Type.RANGE_DOWNLOAD_REQUEST, 8, 32);
+        setAdmissionLimit(Torr2.Message.Type.UPLOAD_REQUEST, 4, 16);
+        setAdmissionLimit(Torr2.Message.Type.SEARCH_REQUEST, 4, 16);
+        setAdmissionLimit(Torr2.Message.Type.REPLICATE_REQUEST, 4, 16);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public String getHubHost() {
+        return hubHost;
+    }
+
+    public int getHubPort() {
+        return hubPort;
+    }
+
+    public long getStorageBudgetBytes() {
+        return storageBudgetBytes;
+    }
+
+    public void setStorageBudgetBytes(long storageBudgetBytes) {
+        this.storageBudgetBytes = storageBudgetBytes;
+    }
+
+    public String getPartialFilesDirectory() {
+        return partialFilesDirectory;
+    }
+
+    public void setPartialFilesDirectory(String partialFilesDirectory) {
+        this.partialFilesDirectory = partialFilesDirectory;
+    }
+
+    public long getPartialFilesBudgetBytes() {
+        return partialFilesBudgetBytes;
+    }
+
+    public void setPartialFilesBudgetBytes(long partialFilesBudgetBytes) {
+        this.partialFilesBudgetBytes = partialFilesBudgetBytes;
+    }
+
+    public long getPartialFileExpiryMillis() {
+        return partialFileExpiryMillis;
+    }
+
+    public void setPartialFileExpiryMillis(long partialFileExpiryMillis) {
+        this.partialFileExpiryMillis = partialFileExpiryMillis;
+    }
+
+    public long getReplicationWaitMillis() {
+        return replicationWaitMillis;
+    }
+
+    public void setReplicationWaitMillis(long replicationWaitMillis) {
+        this.replicationWaitMillis = replicationWaitMillis;
+    }
+
+    public int getChunkRequestTimeoutMillis() {
+        return chunkRequestTimeoutMillis;
+    }
+
+    public void setChunkRequestTimeoutMillis(int chunkRequestTimeoutMillis) {
+        this.chunkRequestTimeoutMillis = chunkRequestTimeoutMillis;
+    }
+
+    public int getAvailabilityTimeoutMillis() {
+        return availabilityTimeoutMillis;
+    }
+
+    public void setAvailabilityTimeoutMillis(int availabilityTimeoutMillis) {
+        this.availabilityTimeoutMillis = availabilityTimeoutMillis;
+    }
+
+    public int getSearchDeadlineMillis() {
+        return searchDeadlineMillis;
+    }
+
+    public void setSearchDeadlineMillis(int searchDeadlineMillis) {
+        this.searchDeadlineMillis = searchDeadlineMillis;
+    }
+
+    public long getSearchCacheFreshnessMillis() {
+        return searchCacheFreshnessMillis;
+    }
+
+    public void setSearchCacheFreshnessMillis(long searchCacheFreshnessMillis) {
+        this.searchCacheFreshnessMillis = searchCacheFreshnessMillis;
+    }
+
+    public int getRegistrationTimeoutMillis() {
+        return registrationTimeoutMillis;
+    }
+
+    public void setRegistrationTimeoutMillis(int registrationTimeoutMillis) {
+        this.registrationTimeoutMillis = registrationTimeoutMillis;
+    }
+
+    public long getHeartbeatIntervalMillis() {
+        return heartbeatIntervalMillis;
+    }
+
+    public void setHeartbeatIntervalMillis(long heartbeatIntervalMillis) {
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+    }
+
+    public long getRegistrationMinBackoffMillis() {
+        return registrationMinBackoffMillis;
+    }
+
+    public void setRegistrationMinBackoffMillis(long registrationMinBackoffMillis) {
+        this.registrationMinBackoffMillis = registrationMinBackoffMillis;
+    }
+
+    public long getRegistrationMaxBackoffMillis() {
+        return registrationMaxBackoffMillis;
+    }
+
+    public void setRegistrationMaxBackoffMillis(long registrationMaxBackoffMillis) {
+        this.registrationMaxBackoffMillis = registrationMaxBackoffMillis;
+    }
+
+    public long getPartialFilesExpiryPeriodMillis() {
+        return partialFilesExpiryPeriodMillis;
+    }
+
+    public void setPartialFilesExpiryPeriodMillis(long partialFilesExpiryPeriodMillis) {
+        this.partialFilesExpiryPeriodMillis = partialFilesExpiryPeriodMillis;
+    }
+
+    public int getSearchCacheMaxEntries() {
+        return searchCacheMaxEntries;
+    }
+
+    public void setSearchCacheMaxEntries(int searchCacheMaxEntries) {
+        this.searchCacheMaxEntries = searchCacheMaxEntries;
+    }
+
+    /**
+     * Returns the request types whose number of requests running at the same time is limited.
+     */
+    public Set<Torr2.Message.Type> getAdmissionLimitedTypes() {
+        return Collections.unmodifiableSet(admissionMaxRunning.keySet());
+    }
+
+    /**
+     * Returns how many requests of the given type may run at the same time, or 0 if they are not limited.
+     *
+     * @param type
+     */
+    public int getAdmissionMaxRunning(Torr2.Message.Type type) {
+        return admissionMaxRunning.getOrDefault(type, 0);
+    }
+
+    /**
+     * Returns how many requests of the given type may wait for a place, once the running ones reach their limit.
+     *
+     * @param type
+     */
+    public int getAdmissionMaxWaiting(Torr2.Message.Type type) {
+        return admissionMaxWaiting.getOrDefault(type, 0);
+    }
+
+    /**
+     * Limits the number of requests of the given type that may run at the same time (0 removes the limit), and the
+     * number of them that may wait for a place.
+     *
+     * @param type
+     * @param maxRunning
+     * @param maxWaiting
+     */
+    public void setAdmissionLimit(Torr2.Message.Type type, int maxRunning, int maxWaiting) {
+        if (maxRunning > 0) {
+            admissionMaxRunning.put(type, maxRunning);
+            admissionMaxWaiting.put(type, maxWaiting);
+        } else {
+            admissionMaxRunning.remove(type);
+            admissionMaxWaiting.remove(type);
+        }
+    }
+
+    public long getAdmissionQueueTimeoutMillis() {
+        return admissionQueueTimeoutMillis;
+    }
+
+    public void setAdmissionQueueTimeoutMillis(long admissionQueueTimeoutMillis) {
+        this.admissionQueueTimeoutMillis = admissionQueueTimeoutMillis;
+    }
+
+    public int getParallelChunkFetches() {
+        return parallelChunkFetches;
+    }
+
+    public void setParallelChunkFetches(int parallelChunkFetches) {
+        this.parallelChunkFetches = parallelChunkFetches;
+    }
+
+    public int getCongestionWaitMillis() {
+        return congestionWaitMillis;
+    }
+
+    public void setCongestionWaitMillis(int congestionWaitMillis) {
+        this.congestionWaitMillis = congestionWaitMillis;
+    }
+
+    public int getEndgameThreshold() {
+        return endgameThreshold;
+    }
+
+    public void setEndgameThreshold(int endgameThreshold) {
+        this.endgameThreshold = endgameThreshold;
+    }
+
+    public int getEndgameMaxRequests() {
+        return endgameMaxRequests;
+    }
+
+    public void setEndgameMaxRequests(int endgameMaxRequests) {
+        this.endgameMaxRequests = endgameMaxRequests;
+    }
+
+    public int getCongestionWindowInitialSize() {
+        return congestionWindowInitialSize;
+    }
+
+    public void setCongestionWindowInitialSize(int congestionWindowInitialSize) {
+        this.congestionWindowInitialSize = congestionWindowInitialSize;
+    }
+
+    public int getCongestionWindowMinSize() {
+        return congestionWindowMinSize;
+    }
+
+    public void setCongestionWindowMinSize(int congestionWindowMinSize) {
+        this.congestionWindowMinSize = congestionWindowMinSize;
+    }
+
+    public int getCongestionWindowMaxSize() {
+        return congestionWindowMaxSize;
+    }
+
+    public void setCongestionWindowMaxSize(int congestionWindowMaxSize) {
+        this.congestionWindowMaxSize = congestionWindowMaxSize;
+    }
+}
@@ -0,0 +1,200 @@
+package torrent.system;
+
+import torrent.Torr2;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs the requests of a node on separate groups of threads (bulkheads), by kind of work, so that no kind of request
+ * can take all the threads: the quick requests other nodes wait for (chunks, local searches), the transfers of whole
+ * files, and the long-running requests that fan out to other nodes (replications, searches).
+ * <p>
+ * Within a bulkhead, the waiting requests are served by priority (then in arrival order), so that the most latency
+ * sensitive types go first. When a bulkhead and its queue are full, its requests are rejected (the node answers that it
+ * is busy) rather than run on another thread. The bulkheads are pools of the {@link ExecutionRuntime}, shared by all
+ * the nodes of the JVM.
+ */
+public class RequestScheduler {
+    // the scheduler whose request the current thread is handling, if any
+    private static final ThreadLocal<RequestScheduler> currentScheduler = new ThreadLocal<>();
+    // shared by all the schedulers, since they share the pools
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private enum Bulkhead {
+        INTERACTIVE(ExecutionRuntime.INTERACTIVE_REQUESTS_POOL),
+        TRANSFER(ExecutionRuntime.TRANSFER_REQUESTS_POOL),
+        BULK(ExecutionRuntime.BULK_REQUESTS_POOL);
+
+        private final String poolName;
+
+        Bulkhead(String poolName) {
+            this.poolName = poolName;
+        }
+    }
+
+    private final Map<Torr2.Message.Type, Bulkhead> bulkheads = new EnumMap<>(Torr2.Message.Type.class);
+    private final Map<Torr2.Message.Type, Integer> priorities = new EnumMap<>(Torr2.Message.Type.class);
+
+    public RequestScheduler() {
+        // the lower the priority, the sooner the request is served
+        assign(Torr2.Message.Type.CHUNK_REQUEST, Bulkhead.INTERACTIVE, 0);
+        assign(Torr2.Message.Type.CHUNK_AVAILABILITY_REQUEST, Bulkhead.INTERACTIVE, 1);
+        assign(Torr2.Message.Type.LOCAL_SEARCH_REQUEST, Bulkhead.INTERACTIVE, 2);
+        assign(Torr2.Message.Type.RANGE_DOWNLOAD_REQUEST, Bulkhead.TRANSFER, 0);
+        assign(Torr2.Message.Type.DOWNLOAD_REQUEST, Bulkhead.TRANSFER, 1);
+        assign(Torr2.Message.Type.UPLOAD_REQUEST, Bulkhead.TRANSFER, 2);
+        assign(Torr2.Message.Type.SEARCH_REQUEST, Bulkhead.BULK, 0);
+        assign(Torr2.Message.Type.REPLICATE_REQUEST, Bulkhead.BULK, 1);
+    }
+
+    private void assign(Torr2.Message.Type type, Bulkhead bulkhead, int priority) {
+        bulkheads.put(type, bulkhead);
+        priorities.put(type, priority);
+    }
+
+    /**
+     * Runs the handler of a request of the given type on its bulkhead, and returns its response.
+     * <p>
+     * A request made to the node while handling another of its requests runs right away on the same thread, since
+     * waiting for another thread of the same bulkheads could deadlock. So do the requests of types without a bulkhead.
+     *
+     * @param type
+     * @param handler
+     * @throws RejectedExecutionException if the bulkhead and its queue are full, or the pools are shut down
+     */
+    public Torr2.Message execute(Torr2.Message.Type type, Supplier<Torr2.Message> handler) {
+        Bulkhead bulkhead = bulkheads.get(type);
+        if (bulkhead == null || currentScheduler.get() == this) {
+            return handler.get();
+        }
+
+        PrioritizedTask task =
+                new PrioritizedTask(this, handler, priorities.get(type), sequence.getAndIncrement(), null);
+        ExecutionRuntime.getInstance().getPool(bulkhead.poolName).execute(task);
+        try {
+            return task.get();
+        } catch (CancellationException e) {
+            // the request was dropped, e.g. when the pools were shut down
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Runs the handler of a request of the given type on its bulkhead, and passes its response (or null if it failed)
+     * to the response handler, on the same thread. Unlike {@link #execute(Torr2.Message.Type, Supplier)}, the calling
+     * thread does not wait for the response.
+     * <p>
+     * As for execute, the requests of types without a bulkhead, and the requests made while handling another request
+     * of the node, run right away on the calling thread.
+     *
+     * @param type
+     * @param handler
+     * @param responseHandler
+     * @throws RejectedExecutionException if the bulkhead and its queue are full, or the pools are shut down (the
+     *                                    response handler is not called then)
+     */
+    public void submit(Torr2.Message.Type type, Supplier<Torr2.Message> handler,
+                       Consumer<Torr2.Message> responseHandler) {
+        Bulkhead bulkhead = bulkheads.get(type);
+        if (bulkhead == null || currentScheduler.get() == this) {
+            Torr2.Message response = null;
+            try {
+                response = handler.get();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+            responseHandler.accept(response);
+            return;
+        }
+
+        ExecutionRuntime.getInstance().getPool(bulkhead.poolName).execute(new PrioritizedTask(this, handler,
+                priorities.get(type), sequence.getAndIncrement(), responseHandler));
+    }
+
+    /**
+     * Returns the number of requests (of all the nodes of the JVM) waiting for a thread, by bulkhead name.
+     */
+    public Map<String, Integer> getQueueSizes() {
+        Map<String, Integer> queueSizes = new LinkedHashMap<>();
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            queueSizes.put(bulkhead.name(), ExecutionRuntime.getInstance().getQueueDepth(bulkhead.poolName));
+        }
+        return queueSizes;
+    }
+
+    /**
+     * A request handler, ordered by priority and then by arrival. If it has a response handler, the response is passed
+     * to it once the request is done (null if the handler failed or the task was cancelled).
+     */
+    private static class PrioritizedTask extends FutureTask<Torr2.Message> implements Comparable<PrioritizedTask> {
+        private final RequestScheduler scheduler;
+        private final int priority;
+        private final long sequence;
+        private final Consumer<Torr2.Message> responseHandler;
+
+        private PrioritizedTask(RequestScheduler scheduler, Supplier<Torr2.Message> handler, int priority,
+                                long sequence, Consumer<Torr2.Message> responseHandler) {
+            super(handler::get);
+            this.scheduler = scheduler;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.responseHandler = responseHandler;
+        }
+
+        @Override
+        public void run() {
+            // the thread may run the requests of other schedulers afterwards, so we restore its scheduler
+            RequestScheduler previousScheduler = currentScheduler.get();
+            currentScheduler.set(scheduler);
+            try {
+                super.run();
+            } finally {
+                currentScheduler.set(previousScheduler);
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (responseHandler == null) {
+                return;
+            }
+
+            Torr2.Message response = null;
+            try {
+                response = get();
+            } catch (ExecutionException e) {
+                e.getCause().printStackTrace();
+            } catch (CancellationException e) {
+                // the request was dropped, e.g. when the pools were shut down
+            } catch (InterruptedException e) {
+                // cannot happen, since the task is done
+                Thread.currentThread().interrupt();
+            }
+            responseHandler.accept(response);
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            return priority != other.priority
+                    ? Integer.compare(priority, other.priority)
+                    : Long.compare(sequence, other.sequence);
+        }
+    }
+}
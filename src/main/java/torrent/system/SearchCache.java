@@ -0,0 +1,95 @@
+package torrent.system;
+
+import torrent.Torr2;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of aggregated search responses, keyed by the searched regex and subnet id.
+ * <p>
+ * An entry is only served while it is younger than the freshness window (remote nodes may have changed
+ * their files in the meantime) and while the local catalog version is the one it was computed against
+ * (the local node's results are part of the aggregated response).
+ */
+public class SearchCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long freshnessMillis;
+    private final int maxEntries;
+
+    /**
+     * @param freshnessMillis how long a response may be served (0 disables the cache)
+     * @param maxEntries      how many responses are kept, at most
+     */
+    public SearchCache(long freshnessMillis, int maxEntries) {
+        this.freshnessMillis = freshnessMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isEnabled() {
+        return freshnessMillis > 0;
+    }
+
+    /**
+     * Returns the cached response for the given search, or null if there is none or it is no longer valid.
+     *
+     * @param regex
+     * @param subnetId
+     * @param catalogVersion the current version of the local catalog
+     */
+    public Torr2.SearchResponse get(String regex, int subnetId, long catalogVersion) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        String key = toKey(regex, subnetId);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        // drop the entry if it is stale or the local files changed since it was computed
+        if (!entry.isValid(catalogVersion, System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.response;
+    }
+
+    public void put(String regex, int subnetId, long catalogVersion, Torr2.SearchResponse response) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // keep the cache bounded: first drop the invalid entries, then everything if it is still full
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> !entry.isValid(catalogVersion, now));
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(toKey(regex, subnetId), new Entry(response, catalogVersion, now));
+    }
+
+    private String toKey(String regex, int subnetId) {
+        // the subnet id goes first, since the regex may contain any character
+        return subnetId + ":" + regex;
+    }
+
+    private class Entry {
+        private final Torr2.SearchResponse response;
+        private final long catalogVersion;
+        private final long createdAt;
+
+        private Entry(Torr2.SearchResponse response, long catalogVersion, long createdAt) {
+            this.response = response;
+            this.catalogVersion = catalogVersion;
+            this.createdAt = createdAt;
+        }
+
+        private boolean isValid(long currentCatalogVersion, long now) {
+            return catalogVersion == currentCatalogVersion && now - createdAt < freshnessMillis;
+        }
+    }
+}
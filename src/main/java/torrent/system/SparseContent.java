@@ -0,0 +1,208 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import torrent.Torr2;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The content of a file that is being replicated: only some of its chunks are present, as marked in a bitmap.
+ * <p>
+ * Sparse contents belong to a single node and are not kept in the content store; once all the chunks are present,
+ * the node moves the data into the content store. Until then, the chunks stay in memory, so a replication that
+ * fails partway can be resumed by fetching only the missing ones. When the node stops, the sparse contents are saved
+ * to disk, and restored when it starts again.
+ * <p>
+ * The node limits the memory taken by its sparse contents, and drops the ones that are not updated for a while (see
+ * {@link TorrentSystem#acquirePartialContent(Torr2.FileInfo)}).
+ */
+public class SparseContent extends StoredContent {
+    private final Torr2.FileInfo fileInfo;
+    private final ByteString[] chunks;
+    private final BitSet presentChunks;
+    // the size of the chunks that are present, guarded by this
+    private long presentBytes;
+    private volatile long lastUpdateTime = System.nanoTime();
+    // the number of replications using the content, guarded by the torrent system that holds it
+    int replicationCount;
+
+    SparseContent(ContentStore contentStore, Torr2.FileInfo fileInfo) {
+        super(contentStore, fileInfo.getHash(), fileInfo.getSize());
+        this.fileInfo = fileInfo;
+        this.chunks = new ByteString[fileInfo.getChunksCount()];
+        this.presentChunks = new BitSet(fileInfo.getChunksCount());
+    }
+
+    public Torr2.FileInfo getFileInfo() {
+        return fileInfo;
+    }
+
+    @Override
+    public int getChunkCount() {
+        return fileInfo.getChunksCount();
+    }
+
+    @Override
+    public Torr2.ChunkInfo getChunkInfo(int index) {
+        return fileInfo.getChunks(index);
+    }
+
+    @Override
+    public List<Torr2.ChunkInfo> getChunkInfos() {
+        return fileInfo.getChunksList();
+    }
+
+    public synchronized boolean hasChunk(int index) {
+        return presentChunks.get(index);
+    }
+
+    public synchronized boolean isComplete() {
+        return presentChunks.cardinality() == chunks.length;
+    }
+
+    @Override
+    public synchronized BitSet getPresentChunks() {
+        return (BitSet) presentChunks.clone();
+    }
+
+    /**
+     * Returns the size of the chunks that are present.
+     */
+    public synchronized long getPresentBytes() {
+        return presentBytes;
+    }
+
+    /**
+     * Returns the (System.nanoTime) moment a chunk was last stored, or a replication last used the content.
+     */
+    long getLastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    void touch() {
+        lastUpdateTime = System.nanoTime();
+    }
+
+    /**
+     * Stores the data of the chunk with the given index, if it matches the chunk hash. Returns false otherwise.
+     *
+     * @param index
+     * @param data
+     */
+    public boolean putChunk(int index, ByteString data) {
+        Torr2.ChunkInfo chunkInfo = getChunkInfo(index);
+        if (data.size() != chunkInfo.getSize() || !TorrentSystem.hashBytes(data).equals(chunkInfo.getHash())) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (!presentChunks.get(index)) {
+                presentBytes += data.size();
+            }
+            chunks[index] = data;
+            presentChunks.set(index);
+        }
+        touch();
+        return true;
+    }
+
+    /**
+     * Writes the file info and the chunks that are present to the given stream, so that the content can be read back
+     * with {@link #restore(ContentStore, InputStream)}.
+     *
+     * @param outputStream
+     */
+    void save(OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        fileInfo.writeDelimitedTo(dataOutputStream);
+        synchronized (this) {
+            for (int index = presentChunks.nextSetBit(0); index >= 0; index = presentChunks.nextSetBit(index + 1)) {
+                dataOutputStream.writeInt(index);
+                chunks[index].writeTo(dataOutputStream);
+            }
+        }
+        // the chunk list ends with an invalid index
+        dataOutputStream.writeInt(-1);
+        dataOutputStream.flush();
+    }
+
+    /**
+     * Reads a content written with {@link #save(OutputStream)}. The chunks that do not match their hash are left out.
+     *
+     * @param contentStore
+     * @param inputStream
+     */
+    static SparseContent restore(ContentStore contentStore, InputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(inputStream);
+        Torr2.FileInfo fileInfo = Torr2.FileInfo.parseDelimitedFrom(dataInputStream);
+        if (fileInfo == null) {
+            throw new IOException("Missing file info.");
+        }
+
+        SparseContent content = new SparseContent(contentStore, fileInfo);
+        for (int index = dataInputStream.readInt(); index >= 0; index = dataInputStream.readInt()) {
+            if (index >= fileInfo.getChunksCount()) {
+                throw new IOException("Invalid chunk index " + index + ".");
+            }
+            byte[] data = new byte[fileInfo.getChunks(index).getSize()];
+            dataInputStream.readFully(data);
+            // the array is not used anywhere else, so it can be wrapped without a copy
+            content.putChunk(index, UnsafeByteOperations.unsafeWrap(data));
+        }
+        return content;
+    }
+
+    @Override
+    synchronized ByteString readChunk(int index) {
+        return chunks[index];
+    }
+
+    @Override
+    ByteString readData() {
+        List<ByteString> pieces = new ArrayList<>(chunks.length);
+        synchronized (this) {
+            for (ByteString chunk : chunks) {
+                if (chunk == null) {
+                    return null;
+                }
+                pieces.add(chunk);
+            }
+        }
+        return ByteString.copyFrom(pieces);
+    }
+
+    @Override
+    void load(ByteString data) {
+        // the whole content is given, so every chunk becomes present
+        synchronized (this) {
+            long offset = 0;
+            for (int index = 0; index < chunks.length; index++) {
+                int size = getChunkInfo(index).getSize();
+                chunks[index] = data.substring((int) offset, (int) offset + size);
+                offset += size;
+            }
+            presentChunks.set(0, chunks.length);
+            presentBytes = offset;
+        }
+        touch();
+    }
+
+    @Override
+    void unload() {
+        synchronized (this) {
+            presentChunks.clear();
+            presentBytes = 0;
+            for (int index = 0; index < chunks.length; index++) {
+                chunks[index] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Encoding applied to the chunk data kept in memory. It only concerns storage: the chunks are always decoded before
+ * being sent to other nodes.
+ */
+public interface StorageCodec {
+    /**
+     * Encodes the given data. May return null if encoding does not make the data smaller, in which case the data is
+     * stored as it is.
+     *
+     * @param data
+     */
+    ByteString encode(ByteString data);
+
+    /**
+     * Decodes data produced by {@link #encode(ByteString)}.
+     *
+     * @param encodedData
+     * @param size the size of the original data
+     */
+    ByteString decode(ByteString encodedData, int size);
+}
@@ -0,0 +1,253 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import torrent.Torr2;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The content of a file (its chunks), as kept in the {@link ContentStore}. The same content is shared by all the
+ * nodes of the JVM that have the file, each of them with its own {@link File} (file info) referencing it.
+ * <p>
+ * A content is either hot (its data is in memory) or cold (its data is only on disk). Reading the chunks of a cold
+ * content promotes it back to memory.
+ * <p>
+ * How the data is laid out in memory is up to the subclasses; whatever the layout, the content is seen as a list of
+ * protocol chunks.
+ */
+public abstract class StoredContent {
+    // how many times we try to read a chunk that is demoted while we read it
+    private static final int READ_ATTEMPTS = 2;
+
+    protected final ContentStore contentStore;
+    private final ByteString fileHash;
+    private final long size;
+    private volatile boolean hot = true;
+    private volatile long lastAccessTime = System.nanoTime();
+    // the whole content as one balanced ByteString, kept while hot: either a view over the stored data, or a decoded
+    // copy of it cached by the content store (see viewBytes)
+    protected volatile ByteString dataView;
+    // the memory the data view takes besides the stored data (0 if it is only a view over it), guarded by this
+    long viewBytes;
+    // the copy of the content on disk, written the first time the content is demoted; guarded by this
+    Path diskPath;
+    // the number of files referencing the content, guarded by the content store
+    int referenceCount;
+    // true while the content store writes the content to disk, guarded by its tier lock
+    boolean demoting;
+
+    protected StoredContent(ContentStore contentStore, ByteString fileHash, long size) {
+        this.contentStore = contentStore;
+        this.fileHash = fileHash;
+        this.size = size;
+    }
+
+    public ByteString getFileHash() {
+        return fileHash;
+    }
+
+    /**
+     * Returns the chunk with the given index, or null if there is no such chunk (or it could not be read).
+     *
+     * @param index
+     */
+    public Chunk getChunk(int index) {
+        if (index < 0 || index >= getChunkCount()) {
+            return null;
+        }
+
+        lastAccessTime = System.nanoTime();
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            if (!hot && !contentStore.promote(this)) {
+                return null;
+            }
+            ByteString data = readChunk(index);
+            if (data != null) {
+                return new Chunk(getChunkInfo(index), data);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns all the chunks of the content, or null if they could not be read.
+     */
+    public List<Chunk> getChunks() {
+        List<Chunk> chunks = new ArrayList<>(getChunkCount());
+        for (int index = 0; index < getChunkCount(); index++) {
+            Chunk chunk = getChunk(index);
+            if (chunk == null) {
+                return null;
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the whole content, or null if it could not be read.
+     */
+    public ByteString getData() {
+        lastAccessTime = System.nanoTime();
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            if (!hot && !contentStore.promote(this)) {
+                return null;
+            }
+            ByteString data = dataView;
+            if (data == null) {
+                data = readData();
+                // the stored data is encoded, so the decoded copy is kept for the next reads (within the hot tier)
+                if (data != null) {
+                    contentStore.cacheDataView(this, data);
+                }
+            }
+            if (data != null) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the given range of the content, without building the whole content, or null if it could not be read.
+     * The range must be within the content.
+     *
+     * @param offset
+     * @param length
+     */
+    public ByteString getRange(long offset, int length) {
+        lastAccessTime = System.nanoTime();
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            if (!hot && !contentStore.promote(this)) {
+                return null;
+            }
+            ByteString view = dataView;
+            ByteString data = view != null
+                    ? view.substring((int) offset, (int) offset + length)
+                    : readRange(offset, length);
+            if (data != null) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    public List<Torr2.ChunkInfo> getChunkInfos() {
+        List<Torr2.ChunkInfo> chunkInfos = new ArrayList<>(getChunkCount());
+        for (int index = 0; index < getChunkCount(); index++) {
+            chunkInfos.add(getChunkInfo(index));
+        }
+        return chunkInfos;
+    }
+
+    public abstract int getChunkCount();
+
+    /**
+     * Returns the info of the chunk with the given index (which must be valid).
+     *
+     * @param index
+     */
+    public abstract Torr2.ChunkInfo getChunkInfo(int index);
+
+    /**
+     * Returns a bitmap of the chunks that are present. A stored content has all of its chunks.
+     */
+    public BitSet getPresentChunks() {
+        BitSet presentChunks = new BitSet(getChunkCount());
+        presentChunks.set(0, getChunkCount());
+        return presentChunks;
+    }
+
+    /**
+     * Returns true if the chunk infos are not kept as protobuf objects, but built on demand. In that case, the files
+     * should avoid holding on to them as well.
+     */
+    public boolean hasCompactChunkInfos() {
+        return false;
+    }
+
+    /**
+     * Returns the size of the content in bytes.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isHot() {
+        return hot;
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    void setHot(boolean hot) {
+        this.hot = hot;
+    }
+
+    /**
+     * Writes the whole content (all the chunks, in order) to the given stream.
+     *
+     * @param outputStream
+     */
+    void writeTo(OutputStream outputStream) throws IOException {
+        for (int index = 0; index < getChunkCount(); index++) {
+            ByteString data = readChunk(index);
+            if (data == null) {
+                throw new IOException("Missing chunk " + index + " of the content.");
+            }
+            data.writeTo(outputStream);
+        }
+    }
+
+    /**
+     * Returns the data of the chunk with the given index (which must be valid), or null if it is not in memory.
+     *
+     * @param index
+     */
+    abstract ByteString readChunk(int index);
+
+    /**
+     * Returns the whole content, built from the data in memory, or null if some of it is not in memory.
+     */
+    abstract ByteString readData();
+
+    /**
+     * Returns the given range of the content, built from the data in memory, or null if some of it is not in memory.
+     *
+     * @param offset
+     * @param length
+     */
+    ByteString readRange(long offset, int length) {
+        // take the part of every chunk that overlaps the range (the chunks have the standard size, except the last)
+        List<ByteString> pieces = new ArrayList<>();
+        long end = offset + length;
+        for (long chunkOffset = offset - offset % TorrentSystem.CHUNK_SIZE; chunkOffset < end;
+             chunkOffset += TorrentSystem.CHUNK_SIZE) {
+            ByteString data = readChunk((int) (chunkOffset / TorrentSystem.CHUNK_SIZE));
+            if (data == null) {
+                return null;
+            }
+            int start = (int) Math.max(0, offset - chunkOffset);
+            pieces.add(data.substring(start, (int) Math.min(data.size(), end - chunkOffset)));
+        }
+        return ByteString.copyFrom(pieces);
+    }
+
+    /**
+     * Puts the given data (the whole file content) in memory.
+     *
+     * @param data
+     */
+    abstract void load(ByteString data);
+
+    /**
+     * Frees the memory held for the data.
+     */
+    abstract void unload();
+}
@@ -0,0 +1,89 @@
+package torrent.system;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits a flow of bytes to a rate, allowing bursts of up to one second worth of bytes.
+ * <p>
+ * Taking more bytes than the bucket holds puts it in debt, and the caller waits until the debt is paid back; so
+ * concurrent callers are served in turn, each at the configured rate. The rate can be changed at any time; a rate
+ * of 0 means unlimited.
+ */
+public class TokenBucket {
+    private long bytesPerSecond;
+    private double tokens;
+    private long lastRefillTime = System.nanoTime();
+
+    public TokenBucket(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.tokens = bytesPerSecond;
+    }
+
+    public synchronized long getRate() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Changes the rate (0 means unlimited). The bytes already taken are not given back.
+     *
+     * @param bytesPerSecond
+     */
+    public synchronized void setRate(long bytesPerSecond) {
+        refill();
+        this.bytesPerSecond = bytesPerSecond;
+        tokens = bytesPerSecond > 0 ? Math.min(tokens, bytesPerSecond) : 0;
+    }
+
+    /**
+     * Takes the given number of bytes, waiting as long as the rate requires.
+     *
+     * @param bytes
+     */
+    public void acquire(long bytes) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            if (bytesPerSecond <= 0) {
+                return;
+            }
+            refill();
+            tokens -= bytes;
+            waitNanos = toWaitNanos(-tokens);
+        }
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    /**
+     * Waits until the given number of bytes could be taken without waiting (or a full bucket, for more bytes than
+     * that), without taking them.
+     *
+     * @param bytes
+     */
+    public void awaitAvailable(long bytes) throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                if (bytesPerSecond <= 0) {
+                    return;
+                }
+                refill();
+                waitNanos = toWaitNanos(Math.min(bytes, bytesPerSecond) - tokens);
+            }
+            if (waitNanos <= 0) {
+                return;
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        if (bytesPerSecond > 0) {
+            tokens = Math.min(bytesPerSecond, tokens + (now - lastRefillTime) * bytesPerSecond / 1e9);
+        }
+        lastRefillTime = now;
+    }
+
+    private long toWaitNanos(double missingBytes) {
+        return missingBytes > 0 ? (long) Math.ceil(missingBytes * 1e9 / bytesPerSecond) : 0;
+    }
+}
@@ -4,39 +4,98 @@ import com.google.protobuf.ByteString;
 import torrent.Torr2;
 import torrent.abstractions.*;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class TorrentSystem {
-    private static final int CHUNK_SIZE = 1024;
+    public static final int CHUNK_SIZE = 1024;
+    private static final String PARTIAL_FILE_EXTENSION = ".partial";
 
     private final List<Abstraction> abstractionList = new CopyOnWriteArrayList<>();
     private final Map<ByteString, File> fileList = new ConcurrentHashMap<>();
-    private final String hubIP;
-    private final int hubPort;
+    // the files being replicated, which only have some of their chunks
+    private final Map<ByteString, File> partialFileList = new ConcurrentHashMap<>();
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong storageUsage = new AtomicLong();
+    // taken to add, pin or evict files, so that a file is never evicted while it is being pinned
+    private final Object evictionLock = new Object();
+    private final ContentStore contentStore = ContentStore.getInstance();
+    private final CongestionWindows congestionWindows;
+    private final AdmissionControl admissionControl;
+    private final RequestScheduler requestScheduler;
+    private final Path partialFilesDirectory;
+    // the number of requests being processed
+    private final AtomicInteger runningRequests = new AtomicInteger();
+    // notified when the last request being processed finishes, once the node is stopped
+    private final Object drainLock = new Object();
+    private volatile boolean stopped;
+    private final NodeConfig config;
     private Torr2.NodeId currentNode;
 
+    /**
+     * Creates a node with the default settings, which advertises the hub host as its own.
+     *
+     * @param owner
+     * @param ownerIndex
+     * @param nodePort
+     * @param hubIP
+     * @param hubPort
+     */
     public TorrentSystem(String owner, int ownerIndex, int nodePort, String hubIP, int hubPort) {
-        this.hubIP = hubIP;
-        this.hubPort = hubPort;
+        this(new NodeConfig(owner, ownerIndex, nodePort, hubIP, hubIP, hubPort));
+    }
+
+    public TorrentSystem(NodeConfig config) {
+        this.config = config;
 
         currentNode = Torr2.NodeId.newBuilder()
-                .setHost(hubIP)
-                .setPort(nodePort)
-                .setOwner(owner)
-                .setIndex(ownerIndex)
+                .setHost(config.getHost())
+                .setPort(config.getPort())
+                .setOwner(config.getOwner())
+                .setIndex(config.getIndex())
                 .build();
+        requestScheduler = new RequestScheduler();
+        congestionWindows = new CongestionWindows(config);
+        admissionControl = new AdmissionControl(config);
+        partialFilesDirectory = Paths.get(config.getPartialFilesDirectory(),
+                config.getOwner() + "-" + config.getIndex());
+        restorePartialFiles();
 
         abstractionList.add(new DownloadAbstraction(this));
+        abstractionList.add(new RangeDownloadAbstraction(this));
         abstractionList.add(new UploadAbstraction(this));
         abstractionList.add(new LocalSearchAbstraction(this));
         abstractionList.add(new SearchAbstraction(this));
         abstractionList.add(new ChunkAbstraction(this));
+        abstractionList.add(new ChunkAvailabilityAbstraction(this));
         abstractionList.add(new ReplicateAbstraction(this));
     }
 
@@ -49,10 +108,129 @@ public class TorrentSystem {
      * <p>
      * If no abstractions can handle the given request, this method returns null (should never happen,
      * given that there are abstractions implemented for every message type).
+     * <p>
+     * If the node already processes too many requests of the same type, the request is answered right away with
+     * a response telling that the node is busy. Otherwise, the request is handled by the request scheduler, on the
+     * threads of its kind of work and by priority; if those threads and their queue are full, the node is busy as
+     * well. Once the node is stopped, every request is answered as if the node was busy, so that the other nodes try
+     * elsewhere.
      *
      * @param requestMessage
      */
     public Torr2.Message trigger(Torr2.Message requestMessage) {
+        final Torr2.Message.Type type = requestMessage.getType();
+        runningRequests.incrementAndGet();
+        try {
+            if (stopped || !admissionControl.admit(type)) {
+                return AdmissionControl.buildBusyResponse(requestMessage);
+            }
+
+            try {
+                return requestScheduler.execute(type, () -> handle(requestMessage));
+            } catch (RejectedExecutionException e) {
+                return AdmissionControl.buildBusyResponse(requestMessage);
+            } finally {
+                admissionControl.release(type);
+            }
+        } finally {
+            requestFinished();
+        }
+    }
+
+    /**
+     * Handles a request message as {@link #trigger(Torr2.Message)} does, but passes the response to the given response
+     * handler instead of returning it: the calling thread only waits for the admission of the request, not for its
+     * handling. The response handler runs on the thread that handled the request (or on the calling thread, if the
+     * node is busy); it gets null if the request failed.
+     *
+     * @param requestMessage
+     * @param responseHandler
+     */
+    public void trigger(Torr2.Message requestMessage, Consumer<Torr2.Message> responseHandler) {
+        final Torr2.Message.Type type = requestMessage.getType();
+        runningRequests.incrementAndGet();
+        if (stopped || !admissionControl.admit(type)) {
+            respond(responseHandler, AdmissionControl.buildBusyResponse(requestMessage));
+            return;
+        }
+
+        try {
+            requestScheduler.submit(type, () -> handle(requestMessage), responseMessage -> {
+                admissionControl.release(type);
+                respond(responseHandler, responseMessage);
+            });
+        } catch (RejectedExecutionException e) {
+            admissionControl.release(type);
+            respond(responseHandler, AdmissionControl.buildBusyResponse(requestMessage));
+        }
+    }
+
+    /**
+     * Passes the response of a request to its handler, then counts the request as finished.
+     *
+     * @param responseHandler
+     * @param responseMessage
+     */
+    private void respond(Consumer<Torr2.Message> responseHandler, Torr2.Message responseMessage) {
+        try {
+            responseHandler.accept(responseMessage);
+        } finally {
+            requestFinished();
+        }
+    }
+
+    private void requestFinished() {
+        // only the end of the last request matters, and only once the node is stopped
+        if (runningRequests.decrementAndGet() == 0 && stopped) {
+            synchronized (drainLock) {
+                drainLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Stops accepting requests; the requests being processed go on. See {@link #awaitStop(long)}.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Waits for the requests being processed to finish, for at most the given time, then saves the partial files, so
+     * that their replication can be resumed after a restart. Returns false if some requests were still being processed
+     * at the deadline (the partial files are saved anyway, with the chunks replicated so far).
+     *
+     * @param timeoutMillis
+     */
+    public boolean awaitStop(long timeoutMillis) {
+        boolean drained = true;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (drainLock) {
+            try {
+                long remainingNanos;
+                while (runningRequests.get() > 0 && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(drainLock, remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int remainingRequests = runningRequests.get();
+        if (remainingRequests > 0) {
+            System.out.println("Node " + currentNode.getIndex() + " stopped with " + remainingRequests
+                    + " requests still being processed.");
+            drained = false;
+        }
+
+        savePartialFiles();
+        return drained;
+    }
+
+    private Torr2.Message handle(Torr2.Message requestMessage) {
         for (Abstraction abstraction : abstractionList) {
             Torr2.Message responseMessage = abstraction.handle(requestMessage);
             if (responseMessage != null) {
@@ -66,17 +244,353 @@ public class TorrentSystem {
         return currentNode;
     }
 
+    public NodeConfig getConfig() {
+        return config;
+    }
+
     public Map<ByteString, File> getFileList() {
         return fileList;
     }
 
+    /**
+     * Returns the shared content of the file with the given hash, creating it from the file data given by the loader
+     * if no node of the JVM has it yet. The content must then be stored with {@link #addFile(File)}.
+     *
+     * @param fileHash
+     * @param dataLoader
+     */
+    public StoredContent acquireContent(ByteString fileHash, Supplier<ByteString> dataLoader) {
+        return contentStore.acquire(fileHash, dataLoader);
+    }
+
+    /**
+     * Returns the shared content of the file with the given hash if another node of the JVM has it, or null.
+     * The content must then be stored with {@link #addFile(File)}.
+     *
+     * @param fileHash
+     */
+    public StoredContent acquireContentIfPresent(ByteString fileHash) {
+        return contentStore.acquireIfPresent(fileHash);
+    }
+
+    /**
+     * Stores the given file in the file list, unless a file with the same hash is already there.
+     * Returns the stored file. If the given file is pinned, the file already there is pinned as well.
+     * <p>
+     * The least recently accessed replicas may be evicted to make room for the file, but never the file itself.
+     *
+     * @param file
+     */
+    public File addFile(File file) {
+        File previous;
+        List<File> evictedFiles = null;
+        synchronized (evictionLock) {
+            previous = fileList.putIfAbsent(file.getFileInfoHeader().getHash(), file);
+            if (previous != null) {
+                // an original must stay, even if we already held it as a replica
+                if (file.isPinned()) {
+                    previous.pin();
+                }
+            } else {
+                catalogVersion.incrementAndGet();
+                storageUsage.addAndGet(file.getContent().getSize());
+                evictedFiles = evictReplicas(file);
+            }
+        }
+
+        if (previous != null) {
+            // we already reference the content through the previous file
+            contentStore.release(file.getContent());
+            return previous;
+        }
+        for (File evictedFile : evictedFiles) {
+            contentStore.release(evictedFile.getContent());
+        }
+        return file;
+    }
+
+    /**
+     * Pins the file with the given hash, so that it is never evicted, and returns it; returns null if there is no such
+     * file. A file returned by this method is still in the file list (it cannot be evicted in between).
+     *
+     * @param fileHash
+     */
+    public File pinFile(ByteString fileHash) {
+        synchronized (evictionLock) {
+            File file = fileList.get(fileHash);
+            if (file != null) {
+                file.pin();
+            }
+            return file;
+        }
+    }
+
+    /**
+     * Removes the file with the given hash from the file list, releasing its content. Returns the removed file,
+     * or null if there was no such file.
+     *
+     * @param fileHash
+     */
+    public File removeFile(ByteString fileHash) {
+        File file = fileList.get(fileHash);
+        if (file == null || !unlistFile(file)) {
+            return null;
+        }
+        contentStore.release(file.getContent());
+        return file;
+    }
+
+    /**
+     * Removes the given file from the file list, without releasing its content. Returns false if the file was not
+     * there anymore.
+     *
+     * @param file
+     */
+    private boolean unlistFile(File file) {
+        if (!fileList.remove(file.getFileInfoHeader().getHash(), file)) {
+            return false;
+        }
+        catalogVersion.incrementAndGet();
+        storageUsage.addAndGet(-file.getContent().getSize());
+        return true;
+    }
+
+    /**
+     * Returns the size of the files held by this node. Contents shared with other nodes of the JVM are counted
+     * for each of them; the bytes actually kept in memory and on disk are reported by the content store.
+     */
+    public long getStorageUsage() {
+        return storageUsage.get();
+    }
+
+    /**
+     * Evicts the least recently accessed replicated files until the node fits in its storage budget. Pinned files
+     * (uploaded by the hub) are never evicted, nor is the file just added, so the node may still exceed the budget if
+     * they alone exceed it.
+     * <p>
+     * Must be called while holding the eviction lock. The evicted files are only removed from the file list; their
+     * contents must be released by the caller, once it gave the lock back.
+     *
+     * @param addedFile
+     */
+    private List<File> evictReplicas(File addedFile) {
+        List<File> evictedFiles = new ArrayList<>();
+        long excessBytes = storageUsage.get() - config.getStorageBudgetBytes();
+        if (excessBytes <= 0) {
+            return evictedFiles;
+        }
+
+        // the access times are read once, since the files may be accessed while we sort them
+        List<File> replicas = new ArrayList<>();
+        Map<File, Long> accessTimes = new HashMap<>();
+        for (File file : fileList.values()) {
+            if (!file.isPinned() && file != addedFile) {
+                replicas.add(file);
+                accessTimes.put(file, file.getLastAccessTime());
+            }
+        }
+        replicas.sort(Comparator.comparing(accessTimes::get));
+
+        for (Iterator<File> iterator = replicas.iterator(); iterator.hasNext() && excessBytes > 0; ) {
+            File file = iterator.next();
+            if (unlistFile(file)) {
+                excessBytes -= file.getContent().getSize();
+                evictedFiles.add(file);
+            }
+        }
+        return evictedFiles;
+    }
+
+    /**
+     * Returns the sparse content of the file with the given info, which is being replicated. If a previous replication
+     * of the file failed partway, the content has the chunks that were already replicated; otherwise, it is empty.
+     * Every call must be paired with a {@link #releasePartialContent(SparseContent)}, once the replication is over.
+     * <p>
+     * The partial files that no replication uses are dropped once they are not updated for a while, or when the
+     * partial files take more than their budget (least recently updated first).
+     *
+     * @param fileInfo
+     */
+    public SparseContent acquirePartialContent(Torr2.FileInfo fileInfo) {
+        synchronized (partialFileList) {
+            File partialFile = partialFileList.computeIfAbsent(fileInfo.getHash(),
+                    fileHash -> new File(fileInfo, new SparseContent(contentStore, fileInfo)));
+            SparseContent partialContent = (SparseContent) partialFile.getContent();
+            partialContent.replicationCount++;
+            partialContent.touch();
+            enforcePartialFilesLimits();
+            return partialContent;
+        }
+    }
+
+    public void releasePartialContent(SparseContent partialContent) {
+        synchronized (partialFileList) {
+            partialContent.replicationCount--;
+            partialContent.touch();
+            enforcePartialFilesLimits();
+        }
+    }
+
+    /**
+     * Drops the partial files that no replication used or updated for longer than the expiry time.
+     */
+    public void expirePartialFiles() {
+        synchronized (partialFileList) {
+            enforcePartialFilesLimits();
+        }
+    }
+
+    /**
+     * Drops the expired partial files, then the least recently updated ones while the partial files exceed their
+     * budget. The partial files used by a replication are kept. Must be called while holding the partial file list.
+     */
+    private void enforcePartialFilesLimits() {
+        long now = System.nanoTime();
+        long expiryNanos = TimeUnit.MILLISECONDS.toNanos(config.getPartialFileExpiryMillis());
+        long partialBytes = 0;
+        for (Iterator<File> iterator = partialFileList.values().iterator(); iterator.hasNext(); ) {
+            SparseContent partialContent = (SparseContent) iterator.next().getContent();
+            if (partialContent.replicationCount == 0 && now - partialContent.getLastUpdateTime() > expiryNanos) {
+                iterator.remove();
+            } else {
+                partialBytes += partialContent.getPresentBytes();
+            }
+        }
+
+        while (partialBytes > config.getPartialFilesBudgetBytes()) {
+            SparseContent leastRecentlyUpdated = null;
+            for (File partialFile : partialFileList.values()) {
+                SparseContent partialContent = (SparseContent) partialFile.getContent();
+                if (partialContent.replicationCount == 0 && (leastRecentlyUpdated == null
+                        || partialContent.getLastUpdateTime() < leastRecentlyUpdated.getLastUpdateTime())) {
+                    leastRecentlyUpdated = partialContent;
+                }
+            }
+            if (leastRecentlyUpdated == null) {
+                return;
+            }
+            partialFileList.remove(leastRecentlyUpdated.getFileHash());
+            partialBytes -= leastRecentlyUpdated.getPresentBytes();
+        }
+    }
+
+    /**
+     * Returns the partial file with the given hash, or null if the file is not being replicated.
+     *
+     * @param fileHash
+     */
+    public File getPartialFile(ByteString fileHash) {
+        return partialFileList.get(fileHash);
+    }
+
+    /**
+     * Moves the partial file with the given hash, which must have all its chunks by now, to the file list.
+     * Returns the stored file (which may have been stored by another replication of the same file), or null if there
+     * is no such partial file or it is not complete.
+     *
+     * @param fileHash
+     */
+    public File completePartialFile(ByteString fileHash) {
+        synchronized (partialFileList) {
+            File partialFile = partialFileList.get(fileHash);
+            if (partialFile == null) {
+                return getFileList().get(fileHash);
+            }
+            ByteString fileData = partialFile.getData();
+            if (fileData == null) {
+                return null;
+            }
+
+            File file = addFile(new File(partialFile.getFileInfo(), acquireContent(fileHash, () -> fileData)));
+            partialFileList.remove(fileHash, partialFile);
+            return file;
+        }
+    }
+
+    /**
+     * Writes the partial files that have some chunks to the partial files directory of the node.
+     */
+    private void savePartialFiles() {
+        for (File partialFile : partialFileList.values()) {
+            SparseContent partialContent = (SparseContent) partialFile.getContent();
+            if (partialContent.getPresentChunks().isEmpty()) {
+                continue;
+            }
+
+            // the file is written under another name first, so that a crash never leaves half of it
+            Path path = partialFilesDirectory.resolve(
+                    ContentStore.toHex(partialContent.getFileHash()) + PARTIAL_FILE_EXTENSION);
+            Path temporaryPath = partialFilesDirectory.resolve(path.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(partialFilesDirectory);
+                try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryPath))) {
+                    partialContent.save(outputStream);
+                }
+                Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Reads back the partial files saved when the node last stopped. The files are deleted once read, since they are
+     * saved again when the node stops.
+     */
+    private void restorePartialFiles() {
+        if (!Files.isDirectory(partialFilesDirectory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> paths =
+                     Files.newDirectoryStream(partialFilesDirectory, "*" + PARTIAL_FILE_EXTENSION)) {
+            for (Path path : paths) {
+                try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+                    SparseContent partialContent = SparseContent.restore(contentStore, inputStream);
+                    partialFileList.put(partialContent.getFileHash(),
+                            new File(partialContent.getFileInfo(), partialContent));
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns the admission control of the requests this node processes, which counts the rejected requests.
+     */
+    public AdmissionControl getAdmissionControl() {
+        return admissionControl;
+    }
+
+    public RequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
+    /**
+     * Returns the congestion windows of the nodes this node fetches chunks from.
+     */
+    public CongestionWindows getCongestionWindows() {
+        return congestionWindows;
+    }
+
+    /**
+     * Returns a number that changes every time the local file list changes.
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
     /**
      * Hashes the given byte string using the MD5 algorithm. Returns the hash.
      *
      * @param bytesToHash
      * @return
      */
-    public ByteString hashBytes(final ByteString bytesToHash) {
+    public static ByteString hashBytes(final ByteString bytesToHash) {
         try {
             MessageDigest messageDigest = MessageDigest.getInstance("MD5");
             messageDigest.update(bytesToHash.toByteArray());
@@ -94,7 +608,7 @@ public class TorrentSystem {
      * @param fileData
      * @return
      */
-    public List<Chunk> parseFileData(ByteString fileData) {
+    public static List<Chunk> parseFileData(ByteString fileData) {
         List<Chunk> chunks = new ArrayList<>();
 
         // determine the chunk count in the given data
@@ -129,10 +643,14 @@ public class TorrentSystem {
     }
 
     public List<Torr2.NodeId> sendSubnetRequest(int subnetId) {
-        return NetworkManager.sendSubnetRequest(subnetId, hubIP, hubPort);
+        return NetworkManager.sendSubnetRequest(subnetId, config.getHubHost(), config.getHubPort());
     }
 
     public Torr2.Message sendLocalSearchRequest(Torr2.NodeId node, String regex) {
+        return sendLocalSearchRequest(node, regex, 0);
+    }
+
+    public Torr2.Message sendLocalSearchRequest(Torr2.NodeId node, String regex, int timeoutMillis) {
         // build the local search request with the given regex
         Torr2.Message localSearchRequest = Torr2.Message.newBuilder()
                 .setType(Torr2.Message.Type.LOCAL_SEARCH_REQUEST)
@@ -141,17 +659,16 @@ public class TorrentSystem {
                         .build())
                 .build();
 
-        // for the current node, process the local search through a trigger
-        if (node.getPort() == currentNode.getPort()) {
-            return trigger(localSearchRequest);
-        }
-
-        // for the other nodes, send a request over the network
-        return NetworkManager.sendRequest(localSearchRequest, node.getHost(), node.getPort());
+        return sendRequest(localSearchRequest, node, timeoutMillis);
     }
 
     public Torr2.Message sendChunkRequest(Torr2.FileInfo fileInfo, Torr2.ChunkInfo chunkInfo, Torr2.NodeId nodeId) {
-        return NetworkManager.sendRequest(
+        return sendChunkRequest(fileInfo, chunkInfo, nodeId, 0);
+    }
+
+    public Torr2.Message sendChunkRequest(Torr2.FileInfo fileInfo, Torr2.ChunkInfo chunkInfo, Torr2.NodeId nodeId,
+                                          int timeoutMillis) {
+        return sendRequest(
                 Torr2.Message.newBuilder()
                         .setType(Torr2.Message.Type.CHUNK_REQUEST)
                         .setChunkRequest(Torr2.ChunkRequest.newBuilder()
@@ -159,6 +676,86 @@ public class TorrentSystem {
                                 .setChunkIndex(chunkInfo.getIndex())
                                 .build())
                         .build(),
-                nodeId.getHost(), nodeId.getPort());
+                nodeId, timeoutMillis, chunkInfo.getSize());
+    }
+
+    public Torr2.Message sendChunkAvailabilityRequest(ByteString fileHash, Torr2.NodeId nodeId, int timeoutMillis) {
+        return sendRequest(
+                Torr2.Message.newBuilder()
+                        .setType(Torr2.Message.Type.CHUNK_AVAILABILITY_REQUEST)
+                        .setChunkAvailabilityRequest(Torr2.ChunkAvailabilityRequest.newBuilder()
+                                .setFileHash(fileHash)
+                                .build())
+                        .build(),
+                nodeId, timeoutMillis);
+    }
+
+    private Torr2.Message sendRequest(Torr2.Message request, Torr2.NodeId node, int timeoutMillis) {
+        return sendRequest(request, node, timeoutMillis, 0);
+    }
+
+    /**
+     * Sends a request to the given node and returns its response (or null on failure).
+     * <p>
+     * Requests for the current node, or for other nodes running in the same JVM, are processed directly through
+     * their trigger, without any serialization (see {@link #sendLocalRequest(TorrentSystem, Torr2.Message, int)}).
+     * The others are sent over the network, once the bandwidth limits allow receiving the expected size of the
+     * response.
+     *
+     * @param request
+     * @param node
+     * @param timeoutMillis
+     * @param expectedResponseBytes
+     */
+    private Torr2.Message sendRequest(Torr2.Message request, Torr2.NodeId node, int timeoutMillis,
+                                      int expectedResponseBytes) {
+        if (node.equals(currentNode)) {
+            return trigger(request);
+        }
+
+        TorrentSystem localNode = LocalNodeRegistry.lookup(node.getHost(), node.getPort());
+        if (localNode != null) {
+            return sendLocalRequest(localNode, request, timeoutMillis);
+        }
+
+        try {
+            NetworkManager.awaitIngressCapacity(node.getHost(), expectedResponseBytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return NetworkManager.sendRequest(request, node.getHost(), node.getPort(), timeoutMillis);
+    }
+
+    /**
+     * Sends a request to a node of this JVM and returns its response, or null if it did not answer within the given
+     * time (0 means no timeout). As for a request sent over the network, the node handles it on a connection thread,
+     * so that the time it waits for its request threads counts against the timeout.
+     *
+     * @param localNode
+     * @param request
+     * @param timeoutMillis
+     */
+    private static Torr2.Message sendLocalRequest(TorrentSystem localNode, Torr2.Message request, int timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            return localNode.trigger(request);
+        }
+
+        ExecutorService connections = ExecutionRuntime.getInstance().getPool(ExecutionRuntime.CONNECTIONS_POOL);
+        if (connections.isShutdown()) {
+            return null;
+        }
+        Future<Torr2.Message> response = connections.submit(() -> localNode.trigger(request));
+        try {
+            return response.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            response.cancel(true);
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+        return null;
     }
 }
@@ -0,0 +1,128 @@
+package torrent;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.system.ExecutionRuntime;
+import torrent.system.NodeConfig;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigurationTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void nodesGetConsecutivePorts() throws Exception {
+        Configuration configuration = load("--node.firstPort=6000", "--hub.host=hub.example", "--hub.port=6100");
+
+        NodeConfig config = configuration.getNodeConfig(3);
+
+        assertEquals(6002, config.getPort());
+        assertEquals(3, config.getIndex());
+        assertEquals("hub.example", config.getHost());
+        assertEquals("hub.example", config.getHubHost());
+        assertEquals(6100, config.getHubPort());
+    }
+
+    @Test
+    public void argumentsOverrideTheFile() throws Exception {
+        File configFile = writeConfigFile("node.count=5", "node.parallelChunkFetches=8", "node.endgameThreshold=2");
+
+        Configuration configuration = load("--config=" + configFile.getPath(), "--node.parallelChunkFetches=16");
+
+        assertEquals(5, configuration.getNodeCount());
+        assertEquals(16, configuration.getNodeConfig(1).getParallelChunkFetches());
+        assertEquals(2, configuration.getNodeConfig(1).getEndgameThreshold());
+    }
+
+    @Test
+    public void nodeSettingsOverrideTheSharedOnes() throws Exception {
+        Configuration configuration = load("--node.congestionWindowMaxSize=20", "--node.2.congestionWindowMaxSize=40",
+                "--node.2.port=7000");
+
+        assertEquals(20, configuration.getNodeConfig(1).getCongestionWindowMaxSize());
+        assertEquals(40, configuration.getNodeConfig(2).getCongestionWindowMaxSize());
+        assertEquals(7000, configuration.getNodeConfig(2).getPort());
+    }
+
+    @Test
+    public void admissionLimitsCanBeChangedOrRemoved() throws Exception {
+        Configuration configuration = load("--node.admission.SEARCH_REQUEST.maxRunning=2",
+                "--node.admission.SEARCH_REQUEST.maxWaiting=3", "--node.admission.CHUNK_REQUEST.maxRunning=0");
+
+        NodeConfig config = configuration.getNodeConfig(1);
+
+        assertEquals(2, config.getAdmissionMaxRunning(Torr2.Message.Type.SEARCH_REQUEST));
+        assertEquals(3, config.getAdmissionMaxWaiting(Torr2.Message.Type.SEARCH_REQUEST));
+        assertFalse(config.getAdmissionLimitedTypes().contains(Torr2.Message.Type.CHUNK_REQUEST));
+        assertTrue(config.getAdmissionLimitedTypes().contains(Torr2.Message.Type.DOWNLOAD_REQUEST));
+    }
+
+    @Test
+    public void poolSettingsAreApplied() throws Exception {
+        String pool = ExecutionRuntime.SEARCH_POOL;
+        ExecutionRuntime executionRuntime = ExecutionRuntime.getInstance();
+        int threadCount = ((ThreadPoolExecutor) executionRuntime.getPool(pool)).getMaximumPoolSize();
+        int queueCapacity = executionRuntime.getQueueCapacity(pool);
+        try {
+            load("--pool." + pool + ".threads=5", "--pool." + pool + ".queueCapacity=9").applyRuntimeSettings();
+
+            assertEquals(5, ((ThreadPoolExecutor) executionRuntime.getPool(pool)).getMaximumPoolSize());
+            assertEquals(9, executionRuntime.getQueueCapacity(pool));
+        } finally {
+            // the pools are shared by the whole JVM
+            executionRuntime.setQueueCapacity(pool, queueCapacity);
+            executionRuntime.setThreadCount(pool, threadCount);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void argumentWithoutValueIsRejected() throws Exception {
+        load("--node.count");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidNumberIsRejected() throws Exception {
+        load("--node.count=three").getNodeCount();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingConfigFileIsRejected() throws Exception {
+        load("--config=" + new File(temporaryFolder.getRoot(), "missing.properties").getPath());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownStorageCodecIsRejected() throws Exception {
+        load("--storage.codec=zip").applyRuntimeSettings();
+    }
+
+    /**
+     * Loads the given arguments, without reading the default configuration file of the working directory.
+     *
+     * @param args
+     */
+    private Configuration load(String... args) throws Exception {
+        boolean hasConfigFile = Arrays.stream(args).anyMatch(arg -> arg.startsWith("--config="));
+        if (hasConfigFile) {
+            return Configuration.load(args);
+        }
+        String[] allArgs = Arrays.copyOf(args, args.length + 1);
+        allArgs[args.length] = "--config=" + writeConfigFile().getPath();
+        return Configuration.load(allArgs);
+    }
+
+    private File writeConfigFile(String... lines) throws Exception {
+        File configFile = temporaryFolder.newFile();
+        Files.write(configFile.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+        return configFile;
+    }
+}
@@ -0,0 +1,137 @@
+package torrent.abstractions;
+
+import com.google.protobuf.ByteString;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+import torrent.system.NodeConfig;
+import torrent.system.SparseContent;
+import torrent.system.TorrentSystem;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ChunkAbstractionTest {
+    // a few chunks and a partial one
+    private static final int FILE_SIZE = 4 * TorrentSystem.CHUNK_SIZE + 10;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private TorrentSystem torrentSystem;
+    private ByteString fileData;
+    private Torr2.FileInfo fileInfo;
+
+    @Before
+    public void setUp() {
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", "localhost", 5000);
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        torrentSystem = new TorrentSystem(config);
+
+        byte[] bytes = new byte[FILE_SIZE];
+        new Random(1).nextBytes(bytes);
+        fileData = ByteString.copyFrom(bytes);
+        fileInfo = fileInfoOf(fileData);
+    }
+
+    @Test
+    public void presentChunkOfAPartialFileIsServed() {
+        replicateChunks(0, 2);
+
+        Torr2.ChunkResponse response = requestChunk(fileInfo.getHash(), 2);
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(chunkOf(fileData, 2), response.getData());
+    }
+
+    @Test
+    public void missingChunkOfAPartialFileIsNotFound() {
+        replicateChunks(0, 2);
+
+        Torr2.ChunkResponse response = requestChunk(fileInfo.getHash(), 1);
+
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, response.getStatus());
+    }
+
+    @Test
+    public void availabilityListsThePresentChunks() {
+        replicateChunks(0, 2);
+
+        Torr2.ChunkAvailabilityResponse response = requestAvailability(fileInfo.getHash());
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        BitSet expectedChunks = new BitSet();
+        expectedChunks.set(0);
+        expectedChunks.set(2);
+        assertEquals(expectedChunks, BitSet.valueOf(response.getBitfield().toByteArray()));
+    }
+
+    @Test
+    public void unknownFileIsNotFound() {
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, requestChunk(fileInfo.getHash(), 0).getStatus());
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, requestAvailability(fileInfo.getHash()).getStatus());
+    }
+
+    @Test
+    public void chunkPastTheEndIsNotFound() {
+        replicateChunks(0);
+
+        Torr2.ChunkResponse response = requestChunk(fileInfo.getHash(), fileInfo.getChunksCount());
+
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, response.getStatus());
+    }
+
+    /**
+     * Starts replicating the file, with only the given chunks fetched so far.
+     *
+     * @param indexes
+     */
+    private void replicateChunks(int... indexes) {
+        SparseContent partialContent = torrentSystem.acquirePartialContent(fileInfo);
+        for (int index : indexes) {
+            partialContent.putChunk(index, chunkOf(fileData, index));
+        }
+        torrentSystem.releasePartialContent(partialContent);
+    }
+
+    private Torr2.ChunkResponse requestChunk(ByteString fileHash, int chunkIndex) {
+        return torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.CHUNK_REQUEST)
+                .setChunkRequest(Torr2.ChunkRequest.newBuilder()
+                        .setFileHash(fileHash)
+                        .setChunkIndex(chunkIndex))
+                .build()).getChunkResponse();
+    }
+
+    private Torr2.ChunkAvailabilityResponse requestAvailability(ByteString fileHash) {
+        return torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.CHUNK_AVAILABILITY_REQUEST)
+                .setChunkAvailabilityRequest(Torr2.ChunkAvailabilityRequest.newBuilder()
+                        .setFileHash(fileHash))
+                .build()).getChunkAvailabilityResponse();
+    }
+
+    private static Torr2.FileInfo fileInfoOf(ByteString data) {
+        Torr2.FileInfo.Builder fileInfo = Torr2.FileInfo.newBuilder()
+                .setHash(TorrentSystem.hashBytes(data))
+                .setSize(data.size())
+                .setFilename("partial.bin");
+        for (int index = 0; index * TorrentSystem.CHUNK_SIZE < data.size(); index++) {
+            ByteString chunkData = chunkOf(data, index);
+            fileInfo.addChunks(Torr2.ChunkInfo.newBuilder()
+                    .setIndex(index)
+                    .setSize(chunkData.size())
+                    .setHash(TorrentSystem.hashBytes(chunkData)));
+        }
+        return fileInfo.build();
+    }
+
+    private static ByteString chunkOf(ByteString data, int index) {
+        int start = index * TorrentSystem.CHUNK_SIZE;
+        return data.substring(start, Math.min(start + TorrentSystem.CHUNK_SIZE, data.size()));
+    }
+}
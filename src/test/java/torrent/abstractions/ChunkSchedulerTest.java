@@ -0,0 +1,97 @@
+package torrent.abstractions;
+
+import org.junit.Test;
+import torrent.Torr2;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkSchedulerTest {
+    private static final Torr2.NodeId NODE_1 = node(1);
+    private static final Torr2.NodeId NODE_2 = node(2);
+    private static final Torr2.NodeId NODE_3 = node(3);
+    private static final Torr2.NodeId UNKNOWN_1 = node(4);
+    private static final Torr2.NodeId UNKNOWN_2 = node(5);
+
+    @Test
+    public void rarestChunksComeFirst() {
+        ChunkScheduler scheduler = new ChunkScheduler();
+        // chunk 0 is held by 3 nodes, chunk 1 by 1 node, chunk 2 by 2 nodes
+        scheduler.addAvailability(NODE_1, chunks(0, 1, 2));
+        scheduler.addAvailability(NODE_2, chunks(0, 2));
+        scheduler.addAvailability(NODE_3, chunks(0));
+
+        assertEquals(Arrays.asList(1, 2, 0), scheduler.orderRarestFirst(chunks(0, 1, 2)));
+    }
+
+    @Test
+    public void unknownNodesAreNotCountedAsHolders() {
+        ChunkScheduler scheduler = new ChunkScheduler();
+        scheduler.addAvailability(NODE_1, chunks(0, 1));
+        scheduler.addUnknownNode(UNKNOWN_1);
+        scheduler.addUnknownNode(UNKNOWN_2);
+
+        // chunk 2 may be held by the unknown nodes only, so it is the rarest
+        assertEquals(0, scheduler.countHolders(2));
+        assertFalse(scheduler.isHolder(UNKNOWN_1, 0));
+        assertEquals(Arrays.asList(2, 0, 1), scheduler.orderRarestFirst(chunks(0, 1, 2)));
+    }
+
+    @Test
+    public void equallyRareChunksKeepTheirOrder() {
+        ChunkScheduler scheduler = new ChunkScheduler();
+        scheduler.addAvailability(NODE_1, chunks(3, 5, 7, 9));
+        scheduler.addAvailability(NODE_2, chunks(5));
+
+        assertEquals(Arrays.asList(3, 7, 9, 5), scheduler.orderRarestFirst(chunks(3, 5, 7, 9)));
+        assertTrue(scheduler.orderRarestFirst(new BitSet()).isEmpty());
+    }
+
+    @Test
+    public void holdersAreCandidatesBeforeUnknownNodes() {
+        ChunkScheduler scheduler = new ChunkScheduler();
+        scheduler.addAvailability(NODE_1, chunks(0));
+        scheduler.addAvailability(NODE_2, chunks(0));
+        scheduler.addAvailability(NODE_3, chunks(1));
+        scheduler.addUnknownNode(UNKNOWN_1);
+        scheduler.addUnknownNode(UNKNOWN_2);
+
+        List<Torr2.NodeId> candidates = scheduler.getCandidates(0);
+
+        assertEquals(4, candidates.size());
+        assertEquals(new HashSet<>(Arrays.asList(NODE_1, NODE_2)), new HashSet<>(candidates.subList(0, 2)));
+        assertEquals(new HashSet<>(Arrays.asList(UNKNOWN_1, UNKNOWN_2)), new HashSet<>(candidates.subList(2, 4)));
+    }
+
+    @Test
+    public void chunkWithoutHoldersIsAskedOnlyToUnknownNodes() {
+        ChunkScheduler scheduler = new ChunkScheduler();
+        scheduler.addAvailability(NODE_1, chunks(0));
+        scheduler.addUnknownNode(UNKNOWN_1);
+
+        assertEquals(Arrays.asList(UNKNOWN_1), scheduler.getCandidates(1));
+    }
+
+    private static BitSet chunks(int... indexes) {
+        BitSet chunks = new BitSet();
+        for (int index : indexes) {
+            chunks.set(index);
+        }
+        return chunks;
+    }
+
+    private static Torr2.NodeId node(int index) {
+        return Torr2.NodeId.newBuilder()
+                .setHost("localhost")
+                .setPort(5010 + index)
+                .setOwner("test")
+                .setIndex(index)
+                .build();
+    }
+}
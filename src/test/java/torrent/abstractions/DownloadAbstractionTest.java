@@ -0,0 +1,112 @@
+package torrent.abstractions;
+
+import com.google.protobuf.ByteString;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+import torrent.system.ContentStore;
+import torrent.system.NodeConfig;
+import torrent.system.TorrentSystem;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class DownloadAbstractionTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private TorrentSystem torrentSystem;
+
+    @Before
+    public void setUp() {
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", "localhost", 5000);
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        torrentSystem = new TorrentSystem(config);
+    }
+
+    @Test
+    public void smallFileIsDownloaded() {
+        ByteString data = compressibleData(10 * TorrentSystem.CHUNK_SIZE + 17, 1);
+
+        Torr2.DownloadResponse response = download(upload(data));
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(data, response.getData());
+    }
+
+    @Test
+    public void bigFileIsDownloaded() {
+        // kept in blocks
+        ByteString data = compressibleData(3 * 1024 * 1024 + 5, 2);
+
+        Torr2.DownloadResponse response = download(upload(data));
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(data, response.getData());
+    }
+
+    @Test
+    public void decodedDataIsKeptForTheNextDownloads() {
+        ByteString data = compressibleData(50 * TorrentSystem.CHUNK_SIZE, 3);
+        ByteString fileHash = upload(data);
+        ContentStore contentStore = ContentStore.getInstance();
+        long hotBytes = contentStore.getHotBytes();
+
+        download(fileHash);
+        assertEquals(hotBytes + data.size(), contentStore.getHotBytes());
+
+        assertEquals(data, download(fileHash).getData());
+        assertEquals(hotBytes + data.size(), contentStore.getHotBytes());
+    }
+
+    @Test
+    public void unknownFileIsNotFound() {
+        Torr2.DownloadResponse response = download(TorrentSystem.hashBytes(ByteString.copyFromUtf8("nowhere")));
+
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, response.getStatus());
+    }
+
+    @Test
+    public void invalidHashIsRejected() {
+        Torr2.DownloadResponse response = download(ByteString.copyFromUtf8("short"));
+
+        assertEquals(Torr2.Status.MESSAGE_ERROR, response.getStatus());
+    }
+
+    private ByteString upload(ByteString data) {
+        Torr2.UploadResponse response = torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.UPLOAD_REQUEST)
+                .setUploadRequest(Torr2.UploadRequest.newBuilder()
+                        .setFilename("file.bin")
+                        .setData(data))
+                .build()).getUploadResponse();
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        return response.getFileInfo().getHash();
+    }
+
+    private Torr2.DownloadResponse download(ByteString fileHash) {
+        return torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.DOWNLOAD_REQUEST)
+                .setDownloadRequest(Torr2.DownloadRequest.newBuilder()
+                        .setFileHash(fileHash))
+                .build()).getDownloadResponse();
+    }
+
+    /**
+     * Returns data made of a few distinct bytes, so that the stored chunks are encoded.
+     *
+     * @param size
+     * @param seed
+     */
+    private static ByteString compressibleData(int size, long seed) {
+        Random random = new Random(seed);
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -0,0 +1,116 @@
+package torrent.abstractions;
+
+import torrent.Torr2;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A node (or hub) of another process, listening on a free local port, which answers every request with the given
+ * handler. A handler returning null leaves the request unanswered, as a node that hangs.
+ */
+class FakeNode implements Closeable {
+    private final ServerSocket serverSocket;
+    private final Function<Torr2.Message, Torr2.Message> handler;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final List<Socket> hangingSockets = new CopyOnWriteArrayList<>();
+
+    FakeNode(Function<Torr2.Message, Torr2.Message> handler) throws IOException {
+        this.handler = handler;
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "fake-node-" + serverSocket.getLocalPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Returns a hub answering the subnet requests with the given nodes.
+     *
+     * @param nodes
+     */
+    static FakeNode hub(List<Torr2.NodeId> nodes) throws IOException {
+        return new FakeNode(request -> Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.SUBNET_RESPONSE)
+                .setSubnetResponse(Torr2.SubnetResponse.newBuilder()
+                        .setStatus(Torr2.Status.SUCCESS)
+                        .addAllNodes(nodes))
+                .build());
+    }
+
+    String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    Torr2.NodeId getNodeId(String owner, int index) {
+        return Torr2.NodeId.newBuilder()
+                .setHost(getHost())
+                .setPort(getPort())
+                .setOwner(owner)
+                .setIndex(index)
+                .build();
+    }
+
+    /**
+     * Returns the number of requests received so far.
+     */
+    int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : hangingSockets) {
+            socket.close();
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread connection = new Thread(() -> serve(socket));
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            DataInputStream inputStream = new DataInputStream(socket.getInputStream());
+            byte[] requestBytes = new byte[inputStream.readInt()];
+            inputStream.readFully(requestBytes);
+            requestCount.incrementAndGet();
+
+            Torr2.Message response = handler.apply(Torr2.Message.parseFrom(requestBytes));
+            if (response == null) {
+                hangingSockets.add(socket);
+                return;
+            }
+            byte[] responseBytes = response.toByteArray();
+            DataOutputStream outputStream = new DataOutputStream(socket.getOutputStream());
+            outputStream.writeInt(responseBytes.length);
+            outputStream.write(responseBytes);
+            outputStream.flush();
+            socket.close();
+        } catch (IOException e) {
+            // the client gave up
+        }
+    }
+}
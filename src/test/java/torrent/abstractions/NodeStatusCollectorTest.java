@@ -0,0 +1,80 @@
+package torrent.abstractions;
+
+import org.junit.Test;
+import torrent.Torr2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NodeStatusCollectorTest {
+    @Test
+    public void statusesAreOrderedByChunkThenByCollection() {
+        NodeStatusCollector nodeStatusCollector = new NodeStatusCollector();
+        nodeStatusCollector.add(status(2, 1, Torr2.Status.SUCCESS));
+        nodeStatusCollector.add(status(0, 1, Torr2.Status.NETWORK_ERROR));
+        nodeStatusCollector.add(status(1, 2, Torr2.Status.SUCCESS));
+        nodeStatusCollector.add(status(0, 2, Torr2.Status.SUCCESS));
+
+        Torr2.ReplicateResponse.Builder replicateResponse = Torr2.ReplicateResponse.newBuilder();
+        nodeStatusCollector.addTo(replicateResponse);
+
+        List<Torr2.NodeReplicationStatus> statuses = replicateResponse.getNodeStatusListList();
+        assertEquals(4, statuses.size());
+        assertEquals(status(0, 1, Torr2.Status.NETWORK_ERROR).build(), statuses.get(0));
+        assertEquals(status(0, 2, Torr2.Status.SUCCESS).build(), statuses.get(1));
+        assertEquals(status(1, 2, Torr2.Status.SUCCESS).build(), statuses.get(2));
+        assertEquals(status(2, 1, Torr2.Status.SUCCESS).build(), statuses.get(3));
+    }
+
+    @Test
+    public void statusesOfConcurrentThreadsAreAllCollected() throws Exception {
+        NodeStatusCollector nodeStatusCollector = new NodeStatusCollector();
+        int threadCount = 8;
+        int statusesPerThread = 500;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            int node = thread;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // each thread reports its chunks in order
+                for (int index = 0; index < statusesPerThread; index++) {
+                    nodeStatusCollector.add(status(index, node, Torr2.Status.SUCCESS));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Torr2.ReplicateResponse.Builder replicateResponse = Torr2.ReplicateResponse.newBuilder();
+        nodeStatusCollector.addTo(replicateResponse);
+
+        List<Torr2.NodeReplicationStatus> statuses = replicateResponse.getNodeStatusListList();
+        assertEquals(threadCount * statusesPerThread, statuses.size());
+        for (int i = 1; i < statuses.size(); i++) {
+            assertTrue(statuses.get(i - 1).getChunkIndex() <= statuses.get(i).getChunkIndex());
+        }
+    }
+
+    private static Torr2.NodeReplicationStatus.Builder status(int chunkIndex, int node, Torr2.Status status) {
+        return Torr2.NodeReplicationStatus.newBuilder()
+                .setNode(Torr2.NodeId.newBuilder()
+                        .setHost("localhost")
+                        .setPort(5000 + node)
+                        .setOwner("test")
+                        .setIndex(node))
+                .setChunkIndex(chunkIndex)
+                .setStatus(status);
+    }
+}
@@ -0,0 +1,118 @@
+package torrent.abstractions;
+
+import com.google.protobuf.ByteString;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+import torrent.system.NodeConfig;
+import torrent.system.TorrentSystem;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RangeDownloadAbstractionTest {
+    // a few chunks and a partial one
+    private static final int FILE_SIZE = 3 * 1024 + 300;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private RangeDownloadAbstraction rangeDownloadAbstraction;
+    private ByteString fileData;
+    private ByteString fileHash;
+
+    @Before
+    public void setUp() {
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", "localhost", 5000);
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        TorrentSystem torrentSystem = new TorrentSystem(config);
+
+        byte[] bytes = new byte[FILE_SIZE];
+        new Random(1).nextBytes(bytes);
+        fileData = ByteString.copyFrom(bytes);
+        Torr2.UploadResponse uploadResponse = new UploadAbstraction(torrentSystem).handle(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.UPLOAD_REQUEST)
+                .setUploadRequest(Torr2.UploadRequest.newBuilder()
+                        .setFilename("range.bin")
+                        .setData(fileData))
+                .build()).getUploadResponse();
+        assertEquals(Torr2.Status.SUCCESS, uploadResponse.getStatus());
+        fileHash = uploadResponse.getFileInfo().getHash();
+
+        rangeDownloadAbstraction = new RangeDownloadAbstraction(torrentSystem);
+    }
+
+    @Test
+    public void rangeWithinTheFile() {
+        Torr2.RangeDownloadResponse response = rangeDownload(fileHash, 1000, 2000);
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(fileData.substring(1000, 3000), response.getData());
+    }
+
+    @Test
+    public void rangePastTheEndStopsAtTheEnd() {
+        Torr2.RangeDownloadResponse response = rangeDownload(fileHash, 3000, 5000);
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(fileData.substring(3000), response.getData());
+    }
+
+    @Test
+    public void unsignedLengthDoesNotOverflow() {
+        // the length is an uint32, so -1 stands for 4 GB - 1
+        Torr2.RangeDownloadResponse response = rangeDownload(fileHash, 10, -1);
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(fileData.substring(10), response.getData());
+    }
+
+    @Test
+    public void emptyRanges() {
+        Torr2.RangeDownloadResponse zeroLength = rangeDownload(fileHash, 100, 0);
+        assertEquals(Torr2.Status.SUCCESS, zeroLength.getStatus());
+        assertTrue(zeroLength.getData().isEmpty());
+
+        Torr2.RangeDownloadResponse atTheEnd = rangeDownload(fileHash, FILE_SIZE, 100);
+        assertEquals(Torr2.Status.SUCCESS, atTheEnd.getStatus());
+        assertTrue(atTheEnd.getData().isEmpty());
+    }
+
+    @Test
+    public void offsetPastTheEndIsRejected() {
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, rangeDownload(fileHash, FILE_SIZE + 1, 100).getStatus());
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, rangeDownload(fileHash, Long.MAX_VALUE, 100).getStatus());
+        // the offset is an uint64, so -1 stands for 2^64 - 1
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, rangeDownload(fileHash, -1, 100).getStatus());
+    }
+
+    @Test
+    public void unknownFileIsRejected() {
+        ByteString unknownHash = ByteString.copyFrom(new byte[16]);
+
+        Torr2.RangeDownloadResponse response = rangeDownload(unknownHash, 0, 100);
+
+        assertEquals(Torr2.Status.UNABLE_TO_COMPLETE, response.getStatus());
+        assertEquals("File not found.", response.getErrorMessage());
+    }
+
+    @Test
+    public void invalidHashIsRejected() {
+        assertEquals(Torr2.Status.MESSAGE_ERROR, rangeDownload(ByteString.EMPTY, 0, 100).getStatus());
+        assertEquals(Torr2.Status.MESSAGE_ERROR, rangeDownload(fileHash.concat(fileHash), 0, 100).getStatus());
+    }
+
+    private Torr2.RangeDownloadResponse rangeDownload(ByteString hash, long offset, int length) {
+        return rangeDownloadAbstraction.handle(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.RANGE_DOWNLOAD_REQUEST)
+                .setRangeDownloadRequest(Torr2.RangeDownloadRequest.newBuilder()
+                        .setFileHash(hash)
+                        .setOffset(offset)
+                        .setLength(length))
+                .build()).getRangeDownloadResponse();
+    }
+}
@@ -0,0 +1,228 @@
+package torrent.abstractions;
+
+import com.google.protobuf.ByteString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+import torrent.system.NodeConfig;
+import torrent.system.TorrentSystem;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReplicateAbstractionTest {
+    // a few chunks and a partial one
+    private static final int FILE_SIZE = 6 * TorrentSystem.CHUNK_SIZE + 100;
+    // how long the peer takes to send a chunk, so that the replications overlap
+    private static final int CHUNK_DELAY_MILLIS = 100;
+    // the contents are shared by all the nodes of the JVM, so every test replicates a file of its own
+    private static final AtomicInteger nextSeed = new AtomicInteger();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<Torr2.NodeId> subnet = new CopyOnWriteArrayList<>();
+    private final AtomicInteger chunkRequestCount = new AtomicInteger();
+    private ByteString fileData;
+    private Torr2.FileInfo fileInfo;
+    private FakeNode hub;
+    private FakeNode peer;
+    private TorrentSystem torrentSystem;
+
+    @Before
+    public void setUp() throws Exception {
+        byte[] bytes = new byte[FILE_SIZE];
+        new Random(nextSeed.incrementAndGet()).nextBytes(bytes);
+        fileData = ByteString.copyFrom(bytes);
+        fileInfo = fileInfoOf(fileData);
+
+        hub = FakeNode.hub(subnet);
+        peer = new FakeNode(this::answerAsPeer);
+        subnet.add(peer.getNodeId("peer", 1));
+
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", hub.getHost(), hub.getPort());
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        torrentSystem = new TorrentSystem(config);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        hub.close();
+        peer.close();
+    }
+
+    @Test
+    public void fileIsReplicatedFromThePeer() {
+        Torr2.ReplicateResponse response = replicate();
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(fileInfo.getChunksCount(), response.getNodeStatusListCount());
+        for (Torr2.NodeReplicationStatus nodeStatus : response.getNodeStatusListList()) {
+            assertEquals(Torr2.Status.SUCCESS, nodeStatus.getStatus());
+            assertEquals(peer.getNodeId("peer", 1), nodeStatus.getNode());
+        }
+        assertEquals(fileData, torrentSystem.getFileList().get(fileInfo.getHash()).getData());
+    }
+
+    @Test
+    public void concurrentReplicationsFetchTheChunksOnce() throws Exception {
+        int replicationCount = 3;
+        ExecutorService executor = Executors.newFixedThreadPool(replicationCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Torr2.ReplicateResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < replicationCount; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return replicate();
+                }));
+            }
+            start.countDown();
+
+            for (Future<Torr2.ReplicateResponse> response : responses) {
+                assertEquals(Torr2.Status.SUCCESS, response.get().getStatus());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, hub.getRequestCount());
+        assertEquals(fileInfo.getChunksCount(), chunkRequestCount.get());
+        assertNotNull(torrentSystem.getFileList().get(fileInfo.getHash()));
+    }
+
+    @Test
+    public void heldFileIsNotFetchedAgain() {
+        replicate();
+
+        Torr2.ReplicateResponse response = replicate();
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        assertEquals(1, hub.getRequestCount());
+        assertEquals(fileInfo.getChunksCount(), chunkRequestCount.get());
+        assertEquals(torrentSystem.getCurrentNode(), response.getNodeStatusList(0).getNode());
+    }
+
+    @Test
+    public void currentNodeIsNotAskedForChunks() {
+        // nothing listens on the port of the current node, so asking it would fail
+        subnet.add(0, torrentSystem.getCurrentNode());
+
+        Torr2.ReplicateResponse response = replicate();
+
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        for (Torr2.NodeReplicationStatus nodeStatus : response.getNodeStatusListList()) {
+            assertEquals(peer.getNodeId("peer", 1), nodeStatus.getNode());
+        }
+    }
+
+    @Test
+    public void hedgedRequestToAHangingNodeIsCancelledAndNotReported() throws Exception {
+        // the last chunks are asked from both nodes, and the hanging node never answers
+        AtomicInteger hangingChunkRequestCount = new AtomicInteger();
+        try (FakeNode hangingPeer = new FakeNode(request -> {
+            if (Torr2.Message.Type.CHUNK_AVAILABILITY_REQUEST.equals(request.getType())) {
+                return buildAvailabilityResponse();
+            }
+            hangingChunkRequestCount.incrementAndGet();
+            return null;
+        })) {
+            subnet.add(hangingPeer.getNodeId("hanging", 1));
+
+            long start = System.nanoTime();
+            Torr2.ReplicateResponse response = replicate();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+            assertTrue(hangingChunkRequestCount.get() > 0);
+            // the replication does not wait for the hanging requests to time out
+            assertTrue("took " + elapsedMillis + " ms",
+                    elapsedMillis < torrentSystem.getConfig().getChunkRequestTimeoutMillis());
+            assertEquals(fileInfo.getChunksCount(), response.getNodeStatusListCount());
+            for (Torr2.NodeReplicationStatus nodeStatus : response.getNodeStatusListList()) {
+                assertEquals(Torr2.Status.SUCCESS, nodeStatus.getStatus());
+                assertEquals(peer.getNodeId("peer", 1), nodeStatus.getNode());
+            }
+        }
+    }
+
+    private Torr2.ReplicateResponse replicate() {
+        return torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.REPLICATE_REQUEST)
+                .setReplicateRequest(Torr2.ReplicateRequest.newBuilder()
+                        .setFileInfo(fileInfo)
+                        .setSubnetId(1))
+                .build()).getReplicateResponse();
+    }
+
+    /**
+     * Answers as a node that has the whole file.
+     *
+     * @param request
+     */
+    private Torr2.Message answerAsPeer(Torr2.Message request) {
+        if (Torr2.Message.Type.CHUNK_AVAILABILITY_REQUEST.equals(request.getType())) {
+            return buildAvailabilityResponse();
+        }
+
+        chunkRequestCount.incrementAndGet();
+        try {
+            Thread.sleep(CHUNK_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.CHUNK_RESPONSE)
+                .setChunkResponse(Torr2.ChunkResponse.newBuilder()
+                        .setStatus(Torr2.Status.SUCCESS)
+                        .setData(chunkOf(fileData, request.getChunkRequest().getChunkIndex())))
+                .build();
+    }
+
+    private Torr2.Message buildAvailabilityResponse() {
+        BitSet presentChunks = new BitSet();
+        presentChunks.set(0, fileInfo.getChunksCount());
+        return Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.CHUNK_AVAILABILITY_RESPONSE)
+                .setChunkAvailabilityResponse(Torr2.ChunkAvailabilityResponse.newBuilder()
+                        .setStatus(Torr2.Status.SUCCESS)
+                        .setBitfield(ByteString.copyFrom(presentChunks.toByteArray())))
+                .build();
+    }
+
+    private static Torr2.FileInfo fileInfoOf(ByteString data) {
+        Torr2.FileInfo.Builder fileInfo = Torr2.FileInfo.newBuilder()
+                .setHash(TorrentSystem.hashBytes(data))
+                .setSize(data.size())
+                .setFilename("replicated.bin");
+        for (int index = 0; index * TorrentSystem.CHUNK_SIZE < data.size(); index++) {
+            ByteString chunkData = chunkOf(data, index);
+            fileInfo.addChunks(Torr2.ChunkInfo.newBuilder()
+                    .setIndex(index)
+                    .setSize(chunkData.size())
+                    .setHash(TorrentSystem.hashBytes(chunkData)));
+        }
+        return fileInfo.build();
+    }
+
+    private static ByteString chunkOf(ByteString data, int index) {
+        int start = index * TorrentSystem.CHUNK_SIZE;
+        return data.substring(start, Math.min(start + TorrentSystem.CHUNK_SIZE, data.size()));
+    }
+}
@@ -0,0 +1,114 @@
+package torrent.abstractions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+import torrent.system.NodeConfig;
+import torrent.system.TorrentSystem;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SearchAbstractionTest {
+    private static final int SEARCH_DEADLINE_MILLIS = 500;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<Torr2.NodeId> subnet = new CopyOnWriteArrayList<>();
+    private FakeNode hub;
+    private FakeNode answeringNode;
+    private FakeNode hangingNode;
+    private TorrentSystem torrentSystem;
+
+    @Before
+    public void setUp() throws Exception {
+        hub = FakeNode.hub(subnet);
+        answeringNode = new FakeNode(request -> Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.LOCAL_SEARCH_RESPONSE)
+                .setLocalSearchResponse(Torr2.LocalSearchResponse.newBuilder()
+                        .setStatus(Torr2.Status.SUCCESS)
+                        .addFileInfo(Torr2.FileInfo.newBuilder().setFilename("found.bin")))
+                .build());
+        hangingNode = new FakeNode(request -> null);
+
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", hub.getHost(), hub.getPort());
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        config.setSearchDeadlineMillis(SEARCH_DEADLINE_MILLIS);
+        torrentSystem = new TorrentSystem(config);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        hub.close();
+        answeringNode.close();
+        hangingNode.close();
+    }
+
+    @Test
+    public void hangingNodeIsReportedAtTheDeadline() {
+        subnet.add(answeringNode.getNodeId("answering", 1));
+        subnet.add(hangingNode.getNodeId("hanging", 1));
+
+        long start = System.nanoTime();
+        Torr2.SearchResponse response = search("f.*");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis < SEARCH_DEADLINE_MILLIS + 1000);
+        assertEquals(2, response.getResultsCount());
+        // the results are sorted by node
+        Torr2.NodeSearchResult answered = response.getResults(0);
+        assertEquals(Torr2.Status.SUCCESS, answered.getStatus());
+        assertEquals("found.bin", answered.getFiles(0).getFilename());
+        Torr2.NodeSearchResult hanging = response.getResults(1);
+        assertEquals(Torr2.Status.NETWORK_ERROR, hanging.getStatus());
+    }
+
+    @Test
+    public void completeResponseIsReused() {
+        subnet.add(answeringNode.getNodeId("answering", 1));
+
+        Torr2.SearchResponse first = search("f.*");
+        Torr2.SearchResponse second = search("f.*");
+
+        assertEquals(first, second);
+        assertEquals(1, hub.getRequestCount());
+        assertEquals(1, answeringNode.getRequestCount());
+    }
+
+    @Test
+    public void partialResponseIsNotReused() {
+        subnet.add(answeringNode.getNodeId("answering", 1));
+        subnet.add(hangingNode.getNodeId("hanging", 1));
+
+        search("f.*");
+        search("f.*");
+
+        // the hanging node gets another chance
+        assertEquals(2, hangingNode.getRequestCount());
+    }
+
+    @Test
+    public void invalidRegexIsRejected() {
+        Torr2.SearchResponse response = search("(");
+
+        assertEquals(Torr2.Status.MESSAGE_ERROR, response.getStatus());
+        assertEquals(0, hub.getRequestCount());
+    }
+
+    private Torr2.SearchResponse search(String regex) {
+        return torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.SEARCH_REQUEST)
+                .setSearchRequest(Torr2.SearchRequest.newBuilder()
+                        .setRegex(regex)
+                        .setSubnetId(1))
+                .build()).getSearchResponse();
+    }
+}
@@ -0,0 +1,116 @@
+package torrent.system;
+
+import org.junit.Test;
+import torrent.Torr2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AdmissionControlTest {
+    // the upload requests may run 4 at a time, with 16 more waiting
+    private static final Torr2.Message.Type TYPE = Torr2.Message.Type.UPLOAD_REQUEST;
+    private static final int MAX_RUNNING = 4;
+    private static final int MAX_WAITING = 16;
+
+    @Test
+    public void requestWaitsThenIsRejectedWhenNoPlaceIsFreed() {
+        AdmissionControl admissionControl = new AdmissionControl(newConfig());
+        admitAll(admissionControl, MAX_RUNNING);
+
+        long start = System.nanoTime();
+        assertFalse(admissionControl.admit(TYPE));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue("waited " + waitedMillis + " ms", waitedMillis >= 900);
+        assertEquals(1, admissionControl.getRejectedCount(TYPE));
+    }
+
+    @Test
+    public void waitingRequestIsAdmittedWhenAPlaceIsFreed() throws Exception {
+        AdmissionControl admissionControl = new AdmissionControl(newConfig());
+        admitAll(admissionControl, MAX_RUNNING);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> waiting = executor.submit(() -> admissionControl.admit(TYPE));
+            Thread.sleep(100);
+            admissionControl.release(TYPE);
+
+            assertTrue(waiting.get(2, TimeUnit.SECONDS));
+            assertEquals(0, admissionControl.getRejectedCount(TYPE));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void requestIsRejectedAtOnceWhenTheQueueIsFull() throws Exception {
+        AdmissionControl admissionControl = new AdmissionControl(newConfig());
+        admitAll(admissionControl, MAX_RUNNING);
+
+        ExecutorService executor = Executors.newFixedThreadPool(MAX_WAITING);
+        try {
+            List<Future<Boolean>> waiting = new ArrayList<>();
+            for (int i = 0; i < MAX_WAITING; i++) {
+                waiting.add(executor.submit(() -> admissionControl.admit(TYPE)));
+            }
+            Thread.sleep(200);
+
+            long start = System.nanoTime();
+            assertFalse(admissionControl.admit(TYPE));
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue("waited " + waitedMillis + " ms", waitedMillis < 500);
+
+            // no place is freed, so the waiting requests are rejected too once they time out
+            for (Future<Boolean> future : waiting) {
+                assertFalse(future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(MAX_WAITING + 1, admissionControl.getRejectedCount(TYPE));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void typesWithoutLimitAreAlwaysAdmitted() {
+        AdmissionControl admissionControl = new AdmissionControl(newConfig());
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(admissionControl.admit(Torr2.Message.Type.SUBNET_REQUEST));
+        }
+        assertEquals(0, admissionControl.getRejectedCount(Torr2.Message.Type.SUBNET_REQUEST));
+    }
+
+    @Test
+    public void configuredLimitsAreApplied() {
+        NodeConfig config = newConfig();
+        config.setAdmissionLimit(TYPE, 1, 0);
+        config.setAdmissionLimit(Torr2.Message.Type.CHUNK_REQUEST, 0, 0);
+        AdmissionControl admissionControl = new AdmissionControl(config);
+
+        assertTrue(admissionControl.admit(TYPE));
+        // no place and no queue, so the request is rejected without waiting
+        assertFalse(admissionControl.admit(TYPE));
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(admissionControl.admit(Torr2.Message.Type.CHUNK_REQUEST));
+        }
+    }
+
+    private static NodeConfig newConfig() {
+        return new NodeConfig("test", 1, 5011, "localhost", "localhost", 5000);
+    }
+
+    private static void admitAll(AdmissionControl admissionControl, int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(admissionControl.admit(TYPE));
+        }
+    }
+}
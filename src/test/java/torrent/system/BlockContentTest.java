@@ -0,0 +1,85 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.assertEquals;
+
+public class BlockContentTest {
+    // two full blocks and a partial one, ending with a partial chunk
+    private static final int SIZE = 2 * BlockContent.BLOCK_SIZE + 300 * TorrentSystem.CHUNK_SIZE + 123;
+
+    @Test
+    public void chunksMatchTheData() {
+        ByteString data = mixedData(1);
+        BlockContent content = newContent(data);
+
+        assertEquals((SIZE + TorrentSystem.CHUNK_SIZE - 1) / TorrentSystem.CHUNK_SIZE, content.getChunkCount());
+        for (int index = 0; index < content.getChunkCount(); index += 97) {
+            checkChunk(data, content, index);
+        }
+        checkChunk(data, content, content.getChunkCount() - 1);
+        assertEquals(123, content.getChunkInfo(content.getChunkCount() - 1).getSize());
+    }
+
+    @Test
+    public void rangesMatchTheData() {
+        ByteString data = mixedData(2);
+        BlockContent content = newContent(data);
+
+        // within a chunk, across chunks and across blocks
+        assertEquals(data.substring(10, 20), content.getRange(10, 10));
+        assertEquals(data.substring(1000, 5000), content.getRange(1000, 4000));
+        int aroundBlockEnd = BlockContent.BLOCK_SIZE - 3000;
+        assertEquals(data.substring(aroundBlockEnd, aroundBlockEnd + 6000), content.getRange(aroundBlockEnd, 6000));
+        assertEquals(data.substring(SIZE - 500), content.getRange(SIZE - 500, 500));
+    }
+
+    @Test
+    public void wholeDataIsRebuilt() {
+        ByteString data = mixedData(3);
+
+        assertEquals(data, newContent(data).getData());
+    }
+
+    @Test
+    public void incompressibleDataIsKeptAsItIs() {
+        byte[] bytes = new byte[SIZE];
+        new Random(4).nextBytes(bytes);
+        ByteString data = ByteString.copyFrom(bytes);
+        BlockContent content = newContent(data);
+
+        assertEquals(data, content.getData());
+        checkChunk(data, content, BlockContent.BLOCK_SIZE / TorrentSystem.CHUNK_SIZE);
+    }
+
+    private static BlockContent newContent(ByteString data) {
+        return new BlockContent(ContentStore.getInstance(), TorrentSystem.hashBytes(data), data,
+                new DeflateCodec(Deflater.BEST_SPEED));
+    }
+
+    private static void checkChunk(ByteString data, BlockContent content, int index) {
+        int start = index * TorrentSystem.CHUNK_SIZE;
+        ByteString chunkData = data.substring(start, Math.min(start + TorrentSystem.CHUNK_SIZE, SIZE));
+        Chunk chunk = content.getChunk(index);
+        assertEquals(chunkData, chunk.getData());
+        assertEquals(TorrentSystem.hashBytes(chunkData), content.getChunkInfo(index).getHash());
+    }
+
+    /**
+     * Returns data where compressible and random chunks alternate, so that some chunks are encoded and some are not.
+     *
+     * @param seed
+     */
+    private static ByteString mixedData(long seed) {
+        Random random = new Random(seed);
+        byte[] bytes = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            bytes[i] = (i / TorrentSystem.CHUNK_SIZE) % 3 == 0 ? (byte) random.nextInt() : (byte) ('a' + i % 4);
+        }
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -0,0 +1,84 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkStoreTest {
+    private static final ByteString HASH_A = ByteString.copyFromUtf8("aaaaaaaaaaaaaaaa");
+    private static final ByteString HASH_B = ByteString.copyFromUtf8("bbbbbbbbbbbbbbbb");
+
+    @Test
+    public void sameChunkIsStoredOnce() {
+        ChunkStore chunkStore = new ChunkStore(new IdentityCodec());
+        ByteString data = randomChunk(1024);
+
+        chunkStore.intern(HASH_A, data);
+        chunkStore.intern(HASH_A, data);
+
+        assertEquals(1, chunkStore.getChunkCount());
+        assertEquals(2048, chunkStore.getLogicalBytes());
+        assertEquals(1024, chunkStore.getPhysicalBytes());
+        assertEquals(2.0, chunkStore.getDeduplicationRatio(), 0.0);
+        assertEquals(data, chunkStore.get(HASH_A));
+    }
+
+    @Test
+    public void chunkIsKeptUntilEveryReferenceIsReleased() {
+        ChunkStore chunkStore = new ChunkStore(new IdentityCodec());
+        ByteString data = randomChunk(1024);
+        chunkStore.intern(HASH_A, data);
+        chunkStore.intern(HASH_A, data);
+
+        chunkStore.release(HASH_A);
+        assertEquals(data, chunkStore.get(HASH_A));
+        assertEquals(1024, chunkStore.getLogicalBytes());
+
+        chunkStore.release(HASH_A);
+        assertNull(chunkStore.get(HASH_A));
+        assertEquals(0, chunkStore.getChunkCount());
+        assertEquals(0, chunkStore.getLogicalBytes());
+        assertEquals(0, chunkStore.getPhysicalBytes());
+    }
+
+    @Test
+    public void releasingAnUnknownChunkChangesNothing() {
+        ChunkStore chunkStore = new ChunkStore(new IdentityCodec());
+        chunkStore.intern(HASH_A, randomChunk(100));
+
+        chunkStore.release(HASH_B);
+
+        assertEquals(1, chunkStore.getChunkCount());
+        assertEquals(100, chunkStore.getLogicalBytes());
+    }
+
+    @Test
+    public void encodedChunkIsDecodedUntilReleased() {
+        ChunkStore chunkStore = new ChunkStore(new DeflateCodec(6));
+        byte[] bytes = new byte[4096];
+        Arrays.fill(bytes, (byte) 'x');
+        ByteString data = ByteString.copyFrom(bytes);
+        chunkStore.intern(HASH_A, data);
+
+        // compressible data is stored encoded, and read back decoded (twice, the second time from the cache)
+        assertTrue(chunkStore.getPhysicalBytes() < data.size());
+        assertEquals(data, chunkStore.get(HASH_A));
+        assertEquals(data, chunkStore.get(HASH_A));
+
+        chunkStore.release(HASH_A);
+        assertNull(chunkStore.get(HASH_A));
+        assertEquals(0, chunkStore.getPhysicalBytes());
+    }
+
+    private static ByteString randomChunk(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -0,0 +1,101 @@
+package torrent.system;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CongestionWindowTest {
+    @Test
+    public void newWindowAllowsTwoRequests() {
+        CongestionWindow window = newWindow();
+
+        assertTrue(window.tryAcquire());
+        assertTrue(window.tryAcquire());
+        assertFalse(window.tryAcquire());
+        assertEquals(2, window.getInFlight());
+    }
+
+    @Test
+    public void successGrowsTheWindowByOneRequestPerWindow() {
+        CongestionWindow window = newWindow();
+
+        window.tryAcquire();
+        window.releaseOnSuccess();
+        assertEquals(2.5, window.getSize(), 1e-9);
+
+        window.tryAcquire();
+        window.releaseOnSuccess();
+        assertEquals(2.9, window.getSize(), 1e-9);
+        assertEquals(2, window.getSuccessCount());
+    }
+
+    @Test
+    public void windowDoesNotGrowPastItsMaximum() {
+        CongestionWindow window = newWindow();
+        for (int i = 0; i < 10000; i++) {
+            window.tryAcquire();
+            window.releaseOnSuccess();
+        }
+
+        assertEquals(32, window.getSize(), 0.0);
+        for (int i = 0; i < 32; i++) {
+            assertTrue(window.tryAcquire());
+        }
+        assertFalse(window.tryAcquire());
+    }
+
+    @Test
+    public void failureHalvesTheWindowDownToOneRequest() {
+        CongestionWindow window = newWindow();
+
+        window.tryAcquire();
+        window.releaseOnFailure();
+        assertEquals(1, window.getSize(), 0.0);
+
+        window.tryAcquire();
+        window.releaseOnFailure();
+        assertEquals(1, window.getSize(), 0.0);
+        assertEquals(2, window.getFailureCount());
+
+        // a single request is still allowed, so that the node can recover
+        assertTrue(window.tryAcquire());
+        assertFalse(window.tryAcquire());
+    }
+
+    @Test
+    public void releaseKeepsTheWindowSize() {
+        CongestionWindow window = newWindow();
+
+        window.tryAcquire();
+        window.release();
+
+        assertEquals(2, window.getSize(), 0.0);
+        assertEquals(0, window.getInFlight());
+        assertEquals(0, window.getSuccessCount());
+        assertEquals(0, window.getFailureCount());
+    }
+
+    @Test
+    public void configuredBoundsAreKept() {
+        CongestionWindow window = new CongestionWindow(4, 2, 5);
+
+        window.tryAcquire();
+        window.releaseOnFailure();
+        window.tryAcquire();
+        window.releaseOnFailure();
+        assertEquals(2, window.getSize(), 0.0);
+
+        for (int i = 0; i < 100; i++) {
+            window.tryAcquire();
+            window.releaseOnSuccess();
+        }
+        assertEquals(5, window.getSize(), 0.0);
+    }
+
+    private static CongestionWindow newWindow() {
+        return new CongestionWindow(NodeConfig.DEFAULT_CONGESTION_WINDOW_INITIAL_SIZE,
+                NodeConfig.DEFAULT_CONGESTION_WINDOW_MIN_SIZE, NodeConfig.DEFAULT_CONGESTION_WINDOW_MAX_SIZE);
+    }
+}
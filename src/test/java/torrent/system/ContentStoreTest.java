@@ -0,0 +1,184 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ContentStoreTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ContentStore contentStore = ContentStore.getInstance();
+
+    @After
+    public void tearDown() {
+        contentStore.setHotTierBytes(ContentStore.DEFAULT_HOT_TIER_BYTES);
+    }
+
+    @Test
+    public void sameContentIsLoadedOnce() {
+        ByteString data = randomData(5000, 1);
+        ByteString hash = TorrentSystem.hashBytes(data);
+        AtomicInteger loads = new AtomicInteger();
+
+        StoredContent first = contentStore.acquire(hash, () -> {
+            loads.incrementAndGet();
+            return data;
+        });
+        StoredContent second = contentStore.acquire(hash, () -> {
+            loads.incrementAndGet();
+            return data;
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(data, second.getData());
+        contentStore.release(first);
+        contentStore.release(second);
+    }
+
+    @Test
+    public void contentIsDroppedWithItsLastReference() {
+        ByteString data = randomData(5000, 2);
+        ByteString hash = TorrentSystem.hashBytes(data);
+        StoredContent first = contentStore.acquire(hash, () -> data);
+        StoredContent second = contentStore.acquire(hash, () -> data);
+
+        contentStore.release(first);
+        StoredContent remaining = contentStore.acquireIfPresent(hash);
+        assertSame(second, remaining);
+        contentStore.release(remaining);
+
+        contentStore.release(second);
+        assertNull(contentStore.acquireIfPresent(hash));
+    }
+
+    @Test
+    public void nodesHoldingTheSameFileShareItsContent() throws Exception {
+        ByteString data = randomData(5000, 3);
+        TorrentSystem firstNode = newTorrentSystem(1);
+        TorrentSystem secondNode = newTorrentSystem(2);
+        ByteString hash = upload(firstNode, data);
+        upload(secondNode, data);
+
+        assertSame(firstNode.getFileList().get(hash).getContent(), secondNode.getFileList().get(hash).getContent());
+
+        firstNode.removeFile(hash);
+        assertEquals(data, secondNode.getFileList().get(hash).getData());
+        StoredContent content = contentStore.acquireIfPresent(hash);
+        assertNotNull(content);
+        contentStore.release(content);
+
+        secondNode.removeFile(hash);
+        assertNull(contentStore.acquireIfPresent(hash));
+    }
+
+    @Test
+    public void leastRecentlyAccessedContentIsDemotedToDisk() {
+        ByteString firstData = randomData(5000, 4);
+        ByteString secondData = randomData(5000, 5);
+        StoredContent first = contentStore.acquire(TorrentSystem.hashBytes(firstData), () -> firstData);
+        StoredContent second = contentStore.acquire(TorrentSystem.hashBytes(secondData), () -> secondData);
+        second.getChunk(0);
+
+        // room for one of them
+        contentStore.setHotTierBytes(5000);
+
+        assertFalse(first.isHot());
+        assertTrue(second.isHot());
+        assertTrue(Files.exists(first.diskPath));
+        contentStore.release(first);
+        contentStore.release(second);
+    }
+
+    @Test
+    public void coldContentIsPromotedWhenRead() {
+        ByteString firstData = randomData(5000, 6);
+        ByteString secondData = randomData(5000, 7);
+        StoredContent first = contentStore.acquire(TorrentSystem.hashBytes(firstData), () -> firstData);
+        StoredContent second = contentStore.acquire(TorrentSystem.hashBytes(secondData), () -> secondData);
+        second.getChunk(0);
+        contentStore.setHotTierBytes(5000);
+
+        assertEquals(firstData.substring(0, first.getChunkInfo(0).getSize()), first.getChunk(0).getData());
+
+        // the read content stays in memory, the other one makes room for it
+        assertTrue(first.isHot());
+        assertFalse(second.isHot());
+        assertEquals(secondData, second.getData());
+        contentStore.release(first);
+        contentStore.release(second);
+    }
+
+    @Test
+    public void releasedColdContentIsDeletedFromDisk() {
+        ByteString data = randomData(5000, 8);
+        StoredContent content = contentStore.acquire(TorrentSystem.hashBytes(data), () -> data);
+        contentStore.setHotTierBytes(0);
+        Path diskPath = content.diskPath;
+        assertTrue(Files.exists(diskPath));
+
+        contentStore.release(content);
+
+        assertFalse(Files.exists(diskPath));
+    }
+
+    @Test
+    public void contentOutsideTheStoreKeepsNoDataView() {
+        // e.g. the partial content of a replication, read as a whole once complete; the data compresses, so it is
+        // decoded when read
+        byte[] bytes = new byte[50 * TorrentSystem.CHUNK_SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ('a' + i % 7);
+        }
+        ByteString data = ByteString.copyFrom(bytes);
+        BlockContent content = new BlockContent(contentStore, TorrentSystem.hashBytes(data), data,
+                new DeflateCodec(Deflater.BEST_SPEED));
+        long hotBytes = contentStore.getHotBytes();
+
+        assertEquals(data, content.getData());
+
+        assertEquals(hotBytes, contentStore.getHotBytes());
+        assertEquals(0, content.viewBytes);
+    }
+
+    private TorrentSystem newTorrentSystem(int index) throws IOException {
+        NodeConfig config = new NodeConfig("test", index, 5010 + index, "localhost", "localhost", 5000);
+        config.setPartialFilesDirectory(temporaryFolder.newFolder().getPath());
+        return new TorrentSystem(config);
+    }
+
+    private static ByteString upload(TorrentSystem torrentSystem, ByteString data) {
+        Torr2.UploadResponse response = torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.UPLOAD_REQUEST)
+                .setUploadRequest(Torr2.UploadRequest.newBuilder()
+                        .setFilename("shared.bin")
+                        .setData(data))
+                .build()).getUploadResponse();
+        assertEquals(Torr2.Status.SUCCESS, response.getStatus());
+        return response.getFileInfo().getHash();
+    }
+
+    private static ByteString randomData(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -0,0 +1,88 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DeflateCodecTest {
+    private final DeflateCodec codec = new DeflateCodec(Deflater.BEST_SPEED);
+
+    @Test
+    public void compressibleDataRoundTrips() {
+        ByteString data = compressibleData(4096, 1);
+
+        ByteString encodedData = codec.encode(data);
+
+        assertNotNull(encodedData);
+        assertTrue(encodedData.size() < data.size());
+        assertEquals(data, codec.decode(encodedData, data.size()));
+    }
+
+    @Test
+    public void incompressibleDataIsNotEncoded() {
+        byte[] bytes = new byte[4096];
+        new Random(2).nextBytes(bytes);
+
+        assertNull(codec.encode(ByteString.copyFrom(bytes)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void corruptDataIsRejected() {
+        ByteString data = compressibleData(4096, 3);
+        ByteString encodedData = codec.encode(data);
+
+        codec.decode(encodedData.substring(0, encodedData.size() / 2), data.size());
+    }
+
+    @Test
+    public void threadsShareTheCodec() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int task = 0; task < 16; task++) {
+                long seed = task;
+                results.add(executor.submit(() -> {
+                    for (int round = 0; round < 50; round++) {
+                        ByteString data = compressibleData(2048 + round, seed * 100 + round);
+                        if (!data.equals(codec.decode(codec.encode(data), data.size()))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns data made of a few distinct bytes, so that it compresses.
+     *
+     * @param size
+     * @param seed
+     */
+    private static ByteString compressibleData(int size, long seed) {
+        Random random = new Random(seed);
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return ByteString.copyFrom(bytes);
+    }
+}
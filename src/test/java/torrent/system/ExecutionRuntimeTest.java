@@ -0,0 +1,130 @@
+package torrent.system;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ExecutionRuntimeTest {
+    private static final String POOL = ExecutionRuntime.SEARCH_POOL;
+
+    private final ExecutionRuntime executionRuntime = ExecutionRuntime.getInstance();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private int threadCount;
+    private int queueCapacity;
+
+    @Before
+    public void setUp() {
+        // the pools are shared by the whole JVM, so they are put back as they were after each test
+        threadCount = ((ThreadPoolExecutor) executionRuntime.getPool(POOL)).getMaximumPoolSize();
+        queueCapacity = executionRuntime.getQueueCapacity(POOL);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        executionRuntime.setQueueCapacity(POOL, queueCapacity);
+        executionRuntime.setThreadCount(POOL, threadCount);
+    }
+
+    @Test
+    public void threadCountCanGrowAndShrink() {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) executionRuntime.getPool(POOL);
+        int threadBudget = executionRuntime.getThreadBudget();
+
+        executionRuntime.setThreadCount(POOL, threadCount + 10);
+        assertEquals(threadCount + 10, pool.getCorePoolSize());
+        assertEquals(threadCount + 10, pool.getMaximumPoolSize());
+        assertEquals(threadBudget + 10, executionRuntime.getThreadBudget());
+
+        executionRuntime.setThreadCount(POOL, 2);
+        assertEquals(2, pool.getCorePoolSize());
+        assertEquals(2, pool.getMaximumPoolSize());
+    }
+
+    @Test
+    public void fullPoolRejectsTasks() throws Exception {
+        executionRuntime.setThreadCount(POOL, 1);
+        executionRuntime.setQueueCapacity(POOL, 2);
+        ExecutorService pool = executionRuntime.getPool(POOL);
+        CountDownLatch started = new CountDownLatch(1);
+        pool.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        pool.execute(this::awaitRelease);
+        pool.execute(this::awaitRelease);
+        assertEquals(2, executionRuntime.getQueueDepth(POOL));
+        assertEquals(1, executionRuntime.getActiveCount(POOL));
+
+        try {
+            pool.execute(this::awaitRelease);
+            fail("The task should be rejected.");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void fullConnectionsPoolRunsTheTaskOnTheCallingThread() throws Exception {
+        String pool = ExecutionRuntime.CONNECTIONS_POOL;
+        int connectionThreads = ((ThreadPoolExecutor) executionRuntime.getPool(pool)).getMaximumPoolSize();
+        int connectionQueueCapacity = executionRuntime.getQueueCapacity(pool);
+        try {
+            executionRuntime.setThreadCount(pool, 1);
+            CountDownLatch started = new CountDownLatch(1);
+            executionRuntime.getPool(pool).execute(() -> {
+                started.countDown();
+                awaitRelease();
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            executionRuntime.setQueueCapacity(pool, 0);
+
+            Thread[] threads = new Thread[1];
+            executionRuntime.getPool(pool).execute(() -> threads[0] = Thread.currentThread());
+
+            assertSame(Thread.currentThread(), threads[0]);
+        } finally {
+            release.countDown();
+            executionRuntime.setQueueCapacity(pool, connectionQueueCapacity);
+            executionRuntime.setThreadCount(pool, connectionThreads);
+        }
+    }
+
+    @Test
+    public void queueCapacityIsReported() {
+        executionRuntime.setQueueCapacity(POOL, 7);
+
+        assertEquals(7, executionRuntime.getQueueCapacity(POOL));
+        assertEquals(Integer.MAX_VALUE, executionRuntime.getQueueCapacity(ExecutionRuntime.TIMERS_POOL));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timersHaveNoBoundedQueue() {
+        executionRuntime.setQueueCapacity(ExecutionRuntime.TIMERS_POOL, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownPoolIsRejected() {
+        executionRuntime.getPool("unknown");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class LocalNodeRegistryTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<TorrentSystem> registeredNodes = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (TorrentSystem torrentSystem : registeredNodes) {
+            LocalNodeRegistry.unregister(torrentSystem);
+        }
+    }
+
+    @Test
+    public void nodeIsFoundAtTheAddressItIsBoundTo() throws Exception {
+        int port = findFreePort();
+        TorrentSystem torrentSystem = register(InetAddress.getLoopbackAddress(), port);
+
+        assertSame(torrentSystem, LocalNodeRegistry.lookup("127.0.0.1", port));
+        // the port alone is not enough
+        assertNull(LocalNodeRegistry.lookup("127.0.0.2", port));
+        assertNull(LocalNodeRegistry.lookup("127.0.0.1", port + 1));
+    }
+
+    @Test
+    public void nodeBoundToAllAddressesIsFoundAtTheLocalOnes() throws Exception {
+        int port = findFreePort();
+        TorrentSystem torrentSystem = register(null, port);
+
+        assertSame(torrentSystem, LocalNodeRegistry.lookup("127.0.0.1", port));
+        // an address of another machine (from the documentation range)
+        assertNull(LocalNodeRegistry.lookup("192.0.2.1", port));
+    }
+
+    @Test
+    public void unregisteredNodeIsNotFound() throws Exception {
+        int port = findFreePort();
+        TorrentSystem torrentSystem = register(InetAddress.getLoopbackAddress(), port);
+
+        LocalNodeRegistry.unregister(torrentSystem);
+
+        assertNull(LocalNodeRegistry.lookup("127.0.0.1", port));
+    }
+
+    @Test
+    public void requestToAColocatedNodeDoesNotUseTheNetwork() throws Exception {
+        // nothing listens on the port, so only a direct dispatch can get the response
+        int port = findFreePort();
+        TorrentSystem destination = register(InetAddress.getLoopbackAddress(), port);
+        upload(destination, "local.bin");
+        TorrentSystem source = newTorrentSystem(port + 1);
+
+        Torr2.NodeId destinationId = Torr2.NodeId.newBuilder()
+                .setHost("127.0.0.1")
+                .setPort(port)
+                .setOwner("test")
+                .setIndex(1)
+                .build();
+        Torr2.Message response = source.sendLocalSearchRequest(destinationId, "local.*", 2000);
+
+        assertEquals(Torr2.Message.Type.LOCAL_SEARCH_RESPONSE, response.getType());
+        assertEquals(Torr2.Status.SUCCESS, response.getLocalSearchResponse().getStatus());
+        assertEquals("local.bin", response.getLocalSearchResponse().getFileInfo(0).getFilename());
+    }
+
+    private TorrentSystem register(InetAddress address, int port) throws IOException {
+        TorrentSystem torrentSystem = newTorrentSystem(port);
+        LocalNodeRegistry.register(torrentSystem, address != null
+                ? new InetSocketAddress(address, port)
+                : new InetSocketAddress(port));
+        registeredNodes.add(torrentSystem);
+        return torrentSystem;
+    }
+
+    private TorrentSystem newTorrentSystem(int port) throws IOException {
+        NodeConfig config = new NodeConfig("test", 1, port, "127.0.0.1", "127.0.0.1", 1);
+        config.setPartialFilesDirectory(temporaryFolder.newFolder().getPath());
+        return new TorrentSystem(config);
+    }
+
+    private static void upload(TorrentSystem torrentSystem, String filename) {
+        Torr2.Message response = torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.UPLOAD_REQUEST)
+                .setUploadRequest(Torr2.UploadRequest.newBuilder()
+                        .setFilename(filename)
+                        .setData(ByteString.copyFromUtf8("the data of " + filename)))
+                .build());
+        assertEquals(Torr2.Status.SUCCESS, response.getUploadResponse().getStatus());
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package torrent.system;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NetworkManagerTest {
+    private static final long MIN_BACKOFF_MILLIS = 50;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<NetworkManager> networkManagers = new ArrayList<>();
+    private final List<Closeable> resources = new ArrayList<>();
+
+    @After
+    public void tearDown() throws IOException {
+        for (NetworkManager networkManager : networkManagers) {
+            networkManager.stop();
+            networkManager.awaitStop(1000);
+        }
+        for (Closeable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    public void registrationIsRetriedWithGrowingDelays() throws Exception {
+        Hub hub = startHub(3);
+        NetworkManager networkManager = startNode(hub, 60000);
+
+        assertTrue(awaitRegistration(networkManager));
+
+        List<Long> times = hub.getRequestTimes();
+        assertEquals(4, times.size());
+        // each delay is at least half of the backoff, which doubles after each failure
+        long minDelayMillis = MIN_BACKOFF_MILLIS / 2;
+        for (int i = 1; i < times.size(); i++) {
+            long delayMillis = TimeUnit.NANOSECONDS.toMillis(times.get(i) - times.get(i - 1));
+            assertTrue("retry " + i + " after " + delayMillis + " ms", delayMillis >= minDelayMillis);
+            minDelayMillis *= 2;
+        }
+    }
+
+    @Test
+    public void registeredNodeRegistersAgainPeriodically() throws Exception {
+        Hub hub = startHub(0);
+        NetworkManager networkManager = startNode(hub, 100);
+        assertTrue(awaitRegistration(networkManager));
+
+        Thread.sleep(550);
+
+        assertTrue(hub.getRequestTimes().size() >= 4);
+    }
+
+    @Test
+    public void stoppedNodeStopsRegistering() throws Exception {
+        Hub hub = startHub(Integer.MAX_VALUE);
+        NetworkManager networkManager = startNode(hub, 60000);
+        Thread.sleep(200);
+
+        networkManager.stop();
+        // a registration may be running right now
+        Thread.sleep(100);
+        int requestCount = hub.getRequestTimes().size();
+        Thread.sleep(300);
+
+        assertEquals(requestCount, hub.getRequestTimes().size());
+        assertFalse(networkManager.isRegistered());
+    }
+
+    @Test
+    public void nodeThatCannotListenIsNotRegistered() throws Exception {
+        Hub hub = startHub(0);
+        ServerSocket takenPort = new ServerSocket(0);
+        resources.add(takenPort);
+
+        NetworkManager networkManager = startNode(hub, takenPort.getLocalPort(), 60000);
+        Thread.sleep(300);
+
+        assertFalse(networkManager.isListening());
+        assertFalse(networkManager.isRegistered());
+        assertEquals(0, hub.getRequestTimes().size());
+    }
+
+    private Hub startHub(int failures) throws IOException {
+        Hub hub = new Hub(failures);
+        resources.add(hub);
+        return hub;
+    }
+
+    private NetworkManager startNode(Hub hub, long heartbeatIntervalMillis) throws IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        return startNode(hub, port, heartbeatIntervalMillis);
+    }
+
+    private NetworkManager startNode(Hub hub, int port, long heartbeatIntervalMillis) throws IOException {
+        NodeConfig config = new NodeConfig("test", 1, port, "127.0.0.1", "127.0.0.1", hub.getPort());
+        config.setPartialFilesDirectory(temporaryFolder.newFolder().getPath());
+        config.setRegistrationMinBackoffMillis(MIN_BACKOFF_MILLIS);
+        config.setRegistrationMaxBackoffMillis(1000);
+        config.setHeartbeatIntervalMillis(heartbeatIntervalMillis);
+        NetworkManager networkManager = new NetworkManager(config);
+        networkManagers.add(networkManager);
+        return networkManager;
+    }
+
+    private static boolean awaitRegistration(NetworkManager networkManager) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!networkManager.isRegistered() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return networkManager.isRegistered();
+    }
+
+    /**
+     * A hub that refuses the given number of registrations, then accepts them all.
+     */
+    private static class Hub implements Closeable {
+        private final ServerSocket serverSocket;
+        private final int failures;
+        private final List<Long> requestTimes = new CopyOnWriteArrayList<>();
+
+        private Hub(int failures) throws IOException {
+            this.failures = failures;
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::accept, "hub-" + serverSocket.getLocalPort());
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        /**
+         * Returns when each registration request was received (in nanoseconds).
+         */
+        private List<Long> getRequestTimes() {
+            return requestTimes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    DataInputStream inputStream = new DataInputStream(socket.getInputStream());
+                    inputStream.readFully(new byte[inputStream.readInt()]);
+                    requestTimes.add(System.nanoTime());
+
+                    Torr2.RegistrationResponse.Builder registrationResponse = Torr2.RegistrationResponse.newBuilder();
+                    if (requestTimes.size() <= failures) {
+                        registrationResponse.setStatus(Torr2.Status.PROCESSING_ERROR).setErrorMessage("Not yet.");
+                    } else {
+                        registrationResponse.setStatus(Torr2.Status.SUCCESS);
+                    }
+                    byte[] responseBytes = Torr2.Message.newBuilder()
+                            .setType(Torr2.Message.Type.REGISTRATION_RESPONSE)
+                            .setRegistrationResponse(registrationResponse)
+                            .build().toByteArray();
+                    DataOutputStream outputStream = new DataOutputStream(socket.getOutputStream());
+                    outputStream.writeInt(responseBytes.length);
+                    outputStream.write(responseBytes);
+                    outputStream.flush();
+                } catch (IOException e) {
+                    // the hub is closed, or the node gave up
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package torrent.system;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RequestSchedulerTest {
+    // the searches and the replications run on this bulkhead
+    private static final String POOL = ExecutionRuntime.BULK_REQUESTS_POOL;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ExecutionRuntime executionRuntime = ExecutionRuntime.getInstance();
+    private final RequestScheduler requestScheduler = new RequestScheduler();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private int threadCount;
+    private int queueCapacity;
+
+    @Before
+    public void setUp() {
+        // the pools are shared by the whole JVM, so they are put back as they were after each test
+        threadCount = ((ThreadPoolExecutor) executionRuntime.getPool(POOL)).getMaximumPoolSize();
+        queueCapacity = executionRuntime.getQueueCapacity(POOL);
+        executionRuntime.setThreadCount(POOL, 1);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        executionRuntime.setQueueCapacity(POOL, queueCapacity);
+        executionRuntime.setThreadCount(POOL, threadCount);
+    }
+
+    @Test
+    public void waitingRequestsAreServedByPriority() throws Exception {
+        occupyTheThread();
+        List<Torr2.Message.Type> servedTypes = new CopyOnWriteArrayList<>();
+        CountDownLatch served = new CountDownLatch(3);
+        for (Torr2.Message.Type type : Arrays.asList(Torr2.Message.Type.REPLICATE_REQUEST,
+                Torr2.Message.Type.SEARCH_REQUEST, Torr2.Message.Type.REPLICATE_REQUEST)) {
+            requestScheduler.submit(type, () -> {
+                servedTypes.add(type);
+                return null;
+            }, response -> served.countDown());
+        }
+
+        release.countDown();
+
+        assertTrue(served.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(Torr2.Message.Type.SEARCH_REQUEST, Torr2.Message.Type.REPLICATE_REQUEST,
+                Torr2.Message.Type.REPLICATE_REQUEST), servedTypes);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void requestIsRejectedWhenTheBulkheadIsFull() throws Exception {
+        executionRuntime.setQueueCapacity(POOL, 1);
+        occupyTheThread();
+        requestScheduler.submit(Torr2.Message.Type.SEARCH_REQUEST, () -> null, response -> {
+        });
+
+        requestScheduler.execute(Torr2.Message.Type.SEARCH_REQUEST, () -> null);
+    }
+
+    @Test
+    public void nodeAnswersBusyWhenTheBulkheadIsFull() throws Exception {
+        occupyTheThread();
+        executionRuntime.setQueueCapacity(POOL, 0);
+        TorrentSystem torrentSystem = newTorrentSystem();
+
+        Torr2.Message response = torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.SEARCH_REQUEST)
+                .setSearchRequest(Torr2.SearchRequest.newBuilder()
+                        .setRegex(".*")
+                        .setSubnetId(1))
+                .build());
+
+        assertEquals(Torr2.Status.PROCESSING_ERROR, response.getSearchResponse().getStatus());
+        assertTrue(response.getSearchResponse().getErrorMessage().contains("busy"));
+    }
+
+    @Test
+    public void asynchronousRequestGetsBusyWhenTheBulkheadIsFull() throws Exception {
+        occupyTheThread();
+        executionRuntime.setQueueCapacity(POOL, 0);
+        TorrentSystem torrentSystem = newTorrentSystem();
+
+        Torr2.Message[] responses = new Torr2.Message[1];
+        torrentSystem.trigger(Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.SEARCH_REQUEST)
+                .setSearchRequest(Torr2.SearchRequest.newBuilder()
+                        .setRegex(".*")
+                        .setSubnetId(1))
+                .build(), response -> responses[0] = response);
+
+        // the busy response is given right away, on the calling thread
+        assertEquals(Torr2.Status.PROCESSING_ERROR, responses[0].getSearchResponse().getStatus());
+    }
+
+    @Test
+    public void nestedRequestRunsOnTheSameThread() {
+        Thread[] threads = new Thread[2];
+        requestScheduler.execute(Torr2.Message.Type.SEARCH_REQUEST, () -> {
+            threads[0] = Thread.currentThread();
+            // the only thread of the bulkhead is busy with the outer request
+            return requestScheduler.execute(Torr2.Message.Type.REPLICATE_REQUEST, () -> {
+                threads[1] = Thread.currentThread();
+                return null;
+            });
+        });
+
+        assertNotSame(Thread.currentThread(), threads[0]);
+        assertSame(threads[0], threads[1]);
+    }
+
+    private TorrentSystem newTorrentSystem() {
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", "localhost", 5000);
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        return new TorrentSystem(config);
+    }
+
+    /**
+     * Keeps the only thread of the bulkhead busy until the test releases it.
+     */
+    private void occupyTheThread() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        requestScheduler.submit(Torr2.Message.Type.SEARCH_REQUEST, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, response -> {
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+}
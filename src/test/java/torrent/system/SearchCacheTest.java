@@ -0,0 +1,77 @@
+package torrent.system;
+
+import org.junit.Test;
+import torrent.Torr2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class SearchCacheTest {
+    private static final Torr2.SearchResponse RESPONSE = Torr2.SearchResponse.newBuilder()
+            .setStatus(Torr2.Status.SUCCESS)
+            .build();
+
+    @Test
+    public void freshResponseIsServed() {
+        SearchCache searchCache = new SearchCache(60000, 16);
+
+        searchCache.put("a.*", 1, 7, RESPONSE);
+
+        assertEquals(RESPONSE, searchCache.get("a.*", 1, 7));
+    }
+
+    @Test
+    public void responseIsKeyedByRegexAndSubnet() {
+        SearchCache searchCache = new SearchCache(60000, 16);
+
+        searchCache.put("a.*", 1, 7, RESPONSE);
+
+        assertNull(searchCache.get("a.*", 2, 7));
+        assertNull(searchCache.get("b.*", 1, 7));
+    }
+
+    @Test
+    public void responseIsDroppedWhenTheCatalogChanges() {
+        SearchCache searchCache = new SearchCache(60000, 16);
+        searchCache.put("a.*", 1, 7, RESPONSE);
+
+        assertNull(searchCache.get("a.*", 1, 8));
+        // the entry is gone, even for the version it was computed against
+        assertNull(searchCache.get("a.*", 1, 7));
+    }
+
+    @Test
+    public void staleResponseIsDropped() throws Exception {
+        SearchCache searchCache = new SearchCache(50, 16);
+        searchCache.put("a.*", 1, 7, RESPONSE);
+
+        Thread.sleep(100);
+
+        assertNull(searchCache.get("a.*", 1, 7));
+    }
+
+    @Test
+    public void zeroFreshnessDisablesTheCache() {
+        SearchCache searchCache = new SearchCache(0, 16);
+
+        searchCache.put("a.*", 1, 7, RESPONSE);
+
+        assertFalse(searchCache.isEnabled());
+        assertNull(searchCache.get("a.*", 1, 7));
+    }
+
+    @Test
+    public void fullCacheMakesRoomForNewResponses() {
+        SearchCache searchCache = new SearchCache(60000, 2);
+        searchCache.put("a.*", 1, 7, RESPONSE);
+        searchCache.put("b.*", 1, 7, RESPONSE);
+
+        searchCache.put("c.*", 1, 7, RESPONSE);
+
+        // all the entries were valid, so the cache was cleared
+        assertNull(searchCache.get("a.*", 1, 7));
+        assertNull(searchCache.get("b.*", 1, 7));
+        assertEquals(RESPONSE, searchCache.get("c.*", 1, 7));
+    }
+}
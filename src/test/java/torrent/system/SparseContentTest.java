@@ -0,0 +1,154 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SparseContentTest {
+    // a few chunks and a partial one
+    private static final int FILE_SIZE = 5 * TorrentSystem.CHUNK_SIZE + 100;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void chunkNotMatchingItsHashIsRejected() {
+        ByteString data = randomData(1);
+        SparseContent content = new SparseContent(ContentStore.getInstance(), fileInfoOf(data));
+
+        assertFalse(content.putChunk(0, chunkOf(data, 1)));
+        assertFalse(content.putChunk(0, chunkOf(data, 0).substring(1)));
+        assertTrue(content.putChunk(0, chunkOf(data, 0)));
+        assertEquals(TorrentSystem.CHUNK_SIZE, content.getPresentBytes());
+    }
+
+    @Test
+    public void savedContentIsRestored() throws Exception {
+        ByteString data = randomData(2);
+        SparseContent content = new SparseContent(ContentStore.getInstance(), fileInfoOf(data));
+        content.putChunk(1, chunkOf(data, 1));
+        content.putChunk(5, chunkOf(data, 5));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        content.save(outputStream);
+        SparseContent restoredContent = SparseContent.restore(ContentStore.getInstance(),
+                new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertEquals(content.getFileInfo(), restoredContent.getFileInfo());
+        assertEquals(content.getPresentChunks(), restoredContent.getPresentChunks());
+        assertEquals(chunkOf(data, 5), restoredContent.getChunk(5).getData());
+        assertNull(restoredContent.getChunk(0));
+    }
+
+    @Test
+    public void partialFileSurvivesARestart() {
+        ByteString data = randomData(3);
+        NodeConfig config = newConfig();
+        TorrentSystem torrentSystem = new TorrentSystem(config);
+        SparseContent content = torrentSystem.acquirePartialContent(fileInfoOf(data));
+        content.putChunk(0, chunkOf(data, 0));
+        content.putChunk(3, chunkOf(data, 3));
+        torrentSystem.releasePartialContent(content);
+
+        torrentSystem.stop();
+        assertTrue(torrentSystem.awaitStop(1000));
+        TorrentSystem restartedSystem = new TorrentSystem(config);
+
+        File partialFile = restartedSystem.getPartialFile(TorrentSystem.hashBytes(data));
+        assertNotNull(partialFile);
+        BitSet expectedChunks = new BitSet();
+        expectedChunks.set(0);
+        expectedChunks.set(3);
+        assertEquals(expectedChunks, partialFile.getContent().getPresentChunks());
+
+        // the saved file is read once
+        assertNull(new TorrentSystem(config).getPartialFile(TorrentSystem.hashBytes(data)));
+    }
+
+    @Test
+    public void completePartialFileIsMovedToTheFileList() {
+        ByteString data = randomData(4);
+        TorrentSystem torrentSystem = new TorrentSystem(newConfig());
+        SparseContent content = torrentSystem.acquirePartialContent(fileInfoOf(data));
+        for (int index = 0; index < content.getChunkCount(); index++) {
+            content.putChunk(index, chunkOf(data, index));
+        }
+        torrentSystem.releasePartialContent(content);
+
+        File file = torrentSystem.completePartialFile(TorrentSystem.hashBytes(data));
+
+        assertSame(file, torrentSystem.getFileList().get(TorrentSystem.hashBytes(data)));
+        assertEquals(data, file.getData());
+        assertNull(torrentSystem.getPartialFile(TorrentSystem.hashBytes(data)));
+    }
+
+    @Test
+    public void unusedPartialFilesAreDroppedOverTheBudget() {
+        ByteString firstData = randomData(5);
+        ByteString secondData = randomData(6);
+        NodeConfig config = newConfig();
+        config.setPartialFilesBudgetBytes(3 * TorrentSystem.CHUNK_SIZE);
+        TorrentSystem torrentSystem = new TorrentSystem(config);
+
+        SparseContent first = torrentSystem.acquirePartialContent(fileInfoOf(firstData));
+        first.putChunk(0, chunkOf(firstData, 0));
+        first.putChunk(1, chunkOf(firstData, 1));
+        torrentSystem.releasePartialContent(first);
+        SparseContent second = torrentSystem.acquirePartialContent(fileInfoOf(secondData));
+        second.putChunk(0, chunkOf(secondData, 0));
+        second.putChunk(1, chunkOf(secondData, 1));
+
+        torrentSystem.expirePartialFiles();
+
+        // the second one is kept, since it is still being replicated
+        assertNull(torrentSystem.getPartialFile(TorrentSystem.hashBytes(firstData)));
+        assertNotNull(torrentSystem.getPartialFile(TorrentSystem.hashBytes(secondData)));
+        torrentSystem.releasePartialContent(second);
+    }
+
+    private NodeConfig newConfig() {
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", "localhost", 5000);
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        return config;
+    }
+
+    private static Torr2.FileInfo fileInfoOf(ByteString data) {
+        Torr2.FileInfo.Builder fileInfo = Torr2.FileInfo.newBuilder()
+                .setHash(TorrentSystem.hashBytes(data))
+                .setSize(data.size())
+                .setFilename("partial.bin");
+        for (int index = 0; index * TorrentSystem.CHUNK_SIZE < data.size(); index++) {
+            ByteString chunkData = chunkOf(data, index);
+            fileInfo.addChunks(Torr2.ChunkInfo.newBuilder()
+                    .setIndex(index)
+                    .setSize(chunkData.size())
+                    .setHash(TorrentSystem.hashBytes(chunkData)));
+        }
+        return fileInfo.build();
+    }
+
+    private static ByteString chunkOf(ByteString data, int index) {
+        int start = index * TorrentSystem.CHUNK_SIZE;
+        return data.substring(start, Math.min(start + TorrentSystem.CHUNK_SIZE, data.size()));
+    }
+
+    private static ByteString randomData(long seed) {
+        byte[] bytes = new byte[FILE_SIZE];
+        new Random(seed).nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -0,0 +1,95 @@
+package torrent.system;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+public class TokenBucketTest {
+    private static final long RATE = 10000;
+
+    @Test
+    public void burstOfOneSecondIsNotDelayed() throws Exception {
+        TokenBucket tokenBucket = new TokenBucket(RATE);
+
+        long elapsedMillis = measureMillis(() -> tokenBucket.acquire(RATE));
+
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 200);
+    }
+
+    @Test
+    public void bytesPastTheBurstWaitForTheRate() throws Exception {
+        TokenBucket tokenBucket = new TokenBucket(RATE);
+        tokenBucket.acquire(RATE);
+
+        long elapsedMillis = measureMillis(() -> tokenBucket.acquire(RATE / 2));
+
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis >= 400 && elapsedMillis < 1000);
+    }
+
+    @Test
+    public void concurrentCallersShareTheRate() throws Exception {
+        TokenBucket tokenBucket = new TokenBucket(RATE);
+        tokenBucket.acquire(RATE);
+
+        long elapsedMillis = measureMillis(() -> {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                threads.add(new Thread(() -> {
+                    try {
+                        tokenBucket.acquire(RATE / 4);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        });
+
+        // a second worth of bytes in all
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis >= 900 && elapsedMillis < 1600);
+    }
+
+    @Test
+    public void awaitingDoesNotTakeTheBytes() throws Exception {
+        TokenBucket tokenBucket = new TokenBucket(RATE);
+
+        long elapsedMillis = measureMillis(() -> {
+            tokenBucket.awaitAvailable(RATE);
+            tokenBucket.awaitAvailable(RATE);
+            tokenBucket.acquire(RATE);
+        });
+
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 200);
+    }
+
+    @Test
+    public void zeroRateIsUnlimited() throws Exception {
+        TokenBucket tokenBucket = new TokenBucket(RATE);
+        tokenBucket.acquire(RATE);
+        tokenBucket.setRate(0);
+
+        long elapsedMillis = measureMillis(() -> {
+            tokenBucket.acquire(100 * RATE);
+            tokenBucket.awaitAvailable(100 * RATE);
+        });
+
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 200);
+    }
+
+    private static long measureMillis(Action action) throws Exception {
+        long start = System.nanoTime();
+        action.run();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+}
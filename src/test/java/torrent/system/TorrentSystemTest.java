@@ -0,0 +1,178 @@
+package torrent.system;
+
+import com.google.protobuf.ByteString;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import torrent.Torr2;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TorrentSystemTest {
+    private static final int FILE_SIZE = 5000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private TorrentSystem torrentSystem;
+    private int nextSeed;
+
+    @Before
+    public void setUp() {
+        NodeConfig config = new NodeConfig("test", 1, 5011, "localhost", "localhost", 5000);
+        config.setPartialFilesDirectory(temporaryFolder.getRoot().getPath());
+        // room for two files
+        config.setStorageBudgetBytes(2 * FILE_SIZE + 100);
+        torrentSystem = new TorrentSystem(config);
+    }
+
+    @Test
+    public void leastRecentlyAccessedReplicaIsEvicted() {
+        File first = addReplica();
+        File second = addReplica();
+        first.getData();
+
+        File third = addReplica();
+
+        assertSame(first, torrentSystem.getFileList().get(hashOf(first)));
+        assertNull(torrentSystem.getFileList().get(hashOf(second)));
+        assertSame(third, torrentSystem.getFileList().get(hashOf(third)));
+        assertEquals(2 * FILE_SIZE, torrentSystem.getStorageUsage());
+    }
+
+    @Test
+    public void pinnedFilesAreNotEvicted() {
+        File first = addFile(true);
+        File second = addFile(true);
+        File third = addFile(true);
+
+        assertEquals(3, torrentSystem.getFileList().size());
+        assertTrue(first.isPinned() && second.isPinned() && third.isPinned());
+    }
+
+    @Test
+    public void addedFileIsNotEvictedEvenIfItExceedsTheBudget() {
+        File original = addFile(true);
+        File secondOriginal = addFile(true);
+
+        File replica = addReplica();
+
+        assertSame(replica, torrentSystem.getFileList().get(hashOf(replica)));
+        assertNotNull(torrentSystem.getFileList().get(hashOf(original)));
+        assertNotNull(torrentSystem.getFileList().get(hashOf(secondOriginal)));
+    }
+
+    @Test
+    public void pinnedReplicaIsNotEvictedAnymore() {
+        File replica = addReplica();
+        assertSame(replica, torrentSystem.pinFile(hashOf(replica)));
+
+        addReplica();
+        addReplica();
+
+        assertTrue(replica.isPinned());
+        assertSame(replica, torrentSystem.getFileList().get(hashOf(replica)));
+    }
+
+    @Test
+    public void addingAnOriginalPinsTheReplicaAlreadyHeld() {
+        File replica = addReplica();
+        ByteString data = replica.getData();
+
+        File stored = torrentSystem.addFile(new File(replica.getFileInfo(),
+                torrentSystem.acquireContent(hashOf(replica), () -> data), true));
+
+        assertSame(replica, stored);
+        assertTrue(replica.isPinned());
+        assertEquals(FILE_SIZE, torrentSystem.getStorageUsage());
+    }
+
+    @Test
+    public void stopWaitsForTheRunningRequests() throws Exception {
+        // a hub that takes the subnet request of the search, but only answers (by closing) when the test says so
+        try (ServerSocket hub = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            TorrentSystem searchingSystem = newTorrentSystem(hub.getLocalPort());
+            AtomicReference<Torr2.Message> searchResponse = new AtomicReference<>();
+            Thread searchThread = new Thread(() -> searchResponse.set(searchingSystem.trigger(
+                    Torr2.Message.newBuilder()
+                            .setType(Torr2.Message.Type.SEARCH_REQUEST)
+                            .setSearchRequest(Torr2.SearchRequest.newBuilder()
+                                    .setRegex(".*")
+                                    .setSubnetId(1))
+                            .build())));
+            searchThread.start();
+            Socket subnetRequest = hub.accept();
+
+            searchingSystem.stop();
+            assertFalse(searchingSystem.awaitStop(200));
+
+            subnetRequest.close();
+            searchThread.join(5000);
+            assertTrue(searchingSystem.awaitStop(5000));
+            assertEquals(Torr2.Message.Type.SEARCH_RESPONSE, searchResponse.get().getType());
+        }
+    }
+
+    @Test
+    public void stoppedNodeAnswersBusy() {
+        torrentSystem.stop();
+
+        Torr2.Message response = torrentSystem.trigger(uploadRequest());
+        Torr2.Message[] asynchronousResponses = new Torr2.Message[1];
+        torrentSystem.trigger(uploadRequest(), asynchronousResponse -> asynchronousResponses[0] = asynchronousResponse);
+
+        assertEquals(Torr2.Status.PROCESSING_ERROR, response.getUploadResponse().getStatus());
+        assertEquals(Torr2.Status.PROCESSING_ERROR, asynchronousResponses[0].getUploadResponse().getStatus());
+        assertTrue(torrentSystem.getFileList().isEmpty());
+        assertTrue(torrentSystem.awaitStop(0));
+    }
+
+    private TorrentSystem newTorrentSystem(int hubPort) throws IOException {
+        NodeConfig config = new NodeConfig("test", 2, 5012, "localhost", "127.0.0.1", hubPort);
+        config.setPartialFilesDirectory(temporaryFolder.newFolder().getPath());
+        return new TorrentSystem(config);
+    }
+
+    private static Torr2.Message uploadRequest() {
+        return Torr2.Message.newBuilder()
+                .setType(Torr2.Message.Type.UPLOAD_REQUEST)
+                .setUploadRequest(Torr2.UploadRequest.newBuilder()
+                        .setFilename("late.bin")
+                        .setData(ByteString.copyFromUtf8("sent after the node stopped")))
+                .build();
+    }
+
+    private File addReplica() {
+        return addFile(false);
+    }
+
+    private File addFile(boolean pinned) {
+        byte[] bytes = new byte[FILE_SIZE];
+        new Random(nextSeed++).nextBytes(bytes);
+        ByteString data = ByteString.copyFrom(bytes);
+        ByteString hash = TorrentSystem.hashBytes(data);
+        Torr2.FileInfo fileInfo = Torr2.FileInfo.newBuilder()
+                .setHash(hash)
+                .setSize(FILE_SIZE)
+                .setFilename("file-" + nextSeed + ".bin")
+                .build();
+        return torrentSystem.addFile(new File(fileInfo, torrentSystem.acquireContent(hash, () -> data), pinned));
+    }
+
+    private static ByteString hashOf(File file) {
+        return file.getFileInfoHeader().getHash();
+    }
+}